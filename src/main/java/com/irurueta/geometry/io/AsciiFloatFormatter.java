@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+/**
+ * Formats float values as ASCII text directly into byte arrays in scientific
+ * notation (i.e. -1.2345678e+02).
+ * Values are written with 9 significant digits, which is enough to read back
+ * the exact same float value, and trailing zeros of the mantissa are removed.
+ * No intermediate strings are created.
+ */
+final class AsciiFloatFormatter {
+
+    /**
+     * Maximum number of bytes required to format a float value.
+     */
+    static final int MAX_LENGTH = 16;
+
+    /**
+     * Number of significant digits written for each value.
+     */
+    private static final int SIGNIFICANT_DIGITS = 9;
+
+    /**
+     * Smallest value having the required number of significant digits.
+     */
+    private static final long MIN_MANTISSA = 100000000L;
+
+    /**
+     * Smallest value having more than the required number of significant
+     * digits.
+     */
+    private static final long MAX_MANTISSA = 1000000000L;
+
+    /**
+     * Minimum decimal exponent of a float value (including subnormal values).
+     */
+    private static final int MIN_EXPONENT = -46;
+
+    /**
+     * Maximum decimal exponent of a float value.
+     */
+    private static final int MAX_EXPONENT = 39;
+
+    /**
+     * Powers of ten covering the whole range of float values.
+     */
+    private static final double[] POWERS_OF_TEN = new double[MAX_EXPONENT - MIN_EXPONENT + 1];
+
+    static {
+        for (var i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = Double.parseDouble("1e" + (i + MIN_EXPONENT));
+        }
+    }
+
+    /**
+     * Constructor. Prevents instantiation.
+     */
+    private AsciiFloatFormatter() {
+    }
+
+    /**
+     * Formats provided value into provided array.
+     *
+     * @param value  value to be formatted.
+     * @param dest   array where formatted value is written. Must have at
+     *               least {@link #MAX_LENGTH} bytes available after offset.
+     * @param offset position where formatted value starts.
+     * @return position after formatted value.
+     */
+    static int format(final float value, final byte[] dest, final int offset) {
+        var pos = offset;
+        if (Float.isNaN(value)) {
+            return put("NaN", dest, pos);
+        }
+        if (Float.floatToRawIntBits(value) < 0) {
+            dest[pos++] = '-';
+        }
+        if (Float.isInfinite(value)) {
+            return put("Infinity", dest, pos);
+        }
+        if (value == 0.0f) {
+            return put("0.0e+00", dest, pos);
+        }
+
+        // obtain significant digits and decimal exponent
+        final double abs = Math.abs(value);
+        var exponent = (int) Math.floor(Math.log10(abs));
+        var mantissa = Math.round(abs / pow10(exponent - SIGNIFICANT_DIGITS + 1));
+        if (mantissa >= MAX_MANTISSA) {
+            exponent++;
+            mantissa = Math.round(abs / pow10(exponent - SIGNIFICANT_DIGITS + 1));
+        } else if (mantissa < MIN_MANTISSA) {
+            exponent--;
+            mantissa = Math.round(abs / pow10(exponent - SIGNIFICANT_DIGITS + 1));
+        }
+        if (mantissa >= MAX_MANTISSA) {
+            // rounding carried into a new digit
+            mantissa /= 10;
+            exponent++;
+        }
+
+        // remove trailing zeros keeping at least one decimal
+        var digits = SIGNIFICANT_DIGITS;
+        while (digits > 2 && mantissa % 10 == 0) {
+            mantissa /= 10;
+            digits--;
+        }
+
+        // write mantissa digits backwards, with decimal point after first one
+        final var end = pos + digits + 1;
+        for (var i = end - 1; i > pos + 1; i--) {
+            dest[i] = (byte) ('0' + mantissa % 10);
+            mantissa /= 10;
+        }
+        dest[pos + 1] = '.';
+        dest[pos] = (byte) ('0' + mantissa);
+        pos = end;
+
+        // write exponent with at least two digits
+        dest[pos++] = 'e';
+        dest[pos++] = (byte) (exponent < 0 ? '-' : '+');
+        final var absExponent = Math.abs(exponent);
+        if (absExponent >= 10) {
+            dest[pos++] = (byte) ('0' + absExponent / 10);
+        } else {
+            dest[pos++] = '0';
+        }
+        dest[pos++] = (byte) ('0' + absExponent % 10);
+        return pos;
+    }
+
+    /**
+     * Returns power of ten for provided exponent.
+     *
+     * @param exponent decimal exponent.
+     * @return power of ten.
+     */
+    private static double pow10(final int exponent) {
+        return exponent >= MIN_EXPONENT && exponent <= MAX_EXPONENT ? POWERS_OF_TEN[exponent - MIN_EXPONENT]
+                : Math.pow(10.0, exponent);
+    }
+
+    /**
+     * Writes ASCII text into provided array.
+     *
+     * @param text   text to be written.
+     * @param dest   array where text is written.
+     * @param offset position where text starts.
+     * @return position after written text.
+     */
+    private static int put(final String text, final byte[] dest, final int offset) {
+        for (var i = 0; i < text.length(); i++) {
+            dest[offset + i] = (byte) text.charAt(i);
+        }
+        return offset + text.length();
+    }
+}
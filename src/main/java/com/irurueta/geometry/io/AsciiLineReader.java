@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.io.IOException;
+
+/**
+ * Reads ASCII text lines sequentially from a file reader.
+ * Data is read from the underlying reader in large blocks, so that large text
+ * files can be parsed without accessing the file byte by byte.
+ * Because data is read ahead, the position of the underlying reader will be
+ * ahead of the position of the last returned line. Use {@link #getPosition()}
+ * to obtain the actual position of next line to be read.
+ */
+class AsciiLineReader {
+
+    /**
+     * Default size of internal buffer (64 KB).
+     */
+    static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    /**
+     * Initial capacity of characters of a line.
+     */
+    private static final int INITIAL_LINE_CAPACITY = 256;
+
+    /**
+     * Reader where data is read from.
+     */
+    private final AbstractFileReaderAndWriter reader;
+
+    /**
+     * Internal buffer where blocks of data are read into.
+     */
+    private final byte[] buffer;
+
+    /**
+     * Position of next byte to be processed within internal buffer.
+     */
+    private int bufferPosition;
+
+    /**
+     * Number of valid bytes in internal buffer.
+     */
+    private int bufferLength;
+
+    /**
+     * Stream position of next byte to be processed.
+     */
+    private long position;
+
+    /**
+     * Characters of line being read.
+     */
+    private char[] line;
+
+    /**
+     * Constructor.
+     * Lines will be read starting at current position of provided reader.
+     *
+     * @param reader reader where data is read from.
+     * @throws IOException if an I/O error occurs.
+     */
+    AsciiLineReader(final AbstractFileReaderAndWriter reader) throws IOException {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor.
+     * Lines will be read starting at current position of provided reader.
+     *
+     * @param reader     reader where data is read from.
+     * @param bufferSize size of internal buffer.
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if buffer size is lower than 1.
+     */
+    AsciiLineReader(final AbstractFileReaderAndWriter reader, final int bufferSize) throws IOException {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.reader = reader;
+        buffer = new byte[bufferSize];
+        line = new char[INITIAL_LINE_CAPACITY];
+        position = reader.getPosition();
+    }
+
+    /**
+     * Returns stream position of next line to be read.
+     *
+     * @return stream position of next line to be read.
+     */
+    long getPosition() {
+        return position;
+    }
+
+    /**
+     * Reads next line. Both "\n" and "\r\n" line terminators are supported,
+     * and they are not included in returned line.
+     *
+     * @return next line or null if end of stream has been reached.
+     * @throws IOException if an I/O error occurs.
+     */
+    String readLine() throws IOException {
+        var length = 0;
+        var found = false;
+        while (true) {
+            if (bufferPosition >= bufferLength && !fillBuffer()) {
+                break;
+            }
+            found = true;
+
+            final var b = buffer[bufferPosition++];
+            position++;
+            if (b == '\n') {
+                break;
+            }
+
+            if (length == line.length) {
+                final var newLine = new char[2 * line.length];
+                System.arraycopy(line, 0, newLine, 0, length);
+                line = newLine;
+            }
+            line[length++] = (char) (b & 0xff);
+        }
+
+        if (!found) {
+            // end of stream
+            return null;
+        }
+
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return new String(line, 0, length);
+    }
+
+    /**
+     * Splits provided line into tokens separated by whitespaces, commas or
+     * semicolons.
+     * Tokens are stored into provided array up to its length, however, the
+     * total number of tokens found in the line is returned.
+     *
+     * @param line   line to be split.
+     * @param tokens array where tokens will be stored.
+     * @return total number of tokens contained in the line.
+     */
+    static int tokenize(final String line, final String[] tokens) {
+        final var length = line.length();
+        var count = 0;
+        var i = 0;
+        while (i < length) {
+            // skip separators
+            while (i < length && isSeparator(line.charAt(i))) {
+                i++;
+            }
+            if (i >= length) {
+                break;
+            }
+
+            final var start = i;
+            while (i < length && !isSeparator(line.charAt(i))) {
+                i++;
+            }
+            if (count < tokens.length) {
+                tokens[count] = line.substring(start, i);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Indicates whether provided character separates tokens.
+     *
+     * @param c character to be checked.
+     * @return true if character is a separator, false otherwise.
+     */
+    private static boolean isSeparator(final char c) {
+        return c == ' ' || c == '\t' || c == ',' || c == ';' || c == '\r';
+    }
+
+    /**
+     * Reads next block of data into internal buffer.
+     *
+     * @return true if data was read, false if end of stream was reached.
+     * @throws IOException if an I/O error occurs.
+     */
+    private boolean fillBuffer() throws IOException {
+        final var n = reader.read(buffer, 0, buffer.length);
+        if (n <= 0) {
+            bufferPosition = bufferLength = 0;
+            return false;
+        }
+        bufferPosition = 0;
+        bufferLength = n;
+        return true;
+    }
+}
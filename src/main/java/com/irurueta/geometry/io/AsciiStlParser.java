@@ -0,0 +1,450 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses tokens of ASCII STL files directly from raw bytes.
+ * Keywords are recognized by a case-insensitive state machine, and numbers
+ * are parsed without building intermediate strings, hence no object is
+ * allocated per token in the common case.
+ * Errors are reported with the byte offset of the offending token within the
+ * file.
+ */
+class AsciiStlParser {
+
+    /**
+     * Keywords of ASCII STL files.
+     */
+    enum Keyword {
+        SOLID("solid"),
+        END_SOLID("endsolid"),
+        FACET("facet"),
+        NORMAL("normal"),
+        OUTER("outer"),
+        LOOP("loop"),
+        VERTEX("vertex"),
+        END_LOOP("endloop"),
+        END_FACET("endfacet"),
+
+        /**
+         * Any word not being a keyword.
+         */
+        UNKNOWN(null);
+
+        /**
+         * Lower case text of keyword.
+         */
+        private final String text;
+
+        /**
+         * Constructor.
+         *
+         * @param text lower case text of keyword.
+         */
+        Keyword(final String text) {
+            this.text = text;
+        }
+    }
+
+    /**
+     * Size of buffer used to read data from file.
+     */
+    static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    /**
+     * Number of letters recognized by the keyword state machine.
+     */
+    private static final int LETTERS = 'z' - 'a' + 1;
+
+    /**
+     * State of the keyword state machine where no keyword can be recognized
+     * anymore.
+     */
+    private static final int REJECT_STATE = 0;
+
+    /**
+     * Initial state of the keyword state machine.
+     */
+    private static final int INITIAL_STATE = 1;
+
+    /**
+     * Maximum value of mantissa that can be exactly represented as a float.
+     */
+    private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+
+    /**
+     * Powers of 10 that can be exactly represented as a float.
+     */
+    private static final float[] EXACT_FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    /**
+     * Maximum number of significant digits accumulated in mantissa.
+     */
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
+    /**
+     * Initial capacity of token array.
+     */
+    private static final int INITIAL_TOKEN_CAPACITY = 64;
+
+    /**
+     * Transitions of the keyword state machine, indexed by state and lower
+     * case letter.
+     */
+    private static final int[][] TRANSITIONS;
+
+    /**
+     * Keyword recognized at the end of each state, or null if no keyword
+     * ends at such state.
+     */
+    private static final Keyword[] ACCEPTED;
+
+    static {
+        var states = 2;
+        for (final var keyword : Keyword.values()) {
+            if (keyword.text != null) {
+                states += keyword.text.length();
+            }
+        }
+
+        final var transitions = new int[states][LETTERS];
+        final var accepted = new Keyword[states];
+        var usedStates = INITIAL_STATE + 1;
+        for (final var keyword : Keyword.values()) {
+            if (keyword.text == null) {
+                continue;
+            }
+            var state = INITIAL_STATE;
+            for (var i = 0; i < keyword.text.length(); i++) {
+                final var letter = keyword.text.charAt(i) - 'a';
+                if (transitions[state][letter] == REJECT_STATE) {
+                    transitions[state][letter] = usedStates++;
+                }
+                state = transitions[state][letter];
+            }
+            accepted[state] = keyword;
+        }
+
+        TRANSITIONS = transitions;
+        ACCEPTED = accepted;
+    }
+
+    /**
+     * Reader of file data.
+     */
+    private final AbstractFileReaderAndWriter reader;
+
+    /**
+     * Buffer containing data read from file.
+     */
+    private final byte[] buffer;
+
+    /**
+     * Position of next byte to be consumed in buffer.
+     */
+    private int bufferPosition;
+
+    /**
+     * Number of valid bytes in buffer.
+     */
+    private int bufferLength;
+
+    /**
+     * Position within file of next byte to be consumed.
+     */
+    private long position;
+
+    /**
+     * Bytes of last token that has been read.
+     */
+    private byte[] token;
+
+    /**
+     * Length of last token that has been read.
+     */
+    private int tokenLength;
+
+    /**
+     * Position within file of last token that has been read.
+     */
+    private long tokenOffset;
+
+    /**
+     * Constructor.
+     * Parsing starts at current position of provided reader.
+     *
+     * @param reader reader of file data.
+     * @throws IOException if an I/O error occurs.
+     */
+    AsciiStlParser(final AbstractFileReaderAndWriter reader) throws IOException {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor.
+     * Parsing starts at current position of provided reader.
+     *
+     * @param reader     reader of file data.
+     * @param bufferSize size of buffer used to read data from file.
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if buffer size is lower than 1.
+     */
+    AsciiStlParser(final AbstractFileReaderAndWriter reader, final int bufferSize) throws IOException {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.reader = reader;
+        buffer = new byte[bufferSize];
+        token = new byte[INITIAL_TOKEN_CAPACITY];
+        position = reader.getPosition();
+    }
+
+    /**
+     * Returns position within file of next byte to be consumed.
+     *
+     * @return position within file of next byte to be consumed.
+     */
+    long getPosition() {
+        return position;
+    }
+
+    /**
+     * Reads next word and returns the keyword it matches, ignoring case.
+     *
+     * @return keyword matching next word, or {@link Keyword#UNKNOWN} if word
+     * is not a keyword.
+     * @throws LoaderException if end of file is reached.
+     * @throws IOException     if an I/O error occurs.
+     */
+    Keyword nextKeyword() throws LoaderException, IOException {
+        if (!readToken()) {
+            throw new LoaderException("Unexpected end of file at byte offset " + position);
+        }
+
+        var state = INITIAL_STATE;
+        for (var i = 0; i < tokenLength && state != REJECT_STATE; i++) {
+            // lower case letters
+            final var letter = (token[i] | 0x20) - 'a';
+            state = letter >= 0 && letter < LETTERS ? TRANSITIONS[state][letter] : REJECT_STATE;
+        }
+
+        final var keyword = ACCEPTED[state];
+        return keyword != null ? keyword : Keyword.UNKNOWN;
+    }
+
+    /**
+     * Reads next word and checks that it matches provided keyword, ignoring
+     * case.
+     *
+     * @param keyword expected keyword.
+     * @throws LoaderException if next word is not the expected keyword or
+     *                         end of file is reached.
+     * @throws IOException     if an I/O error occurs.
+     */
+    void expectKeyword(final Keyword keyword) throws LoaderException, IOException {
+        if (nextKeyword() != keyword) {
+            throw unexpectedWord();
+        }
+    }
+
+    /**
+     * Reads next word as a float value.
+     *
+     * @return float value.
+     * @throws LoaderException if next word is not a valid number or end of
+     *                         file is reached.
+     * @throws IOException     if an I/O error occurs.
+     */
+    float nextFloat() throws LoaderException, IOException {
+        if (!readToken()) {
+            throw new LoaderException("Unexpected end of file at byte offset " + position);
+        }
+
+        var i = 0;
+        final var negative = token[0] == '-';
+        if (negative || token[0] == '+') {
+            i++;
+        }
+
+        var mantissa = 0L;
+        var mantissaDigits = 0;
+        var exponent = 0;
+        var digits = 0;
+        var exact = true;
+
+        // integer part
+        for (; i < tokenLength && isDigit(token[i]); i++, digits++) {
+            if (mantissaDigits < MAX_MANTISSA_DIGITS) {
+                mantissa = 10 * mantissa + (token[i] - '0');
+                if (mantissa > 0) {
+                    mantissaDigits++;
+                }
+            } else {
+                exponent++;
+                exact = false;
+            }
+        }
+
+        // fractional part
+        if (i < tokenLength && token[i] == '.') {
+            i++;
+            for (; i < tokenLength && isDigit(token[i]); i++, digits++) {
+                if (mantissaDigits < MAX_MANTISSA_DIGITS) {
+                    mantissa = 10 * mantissa + (token[i] - '0');
+                    if (mantissa > 0) {
+                        mantissaDigits++;
+                    }
+                    exponent--;
+                } else {
+                    exact = false;
+                }
+            }
+        }
+
+        // exponent part
+        if (digits > 0 && i < tokenLength && (token[i] == 'e' || token[i] == 'E')) {
+            i++;
+            final var negativeExponent = i < tokenLength && token[i] == '-';
+            if (i < tokenLength && (token[i] == '-' || token[i] == '+')) {
+                i++;
+            }
+            var exponentValue = 0;
+            var exponentDigits = 0;
+            for (; i < tokenLength && isDigit(token[i]); i++, exponentDigits++) {
+                if (exponentValue < 10000) {
+                    exponentValue = 10 * exponentValue + (token[i] - '0');
+                }
+            }
+            if (exponentDigits == 0) {
+                digits = 0;
+            }
+            exponent += negativeExponent ? -exponentValue : exponentValue;
+        }
+
+        if (digits > 0 && i == tokenLength && exact) {
+            if (mantissa == 0) {
+                return negative ? -0.0f : 0.0f;
+            }
+            if (mantissa <= MAX_EXACT_FLOAT_MANTISSA && Math.abs(exponent) < EXACT_FLOAT_POWERS_OF_TEN.length) {
+                // both mantissa and power of ten are exact, hence a single
+                // operation is correctly rounded
+                var value = (float) mantissa;
+                value = exponent < 0 ? value / EXACT_FLOAT_POWERS_OF_TEN[-exponent]
+                        : value * EXACT_FLOAT_POWERS_OF_TEN[exponent];
+                return negative ? -value : value;
+            }
+        }
+
+        // values not having a short decimal representation (or special
+        // values such as NaN or Infinity) are converted by the standard parser
+        try {
+            return Float.parseFloat(new String(token, 0, tokenLength, StandardCharsets.US_ASCII));
+        } catch (final NumberFormatException e) {
+            throw new LoaderException("Invalid number at byte offset " + tokenOffset, e);
+        }
+    }
+
+    /**
+     * Returns an exception indicating that last word that has been read was
+     * not expected.
+     *
+     * @return an exception containing byte offset of last word.
+     */
+    LoaderException unexpectedWord() {
+        return new LoaderException("Unexpected word at byte offset " + tokenOffset);
+    }
+
+    /**
+     * Reads next token delimited by white spaces.
+     *
+     * @return true if a token was read, false if end of file was reached.
+     * @throws IOException if an I/O error occurs.
+     */
+    private boolean readToken() throws IOException {
+        // skip white spaces and line feeds
+        while (true) {
+            if (bufferPosition >= bufferLength && !fillBuffer()) {
+                return false;
+            }
+            if (!isWhiteSpace(buffer[bufferPosition])) {
+                break;
+            }
+            bufferPosition++;
+            position++;
+        }
+
+        tokenOffset = position;
+        tokenLength = 0;
+        while (bufferPosition < bufferLength || fillBuffer()) {
+            final var b = buffer[bufferPosition];
+            if (isWhiteSpace(b)) {
+                break;
+            }
+            if (tokenLength == token.length) {
+                final var newToken = new byte[2 * token.length];
+                System.arraycopy(token, 0, newToken, 0, tokenLength);
+                token = newToken;
+            }
+            token[tokenLength++] = b;
+            bufferPosition++;
+            position++;
+        }
+        return true;
+    }
+
+    /**
+     * Fills buffer with next data of file.
+     *
+     * @return true if any data was read, false if end of file was reached.
+     * @throws IOException if an I/O error occurs.
+     */
+    private boolean fillBuffer() throws IOException {
+        final var n = reader.read(buffer, 0, buffer.length);
+        if (n <= 0) {
+            bufferPosition = bufferLength = 0;
+            return false;
+        }
+        bufferPosition = 0;
+        bufferLength = n;
+        return true;
+    }
+
+    /**
+     * Indicates whether provided byte is a digit.
+     *
+     * @param b byte to be checked.
+     * @return true if byte is a digit, false otherwise.
+     */
+    private static boolean isDigit(final byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    /**
+     * Indicates whether provided byte is a white space, a tab, a line feed or
+     * any other control character.
+     *
+     * @param b byte to be checked.
+     * @return true if byte separates tokens, false otherwise.
+     */
+    private static boolean isWhiteSpace(final byte b) {
+        return b >= 0 && b <= ' ';
+    }
+}
@@ -0,0 +1,502 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes the compressed sections of version 3 binary chunks.
+ * Vertex positions are quantized to a configurable number of bits relative to
+ * their bounding box, normals are octahedral encoded into two 16-bit values,
+ * texture coordinates are quantized to 16 bits relative to their bounds, and
+ * indices are stored as zig-zag encoded deltas using variable length integers.
+ * All multibyte values are stored in big endian order, as the rest of the
+ * binary format.
+ */
+final class BinaryCompression {
+
+    /**
+     * Minimum number of bits of quantized positions.
+     */
+    static final int MIN_POSITION_BITS = 1;
+
+    /**
+     * Maximum number of bits of quantized positions.
+     */
+    static final int MAX_POSITION_BITS = 16;
+
+    /**
+     * Number of components of positions and normals.
+     */
+    private static final int COORDS = 3;
+
+    /**
+     * Number of components of texture coordinates.
+     */
+    private static final int TEXTURE_COORDS = 2;
+
+    /**
+     * Number of bytes of the bounding box of positions (6 floats).
+     */
+    private static final int POSITIONS_BOX_BYTES = 6 * Float.SIZE / 8;
+
+    /**
+     * Number of bytes of the bounds of texture coordinates (4 floats).
+     */
+    private static final int TEXTURE_COORDS_BOX_BYTES = 4 * Float.SIZE / 8;
+
+    /**
+     * Maximum value of quantized texture coordinates.
+     */
+    private static final int MAX_TEXTURE_COORD = 0xffff;
+
+    /**
+     * Maximum absolute value of octahedral encoded normal components.
+     */
+    private static final int MAX_NORMAL = Short.MAX_VALUE;
+
+    /**
+     * Constructor. Prevents instantiation.
+     */
+    private BinaryCompression() {
+    }
+
+    /**
+     * Encodes vertex positions.
+     * Encoded data contains the number of bits, the bounding box of the
+     * positions and the quantized coordinates, stored in 1 byte when using
+     * 8 bits or fewer, or in 2 bytes otherwise.
+     *
+     * @param coords vertex positions.
+     * @param bits   number of bits of quantized coordinates.
+     * @return encoded positions.
+     */
+    static byte[] encodePositions(final float[] coords, final int bits) {
+        return encodePositions(coords, coords.length, bits);
+    }
+
+    /**
+     * Encodes the first values of provided vertex positions.
+     *
+     * @param coords vertex positions.
+     * @param count  number of values to be encoded.
+     * @param bits   number of bits of quantized coordinates.
+     * @return encoded positions.
+     */
+    static byte[] encodePositions(final float[] coords, final int count, final int bits) {
+        final var min = new float[]{Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE};
+        final var max = new float[]{-Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE};
+        final var length = count - count % COORDS;
+        for (var i = 0; i < length; i++) {
+            final var c = i % COORDS;
+            min[c] = Math.min(min[c], coords[i]);
+            max[c] = Math.max(max[c], coords[i]);
+        }
+        if (length == 0) {
+            for (var c = 0; c < COORDS; c++) {
+                min[c] = max[c] = 0.0f;
+            }
+        }
+
+        final var bytesPerValue = bytesPerPosition(bits);
+        final var buffer = ByteBuffer.allocate(1 + POSITIONS_BOX_BYTES + length * bytesPerValue);
+        buffer.put((byte) bits);
+        for (var c = 0; c < COORDS; c++) {
+            buffer.putFloat(min[c]);
+        }
+        for (var c = 0; c < COORDS; c++) {
+            buffer.putFloat(max[c]);
+        }
+
+        final var maxValue = (1 << bits) - 1;
+        final var scale = new float[COORDS];
+        for (var c = 0; c < COORDS; c++) {
+            final var range = max[c] - min[c];
+            scale[c] = range > 0.0f ? maxValue / range : 0.0f;
+        }
+
+        for (var i = 0; i < length; i++) {
+            final var c = i % COORDS;
+            final var q = Math.min(Math.round((coords[i] - min[c]) * scale[c]), maxValue);
+            if (bytesPerValue == 1) {
+                buffer.put((byte) q);
+            } else {
+                buffer.putShort((short) q);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes vertex positions.
+     *
+     * @param data encoded positions.
+     * @return vertex positions.
+     * @throws LoaderException if data is corrupted.
+     */
+    static float[] decodePositions(final byte[] data) throws LoaderException {
+        if (data.length < 1 + POSITIONS_BOX_BYTES) {
+            throw new LoaderException();
+        }
+        final var buffer = ByteBuffer.wrap(data);
+        final var bits = buffer.get();
+        if (bits < MIN_POSITION_BITS || bits > MAX_POSITION_BITS) {
+            throw new LoaderException();
+        }
+
+        final var minX = buffer.getFloat();
+        final var minY = buffer.getFloat();
+        final var minZ = buffer.getFloat();
+        final var maxX = buffer.getFloat();
+        final var maxY = buffer.getFloat();
+        final var maxZ = buffer.getFloat();
+
+        final var bytesPerValue = bytesPerPosition(bits);
+        final var valuesBytes = data.length - 1 - POSITIONS_BOX_BYTES;
+        if (valuesBytes % (COORDS * bytesPerValue) != 0) {
+            throw new LoaderException();
+        }
+
+        final float maxValue = (1 << bits) - 1;
+        final var scaleX = (maxX - minX) / maxValue;
+        final var scaleY = (maxY - minY) / maxValue;
+        final var scaleZ = (maxZ - minZ) / maxValue;
+
+        final var coords = new float[valuesBytes / bytesPerValue];
+        var pos = 1 + POSITIONS_BOX_BYTES;
+        if (bytesPerValue == 1) {
+            for (var i = 0; i < coords.length; i += COORDS) {
+                coords[i] = minX + (data[pos++] & 0xff) * scaleX;
+                coords[i + 1] = minY + (data[pos++] & 0xff) * scaleY;
+                coords[i + 2] = minZ + (data[pos++] & 0xff) * scaleZ;
+            }
+        } else {
+            for (var i = 0; i < coords.length; i += COORDS) {
+                coords[i] = minX + unsignedShort(data, pos) * scaleX;
+                coords[i + 1] = minY + unsignedShort(data, pos + 2) * scaleY;
+                coords[i + 2] = minZ + unsignedShort(data, pos + 4) * scaleZ;
+                pos += 6;
+            }
+        }
+        return coords;
+    }
+
+    /**
+     * Encodes normals using octahedral encoding, where each normal is
+     * projected into the octahedron, unfolded into a square, and stored as two
+     * 16-bit signed values.
+     * Decoded normals are always unit vectors. Zero normals are decoded as
+     * (0, 0, 1).
+     *
+     * @param normals normals to be encoded.
+     * @return encoded normals.
+     */
+    static byte[] encodeNormals(final float[] normals) {
+        return encodeNormals(normals, normals.length);
+    }
+
+    /**
+     * Encodes the first values of provided normals using octahedral encoding.
+     *
+     * @param normals normals to be encoded.
+     * @param length  number of values to be encoded.
+     * @return encoded normals.
+     */
+    static byte[] encodeNormals(final float[] normals, final int length) {
+        final var count = length / COORDS;
+        final var buffer = ByteBuffer.allocate(count * 2 * Short.SIZE / 8);
+        for (var i = 0; i < count * COORDS; i += COORDS) {
+            final var x = normals[i];
+            final var y = normals[i + 1];
+            final var z = normals[i + 2];
+            final var l1 = Math.abs(x) + Math.abs(y) + Math.abs(z);
+
+            var u = 0.0f;
+            var v = 0.0f;
+            if (l1 > 0.0f) {
+                u = x / l1;
+                v = y / l1;
+                if (z < 0.0f) {
+                    final var fu = (1.0f - Math.abs(v)) * signNotZero(u);
+                    final var fv = (1.0f - Math.abs(u)) * signNotZero(v);
+                    u = fu;
+                    v = fv;
+                }
+            }
+            buffer.putShort((short) Math.round(clamp(u) * MAX_NORMAL));
+            buffer.putShort((short) Math.round(clamp(v) * MAX_NORMAL));
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes octahedral encoded normals.
+     *
+     * @param data encoded normals.
+     * @return normals.
+     * @throws LoaderException if data is corrupted.
+     */
+    static float[] decodeNormals(final byte[] data) throws LoaderException {
+        if (data.length % (2 * Short.SIZE / 8) != 0) {
+            throw new LoaderException();
+        }
+        final var count = data.length / (2 * Short.SIZE / 8);
+        final var normals = new float[count * COORDS];
+        var pos = 0;
+        for (var i = 0; i < normals.length; i += COORDS) {
+            var x = (float) signedShort(data, pos) / MAX_NORMAL;
+            var y = (float) signedShort(data, pos + 2) / MAX_NORMAL;
+            pos += 4;
+
+            final var z = 1.0f - Math.abs(x) - Math.abs(y);
+            if (z < 0.0f) {
+                final var fx = (1.0f - Math.abs(y)) * signNotZero(x);
+                final var fy = (1.0f - Math.abs(x)) * signNotZero(y);
+                x = fx;
+                y = fy;
+            }
+            final var norm = (float) Math.sqrt(x * x + y * y + z * z);
+            normals[i] = x / norm;
+            normals[i + 1] = y / norm;
+            normals[i + 2] = z / norm;
+        }
+        return normals;
+    }
+
+    /**
+     * Encodes texture coordinates by quantizing them to 16 bits relative to
+     * their bounds.
+     *
+     * @param textureCoords texture coordinates.
+     * @return encoded texture coordinates.
+     */
+    static byte[] encodeTextureCoordinates(final float[] textureCoords) {
+        return encodeTextureCoordinates(textureCoords, textureCoords.length);
+    }
+
+    /**
+     * Encodes the first values of provided texture coordinates.
+     *
+     * @param textureCoords texture coordinates.
+     * @param count         number of values to be encoded.
+     * @return encoded texture coordinates.
+     */
+    static byte[] encodeTextureCoordinates(final float[] textureCoords, final int count) {
+        var minU = Float.MAX_VALUE;
+        var minV = Float.MAX_VALUE;
+        var maxU = -Float.MAX_VALUE;
+        var maxV = -Float.MAX_VALUE;
+        final var length = count - count % TEXTURE_COORDS;
+        for (var i = 0; i < length; i += TEXTURE_COORDS) {
+            minU = Math.min(minU, textureCoords[i]);
+            minV = Math.min(minV, textureCoords[i + 1]);
+            maxU = Math.max(maxU, textureCoords[i]);
+            maxV = Math.max(maxV, textureCoords[i + 1]);
+        }
+        if (length == 0) {
+            minU = minV = maxU = maxV = 0.0f;
+        }
+
+        final var buffer = ByteBuffer.allocate(TEXTURE_COORDS_BOX_BYTES + length * Short.SIZE / 8);
+        buffer.putFloat(minU);
+        buffer.putFloat(minV);
+        buffer.putFloat(maxU);
+        buffer.putFloat(maxV);
+
+        final var scaleU = maxU > minU ? MAX_TEXTURE_COORD / (maxU - minU) : 0.0f;
+        final var scaleV = maxV > minV ? MAX_TEXTURE_COORD / (maxV - minV) : 0.0f;
+        for (var i = 0; i < length; i += TEXTURE_COORDS) {
+            buffer.putShort((short) Math.min(Math.round((textureCoords[i] - minU) * scaleU),
+                    MAX_TEXTURE_COORD));
+            buffer.putShort((short) Math.min(Math.round((textureCoords[i + 1] - minV) * scaleV),
+                    MAX_TEXTURE_COORD));
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes texture coordinates.
+     *
+     * @param data encoded texture coordinates.
+     * @return texture coordinates.
+     * @throws LoaderException if data is corrupted.
+     */
+    static float[] decodeTextureCoordinates(final byte[] data) throws LoaderException {
+        if (data.length < TEXTURE_COORDS_BOX_BYTES
+                || (data.length - TEXTURE_COORDS_BOX_BYTES) % (TEXTURE_COORDS * Short.SIZE / 8) != 0) {
+            throw new LoaderException();
+        }
+        final var buffer = ByteBuffer.wrap(data);
+        final var minU = buffer.getFloat();
+        final var minV = buffer.getFloat();
+        final var maxU = buffer.getFloat();
+        final var maxV = buffer.getFloat();
+        final var scaleU = (maxU - minU) / MAX_TEXTURE_COORD;
+        final var scaleV = (maxV - minV) / MAX_TEXTURE_COORD;
+
+        final var textureCoords = new float[(data.length - TEXTURE_COORDS_BOX_BYTES) / (Short.SIZE / 8)];
+        var pos = TEXTURE_COORDS_BOX_BYTES;
+        for (var i = 0; i < textureCoords.length; i += TEXTURE_COORDS) {
+            textureCoords[i] = minU + unsignedShort(data, pos) * scaleU;
+            textureCoords[i + 1] = minV + unsignedShort(data, pos + 2) * scaleV;
+            pos += 4;
+        }
+        return textureCoords;
+    }
+
+    /**
+     * Encodes indices as the number of indices followed by the zig-zag
+     * encoded difference of each index with the previous one, stored as
+     * variable length integers of 7 bits per byte.
+     *
+     * @param indices indices to be encoded.
+     * @return encoded indices.
+     */
+    static byte[] encodeIndices(final int[] indices) {
+        return encodeIndices(indices, indices.length);
+    }
+
+    /**
+     * Encodes the first values of provided indices.
+     *
+     * @param indices indices to be encoded.
+     * @param length  number of indices to be encoded.
+     * @return encoded indices.
+     */
+    static byte[] encodeIndices(final int[] indices, final int length) {
+        // each varint takes at most 5 bytes
+        final var buffer = new byte[Integer.SIZE / 8 + length * 5];
+        buffer[0] = (byte) (length >>> 24);
+        buffer[1] = (byte) (length >>> 16);
+        buffer[2] = (byte) (length >>> 8);
+        buffer[3] = (byte) length;
+
+        var pos = Integer.SIZE / 8;
+        var previous = 0;
+        for (var i = 0; i < length; i++) {
+            final var index = indices[i];
+            final var delta = index - previous;
+            previous = index;
+
+            var zigZag = (delta << 1) ^ (delta >> 31);
+            while ((zigZag & ~0x7f) != 0) {
+                buffer[pos++] = (byte) ((zigZag & 0x7f) | 0x80);
+                zigZag >>>= 7;
+            }
+            buffer[pos++] = (byte) zigZag;
+        }
+
+        final var result = new byte[pos];
+        System.arraycopy(buffer, 0, result, 0, pos);
+        return result;
+    }
+
+    /**
+     * Decodes indices.
+     *
+     * @param data encoded indices.
+     * @return indices.
+     * @throws LoaderException if data is corrupted.
+     */
+    static int[] decodeIndices(final byte[] data) throws LoaderException {
+        if (data.length < Integer.SIZE / 8) {
+            throw new LoaderException();
+        }
+        final var count = (data[0] & 0xff) << 24 | (data[1] & 0xff) << 16 | (data[2] & 0xff) << 8
+                | (data[3] & 0xff);
+        // each index takes at least one byte
+        if (count < 0 || count > data.length - Integer.SIZE / 8) {
+            throw new LoaderException();
+        }
+
+        final var indices = new int[count];
+        var pos = Integer.SIZE / 8;
+        var previous = 0;
+        for (var i = 0; i < count; i++) {
+            var zigZag = 0;
+            var shift = 0;
+            int b;
+            do {
+                if (pos >= data.length || shift > 28) {
+                    throw new LoaderException();
+                }
+                b = data[pos++];
+                zigZag |= (b & 0x7f) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            previous += (zigZag >>> 1) ^ -(zigZag & 1);
+            indices[i] = previous;
+        }
+        if (pos != data.length) {
+            throw new LoaderException();
+        }
+        return indices;
+    }
+
+    /**
+     * Returns number of bytes used to store each quantized position
+     * coordinate.
+     *
+     * @param bits number of bits of quantized coordinates.
+     * @return number of bytes.
+     */
+    private static int bytesPerPosition(final int bits) {
+        return bits <= Byte.SIZE ? 1 : 2;
+    }
+
+    /**
+     * Reads a big endian unsigned 16-bit value.
+     *
+     * @param data array containing data.
+     * @param pos  position of value.
+     * @return value.
+     */
+    private static int unsignedShort(final byte[] data, final int pos) {
+        return (data[pos] & 0xff) << 8 | (data[pos + 1] & 0xff);
+    }
+
+    /**
+     * Reads a big endian signed 16-bit value.
+     *
+     * @param data array containing data.
+     * @param pos  position of value.
+     * @return value.
+     */
+    private static int signedShort(final byte[] data, final int pos) {
+        return (short) unsignedShort(data, pos);
+    }
+
+    /**
+     * Returns sign of provided value, considering zero as positive.
+     *
+     * @param value a value.
+     * @return 1.0 if value is positive or zero, -1.0 otherwise.
+     */
+    private static float signNotZero(final float value) {
+        return value >= 0.0f ? 1.0f : -1.0f;
+    }
+
+    /**
+     * Clamps provided value between -1.0 and 1.0.
+     *
+     * @param value value to be clamped.
+     * @return clamped value.
+     */
+    private static float clamp(final float value) {
+        return Math.max(-1.0f, Math.min(1.0f, value));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+/**
+ * Constants defining the layout of the custom binary format written by
+ * {@link MeshWriterBinary} and read by {@link LoaderBinary}.
+ * <p>
+ * Both versions start with a version byte followed by embedded textures
+ * (each one preceded by a true boolean and followed by a false boolean once
+ * all textures have been written).
+ * In version 2, chunks follow, each one preceded by its size in bytes and
+ * containing its whole material.
+ * In version 3, a sequence of records follows, each one starting with a
+ * record type byte. Material records define an entry of the material table
+ * the first time a material is used, and chunk records contain the chunk
+ * size, the position of their material within the material table (or
+ * {@link #NO_MATERIAL}), a flags byte and chunk data, where indices are
+ * stored as 16 or 32-bit values depending on the flags, or vertex data might
+ * be compressed.
+ * Version 3 files might end with a directory record containing the offsets
+ * of material records, the offset, size, counts, material and bounding box of
+ * every chunk, and the bounds and totals of the whole mesh, followed by a
+ * trailer containing the offset of the directory record and
+ * {@link #DIRECTORY_MAGIC}.
+ */
+final class BinaryFormat {
+
+    /**
+     * Version 2 of the binary format.
+     */
+    static final byte VERSION_2 = 2;
+
+    /**
+     * Version 3 of the binary format.
+     */
+    static final byte VERSION_3 = 3;
+
+    /**
+     * Type of version 3 records defining a material of the material table.
+     */
+    static final byte MATERIAL_RECORD = 1;
+
+    /**
+     * Type of version 3 records containing a chunk of data.
+     */
+    static final byte CHUNK_RECORD = 2;
+
+    /**
+     * Type of version 3 records containing the chunk directory.
+     */
+    static final byte DIRECTORY_RECORD = 3;
+
+    /**
+     * Value stored at the end of version 3 files containing a chunk directory.
+     */
+    static final int DIRECTORY_MAGIC = 0x43444952;
+
+    /**
+     * Size in bytes of the trailer of files containing a chunk directory,
+     * which contains the offset of the directory record (long) and
+     * {@link #DIRECTORY_MAGIC} (int).
+     */
+    static final int DIRECTORY_TRAILER_SIZE = (Long.SIZE + Integer.SIZE) / 8;
+
+    /**
+     * Material reference of version 3 chunks not having a material.
+     */
+    static final int NO_MATERIAL = -1;
+
+    /**
+     * Flag of version 3 chunks indicating that indices are stored as 32-bit
+     * values instead of 16-bit values.
+     */
+    static final byte INDICES_32_BIT_FLAG = 1;
+
+    /**
+     * Flag of version 3 chunks indicating that vertex positions, indices,
+     * texture coordinates and normals are compressed as implemented in
+     * {@link BinaryCompression}. When set, the size of each compressed section
+     * is the size of its encoded data.
+     */
+    static final byte COMPRESSED_FLAG = 2;
+
+    /**
+     * Maximum index that can be stored as a 16-bit value.
+     */
+    static final int MAX_16_BIT_INDEX = 0xffff;
+
+    /**
+     * Constructor. Prevents instantiation.
+     */
+    private BinaryFormat() {
+    }
+}
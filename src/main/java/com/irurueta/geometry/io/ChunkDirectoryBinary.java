@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Directory stored at the end of a binary file, containing information about
+ * all the chunks of the file along with the bounds and totals of the whole
+ * mesh.
+ * The directory allows loading chunks of a binary file in any order, or only
+ * those chunks intersecting a region of interest.
+ */
+public class ChunkDirectoryBinary {
+
+    /**
+     * Information about the chunks of the file, in the order they are stored.
+     */
+    private final List<ChunkInfoBinary> chunks;
+
+    /**
+     * Positions in bytes where the records of the material table start.
+     */
+    private final long[] materialOffsets;
+
+    /**
+     * Total number of vertices of the mesh.
+     */
+    private final long totalVertices;
+
+    /**
+     * Total number of indices of the mesh.
+     */
+    private final long totalIndices;
+
+    /**
+     * Minimum x coordinate of the mesh bounding box.
+     */
+    private final float minX;
+
+    /**
+     * Minimum y coordinate of the mesh bounding box.
+     */
+    private final float minY;
+
+    /**
+     * Minimum z coordinate of the mesh bounding box.
+     */
+    private final float minZ;
+
+    /**
+     * Maximum x coordinate of the mesh bounding box.
+     */
+    private final float maxX;
+
+    /**
+     * Maximum y coordinate of the mesh bounding box.
+     */
+    private final float maxY;
+
+    /**
+     * Maximum z coordinate of the mesh bounding box.
+     */
+    private final float maxZ;
+
+    /**
+     * Constructor.
+     *
+     * @param chunks          information about the chunks of the file.
+     * @param materialOffsets positions in bytes where the records of the
+     *                        material table start.
+     * @param totalVertices   total number of vertices of the mesh.
+     * @param totalIndices    total number of indices of the mesh.
+     * @param minX            minimum x coordinate of the mesh bounding box.
+     * @param minY            minimum y coordinate of the mesh bounding box.
+     * @param minZ            minimum z coordinate of the mesh bounding box.
+     * @param maxX            maximum x coordinate of the mesh bounding box.
+     * @param maxY            maximum y coordinate of the mesh bounding box.
+     * @param maxZ            maximum z coordinate of the mesh bounding box.
+     */
+    ChunkDirectoryBinary(final List<ChunkInfoBinary> chunks, final long[] materialOffsets,
+                         final long totalVertices, final long totalIndices,
+                         final float minX, final float minY, final float minZ,
+                         final float maxX, final float maxY, final float maxZ) {
+        this.chunks = Collections.unmodifiableList(chunks);
+        this.materialOffsets = materialOffsets;
+        this.totalVertices = totalVertices;
+        this.totalIndices = totalIndices;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    /**
+     * Returns information about the chunks of the file, in the order they are
+     * stored.
+     *
+     * @return information about the chunks of the file.
+     */
+    public List<ChunkInfoBinary> getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Returns number of chunks of the file.
+     *
+     * @return number of chunks.
+     */
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * Returns information about the chunks whose bounding box intersects
+     * provided box, in the order they are stored.
+     *
+     * @param minX minimum x coordinate of the box.
+     * @param minY minimum y coordinate of the box.
+     * @param minZ minimum z coordinate of the box.
+     * @param maxX maximum x coordinate of the box.
+     * @param maxY maximum y coordinate of the box.
+     * @param maxZ maximum z coordinate of the box.
+     * @return information about the intersecting chunks.
+     */
+    public List<ChunkInfoBinary> findChunks(final float minX, final float minY, final float minZ,
+                                            final float maxX, final float maxY, final float maxZ) {
+        final var result = new ArrayList<ChunkInfoBinary>();
+        for (final var chunk : chunks) {
+            if (chunk.intersects(minX, minY, minZ, maxX, maxY, maxZ)) {
+                result.add(chunk);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns number of materials in the material table of the file.
+     *
+     * @return number of materials.
+     */
+    public int getMaterialCount() {
+        return materialOffsets.length;
+    }
+
+    /**
+     * Returns position in bytes where the record of provided material starts.
+     *
+     * @param materialIndex position of the material within the material table.
+     * @return position in bytes where the material record starts.
+     */
+    long getMaterialOffset(final int materialIndex) {
+        return materialOffsets[materialIndex];
+    }
+
+    /**
+     * Returns total number of vertices of the mesh.
+     *
+     * @return total number of vertices.
+     */
+    public long getTotalVertices() {
+        return totalVertices;
+    }
+
+    /**
+     * Returns total number of indices of the mesh.
+     *
+     * @return total number of indices.
+     */
+    public long getTotalIndices() {
+        return totalIndices;
+    }
+
+    /**
+     * Returns minimum x coordinate of the mesh bounding box.
+     *
+     * @return minimum x coordinate.
+     */
+    public float getMinX() {
+        return minX;
+    }
+
+    /**
+     * Returns minimum y coordinate of the mesh bounding box.
+     *
+     * @return minimum y coordinate.
+     */
+    public float getMinY() {
+        return minY;
+    }
+
+    /**
+     * Returns minimum z coordinate of the mesh bounding box.
+     *
+     * @return minimum z coordinate.
+     */
+    public float getMinZ() {
+        return minZ;
+    }
+
+    /**
+     * Returns maximum x coordinate of the mesh bounding box.
+     *
+     * @return maximum x coordinate.
+     */
+    public float getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Returns maximum y coordinate of the mesh bounding box.
+     *
+     * @return maximum y coordinate.
+     */
+    public float getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Returns maximum z coordinate of the mesh bounding box.
+     *
+     * @return maximum z coordinate.
+     */
+    public float getMaxZ() {
+        return maxZ;
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+/**
+ * Contains information about a chunk of data stored in a binary file, as
+ * written in the chunk directory of the file.
+ * This information can be used to select chunks to be loaded without reading
+ * the whole file.
+ */
+public class ChunkInfoBinary {
+
+    /**
+     * Position of chunk within the directory of the file.
+     */
+    private final int index;
+
+    /**
+     * Position in bytes within the file where the chunk record starts.
+     */
+    private final long offset;
+
+    /**
+     * Size in bytes of the chunk record.
+     */
+    private final int size;
+
+    /**
+     * Number of vertices of the chunk.
+     */
+    private final int vertexCount;
+
+    /**
+     * Number of indices of the chunk.
+     */
+    private final int indexCount;
+
+    /**
+     * Position of the material of the chunk within the material table of the
+     * file or {@link BinaryFormat#NO_MATERIAL} if chunk has no material.
+     */
+    private final int materialIndex;
+
+    /**
+     * Id of the material of the chunk.
+     */
+    private final int materialId;
+
+    /**
+     * Minimum x coordinate of the chunk bounding box.
+     */
+    private final float minX;
+
+    /**
+     * Minimum y coordinate of the chunk bounding box.
+     */
+    private final float minY;
+
+    /**
+     * Minimum z coordinate of the chunk bounding box.
+     */
+    private final float minZ;
+
+    /**
+     * Maximum x coordinate of the chunk bounding box.
+     */
+    private final float maxX;
+
+    /**
+     * Maximum y coordinate of the chunk bounding box.
+     */
+    private final float maxY;
+
+    /**
+     * Maximum z coordinate of the chunk bounding box.
+     */
+    private final float maxZ;
+
+    /**
+     * Constructor.
+     *
+     * @param index         position of chunk within the directory.
+     * @param offset        position in bytes where the chunk record starts.
+     * @param size          size in bytes of the chunk record.
+     * @param vertexCount   number of vertices of the chunk.
+     * @param indexCount    number of indices of the chunk.
+     * @param materialIndex position of the material within the material table
+     *                      or {@link BinaryFormat#NO_MATERIAL}.
+     * @param materialId    id of the material of the chunk.
+     * @param minX          minimum x coordinate of the chunk bounding box.
+     * @param minY          minimum y coordinate of the chunk bounding box.
+     * @param minZ          minimum z coordinate of the chunk bounding box.
+     * @param maxX          maximum x coordinate of the chunk bounding box.
+     * @param maxY          maximum y coordinate of the chunk bounding box.
+     * @param maxZ          maximum z coordinate of the chunk bounding box.
+     */
+    ChunkInfoBinary(final int index, final long offset, final int size, final int vertexCount,
+                    final int indexCount, final int materialIndex, final int materialId,
+                    final float minX, final float minY, final float minZ,
+                    final float maxX, final float maxY, final float maxZ) {
+        this.index = index;
+        this.offset = offset;
+        this.size = size;
+        this.vertexCount = vertexCount;
+        this.indexCount = indexCount;
+        this.materialIndex = materialIndex;
+        this.materialId = materialId;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    /**
+     * Returns position of chunk within the directory of the file, which is
+     * also the position of the chunk when the file is loaded sequentially.
+     *
+     * @return position of chunk.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns position in bytes within the file where the chunk record starts.
+     *
+     * @return position in bytes where the chunk record starts.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns size in bytes of the chunk record.
+     *
+     * @return size in bytes of the chunk record.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns number of vertices of the chunk.
+     *
+     * @return number of vertices.
+     */
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Returns number of indices of the chunk.
+     *
+     * @return number of indices.
+     */
+    public int getIndexCount() {
+        return indexCount;
+    }
+
+    /**
+     * Indicates whether chunk has a material.
+     *
+     * @return true if chunk has a material, false otherwise.
+     */
+    public boolean isMaterialAvailable() {
+        return materialIndex != BinaryFormat.NO_MATERIAL;
+    }
+
+    /**
+     * Returns id of the material of the chunk.
+     *
+     * @return id of the material of the chunk.
+     * @throws NotAvailableException if chunk has no material.
+     */
+    public int getMaterialId() throws NotAvailableException {
+        if (!isMaterialAvailable()) {
+            throw new NotAvailableException();
+        }
+        return materialId;
+    }
+
+    /**
+     * Returns position of the material of the chunk within the material table
+     * of the file.
+     *
+     * @return position of the material or {@link BinaryFormat#NO_MATERIAL}.
+     */
+    int getMaterialIndex() {
+        return materialIndex;
+    }
+
+    /**
+     * Returns minimum x coordinate of the chunk bounding box.
+     *
+     * @return minimum x coordinate.
+     */
+    public float getMinX() {
+        return minX;
+    }
+
+    /**
+     * Returns minimum y coordinate of the chunk bounding box.
+     *
+     * @return minimum y coordinate.
+     */
+    public float getMinY() {
+        return minY;
+    }
+
+    /**
+     * Returns minimum z coordinate of the chunk bounding box.
+     *
+     * @return minimum z coordinate.
+     */
+    public float getMinZ() {
+        return minZ;
+    }
+
+    /**
+     * Returns maximum x coordinate of the chunk bounding box.
+     *
+     * @return maximum x coordinate.
+     */
+    public float getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Returns maximum y coordinate of the chunk bounding box.
+     *
+     * @return maximum y coordinate.
+     */
+    public float getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Returns maximum z coordinate of the chunk bounding box.
+     *
+     * @return maximum z coordinate.
+     */
+    public float getMaxZ() {
+        return maxZ;
+    }
+
+    /**
+     * Indicates whether the bounding box of this chunk intersects provided
+     * box. Boxes touching at their boundaries are considered to intersect.
+     *
+     * @param minX minimum x coordinate of the box.
+     * @param minY minimum y coordinate of the box.
+     * @param minZ minimum z coordinate of the box.
+     * @param maxX maximum x coordinate of the box.
+     * @param maxY maximum y coordinate of the box.
+     * @param maxZ maximum z coordinate of the box.
+     * @return true if bounding box of this chunk intersects provided box,
+     * false otherwise.
+     */
+    public boolean intersects(final float minX, final float minY, final float minZ,
+                              final float maxX, final float maxY, final float maxZ) {
+        return this.minX <= maxX && this.maxX >= minX
+                && this.minY <= maxY && this.maxY >= minY
+                && this.minZ <= maxZ && this.maxZ >= minZ;
+    }
+}
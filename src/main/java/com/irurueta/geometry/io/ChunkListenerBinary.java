@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+/**
+ * Interface of listener in charge of receiving chunks of a binary file as
+ * soon as they are decoded when a file is loaded in parallel.
+ */
+public interface ChunkListenerBinary {
+
+    /**
+     * This method is called each time a chunk has been decoded.
+     * Chunks are notified in the order their decoding finishes, which might
+     * differ from the order they are stored in the file.
+     *
+     * @param loader Loader decoding a file.
+     * @param index  position of chunk within the file.
+     * @param chunk  decoded chunk.
+     */
+    void onChunkLoaded(final LoaderBinary loader, final int index, final DataChunk chunk);
+}
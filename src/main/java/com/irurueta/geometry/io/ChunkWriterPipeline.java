@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * Serializes chunks of data using a bounded number of pooled encoders, so
+ * that chunks can be encoded concurrently by an executor while the loader
+ * keeps producing them, and encoded chunks are committed into the output in
+ * the same order they were loaded by the thread submitting them.
+ * When a direct executor and a single pending chunk are used, chunks are
+ * encoded and committed one by one in the calling thread.
+ * Committed chunks are released, so that loaders pooling chunks can reuse
+ * their arrays.
+ *
+ * @param <E> type of encoders.
+ */
+final class ChunkWriterPipeline<E> {
+
+    /**
+     * Encodes a chunk of data.
+     *
+     * @param <E> type of encoders.
+     */
+    interface Encoding<E> {
+
+        /**
+         * Encodes provided chunk using provided encoder.
+         *
+         * @param encoder encoder where chunk is serialized.
+         * @param chunk   chunk to be encoded.
+         * @throws IOException if encoding fails.
+         */
+        void encode(final E encoder, final DataChunk chunk) throws IOException;
+    }
+
+    /**
+     * Commits an encoded chunk of data into the output.
+     *
+     * @param <E> type of encoders.
+     */
+    interface Commit<E> {
+
+        /**
+         * Commits provided chunk that has already been encoded.
+         *
+         * @param encoder encoder containing serialized chunk.
+         * @param chunk   encoded chunk.
+         * @throws IOException if an I/O error occurs.
+         */
+        void commit(final E encoder, final DataChunk chunk) throws IOException;
+    }
+
+    /**
+     * Executor where chunks are encoded.
+     */
+    private final Executor executor;
+
+    /**
+     * Maximum number of chunks being encoded or waiting to be committed.
+     */
+    private final int maxPendingChunks;
+
+    /**
+     * Creates new encoders when none is available in the pool.
+     */
+    private final Supplier<E> encoderFactory;
+
+    /**
+     * Encodes chunks.
+     */
+    private final Encoding<E> encoding;
+
+    /**
+     * Commits encoded chunks.
+     */
+    private final Commit<E> commit;
+
+    /**
+     * Encoders that are not in use.
+     */
+    private final Deque<E> pool = new ArrayDeque<>();
+
+    /**
+     * Tasks encoding chunks in the order chunks were submitted.
+     */
+    private final Queue<FutureTask<E>> pending = new ArrayDeque<>();
+
+    /**
+     * Chunks being encoded in the order they were submitted.
+     */
+    private final Queue<DataChunk> pendingChunks = new ArrayDeque<>();
+
+    /**
+     * Constructor.
+     *
+     * @param executor         executor where chunks are encoded.
+     * @param maxPendingChunks maximum number of chunks being encoded or
+     *                         waiting to be committed.
+     * @param encoderFactory   creates new encoders.
+     * @param encoding         encodes chunks.
+     * @param commit           commits encoded chunks.
+     */
+    ChunkWriterPipeline(final Executor executor, final int maxPendingChunks, final Supplier<E> encoderFactory,
+                        final Encoding<E> encoding, final Commit<E> commit) {
+        this.executor = executor;
+        this.maxPendingChunks = maxPendingChunks;
+        this.encoderFactory = encoderFactory;
+        this.encoding = encoding;
+        this.commit = commit;
+    }
+
+    /**
+     * Submits provided chunk to be encoded. If the maximum number of pending
+     * chunks has been reached, previously submitted chunks are committed first.
+     *
+     * @param chunk chunk to be encoded.
+     * @throws LoaderException if encoding fails.
+     * @throws IOException     if an I/O error occurs or if current thread is
+     *                         interrupted.
+     */
+    void submit(final DataChunk chunk) throws LoaderException, IOException {
+        while (pending.size() >= maxPendingChunks) {
+            commitNext();
+        }
+
+        final var pooled = pool.poll();
+        final var encoder = pooled != null ? pooled : encoderFactory.get();
+        final var task = new FutureTask<>(() -> {
+            encoding.encode(encoder, chunk);
+            return encoder;
+        });
+        pending.add(task);
+        pendingChunks.add(chunk);
+        executor.execute(task);
+    }
+
+    /**
+     * Commits all pending chunks.
+     *
+     * @throws LoaderException if encoding fails.
+     * @throws IOException     if an I/O error occurs or if current thread is
+     *                         interrupted.
+     */
+    void finish() throws LoaderException, IOException {
+        while (!pending.isEmpty()) {
+            commitNext();
+        }
+    }
+
+    /**
+     * Cancels all pending chunks after writing fails.
+     */
+    void cancel() {
+        for (final var task : pending) {
+            task.cancel(false);
+        }
+        pending.clear();
+        pendingChunks.clear();
+    }
+
+    /**
+     * Waits for the oldest pending chunk to be encoded and commits it.
+     *
+     * @throws LoaderException if encoding fails.
+     * @throws IOException     if an I/O error occurs or if current thread is
+     *                         interrupted.
+     */
+    private void commitNext() throws LoaderException, IOException {
+        final var task = pending.remove();
+        final var chunk = pendingChunks.remove();
+        final E encoder;
+        try {
+            encoder = task.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (final ExecutionException e) {
+            final var cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else {
+                throw new LoaderException(cause);
+            }
+        }
+
+        commit.commit(encoder, chunk);
+        pool.add(encoder);
+        chunk.release();
+    }
+}
@@ -15,6 +15,12 @@
  */
 package com.irurueta.geometry.io;
 
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Class containing a piece of 3D data loaded from a file.
  * This class is used along with a LoaderIterator so that very large 3D files
@@ -127,6 +133,44 @@ public class DataChunk {
      */
     private Material material;
 
+    /**
+     * Additional per-vertex properties (i.e. confidence, intensity, curvature,
+     * etc.) keyed by property name. Each value is a primitive array (float[],
+     * double[], int[] or long[]) containing one value per vertex, stored in the
+     * same order as vertex coordinates.
+     */
+    private final Map<String, Object> vertexProperties;
+
+    /**
+     * Number of vertices contained in this chunk, or -1 if it is inferred from
+     * the length of vertex data arrays.
+     */
+    private int vertexCount = -1;
+
+    /**
+     * Number of indices contained in this chunk, or -1 if it is inferred from
+     * the length of indices array.
+     */
+    private int indexCount = -1;
+
+    /**
+     * Pool where this chunk is returned when released, or null if this chunk
+     * is not pooled or has already been released.
+     */
+    private DataChunkPool pool;
+
+    /**
+     * Buffer containing vertex data interleaved into a single buffer or null
+     * if vertex data is stored into separate arrays.
+     */
+    private ByteBuffer interleavedVertexData;
+
+    /**
+     * Layout of vertices stored into interleaved buffer or null if not
+     * available.
+     */
+    private InterleavedVertexLayout interleavedVertexLayout;
+
     /**
      * Default Constructor
      */
@@ -139,6 +183,8 @@ public class DataChunk {
 
         colorComponents = DEFAULT_COLOR_COMPONENTS;
 
+        vertexProperties = new LinkedHashMap<>();
+
         minX = minY = minZ = Float.MAX_VALUE;
         maxX = maxY = maxZ = -Float.MAX_VALUE;
     }
@@ -500,6 +546,429 @@ public class DataChunk {
         return material != null;
     }
 
+    /**
+     * Returns number of vertices contained in this chunk.
+     * Arrays of vertex data might be larger than required to contain this
+     * number of vertices (i.e. when chunks are pooled or arrays are not
+     * trimmed by their loader), in which case only values of the first
+     * vertices are valid.
+     * If no number of vertices has been set, it is equal to the vertex
+     * capacity of this chunk.
+     *
+     * @return number of vertices contained in this chunk.
+     * @see #getVertexCapacity()
+     */
+    public int getVertexCount() {
+        return vertexCount >= 0 ? vertexCount : getVertexCapacity();
+    }
+
+    /**
+     * Sets number of vertices contained in this chunk, so that arrays of
+     * vertex data can be larger than required.
+     *
+     * @param vertexCount number of vertices contained in this chunk.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setVertexCount(final int vertexCount) {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.vertexCount = vertexCount;
+    }
+
+    /**
+     * Returns number of vertices that fit into arrays of this chunk, which is
+     * inferred from the length of the first available array among vertex
+     * coordinates, normals, texture coordinates and colors, or from the
+     * capacity of the interleaved vertex buffer if no array is available.
+     *
+     * @return number of vertices that fit into arrays of this chunk.
+     */
+    public int getVertexCapacity() {
+        if (isVerticesCoordinatesDataAvailable()) {
+            return getVerticesCoordinatesData().length / 3;
+        }
+        if (isNormalsDataAvailable()) {
+            return getNormalsData().length / 3;
+        }
+        if (isTextureCoordinatesDataAvailable()) {
+            return getTextureCoordinatesData().length / 2;
+        }
+        if (isColorDataAvailable()) {
+            return getColorData().length / colorComponents;
+        }
+        if (isInterleavedVertexDataAvailable() && interleavedVertexLayout.getStride() > 0) {
+            return interleavedVertexData.capacity() / interleavedVertexLayout.getStride();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns number of indices contained in this chunk.
+     * Array of indices might be larger than required to contain this number
+     * of indices (i.e. when chunks are pooled or arrays are not trimmed by
+     * their loader), in which case only the first values are valid.
+     * If no number of indices has been set, it is equal to the index capacity
+     * of this chunk.
+     *
+     * @return number of indices contained in this chunk.
+     * @see #getIndexCapacity()
+     */
+    public int getIndexCount() {
+        return indexCount >= 0 ? indexCount : getIndexCapacity();
+    }
+
+    /**
+     * Sets number of indices contained in this chunk, so that array of
+     * indices can be larger than required.
+     *
+     * @param indexCount number of indices contained in this chunk.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setIndexCount(final int indexCount) {
+        if (indexCount < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.indexCount = indexCount;
+    }
+
+    /**
+     * Returns number of indices that fit into array of indices of this chunk.
+     *
+     * @return length of array of indices or zero if not available.
+     */
+    public int getIndexCapacity() {
+        return isIndicesDataAvailable() ? getIndicesData().length : 0;
+    }
+
+    /**
+     * Returns number of valid values in array of vertex coordinates, which
+     * takes into account the number of vertices contained in this chunk.
+     *
+     * @return number of valid vertex coordinates or zero if not available.
+     */
+    public int getVerticesCoordinatesDataLength() {
+        return validLength(isVerticesCoordinatesDataAvailable() ? getVerticesCoordinatesData().length : 0, 3);
+    }
+
+    /**
+     * Returns number of valid values in array of colors, which takes into
+     * account the number of vertices contained in this chunk.
+     *
+     * @return number of valid color values or zero if not available.
+     */
+    public int getColorDataLength() {
+        return validLength(isColorDataAvailable() ? getColorData().length : 0, colorComponents);
+    }
+
+    /**
+     * Returns number of valid values in array of texture coordinates, which
+     * takes into account the number of vertices contained in this chunk.
+     *
+     * @return number of valid texture coordinates or zero if not available.
+     */
+    public int getTextureCoordinatesDataLength() {
+        return validLength(isTextureCoordinatesDataAvailable() ? getTextureCoordinatesData().length : 0, 2);
+    }
+
+    /**
+     * Returns number of valid values in array of normals, which takes into
+     * account the number of vertices contained in this chunk.
+     *
+     * @return number of valid normal coordinates or zero if not available.
+     */
+    public int getNormalsDataLength() {
+        return validLength(isNormalsDataAvailable() ? getNormalsData().length : 0, 3);
+    }
+
+    /**
+     * Returns number of valid values in array of indices, which takes into
+     * account the number of indices contained in this chunk.
+     *
+     * @return number of valid indices or zero if not available.
+     */
+    public int getIndicesDataLength() {
+        final var length = getIndexCapacity();
+        return indexCount >= 0 ? Math.min(length, indexCount) : length;
+    }
+
+    /**
+     * Returns buffer containing vertex data interleaved into a single buffer,
+     * which is available when loaders are configured with an
+     * {@link InterleavedVertexFormat}. In such case, separate arrays of vertex
+     * coordinates, normals, texture coordinates and colors are not available.
+     * Buffer uses native byte order, starts at position zero and its limit
+     * is the number of vertices of this chunk times the stride of its layout.
+     *
+     * @return buffer containing interleaved vertex data or null if not
+     * available.
+     * @see #getInterleavedVertexLayout()
+     */
+    public ByteBuffer getInterleavedVertexData() {
+        return interleavedVertexData;
+    }
+
+    /**
+     * Returns layout of vertices stored into interleaved vertex buffer.
+     *
+     * @return layout of vertices or null if not available.
+     */
+    public InterleavedVertexLayout getInterleavedVertexLayout() {
+        return interleavedVertexLayout;
+    }
+
+    /**
+     * Sets buffer containing vertex data interleaved into a single buffer
+     * along with the layout of its vertices.
+     *
+     * @param interleavedVertexData   buffer containing interleaved vertex
+     *                                data or null.
+     * @param interleavedVertexLayout layout of vertices or null.
+     * @throws IllegalArgumentException if only one of provided values is
+     *                                  null.
+     */
+    public void setInterleavedVertexData(final ByteBuffer interleavedVertexData,
+                                         final InterleavedVertexLayout interleavedVertexLayout) {
+        if ((interleavedVertexData == null) != (interleavedVertexLayout == null)) {
+            throw new IllegalArgumentException();
+        }
+        this.interleavedVertexData = interleavedVertexData;
+        this.interleavedVertexLayout = interleavedVertexLayout;
+    }
+
+    /**
+     * Indicates whether vertex data is available interleaved into a single
+     * buffer.
+     *
+     * @return true if interleaved vertex data is available, false otherwise.
+     */
+    public boolean isInterleavedVertexDataAvailable() {
+        return interleavedVertexData != null;
+    }
+
+    /**
+     * Indicates whether this chunk belongs to the pool of its loader and has
+     * not been released yet.
+     *
+     * @return true if this chunk can be released, false otherwise.
+     */
+    public boolean isPooled() {
+        return pool != null;
+    }
+
+    /**
+     * Returns this chunk to the loader that created it, so that its arrays
+     * can be reused to load subsequent chunks.
+     * This chunk and its arrays must not be used after releasing it, since
+     * their contents will be overwritten.
+     * This method has no effect if this chunk is not pooled or has already
+     * been released.
+     */
+    public void release() {
+        final var p = pool;
+        if (p != null) {
+            pool = null;
+            p.release(this);
+        }
+    }
+
+    /**
+     * Sets additional per-vertex property data stored as float values.
+     * Array must contain one value per vertex in the same order as vertex
+     * coordinates.
+     *
+     * @param name name of property.
+     * @param data array containing property values or null to remove property.
+     * @throws IllegalArgumentException if provided name is null.
+     */
+    public void setVertexPropertyData(final String name, final float[] data) {
+        internalSetVertexPropertyData(name, data);
+    }
+
+    /**
+     * Sets additional per-vertex property data stored as double values.
+     * Array must contain one value per vertex in the same order as vertex
+     * coordinates.
+     *
+     * @param name name of property.
+     * @param data array containing property values or null to remove property.
+     * @throws IllegalArgumentException if provided name is null.
+     */
+    public void setVertexPropertyData(final String name, final double[] data) {
+        internalSetVertexPropertyData(name, data);
+    }
+
+    /**
+     * Sets additional per-vertex property data stored as int values.
+     * Array must contain one value per vertex in the same order as vertex
+     * coordinates.
+     *
+     * @param name name of property.
+     * @param data array containing property values or null to remove property.
+     * @throws IllegalArgumentException if provided name is null.
+     */
+    public void setVertexPropertyData(final String name, final int[] data) {
+        internalSetVertexPropertyData(name, data);
+    }
+
+    /**
+     * Sets additional per-vertex property data stored as long values.
+     * Array must contain one value per vertex in the same order as vertex
+     * coordinates.
+     *
+     * @param name name of property.
+     * @param data array containing property values or null to remove property.
+     * @throws IllegalArgumentException if provided name is null.
+     */
+    public void setVertexPropertyData(final String name, final long[] data) {
+        internalSetVertexPropertyData(name, data);
+    }
+
+    /**
+     * Returns array containing additional per-vertex property data for
+     * provided property name. Returned value will be either a float[],
+     * double[], int[] or long[] array, depending on the type used to store
+     * property values.
+     *
+     * @param name name of property.
+     * @return array containing property values or null if not available.
+     */
+    public Object getVertexPropertyData(final String name) {
+        return vertexProperties.get(name);
+    }
+
+    /**
+     * Returns additional per-vertex property data for provided property name
+     * when it is stored as float values.
+     *
+     * @param name name of property.
+     * @return array containing property values or null if not available or
+     * stored using a different type.
+     */
+    public float[] getFloatVertexPropertyData(final String name) {
+        return vertexProperties.get(name) instanceof float[] data ? data : null;
+    }
+
+    /**
+     * Returns additional per-vertex property data for provided property name
+     * when it is stored as double values.
+     *
+     * @param name name of property.
+     * @return array containing property values or null if not available or
+     * stored using a different type.
+     */
+    public double[] getDoubleVertexPropertyData(final String name) {
+        return vertexProperties.get(name) instanceof double[] data ? data : null;
+    }
+
+    /**
+     * Returns additional per-vertex property data for provided property name
+     * when it is stored as int values.
+     *
+     * @param name name of property.
+     * @return array containing property values or null if not available or
+     * stored using a different type.
+     */
+    public int[] getIntVertexPropertyData(final String name) {
+        return vertexProperties.get(name) instanceof int[] data ? data : null;
+    }
+
+    /**
+     * Returns additional per-vertex property data for provided property name
+     * when it is stored as long values.
+     *
+     * @param name name of property.
+     * @return array containing property values or null if not available or
+     * stored using a different type.
+     */
+    public long[] getLongVertexPropertyData(final String name) {
+        return vertexProperties.get(name) instanceof long[] data ? data : null;
+    }
+
+    /**
+     * Indicates if additional per-vertex property data has been provided for
+     * given property name and is available for retrieval.
+     *
+     * @param name name of property.
+     * @return True if available, false otherwise.
+     */
+    public boolean isVertexPropertyDataAvailable(final String name) {
+        return vertexProperties.containsKey(name);
+    }
+
+    /**
+     * Returns names of additional per-vertex properties contained in this
+     * chunk, in the order they were added.
+     *
+     * @return names of additional per-vertex properties.
+     */
+    public Set<String> getVertexPropertyNames() {
+        return Collections.unmodifiableSet(vertexProperties.keySet());
+    }
+
+    /**
+     * Internal method to set or remove additional per-vertex property data.
+     *
+     * @param name name of property.
+     * @param data primitive array containing property values or null to
+     *             remove property.
+     * @throws IllegalArgumentException if provided name is null.
+     */
+    private void internalSetVertexPropertyData(final String name, final Object data) {
+        if (name == null) {
+            throw new IllegalArgumentException();
+        }
+
+        if (data != null) {
+            vertexProperties.put(name, data);
+        } else {
+            vertexProperties.remove(name);
+        }
+    }
+
+    /**
+     * Returns number of valid values in an array of vertex data having
+     * provided length. When no number of vertices has been set, the whole
+     * array is considered valid.
+     *
+     * @param length          length of array.
+     * @param valuesPerVertex number of values stored for each vertex.
+     * @return number of valid values.
+     */
+    private int validLength(final int length, final int valuesPerVertex) {
+        return vertexCount >= 0 ? Math.min(length, vertexCount * valuesPerVertex) : length;
+    }
+
+    /**
+     * Sets pool where this chunk is returned when released.
+     *
+     * @param pool pool where this chunk is returned.
+     */
+    void setPool(final DataChunkPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Clears all contents of this chunk so that it can be reused.
+     */
+    void reset() {
+        coords = null;
+        colors = null;
+        indices = null;
+        textureCoords = null;
+        normals = null;
+
+        colorComponents = DEFAULT_COLOR_COMPONENTS;
+        material = null;
+        vertexProperties.clear();
+        vertexCount = indexCount = -1;
+        interleavedVertexData = null;
+        interleavedVertexLayout = null;
+
+        minX = minY = minZ = Float.MAX_VALUE;
+        maxX = maxY = maxZ = -Float.MAX_VALUE;
+    }
+
     //TODO: create class to compute DataChunk statistics: bounding box, vertex
     // average, color limits, standard deviation and average, normal limits,
     // standard deviation and average, etc.
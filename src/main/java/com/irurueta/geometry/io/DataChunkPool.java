@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps chunks released by consumers of a loader iterator, so that their
+ * arrays can be reused to load subsequent chunks instead of allocating new
+ * ones.
+ * Chunks can be released from any thread.
+ */
+final class DataChunkPool {
+
+    /**
+     * Chunks that have been released and can be reused.
+     */
+    private final Queue<DataChunk> released = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Returns a released chunk whose arrays can be reused, or null if no
+     * chunk has been released.
+     *
+     * @return a released chunk or null.
+     */
+    DataChunk poll() {
+        return released.poll();
+    }
+
+    /**
+     * Prepares a chunk to be returned by a loader iterator, clearing any
+     * previous content, so that it is returned into this pool when released.
+     *
+     * @param chunk a previously released chunk or null to create a new one.
+     * @return chunk to be returned.
+     */
+    DataChunk handOut(final DataChunk chunk) {
+        final var result = chunk != null ? chunk : new DataChunk();
+        result.reset();
+        result.setPool(this);
+        return result;
+    }
+
+    /**
+     * Returns provided chunk into this pool.
+     *
+     * @param chunk chunk being released.
+     */
+    void release(final DataChunk chunk) {
+        released.add(chunk);
+    }
+
+    /**
+     * Returns provided array if it has at least provided length, otherwise
+     * creates a new one.
+     *
+     * @param array  array to be reused or null.
+     * @param length required length.
+     * @return an array having at least required length.
+     */
+    static float[] reuse(final float[] array, final int length) {
+        return array != null && array.length >= length ? array : new float[length];
+    }
+
+    /**
+     * Returns provided array if it has at least provided length, otherwise
+     * creates a new one.
+     *
+     * @param array  array to be reused or null.
+     * @param length required length.
+     * @return an array having at least required length.
+     */
+    static short[] reuse(final short[] array, final int length) {
+        return array != null && array.length >= length ? array : new short[length];
+    }
+
+    /**
+     * Returns provided array if it has at least provided length, otherwise
+     * creates a new one.
+     *
+     * @param array  array to be reused or null.
+     * @param length required length.
+     * @return an array having at least required length.
+     */
+    static int[] reuse(final int[] array, final int length) {
+        return array != null && array.length >= length ? array : new int[length];
+    }
+
+    /**
+     * Returns provided array if it has at least provided length, otherwise
+     * creates a new one.
+     *
+     * @param array  array to be reused or null.
+     * @param length required length.
+     * @return an array having at least required length.
+     */
+    static long[] reuse(final long[] array, final int length) {
+        return array != null && array.length >= length ? array : new long[length];
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+/**
+ * Describes where an attribute is stored for each vertex of an interleaved
+ * vertex buffer.
+ * Values are stored using native byte order.
+ */
+public class InterleavedVertexAttribute {
+
+    /**
+     * Size in bytes of float components.
+     */
+    public static final int FLOAT_COMPONENT_SIZE = Float.BYTES;
+
+    /**
+     * Size in bytes of normalized unsigned byte components.
+     */
+    public static final int BYTE_COMPONENT_SIZE = Byte.BYTES;
+
+    /**
+     * Attribute being described.
+     */
+    private final VertexAttribute attribute;
+
+    /**
+     * Offset in bytes of attribute from the start of each vertex.
+     */
+    private final int offset;
+
+    /**
+     * Number of components of attribute.
+     */
+    private final int components;
+
+    /**
+     * Size in bytes of each component.
+     */
+    private final int componentSize;
+
+    /**
+     * Constructor.
+     *
+     * @param attribute     attribute being described.
+     * @param offset        offset in bytes of attribute from the start of
+     *                      each vertex.
+     * @param components    number of components of attribute.
+     * @param componentSize size in bytes of each component.
+     */
+    InterleavedVertexAttribute(final VertexAttribute attribute, final int offset, final int components,
+                               final int componentSize) {
+        this.attribute = attribute;
+        this.offset = offset;
+        this.components = components;
+        this.componentSize = componentSize;
+    }
+
+    /**
+     * Returns attribute being described.
+     *
+     * @return attribute being described.
+     */
+    public VertexAttribute getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Returns offset in bytes of attribute from the start of each vertex.
+     *
+     * @return offset in bytes.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns number of components of attribute (i.e. 3 for positions).
+     *
+     * @return number of components.
+     */
+    public int getComponents() {
+        return components;
+    }
+
+    /**
+     * Returns size in bytes of each component.
+     *
+     * @return size in bytes of each component.
+     */
+    public int getComponentSize() {
+        return componentSize;
+    }
+
+    /**
+     * Indicates whether components are stored as normalized unsigned bytes
+     * rather than as floats.
+     *
+     * @return true if components are normalized unsigned bytes, false if
+     * they are floats.
+     */
+    public boolean isNormalizedByte() {
+        return componentSize == BYTE_COMPONENT_SIZE;
+    }
+
+    /**
+     * Returns size in bytes of attribute for each vertex.
+     *
+     * @return size in bytes of attribute.
+     */
+    public int getSize() {
+        return components * componentSize;
+    }
+}
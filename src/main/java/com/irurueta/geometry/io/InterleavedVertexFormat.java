@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Defines how loaders store vertex data of chunks into a single interleaved
+ * buffer rather than into separate arrays.
+ * Attributes are stored for each vertex in the requested order and without
+ * any padding between them. Attributes that are not available in a chunk are
+ * skipped, hence the actual layout of each chunk is described by
+ * {@link DataChunk#getInterleavedVertexLayout()}.
+ */
+public class InterleavedVertexFormat {
+
+    /**
+     * Default order of attributes.
+     */
+    public static final List<VertexAttribute> DEFAULT_ATTRIBUTES = List.of(VertexAttribute.POSITION,
+            VertexAttribute.NORMAL, VertexAttribute.TEXTURE_COORDINATES, VertexAttribute.COLOR);
+
+    /**
+     * Indicates that colors are stored as floats by default.
+     */
+    public static final boolean DEFAULT_NORMALIZED_BYTE_COLORS = false;
+
+    /**
+     * Attributes to be stored for each vertex, in order.
+     */
+    private final List<VertexAttribute> attributes;
+
+    /**
+     * Indicates whether colors are stored as normalized unsigned bytes or as
+     * floats.
+     */
+    private final boolean normalizedByteColors;
+
+    /**
+     * Constructor storing all attributes in default order and colors as
+     * floats.
+     */
+    public InterleavedVertexFormat() {
+        this(DEFAULT_ATTRIBUTES, DEFAULT_NORMALIZED_BYTE_COLORS);
+    }
+
+    /**
+     * Constructor storing colors as floats.
+     *
+     * @param attributes attributes to be stored for each vertex, in order.
+     * @throws IllegalArgumentException if provided list is null, empty or
+     *                                  contains null or repeated attributes.
+     */
+    public InterleavedVertexFormat(final List<VertexAttribute> attributes) {
+        this(attributes, DEFAULT_NORMALIZED_BYTE_COLORS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param attributes           attributes to be stored for each vertex, in
+     *                             order.
+     * @param normalizedByteColors true to store colors as normalized unsigned
+     *                             bytes, false to store them as floats.
+     * @throws IllegalArgumentException if provided list is null, empty or
+     *                                  contains null or repeated attributes.
+     */
+    public InterleavedVertexFormat(final List<VertexAttribute> attributes, final boolean normalizedByteColors) {
+        if (attributes == null || attributes.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+
+        final var found = EnumSet.noneOf(VertexAttribute.class);
+        for (final var attribute : attributes) {
+            if (attribute == null || !found.add(attribute)) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        this.attributes = List.copyOf(attributes);
+        this.normalizedByteColors = normalizedByteColors;
+    }
+
+    /**
+     * Returns attributes to be stored for each vertex, in order.
+     *
+     * @return attributes to be stored for each vertex.
+     */
+    public List<VertexAttribute> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Indicates whether colors are stored as normalized unsigned bytes, where
+     * 255 corresponds to full intensity, or as floats between 0.0 and 1.0.
+     *
+     * @return true if colors are stored as normalized unsigned bytes, false
+     * if they are stored as floats.
+     */
+    public boolean isNormalizedByteColors() {
+        return normalizedByteColors;
+    }
+}
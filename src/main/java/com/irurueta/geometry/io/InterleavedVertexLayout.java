@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes the layout of vertices stored into the interleaved vertex buffer
+ * of a chunk.
+ * Vertex i starts at byte i * stride of the buffer, and each attribute is
+ * stored at its offset from the start of the vertex.
+ */
+public class InterleavedVertexLayout {
+
+    /**
+     * Attributes stored for each vertex, in order.
+     */
+    private final List<InterleavedVertexAttribute> attributes;
+
+    /**
+     * Size in bytes of each vertex.
+     */
+    private final int stride;
+
+    /**
+     * Constructor.
+     *
+     * @param attributes attributes stored for each vertex, in order and
+     *                   without padding between them.
+     */
+    InterleavedVertexLayout(final List<InterleavedVertexAttribute> attributes) {
+        this.attributes = Collections.unmodifiableList(attributes);
+
+        var size = 0;
+        for (final var attribute : attributes) {
+            size += attribute.getSize();
+        }
+        stride = size;
+    }
+
+    /**
+     * Returns attributes stored for each vertex, in order.
+     *
+     * @return attributes stored for each vertex.
+     */
+    public List<InterleavedVertexAttribute> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Returns description of provided attribute.
+     *
+     * @param attribute attribute to be found.
+     * @return description of attribute or null if attribute is not stored.
+     */
+    public InterleavedVertexAttribute getAttribute(final VertexAttribute attribute) {
+        for (final var a : attributes) {
+            if (a.getAttribute() == attribute) {
+                return a;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indicates whether provided attribute is stored for each vertex.
+     *
+     * @param attribute attribute to be checked.
+     * @return true if attribute is stored, false otherwise.
+     */
+    public boolean isAttributeAvailable(final VertexAttribute attribute) {
+        return getAttribute(attribute) != null;
+    }
+
+    /**
+     * Returns size in bytes of each vertex.
+     *
+     * @return size in bytes of each vertex.
+     */
+    public int getStride() {
+        return stride;
+    }
+}
@@ -0,0 +1,536 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.math.BigInteger;
+
+/**
+ * Formats numbers as ASCII characters directly into byte arrays, without
+ * creating intermediate strings, so that large arrays of numbers can be
+ * efficiently written into JSON files.
+ * Floats are formatted using the shortest decimal representation that is
+ * parsed back into the same float value, using the same layout as
+ * {@link Float#toString(float)}, hence values between 10^-3 and 10^7 are
+ * written as plain decimals and any other value is written in scientific
+ * notation.
+ * The shortest decimal representation is computed using only integer
+ * arithmetic following the Schubfach algorithm by Raffaello Giulietti, which
+ * is also used by {@link Float#toString(float)} since Java 19.
+ */
+final class JsonNumberFormatter {
+
+    /**
+     * Maximum number of bytes required to format an int value.
+     */
+    static final int MAX_INT_LENGTH = 11;
+
+    /**
+     * Maximum number of bytes required to format a float value.
+     */
+    static final int MAX_FLOAT_LENGTH = 16;
+
+    /**
+     * Maximum number of significant digits required to uniquely identify a
+     * float value.
+     */
+    private static final int MAX_FLOAT_DIGITS = 9;
+
+    /**
+     * Number of bits of the significand of a float, including the hidden
+     * bit.
+     */
+    private static final int PRECISION = 24;
+
+    /**
+     * Minimum binary exponent of the significand of a float, when the
+     * significand is taken as an integer.
+     */
+    private static final int Q_MIN = -149;
+
+    /**
+     * Smallest significand of a normal float, which is the hidden bit.
+     */
+    private static final int C_MIN = 1 << (PRECISION - 1);
+
+    /**
+     * Subnormal significands below this value need an additional digit to
+     * be computed, so that the shortest decimal can be found.
+     */
+    private static final int C_TINY = 8;
+
+    /**
+     * Minimum decimal exponent of scaling powers of ten.
+     */
+    private static final int K_MIN = -45;
+
+    /**
+     * Maximum decimal exponent of scaling powers of ten.
+     */
+    private static final int K_MAX = 31;
+
+    /**
+     * Mask of the lower 32 bits of a long.
+     */
+    private static final long MASK_32 = 0xffffffffL;
+
+    /**
+     * Most significant 63 bits of 10^-k approximations, for k between
+     * {@link #K_MIN} and {@link #K_MAX}.
+     * For each k, 10^-k = beta 2^r with 2^125 &lt;= beta &lt; 2^126, and
+     * the stored value is floor((floor(beta) + 1) 2^-63).
+     */
+    private static final long[] G1 = new long[K_MAX - K_MIN + 1];
+
+    /**
+     * Powers of ten that fit within an int.
+     */
+    private static final int[] INT_POW10 = {
+            1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000
+    };
+
+    /**
+     * Bytes of minimum int value, which cannot be negated.
+     */
+    private static final byte[] MIN_INT_BYTES = Integer.toString(Integer.MIN_VALUE).getBytes();
+
+    /**
+     * Bytes of NaN value.
+     */
+    private static final byte[] NAN_BYTES = Float.toString(Float.NaN).getBytes();
+
+    /**
+     * Bytes of positive infinity.
+     */
+    private static final byte[] INFINITY_BYTES = Float.toString(Float.POSITIVE_INFINITY).getBytes();
+
+    static {
+        for (var k = K_MIN; k <= K_MAX; k++) {
+            final var r = flog2pow10(-k) - 125;
+            final var pow10 = BigInteger.TEN.pow(Math.abs(k));
+            final BigInteger beta;
+            if (k <= 0) {
+                // 10^-k 2^-r
+                beta = r >= 0 ? pow10.shiftRight(r) : pow10.shiftLeft(-r);
+            } else {
+                // 2^-r / 10^k, where r is always negative
+                beta = BigInteger.ONE.shiftLeft(-r).divide(pow10);
+            }
+            G1[k - K_MIN] = beta.add(BigInteger.ONE).shiftRight(63).longValue();
+        }
+    }
+
+    /**
+     * Constructor. Prevents instantiation of utility class.
+     */
+    private JsonNumberFormatter() {
+    }
+
+    /**
+     * Formats provided int value into provided buffer.
+     *
+     * @param value  value to be formatted.
+     * @param buffer buffer where characters are written. Must have at least
+     *               {@link #MAX_INT_LENGTH} available bytes.
+     * @param pos    position where characters start.
+     * @return position after last written character.
+     */
+    static int formatInt(final int value, final byte[] buffer, final int pos) {
+        if (value == Integer.MIN_VALUE) {
+            System.arraycopy(MIN_INT_BYTES, 0, buffer, pos, MIN_INT_BYTES.length);
+            return pos + MIN_INT_BYTES.length;
+        }
+
+        var p = pos;
+        var v = value;
+        if (v < 0) {
+            buffer[p++] = '-';
+            v = -v;
+        }
+        return formatDigits(v, digitCount(v), buffer, p);
+    }
+
+    /**
+     * Formats provided float value into provided buffer using its shortest
+     * decimal representation.
+     * Infinite and NaN values are formatted as {@link Float#toString(float)}
+     * does, even though they are not valid JSON numbers.
+     *
+     * @param value  value to be formatted.
+     * @param buffer buffer where characters are written. Must have at least
+     *               {@link #MAX_FLOAT_LENGTH} available bytes.
+     * @param pos    position where characters start.
+     * @return position after last written character.
+     */
+    static int formatFloat(final float value, final byte[] buffer, final int pos) {
+        return formatFloat(value, MAX_FLOAT_DIGITS, Integer.MAX_VALUE, buffer, pos);
+    }
+
+    /**
+     * Formats provided float value into provided buffer rounded to provided
+     * number of significant digits.
+     * If the shortest decimal representation of the value requires fewer
+     * digits, such representation is used instead.
+     *
+     * @param value  value to be formatted.
+     * @param digits maximum number of significant digits. Must be at least 1.
+     * @param buffer buffer where characters are written. Must have at least
+     *               {@link #MAX_FLOAT_LENGTH} available bytes.
+     * @param pos    position where characters start.
+     * @return position after last written character.
+     */
+    static int formatFloatSignificant(final float value, final int digits, final byte[] buffer,
+                                      final int pos) {
+        return formatFloat(value, Math.min(digits, MAX_FLOAT_DIGITS), Integer.MAX_VALUE, buffer, pos);
+    }
+
+    /**
+     * Formats provided float value into provided buffer rounded to provided
+     * number of decimals.
+     * If the shortest decimal representation of the value requires fewer
+     * decimals, such representation is used instead.
+     *
+     * @param value    value to be formatted.
+     * @param decimals maximum number of decimals. Must be between 0 and 9.
+     * @param buffer   buffer where characters are written. Must have at least
+     *                 {@link #MAX_FLOAT_LENGTH} available bytes.
+     * @param pos      position where characters start.
+     * @return position after last written character.
+     */
+    static int formatFloatDecimals(final float value, final int decimals, final byte[] buffer,
+                                   final int pos) {
+        return formatFloat(value, MAX_FLOAT_DIGITS, decimals, buffer, pos);
+    }
+
+    /**
+     * Formats provided float value into provided buffer using its shortest
+     * decimal representation, or rounding such representation half up to
+     * provided limits when it exceeds them.
+     *
+     * @param value       value to be formatted.
+     * @param maxDigits   maximum number of significant digits.
+     * @param maxDecimals maximum number of decimals.
+     * @param buffer      buffer where characters are written.
+     * @param pos         position where characters start.
+     * @return position after last written character.
+     */
+    private static int formatFloat(final float value, final int maxDigits, final int maxDecimals,
+                                   final byte[] buffer, final int pos) {
+        final var bits = Float.floatToRawIntBits(value);
+        final var biasedExponent = (bits >>> (PRECISION - 1)) & 0xff;
+        final var mantissa = bits & (C_MIN - 1);
+        final var negative = bits < 0;
+
+        if (biasedExponent == 0xff) {
+            // infinite or NaN values
+            if (mantissa != 0) {
+                System.arraycopy(NAN_BYTES, 0, buffer, pos, NAN_BYTES.length);
+                return pos + NAN_BYTES.length;
+            }
+            var p = pos;
+            if (negative) {
+                buffer[p++] = '-';
+            }
+            System.arraycopy(INFINITY_BYTES, 0, buffer, p, INFINITY_BYTES.length);
+            return p + INFINITY_BYTES.length;
+        }
+
+        // shortest decimal is stored as significand 10^exponent
+        final long decimal;
+        if (biasedExponent != 0) {
+            // normal value
+            final var mq = -Q_MIN + 1 - biasedExponent;
+            final var c = C_MIN | mantissa;
+            if (0 < mq && mq < PRECISION && (c >> mq) << mq == c) {
+                // integer value
+                decimal = pack(c >> mq, 0);
+            } else {
+                decimal = toDecimal(-mq, c, 0);
+            }
+        } else if (mantissa != 0) {
+            // subnormal value
+            decimal = mantissa < C_TINY ? toDecimal(Q_MIN, 10 * mantissa, -1) : toDecimal(Q_MIN, mantissa, 0);
+        } else {
+            if (negative) {
+                buffer[pos] = '-';
+                return formatZero(buffer, pos + 1);
+            }
+            return formatZero(buffer, pos);
+        }
+
+        var significand = (int) (decimal >>> 32);
+        var exponent = (int) decimal;
+
+        // round to provided limits
+        final var drop = Math.max(Math.max(digitCount(significand) - maxDigits, 0),
+                maxDecimals < Integer.MAX_VALUE ? -exponent - maxDecimals : 0);
+        if (drop > 0) {
+            if (drop >= INT_POW10.length) {
+                // value is rounded to zero because significand has at most
+                // 9 digits
+                significand = 0;
+            } else {
+                final long divisor = INT_POW10[drop];
+                final var quotient = significand / divisor;
+                final var remainder = significand - quotient * divisor;
+                significand = (int) (2 * remainder >= divisor ? quotient + 1 : quotient);
+            }
+            exponent += drop;
+
+            if (significand == 0) {
+                return formatZero(buffer, pos);
+            }
+        }
+
+        return formatDecimal(negative, significand, -exponent, buffer, pos);
+    }
+
+    /**
+     * Computes the shortest decimal that is rounded to the float value equal
+     * to provided significand multiplied by 2^q, choosing the decimal closest
+     * to the value when more than one decimal is the shortest.
+     * See section 9 of "The Schubfach way to render doubles" by Raffaello
+     * Giulietti.
+     *
+     * @param q  binary exponent.
+     * @param c  significand.
+     * @param dk correction of the decimal exponent when significand has been
+     *           multiplied by ten.
+     * @return decimal significand and exponent packed by
+     * {@link #pack(int, int)}.
+     */
+    private static long toDecimal(final int q, final int c, final int dk) {
+        final var out = c & 0x1;
+        final var cb = (long) c << 2;
+        final var cbr = cb + 2;
+        final long cbl;
+        final int k;
+        if (c != C_MIN || q == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // interval of values rounded to a power of two is asymmetric
+            cbl = cb - 1;
+            k = flog10ThreeQuartersPow2(q);
+        }
+        final var h = q + flog2pow10(-k) + 33;
+
+        final var g = G1[k - K_MIN] + 1;
+
+        final var vb = roundToOdd(g, cb << h);
+        final var vbl = roundToOdd(g, cbl << h);
+        final var vbr = roundToOdd(g, cbr << h);
+
+        final var s = vb >> 2;
+        if (s >= 100) {
+            // check whether a decimal having one digit less is within the
+            // rounding interval
+            final var sp10 = 10 * (int) (s * 1_717_986_919L >>> 34);
+            final var tp10 = sp10 + 10;
+            final var upin = vbl + out <= sp10 << 2;
+            final var wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return pack(upin ? sp10 : tp10, k);
+            }
+        }
+
+        final var t = s + 1;
+        final var uin = vbl + out <= s << 2;
+        final var win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return pack(uin ? s : t, k + dk);
+        }
+
+        // both decimals are within the rounding interval, choose the closest
+        // one, or the even one if both are equally close
+        final var cmp = vb - (s + t << 1);
+        return pack(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+    }
+
+    /**
+     * Multiplies provided values, keeps the most significant bits of the
+     * result and rounds them to odd.
+     *
+     * @param g  approximation of a power of ten.
+     * @param cp scaled significand.
+     * @return rounded product.
+     */
+    private static int roundToOdd(final long g, final long cp) {
+        final var x1 = Math.multiplyHigh(g, cp);
+        final var vbp = x1 >>> 31;
+        return (int) (vbp | (x1 & MASK_32) + MASK_32 >>> 32);
+    }
+
+    /**
+     * Packs a decimal significand and exponent into a long value.
+     *
+     * @param significand decimal significand.
+     * @param exponent    decimal exponent.
+     * @return packed value.
+     */
+    private static long pack(final int significand, final int exponent) {
+        return (long) significand << 32 | exponent & MASK_32;
+    }
+
+    /**
+     * Returns floor(log10(2^e)).
+     *
+     * @param e exponent, between -1233 and 1232.
+     * @return floor(log10(2^e)).
+     */
+    private static int flog10pow2(final int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * Returns floor(log10(3/4 2^e)).
+     *
+     * @param e exponent, between -1233 and 1232.
+     * @return floor(log10(3/4 2^e)).
+     */
+    private static int flog10ThreeQuartersPow2(final int e) {
+        return (int) (e * 661_971_961_083L + (-274_743_187_321L) >> 41);
+    }
+
+    /**
+     * Returns floor(log2(10^e)).
+     *
+     * @param e exponent, between -500 and 500.
+     * @return floor(log2(10^e)).
+     */
+    private static int flog2pow10(final int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+    /**
+     * Formats a decimal value equal to provided significand multiplied by
+     * 10^-scale, using the same layout as {@link Float#toString(float)}.
+     *
+     * @param negative    true if value is negative.
+     * @param significand positive significand.
+     * @param scale       number of decimal digits of significand that are
+     *                    fractional.
+     * @param buffer      buffer where characters are written.
+     * @param pos         position where characters start.
+     * @return position after last written character.
+     */
+    private static int formatDecimal(final boolean negative, final long significand, final int scale,
+                                     final byte[] buffer, final int pos) {
+        // remove trailing zeros
+        var s = significand;
+        var j = scale;
+        while (s % 10 == 0) {
+            s /= 10;
+            j--;
+        }
+
+        final var digits = (int) s;
+        final var length = digitCount(digits);
+        // decimal exponent of first digit
+        final var exp10 = length - 1 - j;
+
+        var p = pos;
+        if (negative) {
+            buffer[p++] = '-';
+        }
+        if (exp10 >= -3 && exp10 < 7) {
+            if (exp10 < 0) {
+                // 0.00ddd
+                buffer[p++] = '0';
+                buffer[p++] = '.';
+                for (var i = -1; i > exp10; i--) {
+                    buffer[p++] = '0';
+                }
+                p = formatDigits(digits, length, buffer, p);
+            } else if (j <= 0) {
+                // ddd00.0
+                p = formatDigits(digits, length, buffer, p);
+                for (var i = 0; i < -j; i++) {
+                    buffer[p++] = '0';
+                }
+                buffer[p++] = '.';
+                buffer[p++] = '0';
+            } else {
+                // dd.ddd
+                final var integerPart = digits / INT_POW10[j];
+                final var fractionalPart = digits - integerPart * INT_POW10[j];
+                p = formatDigits(integerPart, length - j, buffer, p);
+                buffer[p++] = '.';
+                p = formatDigits(fractionalPart, j, buffer, p);
+            }
+        } else {
+            // d.dddE-n
+            final var firstDigit = digits / INT_POW10[length - 1];
+            buffer[p++] = (byte) ('0' + firstDigit);
+            buffer[p++] = '.';
+            if (length > 1) {
+                p = formatDigits(digits - firstDigit * INT_POW10[length - 1], length - 1, buffer, p);
+            } else {
+                buffer[p++] = '0';
+            }
+            buffer[p++] = 'E';
+            p = formatInt(exp10, buffer, p);
+        }
+        return p;
+    }
+
+    /**
+     * Formats zero value.
+     *
+     * @param buffer buffer where characters are written.
+     * @param pos    position where characters start.
+     * @return position after last written character.
+     */
+    private static int formatZero(final byte[] buffer, final int pos) {
+        buffer[pos] = '0';
+        buffer[pos + 1] = '.';
+        buffer[pos + 2] = '0';
+        return pos + 3;
+    }
+
+    /**
+     * Formats provided non-negative value using exactly provided number of
+     * digits, padding with leading zeros if needed.
+     *
+     * @param value  non-negative value to be formatted.
+     * @param length number of digits to be written.
+     * @param buffer buffer where characters are written.
+     * @param pos    position where characters start.
+     * @return position after last written character.
+     */
+    private static int formatDigits(final int value, final int length, final byte[] buffer, final int pos) {
+        var v = value;
+        for (var i = pos + length - 1; i >= pos; i--) {
+            final var q = v / 10;
+            buffer[i] = (byte) ('0' + (v - q * 10));
+            v = q;
+        }
+        return pos + length;
+    }
+
+    /**
+     * Returns number of decimal digits of provided non-negative value.
+     *
+     * @param value non-negative value.
+     * @return number of decimal digits.
+     */
+    private static int digitCount(final int value) {
+        var count = 1;
+        while (count < INT_POW10.length && value >= INT_POW10[count]) {
+            count++;
+        }
+        return count;
+    }
+}
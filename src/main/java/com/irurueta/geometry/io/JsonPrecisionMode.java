@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+/**
+ * Enumerator containing different modes to limit the precision of decimal
+ * values written into JSON files.
+ */
+public enum JsonPrecisionMode {
+    /**
+     * Values are written using the shortest decimal representation that is
+     * read back as the exact same float value.
+     */
+    FULL,
+
+    /**
+     * Values are rounded to a fixed number of decimals.
+     */
+    FIXED_DECIMALS,
+
+    /**
+     * Values are rounded to a number of significant digits.
+     */
+    SIGNIFICANT_DIGITS
+}
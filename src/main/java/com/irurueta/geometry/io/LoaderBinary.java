@@ -17,13 +17,46 @@ package com.irurueta.geometry.io;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 /**
  * Loads a custom binary file implemented for this library.
  * The binary format has been created to keep 3D data in a more compact way than
  * other formats.
+ * Both version 2 and version 3 files are supported. In version 3 files, indices
+ * might be stored as 32-bit values, and materials are stored only once, hence
+ * chunks sharing a material also share the same {@link Material} and
+ * {@link Texture} instances.
+ * Version 3 files might also contain a chunk directory, which allows loading
+ * chunks in any order, or only those chunks intersecting a region of
+ * interest, without reading the whole file.
+ * When zero copy is enabled, chunks of mapped files are loaded as
+ * {@link MappedDataChunk} instances exposing views into the mapped file.
+ * Embedded textures can either be copied into files provided by a
+ * {@link LoaderListenerBinary} when loading starts, or be accessed on demand
+ * through their descriptors.
+ * Chunks can also be decoded concurrently on a provided executor, which
+ * speeds up loading of large files on multicore machines.
  */
 public class LoaderBinary extends Loader {
 
@@ -32,11 +65,42 @@ public class LoaderBinary extends Loader {
      */
     public static final int BUFFER_SIZE = 1024;
 
+    /**
+     * Indicates whether chunks backed by views of the mapped file are loaded
+     * by default.
+     */
+    public static final boolean DEFAULT_ZERO_COPY_ENABLED = false;
+
+    /**
+     * Indicates whether embedded textures are accessed on demand by default
+     * instead of being copied into files provided by the listener when
+     * loading starts.
+     */
+    public static final boolean DEFAULT_LAZY_TEXTURES_ENABLED = false;
+
+    /**
+     * Default maximum number of chunks being decoded or waiting to be
+     * returned at the same time when loading in parallel.
+     */
+    public static final int DEFAULT_MAX_PENDING_CHUNKS = 16;
+
+    /**
+     * Minimum allowed value for the maximum number of pending chunks when
+     * loading in parallel.
+     */
+    public static final int MIN_PENDING_CHUNKS = 1;
+
     /**
      * Version number of the binary format supported by this class.
      */
     private static final byte SUPPORTED_VERSION = 2;
 
+    /**
+     * Version number of the binary format containing 32-bit indices and a
+     * material table, which is also supported by this class.
+     */
+    private static final byte SUPPORTED_VERSION_3 = BinaryFormat.VERSION_3;
+
     /**
      * Number of bytes required to determine the bounding box of a chunk or
      * the whole 3D object (which are 2 3D points = 2x3 coordinates =
@@ -63,6 +127,75 @@ public class LoaderBinary extends Loader {
      */
     private boolean validFile;
 
+    /**
+     * Version of file being loaded.
+     */
+    private byte version;
+
+    /**
+     * Position where chunk data ends, which is either the position of the
+     * chunk directory or the file length.
+     */
+    private long dataEndPos;
+
+    /**
+     * Indicates whether the file has been checked to contain a chunk
+     * directory.
+     */
+    private boolean chunkDirectoryChecked;
+
+    /**
+     * Chunk directory of the file or null if file has no chunk directory.
+     */
+    private ChunkDirectoryBinary chunkDirectory;
+
+    /**
+     * Material table of the file, lazily read from the positions indicated by
+     * the chunk directory when chunks are randomly accessed.
+     */
+    private List<Material> directoryMaterials;
+
+    /**
+     * Indicates whether loaded chunks are backed by views of the mapped file
+     * instead of arrays.
+     */
+    private boolean zeroCopyEnabled = DEFAULT_ZERO_COPY_ENABLED;
+
+    /**
+     * Indicates whether embedded textures are accessed on demand instead of
+     * being copied when loading starts.
+     */
+    private boolean lazyTexturesEnabled = DEFAULT_LAZY_TEXTURES_ENABLED;
+
+    /**
+     * Descriptors of the textures embedded in the file or null if not read
+     * yet.
+     */
+    private List<TextureInfoBinary> textures;
+
+    /**
+     * Position where embedded textures end.
+     */
+    private long texturesEndPos;
+
+    /**
+     * Maximum number of chunks being decoded or waiting to be returned at
+     * the same time when loading in parallel.
+     */
+    private int maxPendingChunks = DEFAULT_MAX_PENDING_CHUNKS;
+
+    /**
+     * Readers opened to decode chunks in parallel. Readers are kept open
+     * until this loader is closed or its file is changed, so that chunks
+     * backed by views of mapped files remain valid.
+     */
+    private final List<AbstractFileReaderAndWriter> parallelReaders = new CopyOnWriteArrayList<>();
+
+    /**
+     * Readers opened to decode chunks in parallel that are not being used.
+     */
+    private final Queue<AbstractFileReaderAndWriter> idleParallelReaders = new ConcurrentLinkedQueue<>();
+
     /**
      * Constructor.
      */
@@ -151,8 +284,9 @@ public class LoaderBinary extends Loader {
 
         if (!validityChecked) {
             // check that file version is supported
-            final var version = reader.readByte();
-            validFile = (version == SUPPORTED_VERSION);
+            reader.seek(0);
+            version = reader.readByte();
+            validFile = (version == SUPPORTED_VERSION || version == SUPPORTED_VERSION_3);
         }
 
         return validFile;
@@ -171,6 +305,168 @@ public class LoaderBinary extends Loader {
      */
     @Override
     public LoaderIterator load() throws LockedException, NotReadyException, IOException, LoaderException {
+        startLoading();
+
+        loaderIterator = new LoaderIteratorBinary(this);
+        loaderIterator.setListener(new LoaderIteratorListenerImpl(this));
+        return loaderIterator;
+    }
+
+    /**
+     * Starts loading provided file using provided executor to decode chunks
+     * concurrently.
+     * Positions of all chunks are found first, either from the chunk
+     * directory if available, or by skipping over chunks using their sizes.
+     * Chunks are then decoded by tasks submitted to provided executor, each
+     * one reading from its own reader positioned at the start of its chunk.
+     * Returned iterator returns chunks in the order they are stored in the
+     * file, waiting for them to be decoded when needed. At most
+     * {@link #getMaxPendingChunks()} chunks are decoded ahead of the last
+     * returned one.
+     *
+     * @param executor executor where chunks are decoded.
+     * @return a loader iterator returning chunks in file order.
+     * @throws IllegalArgumentException if executor is null.
+     * @throws LockedException          raised if this instance is already
+     *                                  locked.
+     * @throws NotReadyException        raised if this instance is not yet
+     *                                  ready.
+     * @throws IOException              if an I/O error occurs.
+     * @throws LoaderException          if file is corrupted or cannot be
+     *                                  interpreted.
+     */
+    public LoaderIterator loadParallel(final Executor executor) throws LockedException, NotReadyException,
+            IOException, LoaderException {
+        if (executor == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var materials = new ArrayList<Material>();
+        final var positions = startParallelLoading(materials);
+        final var iterator = new ParallelLoaderIteratorBinary(executor, positions, materials);
+        if (!iterator.hasNext()) {
+            finishParallelLoading();
+        }
+        return iterator;
+    }
+
+    /**
+     * Loads provided file using provided executor to decode chunks
+     * concurrently, notifying each chunk to provided listener as soon as it is
+     * decoded.
+     * This method blocks until all chunks have been notified. Listener is
+     * always called from the thread calling this method, in the order chunks
+     * finish decoding. At most {@link #getMaxPendingChunks()} chunks are
+     * decoded at the same time.
+     *
+     * @param executor      executor where chunks are decoded.
+     * @param chunkListener listener to be notified of decoded chunks.
+     * @throws IllegalArgumentException if executor or listener are null.
+     * @throws LockedException          raised if this instance is already
+     *                                  locked.
+     * @throws NotReadyException        raised if this instance is not yet
+     *                                  ready.
+     * @throws IOException              if an I/O error occurs.
+     * @throws LoaderException          if file is corrupted or cannot be
+     *                                  interpreted.
+     * @see #loadParallel(Executor)
+     */
+    public void loadParallel(final Executor executor, final ChunkListenerBinary chunkListener)
+            throws LockedException, NotReadyException, IOException, LoaderException {
+        if (executor == null || chunkListener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var materials = new ArrayList<Material>();
+        final var positions = startParallelLoading(materials);
+
+        final var completionService = new ExecutorCompletionService<DataChunk>(executor);
+        final var indices = new HashMap<Future<DataChunk>, Integer>();
+        final var tasks = new DecodingTasks();
+        var submitted = 0;
+        var delivered = 0;
+        try {
+            while (delivered < positions.length) {
+                while (submitted < positions.length && submitted - delivered < maxPendingChunks) {
+                    final var position = positions[submitted];
+                    indices.put(completionService.submit(() -> decodeChunk(position, materials, tasks)), submitted);
+                    submitted++;
+                }
+
+                final var future = completionService.take();
+                final var chunk = getDecodedChunk(future);
+                delivered++;
+
+                chunkListener.onChunkLoaded(this, indices.remove(future), chunk);
+                notifyParallelProgress(delivered, positions.length);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelParallelLoading(indices.keySet(), tasks);
+            throw new InterruptedIOException();
+        } catch (final LoaderException | IOException | RuntimeException e) {
+            cancelParallelLoading(indices.keySet(), tasks);
+            throw e;
+        }
+
+        finishParallelLoading();
+    }
+
+    /**
+     * Returns maximum number of chunks being decoded or waiting to be
+     * returned at the same time when loading in parallel.
+     *
+     * @return maximum number of pending chunks.
+     */
+    public int getMaxPendingChunks() {
+        return maxPendingChunks;
+    }
+
+    /**
+     * Sets maximum number of chunks being decoded or waiting to be returned
+     * at the same time when loading in parallel. Larger values allow more
+     * chunks to be decoded concurrently at the expense of larger memory
+     * usage.
+     *
+     * @param maxPendingChunks maximum number of pending chunks.
+     * @throws IllegalArgumentException if provided value is less than
+     *                                  {@link #MIN_PENDING_CHUNKS}.
+     * @throws LockedException          raised if this instance is already
+     *                                  locked.
+     */
+    public void setMaxPendingChunks(final int maxPendingChunks) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (maxPendingChunks < MIN_PENDING_CHUNKS) {
+            throw new IllegalArgumentException();
+        }
+        this.maxPendingChunks = maxPendingChunks;
+    }
+
+    /**
+     * Closes provided file along with any reader opened to decode chunks in
+     * parallel.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        closeParallelReaders();
+        super.close();
+    }
+
+    /**
+     * Validates provided file, locks this instance, notifies the start of the
+     * loading process and processes embedded textures, leaving the reader
+     * positioned where chunk data starts.
+     *
+     * @throws LockedException   raised if this instance is already locked.
+     * @throws NotReadyException raised if this instance is not yet ready.
+     * @throws IOException       if an I/O error occurs.
+     * @throws LoaderException   if file is corrupted or cannot be interpreted.
+     */
+    private void startLoading() throws LockedException, NotReadyException, IOException, LoaderException {
         if (isLocked()) {
             throw new LockedException();
         }
@@ -188,574 +484,1733 @@ public class LoaderBinary extends Loader {
             listener.onLoadStart(this);
         }
 
-        // read textures until no more textures are available
-        while (reader.readBoolean()) {
-            // texture data follows
-            final var texId = reader.readInt();
-            final var texWidth = reader.readInt();
-            final var texHeight = reader.readInt();
-            final var texLength = reader.readLong();
-            final var textureFileStartPos = reader.getPosition();
-            final var textureFileEndPos = textureFileStartPos + texLength;
-
-            // check that at least texLength bytes remain otherwise file is
-            // incomplete or corrupted
-            if (textureFileEndPos > file.length()) {
-                throw new LoaderException();
-            }
+        // find where chunk data ends
+        dataEndPos = findChunkDirectoryPosition();
+        reader.seek(1);
 
-            // notify that texture data is available
-            if (listener instanceof LoaderListenerBinary loaderListener) {
+        // read texture descriptors, skipping texture data
+        final var textures = readTextures();
 
+        // copy texture data into files provided by listener, unless textures
+        // are accessed on demand
+        if (!lazyTexturesEnabled && listener instanceof LoaderListenerBinary loaderListener) {
+            for (final var texture : textures) {
                 // request file where texture will be stored
-                final var texFile = loaderListener.onTextureReceived(this, texId, texWidth, texHeight);
+                final var texFile = loaderListener.onTextureReceived(this, texture.getId(),
+                        texture.getWidth(), texture.getHeight());
 
                 if (texFile != null) {
                     // write texture data at provided file
-                    final var buffer = new byte[BUFFER_SIZE];
-
-                    var counter = 0;
-                    try (final var outStream = Files.newOutputStream(texFile.toPath())) {
-                        int n;
-                        var len = BUFFER_SIZE;
-                        while (counter < texLength) {
-                            if (counter + len > texLength) {
-                                len = (int) texLength - counter;
-                            }
-                            n = reader.read(buffer, 0, len);
-                            outStream.write(buffer, 0, n);
-                            if (n > 0) {
-                                counter += n;
-                            } else {
-                                break;
-                            }
-                        }
-
-                        outStream.flush();
-                    }
-
-                    if (counter != texLength) {
-                        throw new LoaderException();
-                    }
+                    copyTexture(texture, texFile);
 
                     // notify that texture data has been written to provided file
-                    final var valid = loaderListener.onTextureDataAvailable(this, texFile, texId, texWidth,
-                            texHeight);
+                    final var valid = loaderListener.onTextureDataAvailable(this, texFile, texture.getId(),
+                            texture.getWidth(), texture.getHeight());
                     // texture processing couldn't be correctly done
                     if (!valid) {
                         throw new LoaderException();
                     }
-                } else {
-                    // skip to end of texture file in case that listener
-                    // didn't provide a file to write texture data
-                    reader.skip(texLength);
                 }
-            } else {
-                // skip to end of texture file in case that there is no listener
-                reader.skip(texLength);
             }
         }
 
-        loaderIterator = new LoaderIteratorBinary(this);
-        loaderIterator.setListener(new LoaderIteratorListenerImpl(this));
-        return loaderIterator;
+        reader.seek(texturesEndPos);
     }
 
     /**
-     * Internal listener to be notified when loading process finishes.
-     * This listener is used to free resources when loading process finishes.
+     * Starts loading provided file and finds the positions of all chunks to
+     * be decoded in parallel.
+     *
+     * @param materials list where the material table of version 3 files is
+     *                  stored.
+     * @return positions where the size of each chunk is stored.
+     * @throws LockedException   raised if this instance is already locked.
+     * @throws NotReadyException raised if this instance is not yet ready.
+     * @throws IOException       if an I/O error occurs.
+     * @throws LoaderException   if file is corrupted or cannot be interpreted.
      */
-    private class LoaderIteratorListenerImpl implements LoaderIteratorListener {
-
-        /**
-         * Reference to Loader loading binary file.
-         */
-        private final LoaderBinary loader;
+    private long[] startParallelLoading(final List<Material> materials) throws LockedException,
+            NotReadyException, IOException, LoaderException {
+        final var directory = readChunkDirectory();
+
+        startLoading();
+
+        try {
+            if (directory != null) {
+                // chunk positions are known from the directory
+                materials.addAll(readDirectoryMaterials(directory));
+                final var positions = new long[directory.getChunkCount()];
+                for (final var info : directory.getChunks()) {
+                    // skip chunk record type
+                    positions[info.getIndex()] = info.getOffset() + 1;
+                }
+                return positions;
+            }
 
-        /**
-         * Constructor.
-         *
-         * @param loader reference to Loader.
-         */
-        public LoaderIteratorListenerImpl(final LoaderBinary loader) {
-            this.loader = loader;
-        }
+            // skip over chunks using their sizes
+            final var positions = new ArrayList<Long>();
+            final var textures = new HashMap<Integer, Texture>();
+            while (!reader.isEndOfStream() && reader.getPosition() < dataEndPos) {
+                if (version == SUPPORTED_VERSION_3) {
+                    final var recordType = reader.readByte();
+                    if (recordType == BinaryFormat.MATERIAL_RECORD) {
+                        materials.add(readMaterial(reader, textures));
+                        continue;
+                    } else if (recordType != BinaryFormat.CHUNK_RECORD) {
+                        throw new LoaderException();
+                    }
+                }
 
-        /**
-         * Method to be notified when the loading process finishes.
-         *
-         * @param iterator iterator loading the file in chunks.
-         */
-        @Override
-        public void onIteratorFinished(final LoaderIterator iterator) {
-            // because iterator is finished, we should allow subsequent calls to
-            // load method
+                final var position = reader.getPosition();
+                final var chunkSize = reader.readInt();
+                final var chunkEndPos = reader.getPosition() + chunkSize;
+                if (chunkSize < 0 || chunkEndPos > dataEndPos) {
+                    throw new LoaderException();
+                }
+                positions.add(position);
+                reader.seek(chunkEndPos);
+            }
 
-            // on subsequent calls
-            if (listener != null) {
-                listener.onLoadEnd(loader);
+            final var result = new long[positions.size()];
+            for (var i = 0; i < result.length; i++) {
+                result[i] = positions.get(i);
             }
+            return result;
+        } catch (final LoaderException | IOException e) {
             setLocked(false);
+            throw e;
         }
     }
 
     /**
-     * Loader iterator in charge of loading file data in small chunks.
-     * Usually data is divided in chunks small enough that can be directly
-     * loaded by graphical layers such as OpenGL (which has a limit of 65535
-     * indices when using Vertex Buffer Objects, which increase graphical
-     * performance).
+     * Decodes the chunk whose size is stored at provided position, using an
+     * idle reader or opening a new one if none is available.
+     * This method is called concurrently from tasks decoding chunks in
+     * parallel.
+     *
+     * @param position  position where the size of the chunk is stored.
+     * @param materials material table of the file. Only used in version 3
+     *                  files.
+     * @param tasks     tracks decoding tasks of current parallel load.
+     * @return decoded chunk.
+     * @throws LoaderException       if file data is corrupt or cannot be
+     *                               understood.
+     * @throws IOException           if an I/O error occurs.
+     * @throws CancellationException if parallel load has been cancelled.
      */
-    private class LoaderIteratorBinary implements LoaderIterator {
-
-        /**
-         * Reference to loader loading binary file.
-         */
-        private final LoaderBinary loader;
-
-        /**
-         * Reference to the listener of this loader iterator. This listener will
-         * be notified when the loading process finishes so that resources can
-         * be freed.
-         */
-        private LoaderIteratorListener listener;
-
-        /**
-         * Constructor.
-         *
-         * @param loader reference to loader loading binary file.
-         */
-        public LoaderIteratorBinary(final LoaderBinary loader) {
-            this.loader = loader;
-            listener = null;
+    private DataChunk decodeChunk(final long position, final List<Material> materials,
+                                  final DecodingTasks tasks) throws LoaderException, IOException {
+        if (!tasks.enter()) {
+            throw new CancellationException();
         }
-
-        /**
-         * Method to set listener of this loader iterator.
-         * This listener will be notified when the loading process finishes.
-         *
-         * @param listener listener of this loader iterator.
-         */
-        public void setListener(final LoaderIteratorListener listener) {
-            this.listener = listener;
+        try {
+            return decodeChunk(position, materials);
+        } finally {
+            tasks.exit();
         }
+    }
 
-        /**
-         * Indicates if there is another chunk of data to be loaded.
-         *
-         * @return true if there is another chunk of data, false otherwise.
-         */
-        @Override
-        public boolean hasNext() {
-            try {
-                return !reader.isEndOfStream();
-            } catch (final IOException e) {
-                return false;
+    /**
+     * Decodes the chunk whose size is stored at provided position, using an
+     * idle reader or opening a new one if none is available.
+     *
+     * @param position  position where the size of the chunk is stored.
+     * @param materials material table of the file. Only used in version 3
+     *                  files.
+     * @return decoded chunk.
+     * @throws LoaderException if file data is corrupt or cannot be understood.
+     * @throws IOException     if an I/O error occurs.
+     */
+    private DataChunk decodeChunk(final long position, final List<Material> materials)
+            throws LoaderException, IOException {
+        var in = idleParallelReaders.poll();
+        if (in == null) {
+            if (file.length() < getFileSizeLimitToKeepInMemory()) {
+                in = new MappedFileReaderAndWriter(file, FileChannel.MapMode.READ_ONLY);
+            } else {
+                in = new FileReaderAndWriter(file, FileChannel.MapMode.READ_ONLY);
             }
+            parallelReaders.add(in);
         }
 
-        /**
-         * Loads and returns next chunk of data, if available.
-         *
-         * @return next chunk of data.
-         * @throws NotAvailableException thrown if no more data is available.
-         * @throws LoaderException       if file data is corrupt or cannot be
-         *                               understood.
-         * @throws IOException           if an I/O error occurs.
-         */
-        @Override
-        public DataChunk next() throws NotAvailableException, LoaderException, IOException {
-            if (!hasNext()) {
-                throw new NotAvailableException();
-            }
-
-            // read chunk size
-            final var chunkSize = reader.readInt();
+        try {
+            in.seek(position);
+            return readChunk(in, materials, false);
+        } finally {
+            idleParallelReaders.add(in);
+        }
+    }
 
-            // ensure that chunk size is positive, otherwise file is corrupted
-            if (chunkSize < 0) {
-                throw new LoaderException();
+    /**
+     * Waits for provided decoding task to finish and returns decoded chunk.
+     *
+     * @param future task decoding a chunk.
+     * @return decoded chunk.
+     * @throws InterruptedException if current thread is interrupted while
+     *                              waiting.
+     * @throws LoaderException      if file data is corrupt or cannot be
+     *                              understood.
+     * @throws IOException          if an I/O error occurs.
+     */
+    private static DataChunk getDecodedChunk(final Future<DataChunk> future) throws InterruptedException,
+            LoaderException, IOException {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            final var cause = e.getCause();
+            if (cause instanceof LoaderException loaderException) {
+                throw loaderException;
+            } else if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else {
+                throw new LoaderException(cause);
             }
+        }
+    }
 
-            // get position of start of chunk
-            final var chunkStartPos = reader.getPosition();
-
-            // position of end of chunk
-            final var chunkEndPos = chunkStartPos + chunkSize;
+    /**
+     * Notifies loading progress when chunks are loaded in parallel.
+     *
+     * @param delivered number of chunks delivered so far.
+     * @param total     total number of chunks.
+     */
+    private void notifyParallelProgress(final int delivered, final int total) {
+        if (listener != null) {
+            listener.onLoadProgressChange(this, (float) delivered / (float) total);
+        }
+    }
 
-            // check that at least chunkSize bytes remain otherwise file is
+    /**
+     * Cancels pending decoding tasks after loading in parallel fails, waits
+     * for tasks that are already decoding a chunk to finish so that parallel
+     * readers are no longer in use, and unlocks this instance.
+     *
+     * @param futures pending decoding tasks.
+     * @param tasks   tracks decoding tasks of current parallel load.
+     */
+    private void cancelParallelLoading(final Collection<Future<DataChunk>> futures, final DecodingTasks tasks) {
+        for (final var future : futures) {
+            future.cancel(false);
+        }
+        tasks.cancelAndAwait();
+        setLocked(false);
+    }
+
+    /**
+     * Notifies the end of the loading process when all chunks have been loaded
+     * in parallel and unlocks this instance.
+     */
+    private void finishParallelLoading() {
+        if (listener != null) {
+            listener.onLoadEnd(this);
+        }
+        setLocked(false);
+    }
+
+    /**
+     * Closes all readers opened to decode chunks in parallel.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void closeParallelReaders() throws IOException {
+        idleParallelReaders.clear();
+        for (final var in : parallelReaders) {
+            in.close();
+        }
+        parallelReaders.clear();
+    }
+
+    /**
+     * Sets file to be loaded.
+     *
+     * @param f file to be loaded.
+     * @throws LockedException raised if this instance is loaded because a file
+     *                         is already being loaded.
+     * @throws IOException     raised if provided file does not exist or if an I/O
+     *                         exception occurs.
+     */
+    @Override
+    public void setFile(final File f) throws LockedException, IOException {
+        super.setFile(f);
+        closeParallelReaders();
+        chunkDirectoryChecked = false;
+        chunkDirectory = null;
+        directoryMaterials = null;
+        textures = null;
+    }
+
+    /**
+     * Indicates whether embedded textures are accessed on demand instead of
+     * being copied into files provided by a {@link LoaderListenerBinary} when
+     * loading starts.
+     * When enabled, the time to get the first chunk does not depend on the
+     * size of embedded textures, and textures can be accessed at any time
+     * through {@link #getTextures()}, {@link #openTexture(TextureInfoBinary)}
+     * or {@link #copyTexture(TextureInfoBinary, File)}.
+     *
+     * @return true if textures are accessed on demand, false otherwise.
+     */
+    public boolean isLazyTexturesEnabled() {
+        return lazyTexturesEnabled;
+    }
+
+    /**
+     * Specifies whether embedded textures are accessed on demand instead of
+     * being copied into files provided by a {@link LoaderListenerBinary} when
+     * loading starts.
+     *
+     * @param lazyTexturesEnabled true to access textures on demand, false
+     *                            otherwise.
+     * @throws LockedException raised if this instance is already locked.
+     * @see #isLazyTexturesEnabled()
+     */
+    public void setLazyTexturesEnabled(final boolean lazyTexturesEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.lazyTexturesEnabled = lazyTexturesEnabled;
+    }
+
+    /**
+     * Returns descriptors of the textures embedded in provided file, in the
+     * order they are stored.
+     * Only texture headers are read, texture data is skipped.
+     * Once a file has been loaded, descriptors can also be obtained while
+     * this instance is locked.
+     *
+     * @return descriptors of embedded textures.
+     * @throws LockedException   raised if this instance is already locked and
+     *                           textures have not been read yet.
+     * @throws NotReadyException raised if this instance is not yet ready.
+     * @throws IOException       if an I/O error occurs.
+     * @throws LoaderException   if file is corrupted or cannot be interpreted.
+     */
+    public List<TextureInfoBinary> getTextures() throws LockedException, NotReadyException, IOException,
+            LoaderException {
+        if (textures != null) {
+            return textures;
+        }
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+        if (!isValidFile()) {
+            throw new LoaderException();
+        }
+        return readTextures();
+    }
+
+    /**
+     * Opens a stream to read the data of provided embedded texture, which
+     * contains the whole texture image file.
+     * Returned stream reads from its own channel, hence it does not interfere
+     * with the loading process and can be used while chunks are being
+     * loaded. Returned stream must be closed once it is no longer needed.
+     *
+     * @param texture descriptor of an embedded texture of provided file.
+     * @return stream to read texture data.
+     * @throws IllegalArgumentException if texture data exceeds the file
+     *                                  length.
+     * @throws NotReadyException        raised if this instance is not yet
+     *                                  ready.
+     * @throws IOException              if an I/O error occurs.
+     */
+    public InputStream openTexture(final TextureInfoBinary texture) throws NotReadyException, IOException {
+        checkTexture(texture);
+        final var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        channel.position(texture.getOffset());
+        return new TextureInputStream(channel, texture.getLength());
+    }
+
+    /**
+     * Copies the data of provided embedded texture into provided file.
+     * Data is transferred between file channels, so that the operating
+     * system can copy it without going through intermediate buffers.
+     *
+     * @param texture     descriptor of an embedded texture of provided file.
+     * @param textureFile file where texture data will be stored.
+     * @throws IllegalArgumentException if texture data exceeds the file
+     *                                  length.
+     * @throws NotReadyException        raised if this instance is not yet
+     *                                  ready.
+     * @throws IOException              if an I/O error occurs.
+     */
+    public void copyTexture(final TextureInfoBinary texture, final File textureFile) throws NotReadyException,
+            IOException {
+        checkTexture(texture);
+        try (final var inChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+             final var outChannel = FileChannel.open(textureFile.toPath(), StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final var endPos = texture.getOffset() + texture.getLength();
+            var pos = texture.getOffset();
+            while (pos < endPos) {
+                final var n = inChannel.transferTo(pos, endPos - pos, outChannel);
+                if (n <= 0) {
+                    break;
+                }
+                pos += n;
+            }
+
+            if (pos != endPos) {
+                throw new IOException();
+            }
+        }
+    }
+
+    /**
+     * Indicates whether loaded chunks are backed by read-only views of the
+     * mapped file instead of arrays, so that vertex data is not copied until
+     * it is requested as arrays.
+     * When enabled, uncompressed chunks are returned as
+     * {@link MappedDataChunk} instances whose views remain valid until this
+     * loader is closed or its file is changed.
+     * This setting has no effect on files exceeding the file size limit to
+     * keep in memory, because such files are not mapped, nor on compressed
+     * chunks, which must always be decoded.
+     *
+     * @return true if loaded chunks are backed by views of the mapped file,
+     * false otherwise.
+     */
+    public boolean isZeroCopyEnabled() {
+        return zeroCopyEnabled;
+    }
+
+    /**
+     * Specifies whether loaded chunks are backed by read-only views of the
+     * mapped file instead of arrays.
+     *
+     * @param zeroCopyEnabled true to load chunks backed by views of the mapped
+     *                        file, false otherwise.
+     * @throws LockedException raised if this instance is already locked.
+     * @see #isZeroCopyEnabled()
+     */
+    public void setZeroCopyEnabled(final boolean zeroCopyEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.zeroCopyEnabled = zeroCopyEnabled;
+    }
+
+    /**
+     * Indicates whether provided file contains a chunk directory.
+     *
+     * @return true if file contains a chunk directory, false otherwise.
+     * @throws LockedException   raised if this instance is already locked.
+     * @throws NotReadyException raised if this instance is not yet ready.
+     * @throws IOException       if an I/O error occurs.
+     * @throws LoaderException   if file is corrupted or cannot be interpreted.
+     */
+    public boolean hasChunkDirectory() throws LockedException, NotReadyException, IOException,
+            LoaderException {
+        return readChunkDirectory() != null;
+    }
+
+    /**
+     * Returns chunk directory of provided file, which contains information
+     * about all the chunks of the file.
+     *
+     * @return chunk directory.
+     * @throws LockedException       raised if this instance is already locked.
+     * @throws NotReadyException     raised if this instance is not yet ready.
+     * @throws IOException           if an I/O error occurs.
+     * @throws LoaderException       if file is corrupted or cannot be
+     *                               interpreted.
+     * @throws NotAvailableException if file has no chunk directory.
+     */
+    public ChunkDirectoryBinary getChunkDirectory() throws LockedException, NotReadyException, IOException,
+            LoaderException, NotAvailableException {
+        final var directory = readChunkDirectory();
+        if (directory == null) {
+            throw new NotAvailableException();
+        }
+        return directory;
+    }
+
+    /**
+     * Loads the chunk at provided position within the chunk directory,
+     * without reading any previous chunk.
+     *
+     * @param index position of chunk within the chunk directory.
+     * @return loaded chunk.
+     * @throws IllegalArgumentException if index is negative or not less than
+     *                                  the number of chunks.
+     * @throws LockedException          raised if this instance is already
+     *                                  locked.
+     * @throws NotReadyException        raised if this instance is not yet
+     *                                  ready.
+     * @throws IOException              if an I/O error occurs.
+     * @throws LoaderException          if file is corrupted or cannot be
+     *                                  interpreted.
+     * @throws NotAvailableException    if file has no chunk directory.
+     */
+    public DataChunk loadChunk(final int index) throws LockedException, NotReadyException, IOException,
+            LoaderException, NotAvailableException {
+        final var directory = getChunkDirectory();
+        if (index < 0 || index >= directory.getChunkCount()) {
+            throw new IllegalArgumentException();
+        }
+        return loadChunk(directory, directory.getChunks().get(index));
+    }
+
+    /**
+     * Loads only the chunks whose bounding box intersects provided box, in the
+     * order they are stored.
+     *
+     * @param minX minimum x coordinate of the box.
+     * @param minY minimum y coordinate of the box.
+     * @param minZ minimum z coordinate of the box.
+     * @param maxX maximum x coordinate of the box.
+     * @param maxY maximum y coordinate of the box.
+     * @param maxZ maximum z coordinate of the box.
+     * @return loaded chunks.
+     * @throws LockedException       raised if this instance is already locked.
+     * @throws NotReadyException     raised if this instance is not yet ready.
+     * @throws IOException           if an I/O error occurs.
+     * @throws LoaderException       if file is corrupted or cannot be
+     *                               interpreted.
+     * @throws NotAvailableException if file has no chunk directory.
+     */
+    public List<DataChunk> loadChunks(final float minX, final float minY, final float minZ,
+                                      final float maxX, final float maxY, final float maxZ)
+            throws LockedException, NotReadyException, IOException, LoaderException, NotAvailableException {
+        final var directory = getChunkDirectory();
+        final var result = new ArrayList<DataChunk>();
+        for (final var info : directory.findChunks(minX, minY, minZ, maxX, maxY, maxZ)) {
+            result.add(loadChunk(directory, info));
+        }
+        return result;
+    }
+
+    /**
+     * Loads the chunk described by provided information of the chunk
+     * directory.
+     *
+     * @param directory chunk directory of the file.
+     * @param info      information of the chunk to be loaded.
+     * @return loaded chunk.
+     * @throws IOException     if an I/O error occurs.
+     * @throws LoaderException if file is corrupted or cannot be interpreted.
+     */
+    private DataChunk loadChunk(final ChunkDirectoryBinary directory, final ChunkInfoBinary info)
+            throws IOException, LoaderException {
+        final var materials = readDirectoryMaterials(directory);
+
+        reader.seek(info.getOffset());
+        if (reader.readByte() != BinaryFormat.CHUNK_RECORD) {
+            throw new LoaderException();
+        }
+        return readChunk(reader, materials, false);
+    }
+
+    /**
+     * Returns the whole material table of the file, which is lazily read
+     * from the positions indicated by the chunk directory.
+     *
+     * @param directory chunk directory of the file.
+     * @return material table of the file.
+     * @throws IOException     if an I/O error occurs.
+     * @throws LoaderException if file is corrupted or cannot be interpreted.
+     */
+    private List<Material> readDirectoryMaterials(final ChunkDirectoryBinary directory)
+            throws IOException, LoaderException {
+        if (directoryMaterials == null) {
+            // read whole material table
+            final var materials = new ArrayList<Material>();
+            final var textures = new HashMap<Integer, Texture>();
+            for (var i = 0; i < directory.getMaterialCount(); i++) {
+                reader.seek(directory.getMaterialOffset(i));
+                if (reader.readByte() != BinaryFormat.MATERIAL_RECORD) {
+                    throw new LoaderException();
+                }
+                materials.add(readMaterial(reader, textures));
+            }
+            directoryMaterials = materials;
+        }
+        return directoryMaterials;
+    }
+
+    /**
+     * Reads chunk directory of provided file, if available.
+     *
+     * @return chunk directory or null if file has no chunk directory.
+     * @throws LockedException   raised if this instance is already locked.
+     * @throws NotReadyException raised if this instance is not yet ready.
+     * @throws IOException       if an I/O error occurs.
+     * @throws LoaderException   if file is corrupted or cannot be interpreted.
+     */
+    private ChunkDirectoryBinary readChunkDirectory() throws LockedException, NotReadyException, IOException,
+            LoaderException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+
+        if (chunkDirectoryChecked) {
+            return chunkDirectory;
+        }
+
+        if (!isValidFile()) {
+            throw new LoaderException();
+        }
+
+        final var directoryPos = findChunkDirectoryPosition();
+        if (directoryPos < file.length()) {
+            // skip directory record type
+            reader.seek(directoryPos + 1);
+
+            final var materialCount = reader.readInt();
+            if (materialCount < 0) {
+                throw new LoaderException();
+            }
+            final var materialOffsets = new long[materialCount];
+            final var materialIds = new int[materialCount];
+            for (var i = 0; i < materialCount; i++) {
+                materialOffsets[i] = reader.readLong();
+                materialIds[i] = reader.readInt();
+            }
+
+            final var chunkCount = reader.readInt();
+            if (chunkCount < 0) {
+                throw new LoaderException();
+            }
+            final var chunks = new ArrayList<ChunkInfoBinary>(chunkCount);
+            for (var i = 0; i < chunkCount; i++) {
+                final var offset = reader.readLong();
+                final var size = reader.readInt();
+                final var vertexCount = reader.readInt();
+                final var indexCount = reader.readInt();
+                final var materialIndex = reader.readInt();
+                if (materialIndex != BinaryFormat.NO_MATERIAL
+                        && (materialIndex < 0 || materialIndex >= materialCount)) {
+                    throw new LoaderException();
+                }
+                final var materialId = materialIndex != BinaryFormat.NO_MATERIAL ? materialIds[materialIndex] : 0;
+
+                chunks.add(new ChunkInfoBinary(i, offset, size, vertexCount, indexCount, materialIndex,
+                        materialId, reader.readFloat(), reader.readFloat(), reader.readFloat(),
+                        reader.readFloat(), reader.readFloat(), reader.readFloat()));
+            }
+
+            final var totalVertices = reader.readLong();
+            final var totalIndices = reader.readLong();
+
+            chunkDirectory = new ChunkDirectoryBinary(chunks, materialOffsets, totalVertices, totalIndices,
+                    reader.readFloat(), reader.readFloat(), reader.readFloat(),
+                    reader.readFloat(), reader.readFloat(), reader.readFloat());
+        }
+
+        chunkDirectoryChecked = true;
+        return chunkDirectory;
+    }
+
+    /**
+     * Reads descriptors of embedded textures, skipping their data, and keeps
+     * the position where textures end.
+     *
+     * @return descriptors of embedded textures.
+     * @throws IOException     if an I/O error occurs.
+     * @throws LoaderException if file is corrupted or cannot be interpreted.
+     */
+    private List<TextureInfoBinary> readTextures() throws IOException, LoaderException {
+        if (textures != null) {
+            return textures;
+        }
+
+        // skip version
+        reader.seek(1);
+
+        // read textures until no more textures are available
+        final var result = new ArrayList<TextureInfoBinary>();
+        while (reader.readBoolean()) {
+            // texture data follows
+            final var texId = reader.readInt();
+            final var texWidth = reader.readInt();
+            final var texHeight = reader.readInt();
+            final var texLength = reader.readLong();
+            final var textureFileStartPos = reader.getPosition();
+            final var textureFileEndPos = textureFileStartPos + texLength;
+
+            // check that at least texLength bytes remain otherwise file is
             // incomplete or corrupted
-            final var fileLength = file.length();
-            if (chunkEndPos > fileLength) {
+            if (texLength < 0 || textureFileEndPos > file.length()) {
                 throw new LoaderException();
             }
 
-            final var chunk = new DataChunk();
-
-            // ----- MATERIAL ------
-            if (reader.readBoolean()) {
-                // material is available
-                final var materialId = reader.readInt();
-
-                final var material = new Material();
-                chunk.setMaterial(material);
-                material.setId(materialId);
-
-                if (reader.readBoolean()) {
-                    // ambient color is available
-                    byte b;
-                    // red
-                    b = reader.readByte();
-                    material.setAmbientRedColor((short) (b & 0x000000ff));
-                    // green
-                    b = reader.readByte();
-                    material.setAmbientGreenColor((short) (b & 0x000000ff));
-                    // blue
-                    b = reader.readByte();
-                    material.setAmbientBlueColor((short) (b & 0x000000ff));
-                }
+            result.add(new TextureInfoBinary(texId, texWidth, texHeight, textureFileStartPos, texLength));
+            reader.seek(textureFileEndPos);
+        }
+
+        texturesEndPos = reader.getPosition();
+        textures = Collections.unmodifiableList(result);
+        return textures;
+    }
+
+    /**
+     * Ensures that provided texture data can be accessed within provided
+     * file.
+     *
+     * @param texture descriptor of an embedded texture.
+     * @throws IllegalArgumentException if texture data exceeds the file
+     *                                  length.
+     * @throws NotReadyException        raised if this instance is not yet
+     *                                  ready.
+     */
+    private void checkTexture(final TextureInfoBinary texture) throws NotReadyException {
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+        if (texture.getOffset() + texture.getLength() > file.length()) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Finds position of chunk directory by reading the trailer at the end of
+     * version 3 files.
+     *
+     * @return position of chunk directory or file length if file has no chunk
+     * directory.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long findChunkDirectoryPosition() throws IOException {
+        final var fileLength = file.length();
+        if (version != SUPPORTED_VERSION_3 || fileLength < 1 + 1 + BinaryFormat.DIRECTORY_TRAILER_SIZE) {
+            return fileLength;
+        }
+
+        final var trailerPos = fileLength - BinaryFormat.DIRECTORY_TRAILER_SIZE;
+        reader.seek(trailerPos);
+        final var directoryPos = reader.readLong();
+        final var magic = reader.readInt();
+        if (magic != BinaryFormat.DIRECTORY_MAGIC || directoryPos < 1 || directoryPos >= trailerPos) {
+            return fileLength;
+        }
+
+        // ensure that a directory record exists at indicated position
+        reader.seek(directoryPos);
+        return reader.readByte() == BinaryFormat.DIRECTORY_RECORD ? directoryPos : fileLength;
+    }
+
+    /**
+     * Keeps track of tasks decoding chunks of a parallel load, so that a
+     * cancelled load does not release its readers while they are being used.
+     */
+    private static class DecodingTasks {
+
+        /**
+         * Indicates whether parallel load has been cancelled.
+         */
+        private boolean cancelled;
+
+        /**
+         * Number of tasks currently decoding a chunk.
+         */
+        private int running;
+
+        /**
+         * Registers a task that starts decoding a chunk.
+         *
+         * @return true if task can proceed, false if load has been cancelled.
+         */
+        synchronized boolean enter() {
+            if (cancelled) {
+                return false;
+            }
+            running++;
+            return true;
+        }
+
+        /**
+         * Registers a task that has finished decoding a chunk.
+         */
+        synchronized void exit() {
+            running--;
+            notifyAll();
+        }
+
+        /**
+         * Prevents new tasks from decoding chunks and waits for running ones
+         * to finish. If current thread is interrupted while waiting, waiting
+         * continues and interrupted status is restored afterwards.
+         */
+        synchronized void cancelAndAwait() {
+            cancelled = true;
+            var interrupted = false;
+            while (running > 0) {
+                try {
+                    wait();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Stream to read the data of an embedded texture from its own file
+     * channel, limited to the length of the texture.
+     */
+    private static class TextureInputStream extends InputStream {
+
+        /**
+         * Channel positioned at the next byte of texture data to be read.
+         */
+        private final FileChannel channel;
+
+        /**
+         * Number of bytes of texture data that remain to be read.
+         */
+        private long remaining;
+
+        /**
+         * Constructor.
+         *
+         * @param channel channel positioned where texture data starts.
+         * @param length  length in bytes of texture data.
+         */
+        TextureInputStream(final FileChannel channel, final long length) {
+            this.channel = channel;
+            remaining = length;
+        }
+
+        /**
+         * Reads next byte of texture data.
+         *
+         * @return next byte of data or -1 if end of texture data is reached.
+         * @throws IOException if an I/O error occurs.
+         */
+        @Override
+        public int read() throws IOException {
+            final var b = new byte[1];
+            return read(b, 0, 1) > 0 ? b[0] & 0x000000ff : -1;
+        }
+
+        /**
+         * Reads up to len bytes of texture data into provided array.
+         *
+         * @param b   array where data is stored.
+         * @param off offset in array where data is stored.
+         * @param len maximum number of bytes to read.
+         * @return number of bytes read or -1 if end of texture data is
+         * reached.
+         * @throws IOException if an I/O error occurs.
+         */
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            final var n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        /**
+         * Returns number of bytes of texture data that can be read without
+         * blocking.
+         *
+         * @return number of remaining bytes, limited to the maximum integer
+         * value.
+         */
+        @Override
+        public int available() {
+            return (int) Math.min(remaining, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Closes the underlying channel.
+         *
+         * @throws IOException if an I/O error occurs.
+         */
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Internal listener to be notified when loading process finishes.
+     * This listener is used to free resources when loading process finishes.
+     */
+    private class LoaderIteratorListenerImpl implements LoaderIteratorListener {
+
+        /**
+         * Reference to Loader loading binary file.
+         */
+        private final LoaderBinary loader;
+
+        /**
+         * Constructor.
+         *
+         * @param loader reference to Loader.
+         */
+        public LoaderIteratorListenerImpl(final LoaderBinary loader) {
+            this.loader = loader;
+        }
+
+        /**
+         * Method to be notified when the loading process finishes.
+         *
+         * @param iterator iterator loading the file in chunks.
+         */
+        @Override
+        public void onIteratorFinished(final LoaderIterator iterator) {
+            // because iterator is finished, we should allow subsequent calls to
+            // load method
+
+            // on subsequent calls
+            if (listener != null) {
+                listener.onLoadEnd(loader);
+            }
+            setLocked(false);
+        }
+    }
+
+    /**
+     * Loader iterator in charge of loading file data in small chunks.
+     * Usually data is divided in chunks small enough that can be directly
+     * loaded by graphical layers such as OpenGL (which has a limit of 65535
+     * indices when using Vertex Buffer Objects, which increase graphical
+     * performance).
+     */
+    private class LoaderIteratorBinary implements LoaderIterator {
+
+        /**
+         * Reference to loader loading binary file.
+         */
+        private final LoaderBinary loader;
+
+        /**
+         * Reference to the listener of this loader iterator. This listener will
+         * be notified when the loading process finishes so that resources can
+         * be freed.
+         */
+        private LoaderIteratorListener listener;
+
+        /**
+         * Table of materials read so far. Only used in version 3 files.
+         */
+        private final List<Material> materials = new ArrayList<>();
+
+        /**
+         * Textures referenced by materials read so far, indexed by their id.
+         * Only used in version 3 files.
+         */
+        private final Map<Integer, Texture> textures = new HashMap<>();
+
+        /**
+         * Constructor.
+         *
+         * @param loader reference to loader loading binary file.
+         */
+        public LoaderIteratorBinary(final LoaderBinary loader) {
+            this.loader = loader;
+            listener = null;
+        }
+
+        /**
+         * Method to set listener of this loader iterator.
+         * This listener will be notified when the loading process finishes.
+         *
+         * @param listener listener of this loader iterator.
+         */
+        public void setListener(final LoaderIteratorListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * Indicates if there is another chunk of data to be loaded.
+         *
+         * @return true if there is another chunk of data, false otherwise.
+         */
+        @Override
+        public boolean hasNext() {
+            try {
+                return !reader.isEndOfStream() && reader.getPosition() < dataEndPos;
+            } catch (final IOException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Loads and returns next chunk of data, if available.
+         *
+         * @return next chunk of data.
+         * @throws NotAvailableException thrown if no more data is available.
+         * @throws LoaderException       if file data is corrupt or cannot be
+         *                               understood.
+         * @throws IOException           if an I/O error occurs.
+         */
+        @Override
+        public DataChunk next() throws NotAvailableException, LoaderException, IOException {
+            if (!hasNext()) {
+                throw new NotAvailableException();
+            }
+
+            if (version == SUPPORTED_VERSION_3) {
+                // read material records until a chunk record is found
+                var recordType = reader.readByte();
+                while (recordType == BinaryFormat.MATERIAL_RECORD) {
+                    materials.add(readMaterial(reader, textures));
+                    recordType = reader.readByte();
+                }
+                if (recordType != BinaryFormat.CHUNK_RECORD) {
+                    throw new LoaderException();
+                }
+            }
+
+            final var chunk = readChunk(reader, materials, true);
+
+            if (!hasNext() && listener != null) {
+                // notify iterator finished
+                listener.onIteratorFinished(this);
+            }
+
+            return chunk;
+        }
+    }
+
+    /**
+     * Loader iterator returning chunks decoded in parallel in the order they
+     * are stored in the file.
+     */
+    private class ParallelLoaderIteratorBinary implements LoaderIterator {
+
+        /**
+         * Executor where chunks are decoded.
+         */
+        private final Executor executor;
+
+        /**
+         * Positions where the size of each chunk is stored.
+         */
+        private final long[] positions;
+
+        /**
+         * Material table of the file. Only used in version 3 files.
+         */
+        private final List<Material> materials;
+
+        /**
+         * Tasks decoding chunks that have not been returned yet, in file
+         * order.
+         */
+        private final Queue<FutureTask<DataChunk>> pending = new ArrayDeque<>();
+
+        /**
+         * Tracks decoding tasks of this parallel load.
+         */
+        private final DecodingTasks tasks = new DecodingTasks();
+
+        /**
+         * Number of chunks submitted for decoding so far.
+         */
+        private int submitted;
+
+        /**
+         * Number of chunks returned so far.
+         */
+        private int delivered;
+
+        /**
+         * Constructor.
+         *
+         * @param executor  executor where chunks are decoded.
+         * @param positions positions where the size of each chunk is stored.
+         * @param materials material table of the file.
+         */
+        ParallelLoaderIteratorBinary(final Executor executor, final long[] positions,
+                                     final List<Material> materials) {
+            this.executor = executor;
+            this.positions = positions;
+            this.materials = materials;
+            submit();
+        }
+
+        /**
+         * Indicates if there is another chunk of data to be loaded.
+         *
+         * @return true if there is another chunk of data, false otherwise.
+         */
+        @Override
+        public boolean hasNext() {
+            return delivered < positions.length;
+        }
+
+        /**
+         * Waits for next chunk of data to be decoded and returns it.
+         *
+         * @return next chunk of data.
+         * @throws NotAvailableException thrown if no more data is available.
+         * @throws LoaderException       if file data is corrupt or cannot be
+         *                               understood.
+         * @throws IOException           if an I/O error occurs.
+         */
+        @Override
+        public DataChunk next() throws NotAvailableException, LoaderException, IOException {
+            if (!hasNext()) {
+                throw new NotAvailableException();
+            }
+
+            final DataChunk chunk;
+            try {
+                chunk = getDecodedChunk(pending.peek());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new InterruptedIOException();
+            } catch (final LoaderException | IOException | RuntimeException e) {
+                cancel();
+                throw e;
+            }
+            pending.remove();
+            delivered++;
+            submit();
 
-                if (reader.readBoolean()) {
-                    // diffuse color is available
-                    // red
-                    var b = reader.readByte();
-                    material.setDiffuseRedColor((short) (b & 0x000000ff));
-                    // green
-                    b = reader.readByte();
-                    material.setDiffuseGreenColor((short) (b & 0x000000ff));
-                    // blue
-                    b = reader.readByte();
-                    material.setDiffuseBlueColor((short) (b & 0x000000ff));
-                }
+            notifyParallelProgress(delivered, positions.length);
+            if (!hasNext()) {
+                finishParallelLoading();
+            }
 
-                if (reader.readBoolean()) {
-                    // specular color is available
-                    // red
-                    var b = reader.readByte();
-                    material.setSpecularRedColor((short) (b & 0x000000ff));
-                    // green
-                    b = reader.readByte();
-                    material.setSpecularGreenColor((short) (b & 0x000000ff));
-                    // blue
-                    b = reader.readByte();
-                    material.setSpecularBlueColor((short) (b & 0x000000ff));
-                }
+            return chunk;
+        }
 
-                if (reader.readBoolean()) {
-                    // specular coefficient is available
-                    material.setSpecularCoefficient(reader.readFloat());
-                }
+        /**
+         * Submits decoding tasks until the maximum number of pending chunks
+         * is reached.
+         */
+        private void submit() {
+            while (submitted < positions.length && pending.size() < maxPendingChunks) {
+                final var position = positions[submitted];
+                final var task = new FutureTask<>(() -> decodeChunk(position, materials, tasks));
+                pending.add(task);
+                executor.execute(task);
+                submitted++;
+            }
+        }
 
-                if (reader.readBoolean()) {
-                    // ambient texture map is available
-                    final var textureId = reader.readInt();
-                    final var tex = new Texture(textureId);
-                    material.setAmbientTextureMap(tex);
+        /**
+         * Cancels all pending tasks so that no more chunks can be returned.
+         */
+        private void cancel() {
+            cancelParallelLoading(new ArrayList<>(pending), tasks);
+            pending.clear();
+            delivered = positions.length;
+        }
+    }
 
-                    tex.setWidth(reader.readInt());
-                    tex.setHeight(reader.readInt());
-                }
+    /**
+     * Reads a chunk, starting at its size and ending at its bounding box.
+     *
+     * @param in             reader to read data from.
+     * @param materials      material table read so far. Only used in
+     *                       version 3 files.
+     * @param notifyProgress true to notify loading progress to listener.
+     * @return chunk being read.
+     * @throws LoaderException if file data is corrupt or cannot be understood.
+     * @throws IOException     if an I/O error occurs.
+     */
+    private DataChunk readChunk(final AbstractFileReaderAndWriter in, final List<Material> materials,
+                                final boolean notifyProgress) throws LoaderException, IOException {
+        Material material = null;
+        var use32BitIndices = false;
+        var compressed = false;
 
-                if (reader.readBoolean()) {
-                    // diffuse texture map is available
-                    final var textureId = reader.readInt();
-                    final var tex = new Texture(textureId);
-                    material.setDiffuseTextureMap(tex);
+        // read chunk size
+        final var chunkSize = in.readInt();
 
-                    tex.setWidth(reader.readInt());
-                    tex.setHeight(reader.readInt());
-                }
+        // ensure that chunk size is positive, otherwise file is corrupted
+        if (chunkSize < 0) {
+            throw new LoaderException();
+        }
 
-                if (reader.readBoolean()) {
-                    // specular texture map is available
-                    final var textureId = reader.readInt();
-                    final var tex = new Texture(textureId);
-                    material.setSpecularTextureMap(tex);
+        // get position of start of chunk
+        final var chunkStartPos = in.getPosition();
 
-                    tex.setWidth(reader.readInt());
-                    tex.setHeight(reader.readInt());
-                }
+        // position of end of chunk
+        final var chunkEndPos = chunkStartPos + chunkSize;
 
-                if (reader.readBoolean()) {
-                    // alpha texture map is available
-                    final var textureId = reader.readInt();
-                    final var tex = new Texture(textureId);
-                    material.setAlphaTextureMap(tex);
+        // check that at least chunkSize bytes remain otherwise file is
+        // incomplete or corrupted
+        final var fileLength = file.length();
+        if (chunkEndPos > fileLength) {
+            throw new LoaderException();
+        }
 
-                    tex.setWidth(reader.readInt());
-                    tex.setHeight(reader.readInt());
+        // ----- MATERIAL ------
+        if (version == SUPPORTED_VERSION_3) {
+            // position of material within material table
+            final var materialIndex = in.readInt();
+            if (materialIndex != BinaryFormat.NO_MATERIAL) {
+                if (materialIndex < 0 || materialIndex >= materials.size()) {
+                    throw new LoaderException();
                 }
+                material = materials.get(materialIndex);
+            }
 
-                if (reader.readBoolean()) {
-                    // bump texture map is available
-                    final var textureId = reader.readInt();
-                    final var tex = new Texture(textureId);
-                    material.setBumpTextureMap(tex);
+            final var flags = in.readByte();
+            use32BitIndices = (flags & BinaryFormat.INDICES_32_BIT_FLAG) != 0;
+            compressed = (flags & BinaryFormat.COMPRESSED_FLAG) != 0;
+        } else if (in.readBoolean()) {
+            // material is available
+            material = readMaterial(in, null);
+        }
 
-                    tex.setWidth(reader.readInt());
-                    tex.setHeight(reader.readInt());
-                }
+        final DataChunk chunk;
+        if (zeroCopyEnabled && !compressed && in instanceof MappedFileReaderAndWriter mappedReader) {
+            chunk = new MappedDataChunk(mappedReader);
+        } else {
+            chunk = new DataChunk();
+        }
+        chunk.setMaterial(material);
 
-                if (reader.readBoolean()) {
-                    // transparency is available
-                    final var b = reader.readByte();
-                    material.setTransparency((short) (b & 0x000000ff));
-                }
+        if (compressed) {
+            readCompressedChunkData(in, chunk, chunkEndPos, notifyProgress);
+        } else {
+            readChunkData(in, chunk, chunkEndPos, use32BitIndices, notifyProgress);
+        }
+        return chunk;
+    }
 
-                if (reader.readBoolean()) {
-                    // illumination is available
-                    final var value = reader.readInt();
-                    material.setIllumination(Illumination.forValue(value));
-                }
-            }
+    /**
+     * Reads chunk data, which contains vertex data preceded by its sizes, and
+     * the bounding box of the chunk.
+     *
+     * @param in              reader to read data from.
+     * @param chunk           chunk where data is stored.
+     * @param chunkEndPos     position where chunk ends.
+     * @param use32BitIndices true if indices are stored as 32-bit values, false
+     *                        if they are stored as 16-bit values.
+     * @param notifyProgress  true to notify loading progress to listener.
+     * @throws LoaderException if file data is corrupt or cannot be understood.
+     * @throws IOException     if an I/O error occurs.
+     */
+    private void readChunkData(final AbstractFileReaderAndWriter in, final DataChunk chunk, final long chunkEndPos,
+                               final boolean use32BitIndices, final boolean notifyProgress)
+            throws LoaderException, IOException {
+        // ---- COORDS -------
 
-            // ---- COORDS -------
+        // read coords size
+        final var coordsSizeInBytes = in.readInt();
 
-            // read coords size
-            final var coordsSizeInBytes = reader.readInt();
+        // ensure that coords size is positive, otherwise file is corrupted
+        if (coordsSizeInBytes < 0) {
+            throw new LoaderException();
+        }
+        // if size in bytes is not multiple of float size (4 bytes), then
+        // file is corrupted
+        if (coordsSizeInBytes % (Float.SIZE / 8) != 0) {
+            throw new LoaderException();
+        }
 
-            // ensure that coords size is positive, otherwise file is corrupted
-            if (coordsSizeInBytes < 0) {
-                throw new LoaderException();
-            }
-            // if size in bytes is not multiple of float size (4 bytes), then
-            // file is corrupted
-            if (coordsSizeInBytes % (Float.SIZE / 8) != 0) {
+        // if coords are available
+        if (coordsSizeInBytes > 0) {
+            // ensure that coords fit within chunk, otherwise file is
+            // corrupted
+            if (in.getPosition() + coordsSizeInBytes > chunkEndPos) {
                 throw new LoaderException();
             }
 
-            // if coords are available
-            if (coordsSizeInBytes > 0) {
-                // ensure that coords fit within chunk, otherwise file is
-                // corrupted
-                if (reader.getPosition() + coordsSizeInBytes > chunkEndPos) {
-                    throw new LoaderException();
-                }
-
-                // get number of floats in coords
-                final var coordsLength = coordsSizeInBytes / (Float.SIZE / 8);
+            // get number of floats in coords
+            final var coordsLength = coordsSizeInBytes / (Float.SIZE / 8);
 
+            if (chunk instanceof MappedDataChunk mappedChunk) {
+                mappedChunk.setVerticesCoordinatesBuffer(sliceSection(in, coordsSizeInBytes).asFloatBuffer());
+            } else {
                 // read coordsSize bytes into array of floats
                 final var coords = new float[coordsLength];
                 final var bytes = new byte[coordsSizeInBytes];
-                reader.read(bytes);
+                in.read(bytes);
                 final var bytesBuffer = ByteBuffer.wrap(bytes);
                 final var floatBuffer = bytesBuffer.asFloatBuffer();
                 floatBuffer.get(coords);
 
                 chunk.setVerticesCoordinatesData(coords);
-
-                // compute progress
-                if (loader.listener != null) {
-                    loader.listener.onLoadProgressChange(loader,
-                            (float) (reader.getPosition()) / (float) (file.length()));
-                }
             }
 
-            // ----- COLORS ------
-
-            // read colors size
-            final var colorsSizeInBytes = reader.readInt();
-
-            // ensure that colors size is positive, otherwise file is corrupted
-            if (colorsSizeInBytes < 0) {
-                throw new LoaderException();
+            // compute progress
+            if (notifyProgress && listener != null) {
+                listener.onLoadProgressChange(this,
+                        (float) (in.getPosition()) / (float) (file.length()));
             }
+        }
 
-            // each color data is stored in a byte, so there is no need to check size multiplicity
-
-            // if colors are available
-            if (colorsSizeInBytes > 0) {
-                // ensure that colors fit within chunk, otherwise file is corrupted
-                if (reader.getPosition() + colorsSizeInBytes > chunkEndPos) {
-                    throw new LoaderException();
-                }
-
-                // read colorSizeInBytes into array of shorts (conversion
-                // must be done from unsigned bytes to shorts, as java does not
-                // support unsigned bytes values
-                final var colors = new short[colorsSizeInBytes];
-                final var bytes = new byte[colorsSizeInBytes];
-                reader.read(bytes);
-                for (var i = 0; i < colorsSizeInBytes; i++) {
-                    // convert signed bytes into unsigned bytes stored in shorts
-                    colors[i] = (short) (bytes[i] & 0x000000ff);
-                }
-                chunk.setColorData(colors);
-
-                // read color components
-                chunk.setColorComponents(reader.readInt());
+        readColors(in, chunk, chunkEndPos, notifyProgress);
 
-                // compute progress
-                if (loader.listener != null) {
-                    loader.listener.onLoadProgressChange(loader,
-                            (float) (reader.getPosition()) / (float) (file.length()));
-                }
-            }
+        // ------ INDICES ------
 
-            // ------ INDICES ------
+        // read indices size
+        final var indicesSizeInBytes = in.readInt();
 
-            // read indices size
-            final var indicesSizeInBytes = reader.readInt();
+        // ensure that indices size is positive, otherwise file is corrupted
+        if (indicesSizeInBytes < 0) {
+            throw new LoaderException();
+        }
+        // if size in bytes is not multiple of index size (2 or 4 bytes), then file is corrupted
+        final var indexSizeInBytes = use32BitIndices ? Integer.SIZE / 8 : Short.SIZE / 8;
+        if (indicesSizeInBytes % indexSizeInBytes != 0) {
+            throw new LoaderException();
+        }
 
-            // ensure that indices size is positive, otherwise file is corrupted
-            if (indicesSizeInBytes < 0) {
-                throw new LoaderException();
-            }
-            // if size in bytes is not multiple of float size (4 bytes), then file is corrupted
-            if (indicesSizeInBytes % (Short.SIZE / 8) != 0) {
+        // if indices are available
+        if (indicesSizeInBytes > 0) {
+            // ensure that indices fit within chunk, otherwise file is corrupted
+            if (in.getPosition() + indicesSizeInBytes > chunkEndPos) {
                 throw new LoaderException();
             }
 
-            // if indices are available
-            if (indicesSizeInBytes > 0) {
-                // ensure that indices fit within chunk, otherwise file is corrupted
-                if (reader.getPosition() + indicesSizeInBytes > chunkEndPos) {
-                    throw new LoaderException();
-                }
+            // get number of indices
+            final var indicesLength = indicesSizeInBytes / indexSizeInBytes;
 
-                // get number of shorts in indices
-                final var indicesLength = indicesSizeInBytes / (Short.SIZE / 8);
-
-                // read coordsSize bytes into array of floats
+            if (chunk instanceof MappedDataChunk mappedChunk) {
+                final var bytesBuffer = sliceSection(in, indicesSizeInBytes);
+                mappedChunk.setIndicesBuffer(use32BitIndices ? bytesBuffer.asIntBuffer()
+                        : bytesBuffer.asShortBuffer());
+            } else {
+                // read indicesSize bytes into array of ints
                 final var indices = new int[indicesLength];
                 final var bytes = new byte[indicesSizeInBytes];
-                reader.read(bytes);
-                int firstByte;
-                int secondByte;
-                var counter = 0;
-                for (var i = 0; i < indicesLength; i++) {
-                    firstByte = bytes[counter] & 0x000000ff;
-                    counter++;
-                    secondByte = bytes[counter] & 0x000000ff;
-                    counter++;
-                    indices[i] = firstByte << 8 | secondByte;
+                in.read(bytes);
+                if (use32BitIndices) {
+                    ByteBuffer.wrap(bytes).asIntBuffer().get(indices);
+                } else {
+                    int firstByte;
+                    int secondByte;
+                    var counter = 0;
+                    for (var i = 0; i < indicesLength; i++) {
+                        firstByte = bytes[counter] & 0x000000ff;
+                        counter++;
+                        secondByte = bytes[counter] & 0x000000ff;
+                        counter++;
+                        indices[i] = firstByte << 8 | secondByte;
+                    }
                 }
                 chunk.setIndicesData(indices);
+            }
 
-                // compute progress
-                if (loader.listener != null) {
-                    loader.listener.onLoadProgressChange(loader,
-                            (float) (reader.getPosition()) / (float) (file.length()));
-                }
+            // compute progress
+            if (notifyProgress && listener != null) {
+                listener.onLoadProgressChange(this,
+                        (float) (in.getPosition()) / (float) (file.length()));
             }
+        }
 
-            // -------- TEXTURE COORDS --------
+        // -------- TEXTURE COORDS --------
 
-            // read texture coords size
-            final var texCoordsSizeInBytes = reader.readInt();
+        // read texture coords size
+        final var texCoordsSizeInBytes = in.readInt();
 
-            // ensure that texture coords size is positive, otherwise file is corrupted
-            if (texCoordsSizeInBytes < 0) {
-                throw new LoaderException();
-            }
-            // if size in bytes is not multiple of float size (4 bytes), then
-            // file is corrupted
-            if (texCoordsSizeInBytes % (Float.SIZE / 8) != 0) {
+        // ensure that texture coords size is positive, otherwise file is corrupted
+        if (texCoordsSizeInBytes < 0) {
+            throw new LoaderException();
+        }
+        // if size in bytes is not multiple of float size (4 bytes), then
+        // file is corrupted
+        if (texCoordsSizeInBytes % (Float.SIZE / 8) != 0) {
+            throw new LoaderException();
+        }
+
+        // if texture coords are available
+        if (texCoordsSizeInBytes > 0) {
+            // ensure that texture coords fit within chunk, otherwise file is
+            // corrupted
+            if (in.getPosition() + texCoordsSizeInBytes > chunkEndPos) {
                 throw new LoaderException();
             }
 
-            // if texture coords are available
-            if (texCoordsSizeInBytes > 0) {
-                // ensure that texture coords fit within chunk, otherwise file is
-                // corrupted
-                if (reader.getPosition() + texCoordsSizeInBytes > chunkEndPos) {
-                    throw new LoaderException();
-                }
-
-                // get number of floats in coords
-                final var texCoordsLength = texCoordsSizeInBytes / (Float.SIZE / 8);
+            // get number of floats in coords
+            final var texCoordsLength = texCoordsSizeInBytes / (Float.SIZE / 8);
 
+            if (chunk instanceof MappedDataChunk mappedChunk) {
+                mappedChunk.setTextureCoordinatesBuffer(sliceSection(in, texCoordsSizeInBytes).asFloatBuffer());
+            } else {
                 // read coordsSize bytes into array of floats
                 final var texCoords = new float[texCoordsLength];
                 final var bytes = new byte[texCoordsSizeInBytes];
-                reader.read(bytes);
+                in.read(bytes);
                 final var bytesBuffer = ByteBuffer.wrap(bytes);
                 final var floatBuffer = bytesBuffer.asFloatBuffer();
                 floatBuffer.get(texCoords);
                 chunk.setTextureCoordinatesData(texCoords);
+            }
 
-                // compute progress
-                if (loader.listener != null) {
-                    loader.listener.onLoadProgressChange(loader,
-                            (float) (reader.getPosition()) / (float) (file.length()));
-                }
+            // compute progress
+            if (notifyProgress && listener != null) {
+                listener.onLoadProgressChange(this,
+                        (float) (in.getPosition()) / (float) (file.length()));
             }
+        }
 
-            // -------- NORMALS --------
+        // -------- NORMALS --------
 
-            // read normals size
-            final var normalsSizeInBytes = reader.readInt();
+        // read normals size
+        final var normalsSizeInBytes = in.readInt();
 
-            // ensure that normals size is positive, otherwise file is
+        // ensure that normals size is positive, otherwise file is
+        // corrupted
+        if (normalsSizeInBytes < 0) {
+            throw new LoaderException();
+        }
+        // if size in bytes is not multiple of float size (4 bytes), then
+        // file is corrupted
+        if (normalsSizeInBytes % (Float.SIZE / 8) != 0) {
+            throw new LoaderException();
+        }
+
+        // if texture coords are available
+        if (normalsSizeInBytes > 0) {
+            // ensure that normals fit within chunk, otherwise file is
             // corrupted
-            if (normalsSizeInBytes < 0) {
-                throw new LoaderException();
-            }
-            // if size in bytes is not multiple of float size (4 bytes), then
-            // file is corrupted
-            if (normalsSizeInBytes % (Float.SIZE / 8) != 0) {
+            if (in.getPosition() + normalsSizeInBytes > chunkEndPos) {
                 throw new LoaderException();
             }
 
-            // if texture coords are available
-            if (normalsSizeInBytes > 0) {
-                // ensure that normals fit within chunk, otherwise file is
-                // corrupted
-                if (reader.getPosition() + normalsSizeInBytes > chunkEndPos) {
-                    throw new LoaderException();
-                }
-
-                // get number of floats in coords
-                final var normalsLength = normalsSizeInBytes / (Float.SIZE / 8);
+            // get number of floats in coords
+            final var normalsLength = normalsSizeInBytes / (Float.SIZE / 8);
 
+            if (chunk instanceof MappedDataChunk mappedChunk) {
+                mappedChunk.setNormalsBuffer(sliceSection(in, normalsSizeInBytes).asFloatBuffer());
+            } else {
                 // read coordsSize bytes into array of floats
                 final var normals = new float[normalsLength];
                 final var bytes = new byte[normalsSizeInBytes];
-                reader.read(bytes);
+                in.read(bytes);
                 final var bytesBuffer = ByteBuffer.wrap(bytes);
                 final var floatBuffer = bytesBuffer.asFloatBuffer();
                 floatBuffer.get(normals);
                 chunk.setNormalsData(normals);
+            }
 
-                // compute progress
-                if (loader.listener != null) {
-                    loader.listener.onLoadProgressChange(loader,
-                            (float) (reader.getPosition()) / (float) (file.length()));
-                }
+            // compute progress
+            if (notifyProgress && listener != null) {
+                listener.onLoadProgressChange(this,
+                        (float) (in.getPosition()) / (float) (file.length()));
             }
+        }
+
+        readBoundingBox(in, chunk, chunkEndPos, notifyProgress);
+    }
+
+    /**
+     * Reads compressed chunk data, which contains encoded vertex data preceded
+     * by its sizes, and the bounding box of the chunk.
+     *
+     * @param in             reader to read data from.
+     * @param chunk          chunk where data is stored.
+     * @param chunkEndPos    position where chunk ends.
+     * @param notifyProgress true to notify loading progress to listener.
+     * @throws LoaderException if file data is corrupt or cannot be understood.
+     * @throws IOException     if an I/O error occurs.
+     */
+    private void readCompressedChunkData(final AbstractFileReaderAndWriter in, final DataChunk chunk,
+                                         final long chunkEndPos, final boolean notifyProgress)
+            throws LoaderException, IOException {
+        final var coords = readEncodedSection(in, chunkEndPos);
+        if (coords != null) {
+            chunk.setVerticesCoordinatesData(BinaryCompression.decodePositions(coords));
+        }
+
+        readColors(in, chunk, chunkEndPos, notifyProgress);
 
-            // read bounding box for chunk (min/max x, y, z)
+        final var indices = readEncodedSection(in, chunkEndPos);
+        if (indices != null) {
+            chunk.setIndicesData(BinaryCompression.decodeIndices(indices));
+        }
+
+        final var textureCoords = readEncodedSection(in, chunkEndPos);
+        if (textureCoords != null) {
+            chunk.setTextureCoordinatesData(BinaryCompression.decodeTextureCoordinates(textureCoords));
+        }
+
+        final var normals = readEncodedSection(in, chunkEndPos);
+        if (normals != null) {
+            chunk.setNormalsData(BinaryCompression.decodeNormals(normals));
+        }
+
+        readBoundingBox(in, chunk, chunkEndPos, notifyProgress);
+    }
+
+    /**
+     * Reads size of an encoded section of chunk data followed by its data.
+     *
+     * @param in          reader to read data from.
+     * @param chunkEndPos position where chunk ends.
+     * @return encoded data or null if section is empty.
+     * @throws LoaderException if file data is corrupt or cannot be understood.
+     * @throws IOException     if an I/O error occurs.
+     */
+    private byte[] readEncodedSection(final AbstractFileReaderAndWriter in, final long chunkEndPos)
+            throws LoaderException, IOException {
+        final var sizeInBytes = in.readInt();
+
+        // ensure that size is positive and section fits within chunk,
+        // otherwise file is corrupted
+        if (sizeInBytes < 0 || in.getPosition() + sizeInBytes > chunkEndPos) {
+            throw new LoaderException();
+        }
+        if (sizeInBytes == 0) {
+            return null;
+        }
 
-            // we need to load 6 floats, so position + 6 * Float.SIZE / 8 bytes must fit within chunk
-            if (reader.getPosition() + (BOUNDING_BYTES_SIZE) > chunkEndPos) {
+        final var bytes = new byte[sizeInBytes];
+        in.read(bytes);
+        return bytes;
+    }
+
+    /**
+     * Reads size of colors followed by colors and number of color components,
+     * if available.
+     *
+     * @param in             reader to read data from.
+     * @param chunk          chunk where colors are stored.
+     * @param chunkEndPos    position where chunk ends.
+     * @param notifyProgress true to notify loading progress to listener.
+     * @throws LoaderException if file data is corrupt or cannot be understood.
+     * @throws IOException     if an I/O error occurs.
+     */
+    private void readColors(final AbstractFileReaderAndWriter in, final DataChunk chunk, final long chunkEndPos,
+                            final boolean notifyProgress)
+            throws LoaderException, IOException {
+        // ----- COLORS ------
+
+        // read colors size
+        final var colorsSizeInBytes = in.readInt();
+
+        // ensure that colors size is positive, otherwise file is corrupted
+        if (colorsSizeInBytes < 0) {
+            throw new LoaderException();
+        }
+
+        // each color data is stored in a byte, so there is no need to check size multiplicity
+
+        // if colors are available
+        if (colorsSizeInBytes > 0) {
+            // ensure that colors fit within chunk, otherwise file is corrupted
+            if (in.getPosition() + colorsSizeInBytes > chunkEndPos) {
                 throw new LoaderException();
             }
 
-            final var bytes = new byte[BOUNDING_BYTES_SIZE];
-            reader.read(bytes);
-            final var bytesBuffer = ByteBuffer.wrap(bytes);
-            final var floatBuffer = bytesBuffer.asFloatBuffer();
-            chunk.setMinX(floatBuffer.get());
-            chunk.setMinY(floatBuffer.get());
-            chunk.setMinZ(floatBuffer.get());
+            if (chunk instanceof MappedDataChunk mappedChunk) {
+                mappedChunk.setColorBuffer(sliceSection(in, colorsSizeInBytes));
+            } else {
+                // read colorSizeInBytes into array of shorts (conversion
+                // must be done from unsigned bytes to shorts, as java does not
+                // support unsigned bytes values
+                final var colors = new short[colorsSizeInBytes];
+                final var bytes = new byte[colorsSizeInBytes];
+                in.read(bytes);
+                for (var i = 0; i < colorsSizeInBytes; i++) {
+                    // convert signed bytes into unsigned bytes stored in shorts
+                    colors[i] = (short) (bytes[i] & 0x000000ff);
+                }
+                chunk.setColorData(colors);
+            }
 
-            chunk.setMaxX(floatBuffer.get());
-            chunk.setMaxY(floatBuffer.get());
-            chunk.setMaxZ(floatBuffer.get());
+            // read color components
+            chunk.setColorComponents(in.readInt());
 
             // compute progress
-            if (loader.listener != null) {
-                loader.listener.onLoadProgressChange(loader,
-                        (float) (reader.getPosition()) / (float) (file.length()));
+            if (notifyProgress && listener != null) {
+                listener.onLoadProgressChange(this,
+                        (float) (in.getPosition()) / (float) (file.length()));
             }
+        }
+    }
 
-            if (!hasNext() && listener != null) {
-                // notify iterator finished
-                listener.onIteratorFinished(this);
-            }
+    /**
+     * Returns a view of the section of the mapped file starting at current
+     * position, without copying its data, and skips the section.
+     *
+     * @param in          reader to read data from.
+     * @param sizeInBytes size in bytes of the section.
+     * @return view of the section.
+     * @throws IOException if an I/O error occurs.
+     */
+    private ByteBuffer sliceSection(final AbstractFileReaderAndWriter in, final int sizeInBytes) throws IOException {
+        final var result = ((MappedFileReaderAndWriter) in).slice(in.getPosition(), sizeInBytes);
+        in.skip(sizeInBytes);
+        return result;
+    }
 
-            return chunk;
+    /**
+     * Reads bounding box of a chunk.
+     *
+     * @param in             reader to read data from.
+     * @param chunk          chunk where bounding box is stored.
+     * @param chunkEndPos    position where chunk ends.
+     * @param notifyProgress true to notify loading progress to listener.
+     * @throws LoaderException if file data is corrupt or cannot be understood.
+     * @throws IOException     if an I/O error occurs.
+     */
+    private void readBoundingBox(final AbstractFileReaderAndWriter in, final DataChunk chunk, final long chunkEndPos,
+                                 final boolean notifyProgress)
+            throws LoaderException, IOException {
+        // read bounding box for chunk (min/max x, y, z)
+
+        // we need to load 6 floats, so position + 6 * Float.SIZE / 8 bytes must fit within chunk
+        if (in.getPosition() + (BOUNDING_BYTES_SIZE) > chunkEndPos) {
+            throw new LoaderException();
+        }
+
+        final var bytes = new byte[BOUNDING_BYTES_SIZE];
+        in.read(bytes);
+        final var bytesBuffer = ByteBuffer.wrap(bytes);
+        final var floatBuffer = bytesBuffer.asFloatBuffer();
+        chunk.setMinX(floatBuffer.get());
+        chunk.setMinY(floatBuffer.get());
+        chunk.setMinZ(floatBuffer.get());
+
+        chunk.setMaxX(floatBuffer.get());
+        chunk.setMaxY(floatBuffer.get());
+        chunk.setMaxZ(floatBuffer.get());
+
+        // compute progress
+        if (notifyProgress && listener != null) {
+            listener.onLoadProgressChange(this,
+                    (float) (in.getPosition()) / (float) (file.length()));
+        }
+    }
+
+    /**
+     * Reads a material, not including the boolean indicating its
+     * availability.
+     *
+     * @param in       reader to read data from.
+     * @param textures textures read so far indexed by their id, so that
+     *                 materials referencing the same texture share the
+     *                 same instance, or null to create new textures.
+     * @return material being read.
+     * @throws IOException if an I/O error occurs.
+     */
+    private Material readMaterial(final AbstractFileReaderAndWriter in, final Map<Integer, Texture> textures)
+            throws IOException {
+        final var materialId = in.readInt();
+
+        final var material = new Material();
+        material.setId(materialId);
+
+        if (in.readBoolean()) {
+            // ambient color is available
+            byte b;
+            // red
+            b = in.readByte();
+            material.setAmbientRedColor((short) (b & 0x000000ff));
+            // green
+            b = in.readByte();
+            material.setAmbientGreenColor((short) (b & 0x000000ff));
+            // blue
+            b = in.readByte();
+            material.setAmbientBlueColor((short) (b & 0x000000ff));
+        }
+
+        if (in.readBoolean()) {
+            // diffuse color is available
+            // red
+            var b = in.readByte();
+            material.setDiffuseRedColor((short) (b & 0x000000ff));
+            // green
+            b = in.readByte();
+            material.setDiffuseGreenColor((short) (b & 0x000000ff));
+            // blue
+            b = in.readByte();
+            material.setDiffuseBlueColor((short) (b & 0x000000ff));
+        }
+
+        if (in.readBoolean()) {
+            // specular color is available
+            // red
+            var b = in.readByte();
+            material.setSpecularRedColor((short) (b & 0x000000ff));
+            // green
+            b = in.readByte();
+            material.setSpecularGreenColor((short) (b & 0x000000ff));
+            // blue
+            b = in.readByte();
+            material.setSpecularBlueColor((short) (b & 0x000000ff));
+        }
+
+        if (in.readBoolean()) {
+            // specular coefficient is available
+            material.setSpecularCoefficient(in.readFloat());
+        }
+
+        if (in.readBoolean()) {
+            // ambient texture map is available
+            material.setAmbientTextureMap(readTextureMap(in, textures));
+        }
+
+        if (in.readBoolean()) {
+            // diffuse texture map is available
+            material.setDiffuseTextureMap(readTextureMap(in, textures));
+        }
+
+        if (in.readBoolean()) {
+            // specular texture map is available
+            material.setSpecularTextureMap(readTextureMap(in, textures));
+        }
+
+        if (in.readBoolean()) {
+            // alpha texture map is available
+            material.setAlphaTextureMap(readTextureMap(in, textures));
+        }
+
+        if (in.readBoolean()) {
+            // bump texture map is available
+            material.setBumpTextureMap(readTextureMap(in, textures));
+        }
+
+        if (in.readBoolean()) {
+            // transparency is available
+            final var b = in.readByte();
+            material.setTransparency((short) (b & 0x000000ff));
+        }
+
+        if (in.readBoolean()) {
+            // illumination is available
+            final var value = in.readInt();
+            material.setIllumination(Illumination.forValue(value));
+        }
+
+        return material;
+    }
+
+    /**
+     * Reads id, width and height of a texture map.
+     *
+     * @param in       reader to read data from.
+     * @param textures textures read so far indexed by their id, or null to
+     *                 create a new texture.
+     * @return texture map being read.
+     * @throws IOException if an I/O error occurs.
+     */
+    private Texture readTextureMap(final AbstractFileReaderAndWriter in, final Map<Integer, Texture> textures)
+            throws IOException {
+        final var textureId = in.readInt();
+        final var width = in.readInt();
+        final var height = in.readInt();
+
+        var tex = textures != null ? textures.get(textureId) : null;
+        if (tex == null) {
+            tex = new Texture(textureId);
+            tex.setWidth(width);
+            tex.setHeight(height);
+            if (textures != null) {
+                textures.put(textureId, tex);
+            }
         }
+        return tex;
     }
 }
@@ -77,6 +77,23 @@ public class LoaderOBJ extends Loader {
      */
     public static final boolean DEFAULT_CONTINUE_IF_TRIANGULATION_ERROR = true;
 
+    /**
+     * Indicates that by default files are loaded as meshes containing faces
+     * instead of point clouds.
+     */
+    public static final boolean DEFAULT_POINT_CLOUD_MODE = false;
+
+    /**
+     * Indicates that by default chunks are not pooled.
+     */
+    public static final boolean DEFAULT_CHUNK_POOLING_ENABLED = false;
+
+    /**
+     * Indicates that by default arrays of chunks are trimmed to contain only
+     * valid values.
+     */
+    public static final boolean DEFAULT_TRIMMED_CHUNK_ARRAYS = true;
+
     /**
      * Identifies materials.
      */
@@ -134,6 +151,31 @@ public class LoaderOBJ extends Loader {
      */
     private boolean continueIfTriangulationError;
 
+    /**
+     * Indicates whether file is loaded as a point cloud. When enabled, only
+     * vertices ("v" lines) are streamed sequentially into chunks, and faces are
+     * ignored.
+     */
+    private boolean pointCloudMode = DEFAULT_POINT_CLOUD_MODE;
+
+    /**
+     * Indicates whether arrays of released chunks are reused to load
+     * subsequent chunks.
+     */
+    private boolean chunkPoolingEnabled = DEFAULT_CHUNK_POOLING_ENABLED;
+
+    /**
+     * Indicates whether arrays of chunks are trimmed to contain only valid
+     * values.
+     */
+    private boolean trimmedChunkArrays = DEFAULT_TRIMMED_CHUNK_ARRAYS;
+
+    /**
+     * Format of interleaved vertex buffers of chunks or null if vertex data
+     * is stored into separate arrays.
+     */
+    private InterleavedVertexFormat interleavedVertexFormat;
+
     /**
      * Constructor.
      */
@@ -606,6 +648,142 @@ public class LoaderOBJ extends Loader {
         this.continueIfTriangulationError = continueIfTriangulationError;
     }
 
+    /**
+     * Indicates whether file is loaded as a point cloud.
+     * When enabled, only vertices ("v" lines) are streamed sequentially into
+     * chunks containing vertex coordinates and colors (when vertices are
+     * defined as "v x y z r g b"). Faces, texture coordinates, normals and
+     * materials are ignored, and chunks do not contain indices.
+     * This mode does not need to scan the whole file in advance, nor to seek
+     * within the file or to keep any vertex map, hence it is much faster for
+     * files without faces.
+     *
+     * @return true if file is loaded as a point cloud, false otherwise.
+     */
+    public boolean isPointCloudMode() {
+        return pointCloudMode;
+    }
+
+    /**
+     * Sets boolean indicating whether file is loaded as a point cloud.
+     * When enabled, only vertices ("v" lines) are streamed sequentially into
+     * chunks containing vertex coordinates and colors (when vertices are
+     * defined as "v x y z r g b"). Faces, texture coordinates, normals and
+     * materials are ignored, and chunks do not contain indices.
+     *
+     * @param pointCloudMode true to load file as a point cloud, false
+     *                       otherwise.
+     * @throws LockedException if this loader is currently loading a file.
+     */
+    public void setPointCloudMode(final boolean pointCloudMode) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.pointCloudMode = pointCloudMode;
+    }
+
+    /**
+     * Indicates whether arrays of released chunks are reused to load
+     * subsequent chunks.
+     *
+     * @return true if chunks are pooled, false otherwise.
+     * @see #setChunkPoolingEnabled(boolean)
+     */
+    public boolean isChunkPoolingEnabled() {
+        return chunkPoolingEnabled;
+    }
+
+    /**
+     * Sets boolean indicating whether arrays of released chunks are reused to
+     * load subsequent chunks.
+     * When enabled, consumers should call {@link DataChunk#release()} once
+     * they no longer need a chunk, and arrays of returned chunks might be
+     * larger than required, hence {@link DataChunk#getVertexCount()} and
+     * {@link DataChunk#getIndexCount()} must be used to determine how many
+     * values are valid. Chunks that are not released are simply garbage
+     * collected.
+     * This setting has no effect when loading files as point clouds.
+     *
+     * @param chunkPoolingEnabled true to pool chunks, false otherwise.
+     * @throws LockedException if this loader is currently loading a file.
+     */
+    public void setChunkPoolingEnabled(final boolean chunkPoolingEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.chunkPoolingEnabled = chunkPoolingEnabled;
+    }
+
+    /**
+     * Indicates whether arrays of chunks are trimmed to contain only valid
+     * values.
+     *
+     * @return true if arrays are trimmed, false otherwise.
+     * @see #setTrimmedChunkArrays(boolean)
+     */
+    public boolean isTrimmedChunkArrays() {
+        return trimmedChunkArrays;
+    }
+
+    /**
+     * Sets boolean indicating whether arrays of chunks are trimmed to contain
+     * only valid values.
+     * Trimming copies all data of each chunk into new arrays having the exact
+     * required size. When disabled, arrays where data is loaded are handed
+     * over to chunks without copying them, hence they might be larger than
+     * required, and {@link DataChunk#getVertexCount()} and
+     * {@link DataChunk#getIndexCount()} must be used to determine how many
+     * values are valid.
+     * Arrays are never trimmed when chunks are pooled.
+     *
+     * @param trimmedChunkArrays true to trim arrays, false otherwise.
+     * @throws LockedException if this loader is currently loading a file.
+     */
+    public void setTrimmedChunkArrays(final boolean trimmedChunkArrays) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.trimmedChunkArrays = trimmedChunkArrays;
+    }
+
+    /**
+     * Returns format of interleaved vertex buffers of chunks.
+     *
+     * @return format of interleaved vertex buffers or null if vertex data is
+     * stored into separate arrays.
+     * @see #setInterleavedVertexFormat(InterleavedVertexFormat)
+     */
+    public InterleavedVertexFormat getInterleavedVertexFormat() {
+        return interleavedVertexFormat;
+    }
+
+    /**
+     * Sets format of interleaved vertex buffers of chunks.
+     * When provided, vertex data of each chunk is packed into a single buffer
+     * available through {@link DataChunk#getInterleavedVertexData()} and
+     * described by {@link DataChunk#getInterleavedVertexLayout()}, instead
+     * of being stored into separate arrays, which are kept by the loader to
+     * load subsequent chunks. Indices are still stored into an array that
+     * might be larger than required, hence {@link DataChunk#getIndexCount()}
+     * must be used to determine how many indices are valid.
+     * When chunks are pooled, interleaved buffers of released chunks are
+     * reused.
+     * Mesh writers require separate arrays, hence this format must not be
+     * set on loaders used by writers.
+     *
+     * @param interleavedVertexFormat format of interleaved vertex buffers or
+     *                                null to store vertex data into separate
+     *                                arrays.
+     * @throws LockedException if this loader is currently loading a file.
+     */
+    public void setInterleavedVertexFormat(final InterleavedVertexFormat interleavedVertexFormat)
+            throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.interleavedVertexFormat = interleavedVertexFormat;
+    }
+
     /**
      * Returns a list of the comments contained in the file.
      *
@@ -690,6 +868,18 @@ public class LoaderOBJ extends Loader {
             listener.onLoadStart(this);
         }
 
+        if (pointCloudMode) {
+            final LoaderIteratorPointCloudOBJ pointCloudIterator;
+            try {
+                pointCloudIterator = new LoaderIteratorPointCloudOBJ(this);
+            } catch (final IOException | LoaderException e) {
+                setLocked(false);
+                throw e;
+            }
+            pointCloudIterator.setListener(new LoaderIteratorListenerImpl(this));
+            return pointCloudIterator;
+        }
+
         loaderIterator = new LoaderIteratorOBJ(this);
         loaderIterator.setListener(new LoaderIteratorListenerImpl(this));
         return loaderIterator;
@@ -773,6 +963,227 @@ public class LoaderOBJ extends Loader {
         }
     }
 
+    /**
+     * Loader iterator in charge of streaming vertices of the file sequentially
+     * into chunks of data when loading a file as a point cloud.
+     */
+    private class LoaderIteratorPointCloudOBJ implements LoaderIterator {
+
+        /**
+         * Maximum number of values of a vertex line (including "v" keyword)
+         * that are taken into account.
+         */
+        private static final int MAX_VALUES = 7;
+
+        /**
+         * Maximum value of a color component.
+         */
+        private static final float MAX_COLOR = 255.0f;
+
+        /**
+         * Reference to loader loading OBJ file.
+         */
+        private final LoaderOBJ loader;
+
+        /**
+         * Reads lines of the file sequentially.
+         */
+        private final AsciiLineReader lineReader;
+
+        /**
+         * Accumulates vertices into chunks.
+         */
+        private final PointCloudChunkBuilder builder;
+
+        /**
+         * Array to be reused when splitting lines into values.
+         */
+        private final String[] tokens;
+
+        /**
+         * Size of the file being loaded.
+         */
+        private final long fileLength;
+
+        /**
+         * Latest notified progress.
+         */
+        private float previousProgress;
+
+        /**
+         * Line containing next vertex to be added or null if no more vertices
+         * are available.
+         */
+        private String pendingLine;
+
+        /**
+         * Reference to the listener of this loader iterator. This listener will
+         * be notified when the loading process finishes so that resources can
+         * be freed.
+         */
+        private LoaderIteratorListener listener;
+
+        /**
+         * Constructor.
+         *
+         * @param loader reference to loader loading OBJ file.
+         * @throws IOException     if an I/O error occurs.
+         * @throws LoaderException if file does not contain any vertex.
+         */
+        public LoaderIteratorPointCloudOBJ(final LoaderOBJ loader) throws IOException, LoaderException {
+            this.loader = loader;
+            reader.seek(0);
+            lineReader = new AsciiLineReader(reader);
+            builder = new PointCloudChunkBuilder(loader.maxVerticesInChunk, DataChunk.DEFAULT_COLOR_COMPONENTS);
+            tokens = new String[MAX_VALUES];
+            fileLength = loader.file != null ? loader.file.length() : 0;
+            previousProgress = 0.0f;
+            listener = null;
+
+            pendingLine = readNextVertexLine();
+            if (pendingLine == null) {
+                throw new LoaderException();
+            }
+        }
+
+        /**
+         * Method to set listener of this loader iterator.
+         * This listener will be notified when the loading process finishes.
+         *
+         * @param listener listener of this loader iterator.
+         */
+        public void setListener(final LoaderIteratorListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * Indicates if there is another chunk of data to be loaded.
+         *
+         * @return true if there is another chunk of data, false otherwise.
+         */
+        @Override
+        public boolean hasNext() {
+            return pendingLine != null;
+        }
+
+        /**
+         * Loads and returns next chunk of data, if available.
+         *
+         * @return next chunk of data.
+         * @throws NotAvailableException thrown if no more data is available.
+         * @throws LoaderException       if file data is corrupt or cannot be
+         *                               understood.
+         * @throws IOException           if an I/O error occurs.
+         */
+        @Override
+        public DataChunk next() throws NotAvailableException, LoaderException, IOException {
+            if (reader == null) {
+                throw new IOException();
+            }
+
+            if (!hasNext()) {
+                throw new NotAvailableException();
+            }
+
+            try {
+                while (pendingLine != null && !builder.isFull()) {
+                    addVertex(pendingLine);
+                    pendingLine = readNextVertexLine();
+                }
+            } catch (final NumberFormatException e) {
+                throw new LoaderException(e);
+            }
+
+            final var dataChunk = builder.build();
+            if (loader.interleavedVertexFormat != null) {
+                VertexInterleaver.interleave(dataChunk, loader.interleavedVertexFormat, null, null);
+            }
+
+            // compute progress
+            if (loader.listener != null && fileLength > 0) {
+                final var progress = Math.min((float) lineReader.getPosition() / (float) fileLength, 1.0f);
+                if (progress - previousProgress >= PROGRESS_DELTA || !hasNext()) {
+                    previousProgress = progress;
+                    loader.listener.onLoadProgressChange(loader, progress);
+                }
+            }
+
+            if (!hasNext() && listener != null) {
+                // notify iterator finished
+                listener.onIteratorFinished(this);
+            }
+
+            // if no more chunks are available, then close input reader
+            if (!hasNext()) {
+                reader.close();
+            }
+
+            return dataChunk;
+        }
+
+        /**
+         * Parses provided vertex line and adds its vertex into current chunk.
+         * Vertex lines can be defined as "v x y z", "v x y z w" or
+         * "v x y z r g b", where colors are normalized between 0.0 and 1.0.
+         *
+         * @param line line containing a vertex.
+         * @throws LoaderException       if line does not contain enough values.
+         * @throws NumberFormatException if values cannot be parsed.
+         */
+        private void addVertex(final String line) throws LoaderException {
+            final var n = AsciiLineReader.tokenize(line, tokens);
+            if (n < 4) {
+                throw new LoaderException();
+            }
+
+            var x = Float.parseFloat(tokens[1]);
+            var y = Float.parseFloat(tokens[2]);
+            var z = Float.parseFloat(tokens[3]);
+            if (n == 5) {
+                // homogeneous coordinates x, y, z, w
+                final var w = Float.parseFloat(tokens[4]);
+                x /= w;
+                y /= w;
+                z /= w;
+            } else if (n >= 7) {
+                // inhomogeneous coordinates x, y, z with colors r, g, b
+                builder.setColor(toColor(tokens[4]), toColor(tokens[5]), toColor(tokens[6]), (short) 255);
+            }
+            builder.addVertex(x, y, z);
+        }
+
+        /**
+         * Converts a normalized color value into a color component between 0
+         * and 255.
+         *
+         * @param value normalized color value.
+         * @return color component.
+         */
+        private short toColor(final String value) {
+            final var color = Math.round(Float.parseFloat(value) * MAX_COLOR);
+            return (short) Math.max(0, Math.min(color, (int) MAX_COLOR));
+        }
+
+        /**
+         * Reads next vertex line. Comments are kept and any other line is
+         * ignored.
+         *
+         * @return next vertex line or null if no more vertices are available.
+         * @throws IOException if an I/O error occurs.
+         */
+        private String readNextVertexLine() throws IOException {
+            String line;
+            while ((line = lineReader.readLine()) != null) {
+                if (line.startsWith("v ")) {
+                    return line;
+                } else if (line.startsWith("#")) {
+                    loader.comments.add(line.substring("#".length()).trim());
+                }
+            }
+            return null;
+        }
+    }
+
     /**
      * Loader iterator in charge of loading file data in small chunks.
      * Usually data is divided in chunks small enough that can be directly
@@ -1059,6 +1470,24 @@ public class LoaderOBJ extends Loader {
          */
         private long[] originalNormalIndicesInChunkArray;
 
+        /**
+         * Keeps released chunks so that their arrays can be reused, or null if
+         * chunks are not pooled.
+         */
+        private final DataChunkPool pool;
+
+        /**
+         * Format of interleaved vertex buffers or null if vertex data is
+         * stored into separate arrays.
+         */
+        private final InterleavedVertexFormat vertexFormat;
+
+        /**
+         * Keeps separate vertex arrays so that they can be reused when vertex
+         * data is interleaved, or null if vertex data is not interleaved.
+         */
+        private final DataChunk workingArrays;
+
         /**
          * Map to relate vertex indices in a file respect to chunk indices.
          */
@@ -1183,6 +1612,9 @@ public class LoaderOBJ extends Loader {
 
             verticesInChunk = indicesInChunk = 0;
             indicesInChunkSize = 0;
+            pool = loader.chunkPoolingEnabled ? new DataChunkPool() : null;
+            vertexFormat = loader.interleavedVertexFormat;
+            workingArrays = vertexFormat != null ? new DataChunk() : null;
 
             vertexStreamPosition = 0;
             textureCoordStreamPosition = 0;
@@ -1237,7 +1669,9 @@ public class LoaderOBJ extends Loader {
                 throw new NotAvailableException();
             }
 
-            initChunkArrays();
+            final var pooledChunk = pool != null ? pool.poll() : null;
+            final var pooledBuffer = VertexInterleaver.bufferToReuse(pooledChunk);
+            initChunkArrays(VertexInterleaver.arraysToReuse(workingArrays, pooledChunk));
 
             // reset chunk bounding box values
             minX = minY = minZ = Float.MAX_VALUE;
@@ -1604,11 +2038,15 @@ public class LoaderOBJ extends Loader {
                 throw new LoaderException(e);
             }
 
-            // trim arrays to store only needed data
-            trimArrays();
+            // trim arrays to store only needed data, unless they are pooled,
+            // interleaved or handed over without copying
+            final var trimmed = pool == null && vertexFormat == null && loader.trimmedChunkArrays;
+            if (trimmed) {
+                trimArrays();
+            }
 
             // Instantiate DataChunk with chunk arrays
-            final var dataChunk = new DataChunk();
+            final var dataChunk = pool != null ? pool.handOut(pooledChunk) : new DataChunk();
 
             if (verticesAvailable) {
                 dataChunk.setVerticesCoordinatesData(coordsInChunkArray);
@@ -1653,6 +2091,15 @@ public class LoaderOBJ extends Loader {
                 normalsInChunkArray = null;
             }
 
+            if (!trimmed) {
+                dataChunk.setVertexCount(verticesInChunk);
+                dataChunk.setIndexCount(indicesInChunk);
+            }
+
+            if (vertexFormat != null) {
+                VertexInterleaver.interleave(dataChunk, vertexFormat, pooledBuffer, workingArrays);
+            }
+
             if (!hasNext() && listener != null) {
                 // notify iterator finished
                 listener.onIteratorFinished(this);
@@ -2058,20 +2505,35 @@ public class LoaderOBJ extends Loader {
         }
 
         /**
-         * Initializes arrays forming current chunk of data.
-         */
-        private void initChunkArrays() {
-            coordsInChunkArray = new float[loader.maxVerticesInChunk * 3];
-            textureCoordsInChunkArray = new float[loader.maxVerticesInChunk * 2];
-            normalsInChunkArray = new float[loader.maxVerticesInChunk * 3];
-            indicesInChunkArray = new int[loader.maxVerticesInChunk];
-
-            originalVertexIndicesInChunkArray = new long[loader.maxVerticesInChunk];
-            originalTextureIndicesInChunkArray = new long[loader.maxVerticesInChunk];
-            originalNormalIndicesInChunkArray = new long[loader.maxVerticesInChunk];
+         * Initializes arrays forming current chunk of data, reusing arrays of
+         * provided released chunk when they are large enough.
+         *
+         * @param pooledChunk released chunk whose arrays are reused, or null.
+         */
+        private void initChunkArrays(final DataChunk pooledChunk) {
+            final var pooled = pooledChunk != null;
+            coordsInChunkArray = DataChunkPool.reuse(pooled ? pooledChunk.getVerticesCoordinatesData() : null,
+                    loader.maxVerticesInChunk * 3);
+            textureCoordsInChunkArray = DataChunkPool.reuse(
+                    pooled ? pooledChunk.getTextureCoordinatesData() : null, loader.maxVerticesInChunk * 2);
+            normalsInChunkArray = DataChunkPool.reuse(pooled ? pooledChunk.getNormalsData() : null,
+                    loader.maxVerticesInChunk * 3);
+            indicesInChunkArray = DataChunkPool.reuse(pooled ? pooledChunk.getIndicesData() : null,
+                    loader.maxVerticesInChunk);
+
+            // original indices never leave this iterator, hence they can be
+            // reused whenever chunks are pooled or interleaved
+            final var reuseOriginalIndices = pool != null || workingArrays != null;
+            final var size = indicesInChunkArray.length;
+            originalVertexIndicesInChunkArray = DataChunkPool.reuse(
+                    reuseOriginalIndices ? originalVertexIndicesInChunkArray : null, size);
+            originalTextureIndicesInChunkArray = DataChunkPool.reuse(
+                    reuseOriginalIndices ? originalTextureIndicesInChunkArray : null, size);
+            originalNormalIndicesInChunkArray = DataChunkPool.reuse(
+                    reuseOriginalIndices ? originalNormalIndicesInChunkArray : null, size);
             verticesInChunk = 0;
             indicesInChunk = 0;
-            indicesInChunkSize = loader.maxVerticesInChunk;
+            indicesInChunkSize = size;
 
             vertexIndicesMap.clear();
             textureCoordsIndicesMap.clear();
@@ -22,10 +22,28 @@ import com.irurueta.geometry.TriangulatorException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Loads PLY files.
@@ -99,6 +117,35 @@ public class LoaderPLY extends Loader {
      */
     public static final float PROGRESS_DELTA = 0.01f;
 
+    /**
+     * Indicates that by default files containing faces are loaded as meshes
+     * instead of point clouds.
+     */
+    public static final boolean DEFAULT_POINT_CLOUD_MODE = false;
+
+    /**
+     * Default number of threads used to build chunks of binary files where
+     * all faces are triangles stored in records of fixed size.
+     * By default, chunks are built on the calling thread.
+     */
+    public static final int DEFAULT_FACE_DECODING_THREADS = 1;
+
+    /**
+     * Minimum allowed number of threads used to build chunks of faces.
+     */
+    public static final int MIN_FACE_DECODING_THREADS = 1;
+
+    /**
+     * Indicates that by default chunks are not pooled.
+     */
+    public static final boolean DEFAULT_CHUNK_POOLING_ENABLED = false;
+
+    /**
+     * Indicates that by default arrays of chunks are trimmed to contain only
+     * valid values.
+     */
+    public static final boolean DEFAULT_TRIMMED_CHUNK_ARRAYS = true;
+
     /**
      * Keeps PLY header data.
      */
@@ -148,6 +195,45 @@ public class LoaderPLY extends Loader {
      */
     private long maxStreamPositions;
 
+    /**
+     * Names of additional vertex properties to be loaded into data chunks
+     * besides coordinates, normals and colors (i.e. confidence, intensity,
+     * curvature, etc.).
+     * Vertex properties not contained in this set are skipped.
+     */
+    private final Set<String> extraVertexProperties = new HashSet<>();
+
+    /**
+     * Indicates whether file is loaded as a point cloud. When enabled, only
+     * vertices are streamed sequentially into chunks, and faces are ignored.
+     * Files not containing faces are always loaded as point clouds.
+     */
+    private boolean pointCloudMode = DEFAULT_POINT_CLOUD_MODE;
+
+    /**
+     * Number of threads used to build chunks of binary files where all faces
+     * are triangles stored in records of fixed size.
+     */
+    private int faceDecodingThreads = DEFAULT_FACE_DECODING_THREADS;
+
+    /**
+     * Indicates whether arrays of released chunks are reused to load
+     * subsequent chunks.
+     */
+    private boolean chunkPoolingEnabled = DEFAULT_CHUNK_POOLING_ENABLED;
+
+    /**
+     * Indicates whether arrays of chunks are trimmed to contain only valid
+     * values.
+     */
+    private boolean trimmedChunkArrays = DEFAULT_TRIMMED_CHUNK_ARRAYS;
+
+    /**
+     * Format of interleaved vertex buffers of chunks or null if vertex data
+     * is stored into separate arrays.
+     */
+    private InterleavedVertexFormat interleavedVertexFormat;
+
     /**
      * Constructor.
      */
@@ -596,6 +682,233 @@ public class LoaderPLY extends Loader {
         internalSetMaxStreamPositions(maxStreamPositions);
     }
 
+    /**
+     * Returns names of additional vertex properties to be loaded into data
+     * chunks besides coordinates, normals and colors (i.e. confidence,
+     * intensity, curvature, etc.).
+     * Vertex properties not contained in this set are skipped.
+     * By default, this is empty.
+     *
+     * @return names of additional vertex properties to be loaded.
+     */
+    public Set<String> getExtraVertexProperties() {
+        return Collections.unmodifiableSet(extraVertexProperties);
+    }
+
+    /**
+     * Sets names of additional vertex properties to be loaded into data chunks
+     * besides coordinates, normals and colors (i.e. confidence, intensity,
+     * curvature, etc.).
+     * Each requested property found in the vertex element of the file will be
+     * available on each data chunk as a primitive array keyed by property name.
+     * Floating point properties are stored as float[] or double[] arrays,
+     * uint32 properties as long[] arrays and remaining integer properties as
+     * int[] arrays.
+     * Vertex properties not contained in this set are skipped.
+     *
+     * @param extraVertexProperties names of additional vertex properties to be
+     *                              loaded, or null to load none.
+     * @throws LockedException Raised if this instance is locked because loading
+     *                         is in progress.
+     * @see DataChunk#getVertexPropertyData(String)
+     */
+    public void setExtraVertexProperties(final Set<String> extraVertexProperties) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.extraVertexProperties.clear();
+        if (extraVertexProperties != null) {
+            this.extraVertexProperties.addAll(extraVertexProperties);
+        }
+    }
+
+    /**
+     * Indicates whether file is loaded as a point cloud.
+     * When enabled, vertices are streamed sequentially into chunks containing
+     * vertex coordinates, normals, colors and requested extra vertex
+     * properties, and faces are ignored, hence chunks do not contain indices.
+     * This mode does not need to seek within the file or to keep any vertex
+     * map, hence it is much faster than loading a mesh.
+     * Files not containing faces are always loaded as point clouds regardless
+     * of this setting.
+     *
+     * @return true if file is loaded as a point cloud, false otherwise.
+     */
+    public boolean isPointCloudMode() {
+        return pointCloudMode;
+    }
+
+    /**
+     * Sets boolean indicating whether file is loaded as a point cloud.
+     * When enabled, vertices are streamed sequentially into chunks containing
+     * vertex coordinates, normals, colors and requested extra vertex
+     * properties, and faces are ignored, hence chunks do not contain indices.
+     * Files not containing faces are always loaded as point clouds regardless
+     * of this setting.
+     *
+     * @param pointCloudMode true to load file as a point cloud, false
+     *                       otherwise.
+     * @throws LockedException Raised if this instance is locked because loading
+     *                         is in progress.
+     */
+    public void setPointCloudMode(final boolean pointCloudMode) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.pointCloudMode = pointCloudMode;
+    }
+
+    /**
+     * Returns number of threads used to build chunks of binary files where
+     * all faces are triangles stored in records of fixed size (i.e. 13 bytes
+     * for a uchar count and three int indices).
+     * When more than one thread is used, faces are split into contiguous
+     * ranges, and the chunks of each range are built on a worker thread,
+     * which decodes face indices and reads vertex data from its own view of
+     * the file. Chunks are returned in the same order as faces appear in the
+     * file, but chunks might end at different faces than when a single thread
+     * is used, because each range starts a new chunk.
+     * Multiple threads are only used when vertex data has no list properties
+     * and no extra vertex properties are requested, and when chunks are not
+     * pooled. Otherwise, and for ASCII files or files containing polygons,
+     * chunks are built on the calling thread.
+     *
+     * @return number of threads used to build chunks of faces.
+     */
+    public int getFaceDecodingThreads() {
+        return faceDecodingThreads;
+    }
+
+    /**
+     * Sets number of threads used to build chunks of binary files where all
+     * faces are triangles stored in records of fixed size.
+     *
+     * @param faceDecodingThreads number of threads used to build chunks of
+     *                            faces.
+     * @throws IllegalArgumentException if provided value is lower than
+     *                                  {@link #MIN_FACE_DECODING_THREADS}.
+     * @throws LockedException          Raised if this instance is locked because loading
+     *                                  is in progress.
+     */
+    public void setFaceDecodingThreads(final int faceDecodingThreads) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (faceDecodingThreads < MIN_FACE_DECODING_THREADS) {
+            throw new IllegalArgumentException();
+        }
+        this.faceDecodingThreads = faceDecodingThreads;
+    }
+
+    /**
+     * Indicates whether arrays of released chunks are reused to load
+     * subsequent chunks.
+     *
+     * @return true if chunks are pooled, false otherwise.
+     * @see #setChunkPoolingEnabled(boolean)
+     */
+    public boolean isChunkPoolingEnabled() {
+        return chunkPoolingEnabled;
+    }
+
+    /**
+     * Sets boolean indicating whether arrays of released chunks are reused to
+     * load subsequent chunks.
+     * When enabled, consumers should call {@link DataChunk#release()} once
+     * they no longer need a chunk, and arrays of returned chunks might be
+     * larger than required, hence {@link DataChunk#getVertexCount()} and
+     * {@link DataChunk#getIndexCount()} must be used to determine how many
+     * values are valid. Chunks that are not released are simply garbage
+     * collected.
+     * This setting has no effect when loading files as point clouds, and
+     * extra vertex properties are always stored in arrays having the exact
+     * required size.
+     *
+     * @param chunkPoolingEnabled true to pool chunks, false otherwise.
+     * @throws LockedException Raised if this instance is locked because loading
+     *                         is in progress.
+     */
+    public void setChunkPoolingEnabled(final boolean chunkPoolingEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.chunkPoolingEnabled = chunkPoolingEnabled;
+    }
+
+    /**
+     * Indicates whether arrays of chunks are trimmed to contain only valid
+     * values.
+     *
+     * @return true if arrays are trimmed, false otherwise.
+     * @see #setTrimmedChunkArrays(boolean)
+     */
+    public boolean isTrimmedChunkArrays() {
+        return trimmedChunkArrays;
+    }
+
+    /**
+     * Sets boolean indicating whether arrays of chunks are trimmed to contain
+     * only valid values.
+     * Trimming copies all data of each chunk into new arrays having the exact
+     * required size. When disabled, arrays where data is loaded are handed
+     * over to chunks without copying them, hence they might be larger than
+     * required, and {@link DataChunk#getVertexCount()} and
+     * {@link DataChunk#getIndexCount()} must be used to determine how many
+     * values are valid.
+     * Arrays are never trimmed when chunks are pooled.
+     * Extra vertex properties are always stored in arrays having the exact
+     * required size.
+     *
+     * @param trimmedChunkArrays true to trim arrays, false otherwise.
+     * @throws LockedException Raised if this instance is locked because loading
+     *                         is in progress.
+     */
+    public void setTrimmedChunkArrays(final boolean trimmedChunkArrays) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.trimmedChunkArrays = trimmedChunkArrays;
+    }
+
+    /**
+     * Returns format of interleaved vertex buffers of chunks.
+     *
+     * @return format of interleaved vertex buffers or null if vertex data is
+     * stored into separate arrays.
+     * @see #setInterleavedVertexFormat(InterleavedVertexFormat)
+     */
+    public InterleavedVertexFormat getInterleavedVertexFormat() {
+        return interleavedVertexFormat;
+    }
+
+    /**
+     * Sets format of interleaved vertex buffers of chunks.
+     * When provided, vertex data of each chunk is packed into a single buffer
+     * available through {@link DataChunk#getInterleavedVertexData()} and
+     * described by {@link DataChunk#getInterleavedVertexLayout()}, instead
+     * of being stored into separate arrays, which are kept by the loader to
+     * load subsequent chunks. Indices are still stored into an array that
+     * might be larger than required, hence {@link DataChunk#getIndexCount()}
+     * must be used to determine how many indices are valid.
+     * Extra vertex properties are still stored into separate arrays.
+     * When chunks are pooled, interleaved buffers of released chunks are
+     * reused.
+     * Mesh writers require separate arrays, hence this format must not be
+     * set on loaders used by writers.
+     *
+     * @param interleavedVertexFormat format of interleaved vertex buffers or
+     *                                null to store vertex data into separate
+     *                                arrays.
+     * @throws LockedException if this loader is currently loading a file.
+     */
+    public void setInterleavedVertexFormat(final InterleavedVertexFormat interleavedVertexFormat)
+            throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.interleavedVertexFormat = interleavedVertexFormat;
+    }
+
     /**
      * Indicates it this loader has enough parameters to start the loading
      * process.
@@ -1075,6 +1388,44 @@ public class LoaderPLY extends Loader {
      */
     private class LoaderIteratorPLY implements LoaderIterator {
 
+        /**
+         * Number of vertices of a triangle.
+         */
+        private static final int VERTICES_PER_TRIANGLE = 3;
+
+        /**
+         * Number of face records sampled to determine whether faces are
+         * triangles stored in records of fixed size.
+         */
+        private static final int FIXED_STRIDE_FACE_SAMPLES = 64;
+
+        /**
+         * Number of face records decoded at once when faces are stored in
+         * records of fixed size.
+         */
+        private static final int FIXED_STRIDE_FACES_BATCH = 0xffff;
+
+        /**
+         * Minimum number of faces contained in each range of faces whose
+         * chunks are built on a worker thread.
+         */
+        private static final long MIN_FACES_PER_RANGE = 4096;
+
+        /**
+         * Number of faces contained in each range of faces whose chunks are
+         * built on a worker thread, relative to the maximum number of vertices
+         * in a chunk. Because vertices are shared among faces, a chunk
+         * typically contains about twice as many faces as vertices, so that
+         * each range contains a few chunks.
+         */
+        private static final int FACES_PER_RANGE_FACTOR = 4;
+
+        /**
+         * Time in seconds that idle threads building chunks of faces are kept
+         * alive.
+         */
+        private static final long FACE_DECODING_THREADS_KEEP_ALIVE_SECONDS = 1;
+
         /**
          * Reference to a LoaderPLY.
          */
@@ -1273,6 +1624,148 @@ public class LoaderPLY extends Loader {
          */
         private long currentFace;
 
+        /**
+         * Indicates whether file is being loaded as a point cloud, in which
+         * case vertices are read sequentially and faces are ignored.
+         */
+        private boolean pointCloud;
+
+        /**
+         * Current vertex being read when loading a point cloud.
+         */
+        private long currentVertex;
+
+        /**
+         * Accumulates vertices into chunks when loading a point cloud.
+         */
+        private PointCloudChunkBuilder pointCloudBuilder;
+
+        /**
+         * Reads vertex lines sequentially when loading an ASCII point cloud.
+         */
+        private AsciiLineReader pointCloudLineReader;
+
+        /**
+         * Data types of vertex properties when loading a point cloud.
+         */
+        private DataTypePLY[] pointCloudTypes;
+
+        /**
+         * Listeners to read vertex properties from temporal buffer when loading
+         * a point cloud, or null for properties that are skipped.
+         */
+        private PLYReadValueFromBufferListener[] pointCloudListeners;
+
+        /**
+         * Array to be reused when splitting vertex lines of an ASCII point
+         * cloud into values.
+         */
+        private String[] pointCloudTokens;
+
+        /**
+         * Indicates whether faces are triangles stored in binary records of
+         * fixed size, in which case face indices are decoded in batches.
+         */
+        private boolean fixedStrideFaces;
+
+        /**
+         * Size in bytes of each face record when faces have fixed size.
+         */
+        private int faceStride;
+
+        /**
+         * Data type of number of vertices of each face record.
+         */
+        private DataTypePLY faceLengthType;
+
+        /**
+         * Data type of vertex indices of each face record.
+         */
+        private DataTypePLY faceIndexType;
+
+        /**
+         * Data of current batch of face records.
+         */
+        private byte[] faceBatchBytes;
+
+        /**
+         * Face indices decoded from current batch of face records.
+         */
+        private long[] decodedFaceIndices;
+
+        /**
+         * Position of first face contained in current batch of decoded faces.
+         */
+        private long firstDecodedFace;
+
+        /**
+         * Number of faces contained in current batch of decoded faces.
+         */
+        private int decodedFaces;
+
+        /**
+         * Executor where chunks of ranges of faces are built, or null if
+         * chunks are built on the calling thread.
+         */
+        private ExecutorService faceDecodingExecutor;
+
+        /**
+         * Read-only view of the vertex records of the file, which is
+         * duplicated for each range of faces. Only used when chunks are built
+         * on worker threads.
+         */
+        private ByteBuffer vertexRecords;
+
+        /**
+         * Read-only view of the face records of the file, which is duplicated
+         * for each range of faces. Only used when chunks are built on worker
+         * threads.
+         */
+        private ByteBuffer faceRecords;
+
+        /**
+         * Position of each vertex property within a vertex record.
+         */
+        private int[] vertexPropertyOffsets;
+
+        /**
+         * Data type of each vertex property.
+         */
+        private DataTypePLY[] vertexPropertyTypes;
+
+        /**
+         * Value of a vertex each vertex property is assigned to, or null for
+         * properties that are skipped.
+         */
+        private VertexPropertyTarget[] vertexPropertyTargets;
+
+        /**
+         * Number of faces contained in each range of faces.
+         */
+        private long facesPerRange;
+
+        /**
+         * First face of next range of faces to be submitted.
+         */
+        private long nextRangeFace;
+
+        /**
+         * Tasks building chunks of ranges of faces that have not been
+         * returned yet, in file order.
+         */
+        private final Queue<Future<FaceRange>> pendingFaceRanges = new ArrayDeque<>();
+
+        /**
+         * Range of faces whose chunks are being returned, or null if none.
+         */
+        private FaceRange faceRange;
+
+        /**
+         * Position of next chunk to be returned within current range of
+         * faces.
+         */
+        private int faceRangeChunk;
+
         /**
          * Listener to fetch a vertex position in the stream of data based on
          * its vertex index.
@@ -1359,6 +1852,30 @@ public class LoaderPLY extends Loader {
          */
         private final TreeMap<Long, Long> verticesStreamPositionsMap;
 
+        /**
+         * Listeners reading requested additional vertex properties, which also
+         * store the values of such properties for current chunk.
+         */
+        private final List<ExtraVertexPropertyReadValueFromBufferListener> extraVertexPropertyListeners;
+
+        /**
+         * Keeps released chunks so that their arrays can be reused, or null if
+         * chunks are not pooled.
+         */
+        private final DataChunkPool pool;
+
+        /**
+         * Format of interleaved vertex buffers or null if vertex data is
+         * stored into separate arrays.
+         */
+        private final InterleavedVertexFormat vertexFormat;
+
+        /**
+         * Keeps separate vertex arrays so that they can be reused when vertex
+         * data is interleaved, or null if vertex data is not interleaved.
+         */
+        private final DataChunk workingArrays;
+
         /**
          * Constructor.
          *
@@ -1396,6 +1913,10 @@ public class LoaderPLY extends Loader {
             vertexStreamPosition = 0;
             indicesMap = new TreeMap<>();
             verticesStreamPositionsMap = new TreeMap<>();
+            extraVertexPropertyListeners = new ArrayList<>();
+            pool = loader.chunkPoolingEnabled ? new DataChunkPool() : null;
+            vertexFormat = loader.interleavedVertexFormat;
+            workingArrays = vertexFormat != null ? new DataChunk() : null;
 
             minX = minY = minZ = Float.MAX_VALUE;
             maxX = maxY = maxZ = -Float.MAX_VALUE;
@@ -1422,6 +1943,9 @@ public class LoaderPLY extends Loader {
          */
         @Override
         public boolean hasNext() {
+            if (pointCloud) {
+                return currentVertex < numberOfVertices;
+            }
             return (currentFace < numberOfFaces);
         }
 
@@ -1447,7 +1971,21 @@ public class LoaderPLY extends Loader {
                 throw new NotAvailableException();
             }
 
-            initChunkArrays();
+            if (pointCloud) {
+                return nextPointCloudChunk();
+            }
+
+            if (faceDecodingExecutor != null) {
+                final var chunk = nextFaceRangeChunk();
+                if (chunk != null) {
+                    return chunk;
+                }
+                // faces do not have fixed size, continue on the calling thread
+            }
+
+            final var pooledChunk = pool != null ? pool.poll() : null;
+            final var pooledBuffer = VertexInterleaver.bufferToReuse(pooledChunk);
+            initChunkArrays(VertexInterleaver.arraysToReuse(workingArrays, pooledChunk));
 
             // reset chunk bounding box values
             minX = minY = minZ = Float.MAX_VALUE;
@@ -1460,6 +1998,10 @@ public class LoaderPLY extends Loader {
 
             var end = false;
 
+            if (fixedStrideFaces) {
+                end = addFixedStrideFacesToChunk(buffer, progressStep);
+            }
+
             // initialize list indices to a list of one element to be reused
             var previousListElems = 1;
             var listIndices = new long[previousListElems];
@@ -1650,11 +2192,19 @@ public class LoaderPLY extends Loader {
                 }
             }
 
-            // trim arrays to store only needed data
-            trimArrays();
+            // trim arrays to store only needed data, unless they are pooled,
+            // interleaved or handed over without copying
+            final var trimmed = pool == null && vertexFormat == null && loader.trimmedChunkArrays;
+            if (trimmed) {
+                trimArrays();
+            } else {
+                for (final var extraListener : extraVertexPropertyListeners) {
+                    extraListener.trimArray(verticesInChunk);
+                }
+            }
 
             // Instantiate DataChunk with chunk arrays
-            final var dataChunk = new DataChunk();
+            final var dataChunk = pool != null ? pool.handOut(pooledChunk) : new DataChunk();
             if (verticesAvailable) {
                 dataChunk.setVerticesCoordinatesData(coordsInChunkArray);
                 dataChunk.setMinX(minX);
@@ -1690,6 +2240,19 @@ public class LoaderPLY extends Loader {
                 normalsInChunkArray = null;
             }
 
+            if (!trimmed) {
+                dataChunk.setVertexCount(verticesInChunk);
+                dataChunk.setIndexCount(indicesInChunk);
+            }
+
+            if (vertexFormat != null) {
+                VertexInterleaver.interleave(dataChunk, vertexFormat, pooledBuffer, workingArrays);
+            }
+
+            for (final var extraListener : extraVertexPropertyListeners) {
+                extraListener.setData(dataChunk);
+            }
+
             if (!hasNext()) {
                 // notify iterator finished
                 if (listener != null) {
@@ -1741,17 +2304,32 @@ public class LoaderPLY extends Loader {
 
 
         /**
-         * Initializes arrays where chunk data will be stored.
-         */
-        private void initChunkArrays() {
-            coordsInChunkArray = new float[loader.maxVerticesInChunk * 3];
-            colorsInChunkArray = new short[loader.maxVerticesInChunk * colorComponents];
-            indicesInChunkArray = new int[loader.maxVerticesInChunk];
-            originalIndicesInChunkArray = new long[loader.maxVerticesInChunk];
-            normalsInChunkArray = new float[loader.maxVerticesInChunk * 3];
+         * Initializes arrays where chunk data will be stored, reusing arrays of
+         * provided released chunk when they are large enough.
+         *
+         * @param pooledChunk released chunk whose arrays are reused, or null.
+         */
+        private void initChunkArrays(final DataChunk pooledChunk) {
+            final var pooled = pooledChunk != null;
+            coordsInChunkArray = DataChunkPool.reuse(pooled ? pooledChunk.getVerticesCoordinatesData() : null,
+                    loader.maxVerticesInChunk * 3);
+            colorsInChunkArray = DataChunkPool.reuse(pooled ? pooledChunk.getColorData() : null,
+                    loader.maxVerticesInChunk * colorComponents);
+            indicesInChunkArray = DataChunkPool.reuse(pooled ? pooledChunk.getIndicesData() : null,
+                    loader.maxVerticesInChunk);
+            // original indices never leave this iterator, hence they can be
+            // reused whenever chunks are pooled or interleaved
+            final var reuseOriginalIndices = pool != null || workingArrays != null;
+            originalIndicesInChunkArray = DataChunkPool.reuse(
+                    reuseOriginalIndices ? originalIndicesInChunkArray : null, indicesInChunkArray.length);
+            normalsInChunkArray = DataChunkPool.reuse(pooled ? pooledChunk.getNormalsData() : null,
+                    loader.maxVerticesInChunk * 3);
+            for (final var extraListener : extraVertexPropertyListeners) {
+                extraListener.initArray(loader.maxVerticesInChunk);
+            }
             verticesInChunk = 0;
             indicesInChunk = 0;
-            indicesInChunkSize = loader.maxVerticesInChunk;
+            indicesInChunkSize = indicesInChunkArray.length;
             indicesMap.clear();
         }
 
@@ -1849,6 +2427,10 @@ public class LoaderPLY extends Loader {
                 maxZ = coordZ;
             }
 
+            for (final var extraListener : extraVertexPropertyListeners) {
+                extraListener.addValue(verticesInChunk);
+            }
+
             // if arrays of indices become full, we need to resize them
             if (indicesInChunk >= indicesInChunkSize) {
                 increaseIndicesArraySize();
@@ -1935,6 +2517,10 @@ public class LoaderPLY extends Loader {
                 normalsInChunkArray = null;
             }
 
+            for (final var extraListener : extraVertexPropertyListeners) {
+                extraListener.trimArray(verticesInChunk);
+            }
+
             if (indicesInChunk > 0) {
                 final var newIndicesInChunkArray = new int[indicesInChunk];
                 System.arraycopy(indicesInChunkArray, 0, newIndicesInChunkArray, 0, indicesInChunk);
@@ -2701,7 +3287,18 @@ public class LoaderPLY extends Loader {
                                     }
                                     break;
                                 default:
-                                    // not recognized properties are ignored
+                                    if (loader.extraVertexProperties.contains(property.getName())
+                                            && property.getPropertyType() == PropertyTypePLY.PROPERTY_PLY_SCALAR) {
+                                        // requested additional property
+                                        final var extraListener = new ExtraVertexPropertyReadValueFromBufferListener(
+                                                property.getName(), property.getValueType());
+                                        property.setReadValueFromBufferListener(extraListener);
+                                        extraVertexPropertyListeners.add(extraListener);
+                                    } else {
+                                        // not recognized properties are ignored (a listener
+                                        // from a previous load might still be set)
+                                        property.setReadValueFromBufferListener(null);
+                                    }
                                     break;
                             }
 
@@ -2823,135 +3420,1262 @@ public class LoaderPLY extends Loader {
                     }
                 }
 
-                // find first vertex and face positions in stream in case it
-                // couldn't be computed
-                findFirstVertexAndFaceStreamPosition();
+                pointCloud = loader.pointCloudMode || faceElement == null || numberOfFaces == 0;
+                if (pointCloud) {
+                    setUpPointCloud();
+                    return;
+                }
+
+                // find first vertex and face positions in stream in case it
+                // couldn't be computed
+                findFirstVertexAndFaceStreamPosition();
+
+                // set stream into 1st face position
+                if (!firstFaceStreamPositionAvailable) {
+                    throw new LoaderException();
+                }
+                reader.seek(firstFaceStreamPosition);
+                currentFace = 0;
+
+                setUpFixedStrideFaces();
+
+            } catch (final NotAvailableException e) {
+                throw new LoaderException(e);
+            }
+        }
+
+        /**
+         * Determines whether all faces are triangles stored in binary records
+         * of fixed size by checking file size and sampling the number of
+         * vertices of some face records.
+         * Stream is left at the position of the first face.
+         *
+         * @throws LoaderException       Raised if file is corrupted.
+         * @throws NotAvailableException Raised if face property does not
+         *                               contain data types.
+         * @throws IOException           if an I/O error occurs.
+         */
+        private void setUpFixedStrideFaces() throws LoaderException, NotAvailableException, IOException {
+            fixedStrideFaces = false;
+            decodedFaceIndices = null;
+            firstDecodedFace = decodedFaces = 0;
+
+            final var properties = faceElement.getProperties();
+            if (loader.header.getStorageMode() == PLYStorageMode.PLY_ASCII || loader.file == null
+                    || properties.size() != 1
+                    || properties.get(0).getPropertyType() != PropertyTypePLY.PROPERTY_PLY_LIST
+                    || loader.maxVerticesInChunk < VERTICES_PER_TRIANGLE) {
+                return;
+            }
+
+            final var property = properties.get(0);
+            faceLengthType = property.getLengthType();
+            faceIndexType = property.getValueType();
+            final var lengthSize = (int) sizeForDataType(faceLengthType);
+            faceStride = lengthSize + VERTICES_PER_TRIANGLE * (int) sizeForDataType(faceIndexType);
+
+            if (firstFaceStreamPosition + numberOfFaces * faceStride > loader.file.length()) {
+                // faces cannot have fixed size
+                return;
+            }
+
+            try {
+                // sample number of vertices of some faces evenly distributed
+                final var samples = (int) Math.min(numberOfFaces, FIXED_STRIDE_FACE_SAMPLES);
+                final var data = ByteBuffer.allocate(lengthSize).order(getByteOrder());
+                for (var i = 0; i < samples; i++) {
+                    final var face = samples > 1 ? i * (numberOfFaces - 1) / (samples - 1) : 0;
+                    reader.seek(firstFaceStreamPosition + face * faceStride);
+                    readFully(data.array());
+                    if (decodeIntegerValue(data, 0, faceLengthType) != VERTICES_PER_TRIANGLE) {
+                        return;
+                    }
+                }
+            } finally {
+                reader.seek(firstFaceStreamPosition);
+            }
+
+            fixedStrideFaces = true;
+            setUpFaceRanges();
+        }
+
+        /**
+         * Sets up this iterator to build chunks of ranges of faces stored in
+         * records of fixed size on worker threads, if more than one thread is
+         * used and vertex data can be read without the listeners of vertex
+         * properties.
+         * Vertex and face records are mapped into memory, so that each range
+         * can be read from its own view of the file.
+         *
+         * @throws LoaderException       Raised if file is corrupted.
+         * @throws NotAvailableException Raised if vertex properties do not
+         *                               contain data types.
+         * @throws IOException           if an I/O error occurs.
+         */
+        private void setUpFaceRanges() throws LoaderException, NotAvailableException, IOException {
+            if (loader.faceDecodingThreads <= MIN_FACE_DECODING_THREADS || pool != null
+                    || !extraVertexPropertyListeners.isEmpty() || vertexElement == null
+                    || !firstVertexStreamPositionAvailable) {
+                return;
+            }
+
+            final var vertexBytes = numberOfVertices * vertexDataSize;
+            final var faceBytes = numberOfFaces * faceStride;
+            if (vertexBytes > Integer.MAX_VALUE || faceBytes > Integer.MAX_VALUE
+                    || firstVertexStreamPosition + vertexBytes > loader.file.length()) {
+                // records cannot be mapped into a single buffer
+                return;
+            }
+
+            final var properties = vertexElement.getProperties();
+            final var size = properties.size();
+            vertexPropertyOffsets = new int[size];
+            vertexPropertyTypes = new DataTypePLY[size];
+            vertexPropertyTargets = new VertexPropertyTarget[size];
+            var offset = 0;
+            for (var i = 0; i < size; i++) {
+                final var property = properties.get(i);
+                if (property.getPropertyType() != PropertyTypePLY.PROPERTY_PLY_SCALAR) {
+                    // vertex records do not have fixed size
+                    return;
+                }
+                vertexPropertyOffsets[i] = offset;
+                vertexPropertyTypes[i] = property.getValueType();
+                if (property.isReadValueFromBufferListenerAvailable()) {
+                    vertexPropertyTargets[i] = VertexPropertyTarget.fromName(property.getName());
+                }
+                offset += (int) sizeForDataType(property.getValueType());
+            }
+
+            try (final var channel = FileChannel.open(loader.file.toPath(), StandardOpenOption.READ)) {
+                // mapped buffers remain valid after channel is closed
+                vertexRecords = channel.map(FileChannel.MapMode.READ_ONLY, firstVertexStreamPosition, vertexBytes);
+                faceRecords = channel.map(FileChannel.MapMode.READ_ONLY, firstFaceStreamPosition, faceBytes);
+            }
+
+            facesPerRange = Math.max(MIN_FACES_PER_RANGE, (long) FACES_PER_RANGE_FACTOR * loader.maxVerticesInChunk);
+
+            final var executor = new ThreadPoolExecutor(loader.faceDecodingThreads, loader.faceDecodingThreads,
+                    FACE_DECODING_THREADS_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                        final var thread = new Thread(r, "LoaderPLY-face-decoder");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            // idle threads are released even if iteration is abandoned
+            executor.allowCoreThreadTimeOut(true);
+            faceDecodingExecutor = executor;
+
+            nextRangeFace = currentFace;
+            submitFaceRanges();
+        }
+
+        /**
+         * Submits tasks building chunks of ranges of faces until there is one
+         * pending range for each thread besides the range being returned.
+         */
+        private void submitFaceRanges() {
+            while (nextRangeFace < numberOfFaces && pendingFaceRanges.size() <= loader.faceDecodingThreads) {
+                final var from = nextRangeFace;
+                final var to = Math.min(from + facesPerRange, numberOfFaces);
+                pendingFaceRanges.add(faceDecodingExecutor.submit(new FaceRangeTask(from, to)));
+                nextRangeFace = to;
+            }
+        }
+
+        /**
+         * Returns next chunk built on a worker thread, in the same order as
+         * faces appear in the file.
+         * If a face record is found not to be a triangle, worker threads are
+         * stopped and stream is set at the position of such face so that
+         * remaining faces can be read sequentially.
+         *
+         * @return next chunk, or null if remaining faces must be read
+         * sequentially.
+         * @throws LoaderException Raised if file is corrupted.
+         * @throws IOException     if an I/O error occurs.
+         */
+        private DataChunk nextFaceRangeChunk() throws LoaderException, IOException {
+            while (faceRange == null || faceRangeChunk >= faceRange.chunks.size()) {
+                if (faceRange != null && faceRange.fallbackFace >= 0) {
+                    // faces do not have fixed size from this face onwards
+                    final var face = faceRange.fallbackFace;
+                    stopFaceRanges();
+                    disableFixedStrideFaces();
+                    currentFace = face;
+                    reader.seek(firstFaceStreamPosition + face * faceStride);
+                    return null;
+                }
+
+                try {
+                    faceRange = getFaceRange(pendingFaceRanges.peek());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelFaceRanges();
+                    throw new InterruptedIOException();
+                } catch (final LoaderException | IOException | RuntimeException e) {
+                    cancelFaceRanges();
+                    throw e;
+                }
+                pendingFaceRanges.remove();
+                faceRangeChunk = 0;
+                if (faceRange.fallbackFace < 0) {
+                    submitFaceRanges();
+                }
+            }
+
+            final var dataChunk = faceRange.chunks.get(faceRangeChunk);
+            currentFace = faceRange.chunkEnds[faceRangeChunk];
+            // so that chunk can be garbage collected once it is released
+            faceRange.chunks.set(faceRangeChunk, null);
+            faceRangeChunk++;
+
+            if (loader.listener != null) {
+                loader.listener.onLoadProgressChange(loader, (float) (currentFace) / (float) (numberOfFaces));
+            }
+
+            if (!hasNext()) {
+                stopFaceRanges();
+
+                // notify iterator finished
+                if (listener != null) {
+                    listener.onIteratorFinished(this);
+                }
+
+                // no more chunks are available, so close input reader
+                reader.close();
+            }
+
+            return dataChunk;
+        }
+
+        /**
+         * Waits for provided range of faces to be built and returns it.
+         *
+         * @param future task building a range of faces.
+         * @return built range of faces.
+         * @throws InterruptedException if current thread is interrupted while
+         *                              waiting.
+         * @throws LoaderException      Raised if file is corrupted.
+         * @throws IOException          if an I/O error occurs.
+         */
+        private FaceRange getFaceRange(final Future<FaceRange> future) throws InterruptedException,
+                LoaderException, IOException {
+            try {
+                return future.get();
+            } catch (final ExecutionException e) {
+                final var cause = e.getCause();
+                if (cause instanceof LoaderException loaderException) {
+                    throw loaderException;
+                } else if (cause instanceof IOException ioException) {
+                    throw ioException;
+                } else {
+                    throw new LoaderException(cause);
+                }
+            }
+        }
+
+        /**
+         * Stops building chunks on worker threads after a failure, so that no
+         * more chunks can be returned and the loader is unlocked.
+         */
+        private void cancelFaceRanges() {
+            stopFaceRanges();
+            currentFace = numberOfFaces;
+            loader.setLocked(false);
+        }
+
+        /**
+         * Cancels pending ranges of faces and releases worker threads.
+         */
+        private void stopFaceRanges() {
+            for (final var future : pendingFaceRanges) {
+                future.cancel(false);
+            }
+            pendingFaceRanges.clear();
+            faceRange = null;
+            if (faceDecodingExecutor != null) {
+                faceDecodingExecutor.shutdown();
+                faceDecodingExecutor = null;
+            }
+            vertexRecords = faceRecords = null;
+        }
+
+        /**
+         * Adds faces stored in records of fixed size into current chunk.
+         * Faces are added until chunk is full or all faces have been added.
+         * If a face record is found not to be a triangle, fixed size decoding
+         * is disabled and stream is set at the position of current face so that
+         * remaining faces can be read sequentially.
+         *
+         * @param buffer       temporal buffer.
+         * @param progressStep number of faces between progress notifications.
+         * @return true if chunk is full, false otherwise.
+         * @throws LoaderException Raised if file is corrupted.
+         * @throws IOException     if an I/O error occurs.
+         */
+        private boolean addFixedStrideFacesToChunk(final ByteBuffer buffer, final long progressStep)
+                throws LoaderException, IOException {
+            try {
+                while (currentFace < numberOfFaces) {
+                    if (currentFace < firstDecodedFace || currentFace >= firstDecodedFace + decodedFaces) {
+                        if (!decodeFaceBatch()) {
+                            // faces do not have fixed size, continue sequentially
+                            disableFixedStrideFaces();
+                            reader.seek(firstFaceStreamPosition + currentFace * faceStride);
+                            return false;
+                        }
+                    }
+
+                    if ((verticesInChunk + VERTICES_PER_TRIANGLE) > loader.maxVerticesInChunk) {
+                        // no more vertices can be added to chunk
+                        return true;
+                    }
+
+                    final var pos = VERTICES_PER_TRIANGLE * (int) (currentFace - firstDecodedFace);
+                    for (var u = 0; u < VERTICES_PER_TRIANGLE; u++) {
+                        index = decodedFaceIndices[pos + u];
+                        // index contains original face index in PLY file
+                        int chunkIndex;
+                        if (!loader.allowDuplicateVerticesInChunk && (chunkIndex = searchIndexInChunk(index)) >= 0) {
+                            // vertex is already stored in chunk with chunkIndex
+                            addExistingVertexToChunk(chunkIndex);
+                        } else {
+                            // vertex needs to be added into chunk, so we need to
+                            // read vertex data
+                            fetchVertexListener.fetch(index);
+
+                            // read all vertex data
+                            for (final var vertexProperty : vertexElement.getProperties()) {
+                                // read property from stream to buffer
+                                vertexProperty.getReadValueFromStreamListener().readFromStream(buffer);
+
+                                if (vertexProperty.isReadValueFromBufferListenerAvailable()) {
+                                    // move value from buffer to appropriate member
+                                    vertexProperty.getReadValueFromBufferListener().readValueFromBuffer(buffer);
+                                }
+                            }
+
+                            // store all vertex data into chunk arrays
+                            addNewVertexDataToChunk();
+                        }
+                    }
+
+                    currentFace++;
+
+                    // compute progress
+                    if (loader.listener != null && (currentFace % progressStep) == 0) {
+                        loader.listener.onLoadProgressChange(loader, (float) (currentFace) / (float) (numberOfFaces));
+                    }
+                }
+            } catch (final NotAvailableException e) {
+                throw new LoaderException(e);
+            }
+
+            // all faces have been added
+            disableFixedStrideFaces();
+            return false;
+        }
+
+        /**
+         * Reads and decodes a batch of face records starting at current face.
+         *
+         * @return true if all faces in batch are triangles, false otherwise.
+         * @throws LoaderException Raised if file is corrupted.
+         * @throws IOException     if an I/O error occurs.
+         */
+        private boolean decodeFaceBatch() throws LoaderException, IOException {
+            final var faces = (int) Math.min(FIXED_STRIDE_FACES_BATCH, numberOfFaces - currentFace);
+            final var length = faces * faceStride;
+            if (faceBatchBytes == null || faceBatchBytes.length < length) {
+                faceBatchBytes = new byte[length];
+            }
+            reader.seek(firstFaceStreamPosition + currentFace * faceStride);
+            readFully(faceBatchBytes, length);
+
+            if (decodedFaceIndices == null || decodedFaceIndices.length < VERTICES_PER_TRIANGLE * faces) {
+                decodedFaceIndices = new long[VERTICES_PER_TRIANGLE * faces];
+            }
+
+            if (!decodeFaces(faceBatchBytes, faces)) {
+                return false;
+            }
+
+            firstDecodedFace = currentFace;
+            decodedFaces = faces;
+            return true;
+        }
+
+        /**
+         * Decodes vertex indices of face records contained in provided data
+         * and stores them into decoded face indices.
+         *
+         * @param bytes data containing face records.
+         * @param faces number of face records to be decoded.
+         * @return true if all decoded faces are triangles, false otherwise.
+         */
+        private boolean decodeFaces(final byte[] bytes, final int faces) {
+            final var data = ByteBuffer.wrap(bytes).order(getByteOrder());
+            final var lengthSize = (int) sizeForDataType(faceLengthType);
+            final var indexSize = (int) sizeForDataType(faceIndexType);
+            for (var face = 0; face < faces; face++) {
+                var pos = face * faceStride;
+                if (decodeIntegerValue(data, pos, faceLengthType) != VERTICES_PER_TRIANGLE) {
+                    return false;
+                }
+                pos += lengthSize;
+
+                var indexPos = VERTICES_PER_TRIANGLE * face;
+                for (var u = 0; u < VERTICES_PER_TRIANGLE; u++) {
+                    decodedFaceIndices[indexPos++] = decodeIntegerValue(data, pos, faceIndexType);
+                    pos += indexSize;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Disables decoding of faces stored in records of fixed size and
+         * releases any resources associated to it.
+         */
+        private void disableFixedStrideFaces() {
+            fixedStrideFaces = false;
+            faceBatchBytes = null;
+            decodedFaceIndices = null;
+            decodedFaces = 0;
+        }
+
+        /**
+         * Decodes a value of provided data type at given position of a block
+         * of binary data, using the same conversions used when reading face
+         * indices from the file stream.
+         *
+         * @param data block of binary data.
+         * @param pos  position of value within data.
+         * @param type data type of value.
+         * @return decoded value.
+         */
+        private static long decodeIntegerValue(final ByteBuffer data, final int pos, final DataTypePLY type) {
+            return switch (type) {
+                case PLY_INT8, PLY_CHAR -> data.get(pos);
+                case PLY_UINT8, PLY_UCHAR -> data.get(pos) & 0xff;
+                case PLY_INT16, PLY_SHORT -> data.getShort(pos);
+                case PLY_UINT16, PLY_USHORT -> data.getShort(pos) & 0xffff;
+                case PLY_INT32, PLY_INT -> data.getInt(pos);
+                case PLY_UINT32, PLY_UINT -> data.getInt(pos) & 0xffffffffL;
+                case PLY_FLOAT32, PLY_FLOAT -> (long) data.getFloat(pos);
+                case PLY_FLOAT64, PLY_DOUBLE -> (long) data.getDouble(pos);
+            };
+        }
+
+        /**
+         * Returns byte order of binary data of file being loaded.
+         *
+         * @return byte order of binary data.
+         */
+        private ByteOrder getByteOrder() {
+            return loader.header.getStorageMode() == PLYStorageMode.PLY_LITTLE_ENDIAN
+                    ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+        }
+
+        /**
+         * Reads data from current stream position until provided array is
+         * full.
+         *
+         * @param bytes array where data is read into.
+         * @throws LoaderException Raised if end of file is reached before
+         *                         array is full.
+         * @throws IOException     if an I/O error occurs.
+         */
+        private void readFully(final byte[] bytes) throws LoaderException, IOException {
+            readFully(bytes, bytes.length);
+        }
+
+        /**
+         * Reads provided number of bytes from current stream position into
+         * the beginning of provided array.
+         *
+         * @param bytes  array where data is read into.
+         * @param length number of bytes to be read.
+         * @throws LoaderException Raised if end of file is reached before
+         *                         all bytes are read.
+         * @throws IOException     if an I/O error occurs.
+         */
+        private void readFully(final byte[] bytes, final int length) throws LoaderException, IOException {
+            var offset = 0;
+            while (offset < length) {
+                final var n = reader.read(bytes, offset, length - offset);
+                if (n <= 0) {
+                    // unexpected end of file
+                    throw new LoaderException();
+                }
+                offset += n;
+            }
+        }
+
+        /**
+         * Sets up this iterator to read vertices sequentially when loading a
+         * point cloud.
+         *
+         * @throws LoaderException       Raised if file does not contain vertices or
+         *                               vertices contain list properties.
+         * @throws NotAvailableException Raised if header does not contain a
+         *                               given element.
+         * @throws IOException           if an I/O error occurs.
+         */
+        private void setUpPointCloud() throws LoaderException, NotAvailableException, IOException {
+            if (vertexElement == null || numberOfVertices == 0) {
+                throw new LoaderException();
+            }
+
+            final var properties = vertexElement.getProperties();
+            final var size = properties.size();
+            pointCloudTypes = new DataTypePLY[size];
+            pointCloudListeners = new PLYReadValueFromBufferListener[size];
+            pointCloudTokens = new String[size];
+            for (var i = 0; i < size; i++) {
+                final var property = properties.get(i);
+                if (property.getPropertyType() != PropertyTypePLY.PROPERTY_PLY_SCALAR) {
+                    throw new LoaderException();
+                }
+                pointCloudTypes[i] = property.getValueType();
+                if (property.isReadValueFromBufferListenerAvailable()) {
+                    pointCloudListeners[i] = property.getReadValueFromBufferListener();
+                }
+            }
+
+            findFirstVertexAndFaceStreamPosition();
+            if (!firstVertexStreamPositionAvailable) {
+                throw new LoaderException();
+            }
+            reader.seek(firstVertexStreamPosition);
+            currentVertex = 0;
+
+            pointCloudBuilder = new PointCloudChunkBuilder(loader.maxVerticesInChunk,
+                    Math.max(colorComponents, DataChunk.MIN_COLOR_COMPONENTS));
+            if (loader.header.getStorageMode() == PLYStorageMode.PLY_ASCII) {
+                pointCloudLineReader = new AsciiLineReader(reader);
+            }
+        }
+
+        /**
+         * Reads next chunk of data when loading a point cloud.
+         * Vertices are read sequentially. On binary files, the data of all the
+         * vertices of the chunk is read at once.
+         *
+         * @return A chunk of data containing vertex coordinates, colors and
+         * vertex normals.
+         * @throws LoaderException Raised if file is corrupted and cannot be
+         *                         loaded.
+         * @throws IOException     Raised if an I/O error occurs.
+         */
+        private DataChunk nextPointCloudChunk() throws LoaderException, IOException {
+            final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            final var size = pointCloudTypes.length;
+            final var binary = loader.header.getStorageMode() != PLYStorageMode.PLY_ASCII;
+
+            for (final var extraListener : extraVertexPropertyListeners) {
+                extraListener.initArray(loader.maxVerticesInChunk);
+            }
+
+            ByteBuffer data = null;
+            if (binary) {
+                // read data of all vertices in chunk at once
+                final var verticesToRead = Math.min(loader.maxVerticesInChunk, numberOfVertices - currentVertex);
+                final var bytes = new byte[(int) (verticesToRead * vertexDataSize)];
+                readFully(bytes);
+                data = ByteBuffer.wrap(bytes).order(getByteOrder());
+            }
+
+            final var progressStep = Math.max((long) (LoaderPLY.PROGRESS_DELTA * numberOfVertices), 1);
+
+            try {
+                while (currentVertex < numberOfVertices && !pointCloudBuilder.isFull()) {
+                    if (binary) {
+                        for (var i = 0; i < size; i++) {
+                            readBinaryValue(data, pointCloudTypes[i], buffer);
+                            if (pointCloudListeners[i] != null) {
+                                pointCloudListeners[i].readValueFromBuffer(buffer);
+                            }
+                        }
+                    } else {
+                        final var line = pointCloudLineReader.readLine();
+                        if (line == null) {
+                            // unexpected end of file
+                            throw new LoaderException();
+                        }
+                        if (line.isBlank()) {
+                            continue;
+                        }
+                        if (AsciiLineReader.tokenize(line, pointCloudTokens) < size) {
+                            throw new LoaderException();
+                        }
+                        for (var i = 0; i < size; i++) {
+                            if (pointCloudListeners[i] != null) {
+                                readAsciiValue(pointCloudTokens[i], pointCloudTypes[i], buffer);
+                                pointCloudListeners[i].readValueFromBuffer(buffer);
+                            }
+                        }
+                    }
+
+                    // store all vertex data into chunk
+                    if (colorsAvailable) {
+                        pointCloudBuilder.setColor(red, green, blue, alpha);
+                    }
+                    if (normalsAvailable) {
+                        pointCloudBuilder.setNormal(nX, nY, nZ);
+                    }
+                    for (final var extraListener : extraVertexPropertyListeners) {
+                        extraListener.addValue(pointCloudBuilder.getNumberOfVertices());
+                    }
+                    pointCloudBuilder.addVertex(coordX, coordY, coordZ);
+                    currentVertex++;
+
+                    // compute progress
+                    if (loader.listener != null && (currentVertex % progressStep) == 0) {
+                        loader.listener.onLoadProgressChange(loader,
+                                (float) (currentVertex) / (float) (numberOfVertices));
+                    }
+                }
+            } catch (final NumberFormatException e) {
+                throw new LoaderException(e);
+            }
+
+            final var verticesInPointCloudChunk = pointCloudBuilder.getNumberOfVertices();
+            final var dataChunk = pointCloudBuilder.build();
+            for (final var extraListener : extraVertexPropertyListeners) {
+                extraListener.trimArray(verticesInPointCloudChunk);
+                extraListener.setData(dataChunk);
+            }
+            if (vertexFormat != null) {
+                VertexInterleaver.interleave(dataChunk, vertexFormat, null, null);
+            }
+
+            if (!hasNext()) {
+                // notify iterator finished
+                if (listener != null) {
+                    listener.onIteratorFinished(this);
+                }
+            }
+
+            // if no more chunks are available, then close input reader
+            if (!hasNext()) {
+                reader.close();
+            }
+
+            return dataChunk;
+        }
+
+        /**
+         * Reads a value of provided data type from a block of binary data and
+         * stores it into temporal buffer using the same conversions used when
+         * reading values from the file stream.
+         *
+         * @param data   block of binary data.
+         * @param type   data type of value to be read.
+         * @param buffer temporal buffer.
+         */
+        private void readBinaryValue(final ByteBuffer data, final DataTypePLY type, final ByteBuffer buffer) {
+            // because java doesn't support unsigned types we use the next
+            // type that can hold all desired values
+            switch (type) {
+                case PLY_INT8, PLY_CHAR -> buffer.put(0, data.get());
+                case PLY_UINT8, PLY_UCHAR -> buffer.putShort(0, (short) (data.get() & 0xff));
+                case PLY_INT16, PLY_SHORT -> buffer.putShort(0, data.getShort());
+                case PLY_UINT16, PLY_USHORT -> buffer.putInt(0, data.getShort() & 0xffff);
+                case PLY_INT32, PLY_INT -> buffer.putInt(0, data.getInt());
+                case PLY_UINT32, PLY_UINT -> buffer.putLong(0, data.getInt() & 0xffffffffL);
+                case PLY_FLOAT32, PLY_FLOAT -> buffer.putFloat(0, data.getFloat());
+                case PLY_FLOAT64, PLY_DOUBLE -> buffer.putDouble(0, data.getDouble());
+            }
+        }
+
+        /**
+         * Parses a value of provided data type and stores it into temporal
+         * buffer using the same conversions used when reading values from the
+         * file stream.
+         *
+         * @param value  value to be parsed.
+         * @param type   data type of value to be parsed.
+         * @param buffer temporal buffer.
+         * @throws NumberFormatException if value cannot be parsed.
+         */
+        private void readAsciiValue(final String value, final DataTypePLY type, final ByteBuffer buffer) {
+            // because java doesn't support unsigned types we use the next
+            // type that can hold all desired values
+            switch (type) {
+                case PLY_INT8, PLY_CHAR -> buffer.put(0, Byte.parseByte(value));
+                case PLY_UINT8, PLY_UCHAR, PLY_INT16, PLY_SHORT -> buffer.putShort(0, Short.parseShort(value));
+                case PLY_UINT16, PLY_USHORT, PLY_INT32, PLY_INT -> buffer.putInt(0, Integer.parseInt(value));
+                case PLY_UINT32, PLY_UINT -> buffer.putLong(0, Long.parseLong(value));
+                case PLY_FLOAT32, PLY_FLOAT -> buffer.putFloat(0, Float.parseFloat(value));
+                case PLY_FLOAT64, PLY_DOUBLE -> buffer.putDouble(0, Double.parseDouble(value));
+            }
+        }
+
+        /**
+         * Returns size in bytes for a given data type.
+         *
+         * @param type A data type.
+         * @return Size in bytes for a given data type.
+         */
+        private long sizeForDataType(final DataTypePLY type) {
+            return switch (type) {
+                case PLY_INT8, PLY_UINT8, PLY_CHAR, PLY_UCHAR -> 1; // 1 byte
+                case PLY_INT16, PLY_UINT16, PLY_SHORT, PLY_USHORT -> 2; // 2 bytes
+                case PLY_INT32, PLY_UINT32, PLY_FLOAT32, PLY_INT, PLY_UINT, PLY_FLOAT -> 4; // 4 bytes
+                case PLY_FLOAT64, PLY_DOUBLE -> 8; // 8 bytes
+            };
+        }
+
+        /**
+         * Finds in file stream the location of the first vertex and face.
+         *
+         * @throws LoaderException       Raised if file is corrupted and location of
+         *                               first vertex or face cannot be found.
+         * @throws NotAvailableException Raised if header does not contain a
+         *                               given element.
+         * @throws IOException           if an I/O error occurs.
+         */
+        private void findFirstVertexAndFaceStreamPosition() throws LoaderException, NotAvailableException, IOException {
+
+            if (firstVertexStreamPositionAvailable && (firstFaceStreamPositionAvailable || pointCloud)) {
+                // already computed
+                return;
+            }
+
+            final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+            long nElems;
+            var counter = 0L;
+
+            // iterate over elements in header
+            for (final var element : loader.header.getElements()) {
+                if (!element.isValidElement()) {
+                    throw new LoaderException();
+                }
+
+                var stop = false;
+                if ("vertex".equals(element.getName())) {
+                    // FIRST VERTEX FOUND!
+                    firstVertexStreamPosition = reader.getPosition();
+                    firstVertexStreamPositionAvailable = true;
+
+                    vertexElement = element;
+
+                    // stop if both 1st vertex and face are known (or if faces
+                    // are not needed)
+                    stop = firstFaceStreamPositionAvailable || pointCloud;
+                } else if ("face".equals(element.getName())) {
+                    // FIRST FACE FOUND!
+                    firstFaceStreamPosition = reader.getPosition();
+                    firstFaceStreamPositionAvailable = true;
+
+                    faceElement = element;
+
+                    // stop if both 1st vertex and face are known
+                    stop = firstVertexStreamPositionAvailable;
+                }
+
+                if (stop) {
+                    break;
+                }
+
+                nElems = element.getNumberOfInstances();
+                // repeat properties iteration for each element
+                for (var i = 0L; i < nElems; i++) {
+
+                    PLYReadValueFromStreamListener readLengthValueFromStreamListener;
+                    PLYReadValueFromBufferListener readLengthValueFromBufferListener;
+                    PLYReadValueFromStreamListener readValueFromStreamListener;
+
+                    // iterate on properties of element
+                    for (final var property : element.getProperties()) {
+                        if (!property.isValidProperty()) {
+                            throw new LoaderException();
+                        }
+
+                        // number of elements in list (initially assume that is
+                        // scalar, hence 1
+                        listElems = 1;
+
+                        if (property.getPropertyType() == PropertyTypePLY.PROPERTY_PLY_LIST) {
+                            // read number of list elements
+                            readLengthValueFromStreamListener = property.getReadLengthValueFromStreamListener();
+                            readLengthValueFromStreamListener.readFromStream(buffer);
+
+                            if (reader.isEndOfStream() && (counter < (totalInstances - 1))) {
+                                throw new LoaderException();
+                            }
+
+                            readLengthValueFromBufferListener = property.getReadLengthValueFromBufferListener();
+                            readLengthValueFromBufferListener.readValueFromBuffer(buffer);
+                        }
+
+                        // set delegate to read from stream
+                        readValueFromStreamListener = property.getReadValueFromStreamListener();
+
+                        // read property data
+                        for (var u = 0L; u < listElems; u++) {
+                            readValueFromStreamListener.readFromStream(buffer);
+
+                            if (reader.isEndOfStream() && (counter < (totalInstances - 1))) {
+                                throw new LoaderException();
+                            }
+                        }
+                    }
+
+                    counter++;
+                }
+            }
+        }
+
+        /**
+         * Chunks built for a contiguous range of faces.
+         */
+        private class FaceRange {
+
+            /**
+             * Chunks of the range, in file order.
+             */
+            private final List<DataChunk> chunks;
+
+            /**
+             * Position of the face following the last face of each chunk.
+             */
+            private final long[] chunkEnds;
+
+            /**
+             * First face of the range that is not a triangle, or -1 if all
+             * faces of the range are triangles.
+             */
+            private final long fallbackFace;
+
+            /**
+             * Constructor.
+             *
+             * @param chunks       chunks of the range.
+             * @param chunkEnds    position of the face following the last face
+             *                     of each chunk.
+             * @param fallbackFace first face that is not a triangle, or -1.
+             */
+            FaceRange(final List<DataChunk> chunks, final long[] chunkEnds, final long fallbackFace) {
+                this.chunks = chunks;
+                this.chunkEnds = chunkEnds;
+                this.fallbackFace = fallbackFace;
+            }
+        }
+
+        /**
+         * Builds the chunks of a contiguous range of faces stored in records
+         * of fixed size.
+         * Face indices and vertex data are read from views of the mapped
+         * records owned by this task, following the same rules used to build
+         * chunks on the calling thread, so that ranges can be built
+         * concurrently. Building stops at the first face that is not a
+         * triangle.
+         */
+        private class FaceRangeTask implements Callable<FaceRange> {
+
+            /**
+             * First face of the range.
+             */
+            private final long from;
+
+            /**
+             * Position of the face following the last face of the range.
+             */
+            private final long to;
+
+            /**
+             * View of vertex records.
+             */
+            private final ByteBuffer vertexData;
+
+            /**
+             * View of face records.
+             */
+            private final ByteBuffer faceData;
+
+            /**
+             * Original indices of vertices of current chunk (key) and their
+             * corresponding index in the chunk (value).
+             */
+            private final HashMap<Long, Integer> chunkIndices = new HashMap<>();
+
+            /**
+             * Vertex coordinates of current chunk.
+             */
+            private float[] coords;
+
+            /**
+             * Vertex colors of current chunk.
+             */
+            private short[] colors;
+
+            /**
+             * Vertex normals of current chunk.
+             */
+            private float[] normals;
+
+            /**
+             * Indices of current chunk.
+             */
+            private int[] indices;
+
+            /**
+             * Number of vertices of current chunk.
+             */
+            private int vertices;
+
+            /**
+             * Number of indices of current chunk.
+             */
+            private int indicesCount;
+
+            /**
+             * Minimum x coordinate of vertices of current chunk.
+             */
+            private float chunkMinX;
+
+            /**
+             * Minimum y coordinate of vertices of current chunk.
+             */
+            private float chunkMinY;
+
+            /**
+             * Minimum z coordinate of vertices of current chunk.
+             */
+            private float chunkMinZ;
+
+            /**
+             * Maximum x coordinate of vertices of current chunk.
+             */
+            private float chunkMaxX;
+
+            /**
+             * Maximum y coordinate of vertices of current chunk.
+             */
+            private float chunkMaxY;
+
+            /**
+             * Maximum z coordinate of vertices of current chunk.
+             */
+            private float chunkMaxZ;
+
+            /**
+             * Last x vertex coordinate that was read.
+             */
+            private float x;
+
+            /**
+             * Last y vertex coordinate that was read.
+             */
+            private float y;
+
+            /**
+             * Last z vertex coordinate that was read.
+             */
+            private float z;
+
+            /**
+             * Last x normal coordinate that was read.
+             */
+            private float vertexNX;
 
-                // set stream into 1st face position
-                if (!firstFaceStreamPositionAvailable) {
-                    throw new LoaderException();
-                }
-                reader.seek(firstFaceStreamPosition);
-                currentFace = 0;
+            /**
+             * Last y normal coordinate that was read.
+             */
+            private float vertexNY;
 
-            } catch (final NotAvailableException e) {
-                throw new LoaderException(e);
-            }
-        }
+            /**
+             * Last z normal coordinate that was read.
+             */
+            private float vertexNZ;
 
-        /**
-         * Returns size in bytes for a given data type.
-         *
-         * @param type A data type.
-         * @return Size in bytes for a given data type.
-         */
-        private long sizeForDataType(final DataTypePLY type) {
-            return switch (type) {
-                case PLY_INT8, PLY_UINT8, PLY_CHAR, PLY_UCHAR -> 1; // 1 byte
-                case PLY_INT16, PLY_UINT16, PLY_SHORT, PLY_USHORT -> 2; // 2 bytes
-                case PLY_INT32, PLY_UINT32, PLY_FLOAT32, PLY_INT, PLY_UINT, PLY_FLOAT -> 4; // 4 bytes
-                case PLY_FLOAT64, PLY_DOUBLE -> 8; // 8 bytes
-            };
-        }
+            /**
+             * Last red color component that was read.
+             */
+            private short vertexRed;
 
-        /**
-         * Finds in file stream the location of the first vertex and face.
-         *
-         * @throws LoaderException       Raised if file is corrupted and location of
-         *                               first vertex or face cannot be found.
-         * @throws NotAvailableException Raised if header does not contain a
-         *                               given element.
-         * @throws IOException           if an I/O error occurs.
-         */
-        private void findFirstVertexAndFaceStreamPosition() throws LoaderException, NotAvailableException, IOException {
+            /**
+             * Last green color component that was read.
+             */
+            private short vertexGreen;
 
-            if (firstVertexStreamPositionAvailable && firstFaceStreamPositionAvailable) {
-                // already computed
-                return;
+            /**
+             * Last blue color component that was read.
+             */
+            private short vertexBlue;
+
+            /**
+             * Last alpha color component that was read.
+             */
+            private short vertexAlpha;
+
+            /**
+             * Constructor.
+             * Views of records are created on the calling thread.
+             *
+             * @param from first face of the range.
+             * @param to   position of the face following the last face of the
+             *             range.
+             */
+            FaceRangeTask(final long from, final long to) {
+                this.from = from;
+                this.to = to;
+                vertexData = vertexRecords.duplicate().order(getByteOrder());
+                faceData = faceRecords.duplicate().order(getByteOrder());
             }
 
-            final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            /**
+             * Builds the chunks of the range.
+             *
+             * @return built chunks.
+             * @throws LoaderException Raised if a face refers to a vertex that
+             *                         does not exist.
+             */
+            @Override
+            public FaceRange call() throws LoaderException {
+                final var chunks = new ArrayList<DataChunk>();
+                final var chunkEnds = new ArrayList<Long>();
+                final var lengthSize = (int) sizeForDataType(faceLengthType);
+                final var indexSize = (int) sizeForDataType(faceIndexType);
 
-            long nElems;
-            var counter = 0L;
+                var fallbackFace = -1L;
+                initChunk();
+                for (var face = from; face < to; face++) {
+                    var pos = (int) (face * faceStride);
+                    if (decodeIntegerValue(faceData, pos, faceLengthType) != VERTICES_PER_TRIANGLE) {
+                        fallbackFace = face;
+                        break;
+                    }
+                    pos += lengthSize;
 
-            // iterate over elements in header
-            for (final var element : loader.header.getElements()) {
-                if (!element.isValidElement()) {
-                    throw new LoaderException();
+                    if ((vertices + VERTICES_PER_TRIANGLE) > loader.maxVerticesInChunk) {
+                        // no more vertices can be added to chunk
+                        chunks.add(buildChunk());
+                        chunkEnds.add(face);
+                        initChunk();
+                    }
+
+                    for (var u = 0; u < VERTICES_PER_TRIANGLE; u++) {
+                        addVertex(decodeIntegerValue(faceData, pos, faceIndexType));
+                        pos += indexSize;
+                    }
                 }
 
-                var stop = false;
-                if ("vertex".equals(element.getName())) {
-                    // FIRST VERTEX FOUND!
-                    firstVertexStreamPosition = reader.getPosition();
-                    firstVertexStreamPositionAvailable = true;
+                if (indicesCount > 0) {
+                    chunks.add(buildChunk());
+                    chunkEnds.add(fallbackFace >= 0 ? fallbackFace : to);
+                }
 
-                    vertexElement = element;
+                final var ends = new long[chunkEnds.size()];
+                for (var i = 0; i < ends.length; i++) {
+                    ends[i] = chunkEnds.get(i);
+                }
+                return new FaceRange(chunks, ends, fallbackFace);
+            }
 
-                    // stop if both 1st vertex and face are known
-                    stop = firstFaceStreamPositionAvailable;
-                } else if ("face".equals(element.getName())) {
-                    // FIRST FACE FOUND!
-                    firstFaceStreamPosition = reader.getPosition();
-                    firstFaceStreamPositionAvailable = true;
+            /**
+             * Initializes arrays and bounding box of a new chunk.
+             */
+            private void initChunk() {
+                coords = new float[loader.maxVerticesInChunk * 3];
+                colors = new short[loader.maxVerticesInChunk * colorComponents];
+                normals = new float[loader.maxVerticesInChunk * 3];
+                indices = new int[loader.maxVerticesInChunk];
+                vertices = indicesCount = 0;
+                chunkIndices.clear();
 
-                    faceElement = element;
+                chunkMinX = chunkMinY = chunkMinZ = Float.MAX_VALUE;
+                chunkMaxX = chunkMaxY = chunkMaxZ = -Float.MAX_VALUE;
+            }
 
-                    // stop if both 1st vertex and face are known
-                    stop = firstVertexStreamPositionAvailable;
+            /**
+             * Adds vertex having provided original index into current chunk,
+             * reading its data unless it is already stored in the chunk.
+             *
+             * @param vertexIndex original index of vertex.
+             * @throws LoaderException Raised if vertex does not exist.
+             */
+            private void addVertex(final long vertexIndex) throws LoaderException {
+                if (vertexIndex < 0 || vertexIndex >= numberOfVertices) {
+                    throw new LoaderException();
                 }
 
-                if (stop) {
-                    break;
+                if (!loader.allowDuplicateVerticesInChunk) {
+                    final var chunkIndex = chunkIndices.get(vertexIndex);
+                    if (chunkIndex != null) {
+                        // vertex is already stored in chunk
+                        addIndex(chunkIndex);
+                        return;
+                    }
                 }
 
-                nElems = element.getNumberOfInstances();
-                // repeat properties iteration for each element
-                for (var i = 0L; i < nElems; i++) {
+                readVertex(vertexIndex);
 
-                    PLYReadValueFromStreamListener readLengthValueFromStreamListener;
-                    PLYReadValueFromBufferListener readLengthValueFromBufferListener;
-                    PLYReadValueFromStreamListener readValueFromStreamListener;
+                final var pos = 3 * vertices;
+                coords[pos] = x;
+                coords[pos + 1] = y;
+                coords[pos + 2] = z;
+                normals[pos] = vertexNX;
+                normals[pos + 1] = vertexNY;
+                normals[pos + 2] = vertexNZ;
 
-                    // iterate on properties of element
-                    for (final var property : element.getProperties()) {
-                        if (!property.isValidProperty()) {
-                            throw new LoaderException();
-                        }
+                final var colorPos = colorComponents * vertices;
+                if (colorComponents >= 1) {
+                    colors[colorPos] = vertexRed;
+                }
+                if (colorComponents >= 2) {
+                    colors[colorPos + 1] = vertexGreen;
+                }
+                if (colorComponents >= 3) {
+                    colors[colorPos + 2] = vertexBlue;
+                }
+                if (colorComponents >= 4) {
+                    colors[colorPos + 3] = vertexAlpha;
+                }
 
-                        // number of elements in list (initially assume that is
-                        // scalar, hence 1
-                        listElems = 1;
+                // update bounding box values
+                if (x < chunkMinX) {
+                    chunkMinX = x;
+                }
+                if (y < chunkMinY) {
+                    chunkMinY = y;
+                }
+                if (z < chunkMinZ) {
+                    chunkMinZ = z;
+                }
 
-                        if (property.getPropertyType() == PropertyTypePLY.PROPERTY_PLY_LIST) {
-                            // read number of list elements
-                            readLengthValueFromStreamListener = property.getReadLengthValueFromStreamListener();
-                            readLengthValueFromStreamListener.readFromStream(buffer);
+                if (x > chunkMaxX) {
+                    chunkMaxX = x;
+                }
+                if (y > chunkMaxY) {
+                    chunkMaxY = y;
+                }
+                if (z > chunkMaxZ) {
+                    chunkMaxZ = z;
+                }
 
-                            if (reader.isEndOfStream() && (counter < (totalInstances - 1))) {
-                                throw new LoaderException();
-                            }
+                chunkIndices.put(vertexIndex, vertices);
+                addIndex(vertices);
+                vertices++;
+            }
 
-                            readLengthValueFromBufferListener = property.getReadLengthValueFromBufferListener();
-                            readLengthValueFromBufferListener.readValueFromBuffer(buffer);
-                        }
+            /**
+             * Adds provided index into current chunk, enlarging array of
+             * indices if needed.
+             *
+             * @param chunkIndex index to be added.
+             */
+            private void addIndex(final int chunkIndex) {
+                if (indicesCount >= indices.length) {
+                    indices = Arrays.copyOf(indices, indices.length + loader.maxVerticesInChunk);
+                }
+                indices[indicesCount++] = chunkIndex;
+            }
 
-                        // set delegate to read from stream
-                        readValueFromStreamListener = property.getReadValueFromStreamListener();
+            /**
+             * Reads data of vertex having provided original index, using the
+             * same conversions used by listeners of vertex properties.
+             *
+             * @param vertexIndex original index of vertex.
+             */
+            private void readVertex(final long vertexIndex) {
+                x = y = z = 0.0f;
+                vertexNX = vertexNY = vertexNZ = 1.0f;
+                vertexRed = vertexGreen = vertexBlue = 0;
+                vertexAlpha = 255;
 
-                        // read property data
-                        for (var u = 0L; u < listElems; u++) {
-                            readValueFromStreamListener.readFromStream(buffer);
+                final var base = (int) (vertexIndex * vertexDataSize);
+                for (var i = 0; i < vertexPropertyTargets.length; i++) {
+                    final var target = vertexPropertyTargets[i];
+                    if (target == null) {
+                        continue;
+                    }
 
-                            if (reader.isEndOfStream() && (counter < (totalInstances - 1))) {
-                                throw new LoaderException();
-                            }
+                    final var pos = base + vertexPropertyOffsets[i];
+                    final var type = vertexPropertyTypes[i];
+                    final float value;
+                    final short colorValue;
+                    switch (type) {
+                        case PLY_FLOAT32, PLY_FLOAT -> {
+                            final var floatValue = vertexData.getFloat(pos);
+                            value = floatValue;
+                            colorValue = (short) floatValue;
+                        }
+                        case PLY_FLOAT64, PLY_DOUBLE -> {
+                            final var doubleValue = vertexData.getDouble(pos);
+                            value = (float) doubleValue;
+                            colorValue = (short) doubleValue;
+                        }
+                        default -> {
+                            final var longValue = decodeIntegerValue(vertexData, pos, type);
+                            value = longValue;
+                            colorValue = (short) longValue;
                         }
                     }
 
-                    counter++;
+                    switch (target) {
+                        case X -> x = value;
+                        case Y -> y = value;
+                        case Z -> z = value;
+                        case NX -> vertexNX = value;
+                        case NY -> vertexNY = value;
+                        case NZ -> vertexNZ = value;
+                        case RED -> vertexRed = colorValue;
+                        case GREEN -> vertexGreen = colorValue;
+                        case BLUE -> vertexBlue = colorValue;
+                        case ALPHA -> vertexAlpha = colorValue;
+                    }
+                }
+            }
+
+            /**
+             * Builds a chunk containing data of current chunk.
+             *
+             * @return built chunk.
+             */
+            private DataChunk buildChunk() {
+                // trim arrays to store only needed data, unless they are
+                // interleaved or handed over without copying
+                final var trimmed = vertexFormat == null && loader.trimmedChunkArrays;
+                if (trimmed) {
+                    coords = Arrays.copyOf(coords, vertices * 3);
+                    colors = Arrays.copyOf(colors, vertices * colorComponents);
+                    normals = Arrays.copyOf(normals, vertices * 3);
+                    indices = Arrays.copyOf(indices, indicesCount);
+                }
+
+                final var dataChunk = new DataChunk();
+                if (verticesAvailable) {
+                    dataChunk.setVerticesCoordinatesData(coords);
+                    dataChunk.setMinX(chunkMinX);
+                    dataChunk.setMinY(chunkMinY);
+                    dataChunk.setMinZ(chunkMinZ);
+                    dataChunk.setMaxX(chunkMaxX);
+                    dataChunk.setMaxY(chunkMaxY);
+                    dataChunk.setMaxZ(chunkMaxZ);
+                }
+                if (colorsAvailable) {
+                    dataChunk.setColorData(colors);
+                    dataChunk.setColorComponents(colorComponents);
+                }
+                if (indicesAvailable) {
+                    dataChunk.setIndicesData(indices);
+                }
+                if (normalsAvailable) {
+                    dataChunk.setNormalsData(normals);
                 }
+                if (!trimmed) {
+                    dataChunk.setVertexCount(vertices);
+                    dataChunk.setIndexCount(indicesCount);
+                }
+
+                if (vertexFormat != null) {
+                    VertexInterleaver.interleave(dataChunk, vertexFormat, null, null);
+                }
+                return dataChunk;
             }
         }
 
@@ -3066,6 +4790,162 @@ public class LoaderPLY extends Loader {
             }
         }
 
+        /**
+         * Reads a requested additional vertex property from temporal buffer and
+         * keeps its values for current chunk of data.
+         * Floating point data types are stored as float or double values,
+         * uint32 data types are stored as long values and remaining integer
+         * data types are stored as int values.
+         */
+        private class ExtraVertexPropertyReadValueFromBufferListener implements PLYReadValueFromBufferListener {
+
+            /**
+             * Name of property.
+             */
+            private final String name;
+
+            /**
+             * Data type of property.
+             */
+            private final DataTypePLY type;
+
+            /**
+             * Latest value that has been read when stored as float.
+             */
+            private float floatValue;
+
+            /**
+             * Latest value that has been read when stored as double.
+             */
+            private double doubleValue;
+
+            /**
+             * Latest value that has been read when stored as int.
+             */
+            private int intValue;
+
+            /**
+             * Latest value that has been read when stored as long.
+             */
+            private long longValue;
+
+            /**
+             * Property values of current chunk when stored as float.
+             */
+            private float[] floatData;
+
+            /**
+             * Property values of current chunk when stored as double.
+             */
+            private double[] doubleData;
+
+            /**
+             * Property values of current chunk when stored as int.
+             */
+            private int[] intData;
+
+            /**
+             * Property values of current chunk when stored as long.
+             */
+            private long[] longData;
+
+            /**
+             * Constructor.
+             *
+             * @param name name of property.
+             * @param type data type of property.
+             */
+            public ExtraVertexPropertyReadValueFromBufferListener(final String name, final DataTypePLY type) {
+                this.name = name;
+                this.type = type;
+            }
+
+            /**
+             * Reads property value from temporal buffer and keeps it until it
+             * is added into current chunk.
+             *
+             * @param buffer Temporal buffer.
+             */
+            @Override
+            public void readValueFromBuffer(final ByteBuffer buffer) {
+                // because java doesn't support unsigned types we use the next
+                // type that can hold all desired values
+                switch (type) {
+                    case PLY_INT8, PLY_CHAR -> intValue = buffer.get(0);
+                    case PLY_UINT8, PLY_UCHAR, PLY_INT16, PLY_SHORT -> intValue = buffer.getShort(0);
+                    case PLY_UINT16, PLY_USHORT, PLY_INT32, PLY_INT -> intValue = buffer.getInt(0);
+                    case PLY_UINT32, PLY_UINT -> longValue = buffer.getLong(0);
+                    case PLY_FLOAT32, PLY_FLOAT -> floatValue = buffer.getFloat(0);
+                    case PLY_FLOAT64, PLY_DOUBLE -> doubleValue = buffer.getDouble(0);
+                }
+            }
+
+            /**
+             * Initializes array where property values of current chunk will be
+             * stored.
+             *
+             * @param size size of array.
+             */
+            private void initArray(final int size) {
+                switch (type) {
+                    case PLY_UINT32, PLY_UINT -> longData = new long[size];
+                    case PLY_FLOAT32, PLY_FLOAT -> floatData = new float[size];
+                    case PLY_FLOAT64, PLY_DOUBLE -> doubleData = new double[size];
+                    default -> intData = new int[size];
+                }
+            }
+
+            /**
+             * Adds latest value that has been read into current chunk.
+             *
+             * @param pos position of vertex in current chunk.
+             */
+            private void addValue(final int pos) {
+                switch (type) {
+                    case PLY_UINT32, PLY_UINT -> longData[pos] = longValue;
+                    case PLY_FLOAT32, PLY_FLOAT -> floatData[pos] = floatValue;
+                    case PLY_FLOAT64, PLY_DOUBLE -> doubleData[pos] = doubleValue;
+                    default -> intData[pos] = intValue;
+                }
+            }
+
+            /**
+             * Removes unnecessary data of array of current chunk.
+             *
+             * @param elems number of vertices in current chunk.
+             */
+            private void trimArray(final int elems) {
+                if (elems > 0) {
+                    switch (type) {
+                        case PLY_UINT32, PLY_UINT -> longData = Arrays.copyOf(longData, elems);
+                        case PLY_FLOAT32, PLY_FLOAT -> floatData = Arrays.copyOf(floatData, elems);
+                        case PLY_FLOAT64, PLY_DOUBLE -> doubleData = Arrays.copyOf(doubleData, elems);
+                        default -> intData = Arrays.copyOf(intData, elems);
+                    }
+                } else {
+                    // allow garbage collection
+                    floatData = null;
+                    doubleData = null;
+                    intData = null;
+                    longData = null;
+                }
+            }
+
+            /**
+             * Sets property values of current chunk into provided data chunk.
+             *
+             * @param dataChunk data chunk where values will be set.
+             */
+            private void setData(final DataChunk dataChunk) {
+                switch (type) {
+                    case PLY_UINT32, PLY_UINT -> dataChunk.setVertexPropertyData(name, longData);
+                    case PLY_FLOAT32, PLY_FLOAT -> dataChunk.setVertexPropertyData(name, floatData);
+                    case PLY_FLOAT64, PLY_DOUBLE -> dataChunk.setVertexPropertyData(name, doubleData);
+                    default -> dataChunk.setVertexPropertyData(name, intData);
+                }
+            }
+        }
+
         /**
          * Reads x vertex coordinate from temporal buffer using int8 data type.
          */
@@ -8186,6 +10066,37 @@ public class LoaderPLY extends Loader {
             }
         }
     }
+
+    /**
+     * Value of a vertex that a vertex property is assigned to when chunks are
+     * built on worker threads.
+     */
+    private enum VertexPropertyTarget {
+        X, Y, Z, NX, NY, NZ, RED, GREEN, BLUE, ALPHA;
+
+        /**
+         * Returns value of a vertex assigned to a vertex property having
+         * provided name.
+         *
+         * @param name name of a vertex property.
+         * @return value of a vertex, or null if property is not recognized.
+         */
+        static VertexPropertyTarget fromName(final String name) {
+            return switch (name) {
+                case "x" -> X;
+                case "y" -> Y;
+                case "z" -> Z;
+                case "nx" -> NX;
+                case "ny" -> NY;
+                case "nz" -> NZ;
+                case "red" -> RED;
+                case "green" -> GREEN;
+                case "blue" -> BLUE;
+                case "alpha" -> ALPHA;
+                default -> null;
+            };
+        }
+    }
 }
 
 //TODO: add cancel method
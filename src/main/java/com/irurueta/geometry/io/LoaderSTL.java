@@ -17,6 +17,20 @@ package com.irurueta.geometry.io;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class LoaderSTL extends Loader {
     /**
@@ -37,10 +51,105 @@ public class LoaderSTL extends Loader {
      */
     public static final float PROGRESS_DELTA = 0.01f;
 
+    /**
+     * Indicates that by default vertices are not welded, hence each triangle
+     * contains three new vertices.
+     */
+    public static final boolean DEFAULT_VERTEX_WELDING = false;
+
+    /**
+     * Default quantization epsilon used to weld vertices. By default, only
+     * vertices having identical positions are welded.
+     */
+    public static final float DEFAULT_WELDING_EPSILON = 0.0f;
+
+    /**
+     * Minimum allowed quantization epsilon used to weld vertices.
+     */
+    public static final float MIN_WELDING_EPSILON = 0.0f;
+
+    /**
+     * Indicates that by default welded vertices keep facet normals instead of
+     * averaging them.
+     */
+    public static final boolean DEFAULT_AVERAGE_WELDED_NORMALS = false;
+
+    /**
+     * Default number of threads used to decode chunks of binary files.
+     * By default, chunks are decoded on the calling thread.
+     */
+    public static final int DEFAULT_DECODING_THREADS = 1;
+
+    /**
+     * Minimum allowed number of threads used to decode chunks of binary files.
+     */
+    public static final int MIN_DECODING_THREADS = 1;
+
+    /**
+     * Indicates that by default chunks decoded on multiple threads are
+     * returned in the same order as they appear in the file.
+     */
+    public static final boolean DEFAULT_ORDERED_CHUNKS = true;
+
+    /**
+     * Indicates that by default chunks are not pooled.
+     */
+    public static final boolean DEFAULT_CHUNK_POOLING_ENABLED = false;
+
+    /**
+     * Indicates that by default arrays of chunks are trimmed to contain only
+     * valid values.
+     */
+    public static final boolean DEFAULT_TRIMMED_CHUNK_ARRAYS = true;
+
     private LoaderIteratorSTL loaderIterator;
 
     private int maxVerticesInChunk;
 
+    /**
+     * Indicates whether vertices are welded within each chunk.
+     */
+    private boolean vertexWelding = DEFAULT_VERTEX_WELDING;
+
+    /**
+     * Quantization epsilon used to weld vertices.
+     */
+    private float weldingEpsilon = DEFAULT_WELDING_EPSILON;
+
+    /**
+     * Indicates whether facet normals of welded vertices are averaged.
+     */
+    private boolean averageWeldedNormals = DEFAULT_AVERAGE_WELDED_NORMALS;
+
+    /**
+     * Number of threads used to decode chunks of binary files.
+     */
+    private int decodingThreads = DEFAULT_DECODING_THREADS;
+
+    /**
+     * Indicates whether chunks decoded on multiple threads are returned in
+     * the same order as they appear in the file.
+     */
+    private boolean orderedChunks = DEFAULT_ORDERED_CHUNKS;
+
+    /**
+     * Indicates whether arrays of released chunks are reused to load
+     * subsequent chunks.
+     */
+    private boolean chunkPoolingEnabled = DEFAULT_CHUNK_POOLING_ENABLED;
+
+    /**
+     * Indicates whether arrays of chunks are trimmed to contain only valid
+     * values.
+     */
+    private boolean trimmedChunkArrays = DEFAULT_TRIMMED_CHUNK_ARRAYS;
+
+    /**
+     * Format of interleaved vertex buffers of chunks or null if vertex data
+     * is stored into separate arrays.
+     */
+    private InterleavedVertexFormat interleavedVertexFormat;
+
     /**
      * Constructor.
      */
@@ -180,6 +289,267 @@ public class LoaderSTL extends Loader {
         return maxVerticesInChunk;
     }
 
+    /**
+     * Indicates whether vertices are welded within each chunk.
+     * STL files store three new vertices for each triangle. When welding is
+     * enabled, vertices of a chunk having the same quantized position are
+     * merged, so that chunks contain shared vertices and indices referencing
+     * them, which requires much less memory.
+     * By default, welding is disabled.
+     *
+     * @return true if vertices are welded, false otherwise.
+     */
+    public boolean isVertexWelding() {
+        return vertexWelding;
+    }
+
+    /**
+     * Sets boolean indicating whether vertices are welded within each chunk.
+     * Welding does not change the triangles contained in each chunk, only the
+     * number of vertices they reference.
+     *
+     * @param vertexWelding true to weld vertices, false otherwise.
+     * @throws LockedException if this loader is currently loading a file.
+     */
+    public void setVertexWelding(final boolean vertexWelding) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.vertexWelding = vertexWelding;
+    }
+
+    /**
+     * Returns quantization epsilon used to weld vertices.
+     * When zero, only vertices having identical positions are welded,
+     * otherwise positions are quantized into cells of epsilon size, and
+     * vertices falling in the same cell are welded.
+     *
+     * @return quantization epsilon used to weld vertices.
+     */
+    public float getWeldingEpsilon() {
+        return weldingEpsilon;
+    }
+
+    /**
+     * Sets quantization epsilon used to weld vertices.
+     * When zero, only vertices having identical positions are welded,
+     * otherwise positions are quantized into cells of epsilon size, and
+     * vertices falling in the same cell are welded.
+     *
+     * @param weldingEpsilon quantization epsilon used to weld vertices.
+     * @throws IllegalArgumentException if provided value is negative or not
+     *                                  finite.
+     * @throws LockedException          if this loader is currently loading a
+     *                                  file.
+     */
+    public void setWeldingEpsilon(final float weldingEpsilon) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (!(weldingEpsilon >= MIN_WELDING_EPSILON) || Float.isInfinite(weldingEpsilon)) {
+            throw new IllegalArgumentException();
+        }
+        this.weldingEpsilon = weldingEpsilon;
+    }
+
+    /**
+     * Indicates whether facet normals of welded vertices are averaged.
+     * When enabled, vertices are welded by position only and each welded
+     * vertex gets the normalized average of the facet normals of the
+     * triangles sharing it (i.e. smooth shading). Otherwise, vertices are
+     * only welded when their facet normals are also equal, hence facet
+     * normals are preserved (i.e. flat shading).
+     *
+     * @return true if facet normals are averaged, false otherwise.
+     */
+    public boolean isAverageWeldedNormals() {
+        return averageWeldedNormals;
+    }
+
+    /**
+     * Sets boolean indicating whether facet normals of welded vertices are
+     * averaged.
+     *
+     * @param averageWeldedNormals true to average facet normals, false to
+     *                             preserve them.
+     * @throws LockedException if this loader is currently loading a file.
+     */
+    public void setAverageWeldedNormals(final boolean averageWeldedNormals) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.averageWeldedNormals = averageWeldedNormals;
+    }
+
+    /**
+     * Returns number of threads used to decode chunks of binary files.
+     * Binary STL files declare their number of triangles in their header and
+     * store each triangle in a record of fixed size, hence the triangles of
+     * each chunk can be read and decoded independently of the rest of the
+     * file. When more than one thread is used, several chunks ahead of the
+     * one being returned are read with positional reads and decoded
+     * concurrently.
+     * ASCII files are always decoded sequentially.
+     *
+     * @return number of threads used to decode chunks of binary files.
+     */
+    public int getDecodingThreads() {
+        return decodingThreads;
+    }
+
+    /**
+     * Sets number of threads used to decode chunks of binary files.
+     *
+     * @param decodingThreads number of threads used to decode chunks of binary
+     *                        files.
+     * @throws IllegalArgumentException if provided value is lower than
+     *                                  {@link #MIN_DECODING_THREADS}.
+     * @throws LockedException          if this loader is currently loading a
+     *                                  file.
+     */
+    public void setDecodingThreads(final int decodingThreads) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (decodingThreads < MIN_DECODING_THREADS) {
+            throw new IllegalArgumentException();
+        }
+        this.decodingThreads = decodingThreads;
+    }
+
+    /**
+     * Indicates whether chunks decoded on multiple threads are returned in
+     * the same order as they appear in the file.
+     * When disabled, chunks are returned as soon as they are decoded, which
+     * avoids waiting for slower chunks, but the order of returned chunks
+     * may change between loads. Chunks themselves are identical in both
+     * cases.
+     * This setting has no effect when chunks are decoded on a single thread.
+     *
+     * @return true if chunks are returned in file order, false otherwise.
+     */
+    public boolean isOrderedChunks() {
+        return orderedChunks;
+    }
+
+    /**
+     * Sets boolean indicating whether chunks decoded on multiple threads are
+     * returned in the same order as they appear in the file.
+     *
+     * @param orderedChunks true to return chunks in file order, false to
+     *                      return them as soon as they are decoded.
+     * @throws LockedException if this loader is currently loading a file.
+     */
+    public void setOrderedChunks(final boolean orderedChunks) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.orderedChunks = orderedChunks;
+    }
+
+    /**
+     * Indicates whether arrays of released chunks are reused to load
+     * subsequent chunks.
+     *
+     * @return true if chunks are pooled, false otherwise.
+     * @see #setChunkPoolingEnabled(boolean)
+     */
+    public boolean isChunkPoolingEnabled() {
+        return chunkPoolingEnabled;
+    }
+
+    /**
+     * Sets boolean indicating whether arrays of released chunks are reused to
+     * load subsequent chunks.
+     * When enabled, consumers should call {@link DataChunk#release()} once
+     * they no longer need a chunk, and arrays of returned chunks might be
+     * larger than required, hence {@link DataChunk#getVertexCount()} and
+     * {@link DataChunk#getIndexCount()} must be used to determine how many
+     * values are valid. Chunks that are not released are simply garbage
+     * collected.
+     * This setting has no effect when vertices are welded.
+     *
+     * @param chunkPoolingEnabled true to pool chunks, false otherwise.
+     * @throws LockedException if this loader is currently loading a file.
+     */
+    public void setChunkPoolingEnabled(final boolean chunkPoolingEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.chunkPoolingEnabled = chunkPoolingEnabled;
+    }
+
+    /**
+     * Indicates whether arrays of chunks are trimmed to contain only valid
+     * values.
+     *
+     * @return true if arrays are trimmed, false otherwise.
+     * @see #setTrimmedChunkArrays(boolean)
+     */
+    public boolean isTrimmedChunkArrays() {
+        return trimmedChunkArrays;
+    }
+
+    /**
+     * Sets boolean indicating whether arrays of chunks are trimmed to contain
+     * only valid values.
+     * Trimming copies all data of each chunk into new arrays having the exact
+     * required size. When disabled, arrays where data is loaded are handed
+     * over to chunks without copying them, hence they might be larger than
+     * required, and {@link DataChunk#getVertexCount()} and
+     * {@link DataChunk#getIndexCount()} must be used to determine how many
+     * values are valid.
+     * Arrays are never trimmed when chunks are pooled.
+     * Arrays are always trimmed when vertices are welded.
+     *
+     * @param trimmedChunkArrays true to trim arrays, false otherwise.
+     * @throws LockedException if this loader is currently loading a file.
+     */
+    public void setTrimmedChunkArrays(final boolean trimmedChunkArrays) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.trimmedChunkArrays = trimmedChunkArrays;
+    }
+
+    /**
+     * Returns format of interleaved vertex buffers of chunks.
+     *
+     * @return format of interleaved vertex buffers or null if vertex data is
+     * stored into separate arrays.
+     * @see #setInterleavedVertexFormat(InterleavedVertexFormat)
+     */
+    public InterleavedVertexFormat getInterleavedVertexFormat() {
+        return interleavedVertexFormat;
+    }
+
+    /**
+     * Sets format of interleaved vertex buffers of chunks.
+     * When provided, vertex data of each chunk is packed into a single buffer
+     * available through {@link DataChunk#getInterleavedVertexData()} and
+     * described by {@link DataChunk#getInterleavedVertexLayout()}, instead
+     * of being stored into separate arrays, which are kept by the loader to
+     * load subsequent chunks. Indices are still stored into an array that
+     * might be larger than required, hence {@link DataChunk#getIndexCount()}
+     * must be used to determine how many indices are valid.
+     * When chunks are pooled, interleaved buffers of released chunks are
+     * reused.
+     * Mesh writers require separate arrays, hence this format must not be
+     * set on loaders used by writers.
+     *
+     * @param interleavedVertexFormat format of interleaved vertex buffers or
+     *                                null to store vertex data into separate
+     *                                arrays.
+     * @throws LockedException if this loader is currently loading a file.
+     */
+    public void setInterleavedVertexFormat(final InterleavedVertexFormat interleavedVertexFormat)
+            throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.interleavedVertexFormat = interleavedVertexFormat;
+    }
+
     /**
      * If loader is ready to start loading a file.
      * This is true once a file has been provided.
@@ -250,6 +620,20 @@ public class LoaderSTL extends Loader {
         return loaderIterator;
     }
 
+    /**
+     * Closes file being loaded and releases any threads decoding chunks of a
+     * load that has not been completed.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (loaderIterator != null) {
+            loaderIterator.releaseParallelDecoding();
+        }
+        super.close();
+    }
+
     /**
      * Returns name for the 3D object.
      *
@@ -479,6 +863,62 @@ public class LoaderSTL extends Loader {
          */
         private String solidName;
 
+        /**
+         * Welds vertices of each chunk, or null if vertices are not welded.
+         */
+        private final VertexWelder welder;
+
+        /**
+         * Keeps released chunks so that their arrays can be reused, or null if
+         * chunks are not pooled.
+         */
+        private final DataChunkPool pool;
+
+        /**
+         * Format of interleaved vertex buffers or null if vertex data is
+         * stored into separate arrays.
+         */
+        private final InterleavedVertexFormat vertexFormat;
+
+        /**
+         * Keeps separate vertex arrays so that they can be reused when vertex
+         * data is interleaved, or null if vertex data is not interleaved.
+         */
+        private final DataChunk workingArrays;
+
+        /**
+         * Parser of ASCII files, or null if file is binary.
+         */
+        private AsciiStlParser asciiParser;
+
+        /**
+         * Executor decoding chunks of binary files on multiple threads, or
+         * null if chunks are decoded sequentially.
+         */
+        private ExecutorService decodingExecutor;
+
+        /**
+         * Notifies decoded chunks when they are not returned in file order.
+         */
+        private CompletionService<DataChunk> decodingCompletionService;
+
+        /**
+         * Channel used to read triangle records at arbitrary positions from
+         * decoding threads.
+         */
+        private FileChannel decodingChannel;
+
+        /**
+         * Chunks being decoded, in the same order as they appear in the file.
+         */
+        private final Deque<Future<DataChunk>> pendingChunks = new ArrayDeque<>();
+
+        /**
+         * Position of first triangle of next chunk to be submitted for
+         * decoding.
+         */
+        private long nextTriangleToDecode;
+
         /**
          * Constant defining beginning of 3D file.
          */
@@ -534,6 +974,30 @@ public class LoaderSTL extends Loader {
          */
         public static final int VERTICES_PER_TRIANGLE = 3;
 
+        /**
+         * Size in bytes of each triangle record in binary format (normal and
+         * three vertices, each one containing three floats, and two bytes of
+         * attribute byte count).
+         */
+        public static final int BINARY_TRIANGLE_SIZE = 50;
+
+        /**
+         * Offset of first triangle record in binary files, after the 80 byte
+         * header and the number of triangles.
+         */
+        public static final int BINARY_FIRST_TRIANGLE_OFFSET = BINARY_HEADER_SIZE + 4;
+
+        /**
+         * Number of chunks being decoded ahead of the one being returned for
+         * each decoding thread.
+         */
+        public static final int CHUNKS_AHEAD_PER_DECODING_THREAD = 2;
+
+        /**
+         * Time that idle decoding threads are kept alive.
+         */
+        public static final long DECODING_THREADS_KEEP_ALIVE_SECONDS = 1;
+
         /**
          * Constructor.
          *
@@ -561,6 +1025,12 @@ public class LoaderSTL extends Loader {
 
             numberOfVertices = 0;
 
+            welder = loader.vertexWelding ? new VertexWelder(loader.weldingEpsilon, loader.averageWeldedNormals)
+                    : null;
+            pool = loader.chunkPoolingEnabled && welder == null ? new DataChunkPool() : null;
+            vertexFormat = loader.interleavedVertexFormat;
+            workingArrays = vertexFormat != null ? new DataChunk() : null;
+
             setUp();
         }
 
@@ -608,187 +1078,90 @@ public class LoaderSTL extends Loader {
                 throw new NotAvailableException();
             }
 
-            initChunkArrays();
+            if (decodingExecutor != null) {
+                return nextParallelBinaryChunk();
+            }
+            if (!isAscii) {
+                return nextBinaryChunk();
+            }
+
+            final var pooledChunk = pool != null ? pool.poll() : null;
+            final var pooledBuffer = VertexInterleaver.bufferToReuse(pooledChunk);
+            initChunkArrays(VertexInterleaver.arraysToReuse(workingArrays, pooledChunk));
 
             // reset chunk bounding box values
             minX = minY = minZ = Float.MAX_VALUE;
             maxX = maxY = maxZ = -Float.MAX_VALUE;
 
             // read data until chunk is full
-            var endOfChunk = false;
             final var fileLength = file.length();
 
             final var progressStep = Math.max((long) (LoaderSTL.PROGRESS_DELTA * fileLength), 1);
             var previousPos = 0L;
 
             try {
-                if (isAscii) {
-
-                    // ascii format
-                    String word;
-                    do {
-                        // read facet
-                        word = readNonEmptyWord();
-                        if (word == null) {
-                            // undefined word
-                            throw new LoaderException();
+                // ascii format
+                var endOfChunk = false;
+                do {
+                    switch (asciiParser.nextKeyword()) {
+                        case FACET -> {
+                            // read 3 normal values
+                            asciiParser.expectKeyword(AsciiStlParser.Keyword.NORMAL);
+                            nX = asciiParser.nextFloat();
+                            nY = asciiParser.nextFloat();
+                            nZ = asciiParser.nextFloat();
                         }
-
-                        if (word.equalsIgnoreCase(ASCII_FACET)) {
-                            // read normal
-                            word = readNonEmptyWord();
-                            if (word == null) {
-                                // undefined word
-                                throw new LoaderException();
-                            }
-
-                            if (word.equalsIgnoreCase(ASCII_NORMAL)) {
-                                // read 3 normal values
-                                word = readNonEmptyWord();
-                                nX = Float.parseFloat(word);
-                                word = readNonEmptyWord();
-                                nY = Float.parseFloat(word);
-                                word = readNonEmptyWord();
-                                nZ = Float.parseFloat(word);
-                            } else {
-                                // unexpected word
-                                throw new LoaderException();
-                            }
-
-                        } else if (word.equalsIgnoreCase(ASCII_OUTER)) {
-                            // next word has to be "loop"
-                            word = readNonEmptyWord();
-                            if (word == null) {
-                                // undefined word
-                                throw new LoaderException();
-                            }
-
-                            if (!word.equalsIgnoreCase(ASCII_LOOP)) {
-                                // unexpected word
-                                throw new LoaderException();
-                            }
-
-                        } else if (word.equalsIgnoreCase(ASCII_VERTEX)) {
+                        // next word has to be "loop"
+                        case OUTER -> asciiParser.expectKeyword(AsciiStlParser.Keyword.LOOP);
+                        case VERTEX -> {
                             // read vertex data
-                            word = readNonEmptyWord();
-                            coordX = Float.parseFloat(word);
-                            word = readNonEmptyWord();
-                            coordY = Float.parseFloat(word);
-                            word = readNonEmptyWord();
-                            coordZ = Float.parseFloat(word);
+                            coordX = asciiParser.nextFloat();
+                            coordY = asciiParser.nextFloat();
+                            coordZ = asciiParser.nextFloat();
 
                             // add coordinates into chunk arrays
                             addNewVertexDataToChunk();
 
-                            // check if chunk is full
-                            if (verticesInChunk == loader.maxVerticesInChunk) {
-                                // no more vertices can be added to this chunk
-                                break;
-                            }
-
-                        } else if (word.equalsIgnoreCase(ASCII_END_LOOP)) {
-                            // check if chunk is full
-                            if (verticesInChunk + VERTICES_PER_TRIANGLE >= loader.maxVerticesInChunk) {
-                                // no more triangles vertices can be added to
-                                // this chunk
-                                break;
-                            }
-
-                        } else if (word.equalsIgnoreCase(ASCII_END_FACET)) {
-                            // check if chunk is full
-                            if (verticesInChunk + VERTICES_PER_TRIANGLE >= loader.maxVerticesInChunk) {
-                                // no more triangles vertices can be added to
-                                // this chunk
-                                break;
-                            }
-                        } else if (word.equalsIgnoreCase(ASCII_END)) {
-                            endOfFileReached = true;
-                            break;
-                        } else {
-                            // unexpected word
-                            throw new LoaderException();
-                        }
-
-                        // compute progress
-                        if ((loader.listener != null) && (reader.getPosition() - previousPos) >= progressStep) {
-                            previousPos = reader.getPosition();
-                            loader.listener.onLoadProgressChange(loader,
-                                    (float) (reader.getPosition()) / fileLength);
+                            // check if chunk is full, in which case no more
+                            // vertices can be added to this chunk
+                            endOfChunk = verticesInChunk == loader.maxVerticesInChunk;
                         }
-
-                    } while (!endOfFileReached);
-
-                } else {
-                    do {
-                        // read vertex data (triangle normal, triangle vertices
-                        // and two bytes attribute byte count
-
-                        // read vertex normals
-                        nX = reader.readFloat(EndianType.LITTLE_ENDIAN_TYPE);
-                        nY = reader.readFloat(EndianType.LITTLE_ENDIAN_TYPE);
-                        nZ = reader.readFloat(EndianType.LITTLE_ENDIAN_TYPE);
-
-                        // read 1st vertex coordinates of triangle
-                        coordX = reader.readFloat(EndianType.LITTLE_ENDIAN_TYPE);
-                        coordY = reader.readFloat(EndianType.LITTLE_ENDIAN_TYPE);
-                        coordZ = reader.readFloat(EndianType.LITTLE_ENDIAN_TYPE);
-
-                        // add coordinates into chunk arrays
-                        addNewVertexDataToChunk();
-
-                        // read 2nd vertex coordinates of triangle
-                        coordX = reader.readFloat(EndianType.LITTLE_ENDIAN_TYPE);
-                        coordY = reader.readFloat(EndianType.LITTLE_ENDIAN_TYPE);
-                        coordZ = reader.readFloat(EndianType.LITTLE_ENDIAN_TYPE);
-
-                        // add coordinates into chunk arrays
-                        addNewVertexDataToChunk();
-
-                        // read 3rd vertex coordinates of triangle
-                        coordX = reader.readFloat(EndianType.LITTLE_ENDIAN_TYPE);
-                        coordY = reader.readFloat(EndianType.LITTLE_ENDIAN_TYPE);
-                        coordZ = reader.readFloat(EndianType.LITTLE_ENDIAN_TYPE);
-
-                        // add coordinates into chunk arrays
-                        addNewVertexDataToChunk();
-
-                        // read two bytes attribute byte count
-                        reader.readUnsignedShort(EndianType.LITTLE_ENDIAN_TYPE);
-
-                        currentTriangle++;
-
-                        // compute progress
-                        if ((loader.listener != null) && (reader.getPosition() - previousPos) >= progressStep) {
-                            previousPos = reader.getPosition();
-                            loader.listener.onLoadProgressChange(loader,
-                                    (float) (reader.getPosition()) / fileLength);
-                        }
-
-                        if (verticesInChunk + VERTICES_PER_TRIANGLE >= loader.maxVerticesInChunk) {
-                            // no more triangles vertices can be added to this
-                            // chunk
+                        // check if chunk is full, in which case no more
+                        // triangles vertices can be added to this chunk
+                        case END_LOOP, END_FACET ->
+                                endOfChunk = verticesInChunk + VERTICES_PER_TRIANGLE >= loader.maxVerticesInChunk;
+                        case END_SOLID -> {
+                            endOfFileReached = true;
                             endOfChunk = true;
-                            break;
                         }
+                        // unexpected word
+                        default -> throw asciiParser.unexpectedWord();
+                    }
 
-                    } while (!reader.isEndOfStream() && currentTriangle < numberOfTriangles);
-
-                    // file ended before all triangles were read
-                    if (currentTriangle < numberOfTriangles && !endOfChunk) {
-                        throw new LoaderException();
+                    // compute progress
+                    final var position = asciiParser.getPosition();
+                    if ((loader.listener != null) && (position - previousPos) >= progressStep) {
+                        previousPos = position;
+                        loader.listener.onLoadProgressChange(loader, (float) position / fileLength);
                     }
-                }
+
+                } while (!endOfChunk);
             } catch (final IOException | LoaderException e) {
                 throw e;
             } catch (final Exception e) {
                 throw new LoaderException(e);
             }
 
-            // trim arrays to store only needed data
-            trimArrays();
+            // trim arrays to store only needed data, unless they are pooled,
+            // interleaved or handed over without copying
+            final var trimmed = pool == null
+                    && (welder != null || (vertexFormat == null && loader.trimmedChunkArrays));
+            if (trimmed) {
+                trimArrays();
+            }
 
             // Instantiate DataChunk with chunk arrays
-            final var dataChunk = new DataChunk();
+            var dataChunk = pool != null ? pool.handOut(pooledChunk) : new DataChunk();
 
             dataChunk.setVerticesCoordinatesData(coordsInChunkArray);
             dataChunk.setMinX(minX);
@@ -802,6 +1175,128 @@ public class LoaderSTL extends Loader {
 
             dataChunk.setNormalsData(normalsInChunkArray);
 
+            if (!trimmed) {
+                dataChunk.setVertexCount(verticesInChunk);
+                dataChunk.setIndexCount(indicesInChunk);
+            }
+
+            if (welder != null) {
+                dataChunk = weld(dataChunk);
+            } else if (vertexFormat != null) {
+                VertexInterleaver.interleave(dataChunk, vertexFormat, pooledBuffer, workingArrays);
+            }
+
+            if (!hasNext() && listener != null) {
+                // notify iterator finished
+                listener.onIteratorFinished(this);
+            }
+
+            // if no more chunks are available, then close input reader
+            if (!hasNext()) {
+                reader.close();
+            }
+
+            return dataChunk;
+        }
+
+        /**
+         * Loads next chunk of data from a binary file.
+         * All triangle records of the chunk are read at once and decoded
+         * directly into the arrays of the chunk.
+         *
+         * @return next chunk of data.
+         * @throws LoaderException if file data is corrupt or cannot be
+         *                         understood.
+         * @throws IOException     if an I/O error occurs.
+         */
+        private DataChunk nextBinaryChunk() throws LoaderException, IOException {
+            final var trianglesToRead = (int) Math.min(getTrianglesPerChunk(),
+                    numberOfTriangles - currentTriangle);
+            final var bytes = new byte[trianglesToRead * BINARY_TRIANGLE_SIZE];
+            final var trianglesRead = readFully(bytes) / BINARY_TRIANGLE_SIZE;
+
+            if (trianglesRead < trianglesToRead) {
+                // file ended before all triangles were read
+                throw new LoaderException();
+            }
+
+            var dataChunk = buildBinaryChunk(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN),
+                    trianglesRead, pool, welder == null ? vertexFormat : null, workingArrays);
+            currentTriangle += trianglesRead;
+            if (welder != null) {
+                dataChunk = weld(dataChunk);
+            }
+
+            // compute progress
+            if (loader.listener != null) {
+                loader.listener.onLoadProgressChange(loader, (float) (reader.getPosition()) / file.length());
+            }
+
+            if (!hasNext() && listener != null) {
+                // notify iterator finished
+                listener.onIteratorFinished(this);
+            }
+
+            // if no more chunks are available, then close input reader
+            if (!hasNext()) {
+                reader.close();
+            }
+
+            return dataChunk;
+        }
+
+        /**
+         * Returns next chunk of a binary file decoded on multiple threads.
+         * Chunks ahead of the returned one are submitted for decoding so that
+         * decoding threads are kept busy.
+         *
+         * @return next chunk of data.
+         * @throws LoaderException if file data is corrupt or cannot be
+         *                         understood.
+         * @throws IOException     if an I/O error occurs.
+         */
+        private DataChunk nextParallelBinaryChunk() throws LoaderException, IOException {
+            final DataChunk dataChunk;
+            try {
+                submitChunks();
+
+                final Future<DataChunk> future;
+                if (loader.orderedChunks) {
+                    future = pendingChunks.removeFirst();
+                } else {
+                    future = decodingCompletionService.take();
+                    pendingChunks.remove(future);
+                }
+                dataChunk = future.get();
+            } catch (final InterruptedException e) {
+                releaseParallelDecoding();
+                Thread.currentThread().interrupt();
+                throw new LoaderException(e);
+            } catch (final ExecutionException e) {
+                releaseParallelDecoding();
+                if (e.getCause() instanceof LoaderException loaderException) {
+                    throw loaderException;
+                }
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                throw new LoaderException(e);
+            }
+
+            // arrays of pooled or interleaved chunks might be larger than their
+            // contents, hence indices are counted
+            currentTriangle += dataChunk.getIndexCount() / VERTICES_PER_TRIANGLE;
+            submitChunks();
+
+            // compute progress
+            if (loader.listener != null) {
+                loader.listener.onLoadProgressChange(loader, (float) currentTriangle / numberOfTriangles);
+            }
+
+            if (!hasNext()) {
+                releaseParallelDecoding();
+            }
+
             if (!hasNext() && listener != null) {
                 // notify iterator finished
                 listener.onIteratorFinished(this);
@@ -815,6 +1310,275 @@ public class LoaderSTL extends Loader {
             return dataChunk;
         }
 
+        /**
+         * Submits chunks for decoding until enough chunks are being decoded
+         * ahead of the one being returned, or all chunks have been submitted.
+         *
+         * @throws LoaderException if maximum number of vertices in a chunk
+         *                         cannot hold a single triangle.
+         */
+        private void submitChunks() throws LoaderException {
+            final var maxPendingChunks = CHUNKS_AHEAD_PER_DECODING_THREAD * loader.decodingThreads;
+            final var trianglesPerChunk = getTrianglesPerChunk();
+            while (pendingChunks.size() < maxPendingChunks && nextTriangleToDecode < numberOfTriangles) {
+                final var firstTriangle = nextTriangleToDecode;
+                final var triangles = (int) Math.min(trianglesPerChunk, numberOfTriangles - firstTriangle);
+                final Future<DataChunk> future;
+                if (loader.orderedChunks) {
+                    future = decodingExecutor.submit(() -> decodeBinaryChunk(firstTriangle, triangles));
+                } else {
+                    future = decodingCompletionService.submit(() -> decodeBinaryChunk(firstTriangle, triangles));
+                }
+                pendingChunks.addLast(future);
+                nextTriangleToDecode += triangles;
+            }
+        }
+
+        /**
+         * Reads and decodes a chunk of a binary file using positional reads,
+         * so that it can be executed concurrently from any thread.
+         *
+         * @param firstTriangle position of first triangle of chunk.
+         * @param triangles     number of triangles of chunk.
+         * @return decoded chunk of data.
+         * @throws LoaderException if file ends before all triangles are read.
+         * @throws IOException     if an I/O error occurs.
+         */
+        private DataChunk decodeBinaryChunk(final long firstTriangle, final int triangles)
+                throws LoaderException, IOException {
+            final var data = ByteBuffer.allocate(triangles * BINARY_TRIANGLE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            final var position = BINARY_FIRST_TRIANGLE_OFFSET + firstTriangle * BINARY_TRIANGLE_SIZE;
+            while (data.hasRemaining()) {
+                if (decodingChannel.read(data, position + data.position()) < 0) {
+                    // file ended before all triangles were read
+                    throw new LoaderException();
+                }
+            }
+
+            // working arrays cannot be shared among decoding threads
+            final var dataChunk = buildBinaryChunk(data, triangles, pool, welder == null ? vertexFormat : null,
+                    null);
+            return welder != null ? weld(dataChunk) : dataChunk;
+        }
+
+        /**
+         * Welds vertices of provided chunk and interleaves vertex data of
+         * resulting chunk if needed.
+         * This method is thread safe.
+         *
+         * @param chunk chunk to be welded.
+         * @return welded chunk.
+         */
+        private DataChunk weld(final DataChunk chunk) {
+            final var result = welder.weld(chunk);
+            if (vertexFormat != null) {
+                VertexInterleaver.interleave(result, vertexFormat, null, null);
+            }
+            return result;
+        }
+
+        /**
+         * Starts threads to decode chunks of binary files, if more than one
+         * decoding thread is requested and file contains more than one chunk.
+         *
+         * @throws IOException if an I/O error occurs.
+         */
+        private void setUpParallelDecoding() throws IOException {
+            if (loader.decodingThreads <= 1 || loader.maxVerticesInChunk < VERTICES_PER_TRIANGLE) {
+                return;
+            }
+
+            final var trianglesPerChunk = Math.max((loader.maxVerticesInChunk - 1) / VERTICES_PER_TRIANGLE, 1);
+            if (numberOfTriangles <= trianglesPerChunk
+                    || file.length() < BINARY_FIRST_TRIANGLE_OFFSET + numberOfTriangles * BINARY_TRIANGLE_SIZE) {
+                // a single chunk or truncated files are decoded sequentially
+                return;
+            }
+
+            decodingChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+
+            final var executor = new ThreadPoolExecutor(loader.decodingThreads, loader.decodingThreads,
+                    DECODING_THREADS_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                        final var thread = new Thread(r, "LoaderSTL-chunk-decoder");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            // idle threads are released even if iteration is abandoned
+            executor.allowCoreThreadTimeOut(true);
+            decodingExecutor = executor;
+            decodingCompletionService = new ExecutorCompletionService<>(executor);
+            nextTriangleToDecode = 0;
+        }
+
+        /**
+         * Stops threads decoding chunks of binary files, if any, and releases
+         * any resources associated to them.
+         */
+        private void releaseParallelDecoding() {
+            if (decodingExecutor != null) {
+                decodingExecutor.shutdownNow();
+                decodingExecutor = null;
+            }
+            decodingCompletionService = null;
+            pendingChunks.clear();
+            if (decodingChannel != null) {
+                try {
+                    decodingChannel.close();
+                } catch (final IOException ignore) {
+                    // this is the best effort operation, if it fails it is ignored
+                }
+                decodingChannel = null;
+            }
+        }
+
+        /**
+         * Returns number of triangles contained in each chunk of a binary file.
+         * Triangles are added into a chunk while there is room for another
+         * triangle.
+         *
+         * @return number of triangles in each chunk.
+         * @throws LoaderException if maximum number of vertices in a chunk
+         *                         cannot hold a single triangle.
+         */
+        private int getTrianglesPerChunk() throws LoaderException {
+            if (loader.maxVerticesInChunk < VERTICES_PER_TRIANGLE) {
+                throw new LoaderException();
+            }
+            return Math.max((loader.maxVerticesInChunk - 1) / VERTICES_PER_TRIANGLE, 1);
+        }
+
+        /**
+         * Reads data from current stream position until provided array is
+         * full or end of file is reached.
+         *
+         * @param bytes array where data is read into.
+         * @return number of bytes that have been read.
+         * @throws IOException if an I/O error occurs.
+         */
+        private int readFully(final byte[] bytes) throws IOException {
+            var offset = 0;
+            while (offset < bytes.length) {
+                final var n = reader.read(bytes, offset, bytes.length - offset);
+                if (n <= 0) {
+                    break;
+                }
+                offset += n;
+            }
+            return offset;
+        }
+
+        /**
+         * Builds a chunk of data by decoding provided binary triangle records.
+         * Positions and facet normals are copied straight into arrays of the
+         * chunk, which have the exact required size unless they are reused
+         * from a released chunk, and then packed into an interleaved buffer if
+         * a format is provided.
+         *
+         * @param data      buffer containing triangle records in little endian
+         *                  order.
+         * @param triangles number of triangle records to be decoded.
+         * @param pool          pool of released chunks, or null if chunks are
+         *                      not pooled.
+         * @param format        format of interleaved vertex buffer, or null if
+         *                      vertex data is stored into separate arrays.
+         * @param workingArrays chunk keeping separate vertex arrays to be
+         *                      reused when vertex data is interleaved, or
+         *                      null.
+         * @return a chunk of data.
+         */
+        private static DataChunk buildBinaryChunk(final ByteBuffer data, final int triangles,
+                                                  final DataChunkPool pool, final InterleavedVertexFormat format,
+                                                  final DataChunk workingArrays) {
+            final var vertices = triangles * VERTICES_PER_TRIANGLE;
+            final var pooledChunk = pool != null ? pool.poll() : null;
+            final var pooledBuffer = VertexInterleaver.bufferToReuse(pooledChunk);
+            final var reused = VertexInterleaver.arraysToReuse(workingArrays, pooledChunk);
+            final var coords = DataChunkPool.reuse(reused != null ? reused.getVerticesCoordinatesData() : null,
+                    3 * vertices);
+            final var normals = DataChunkPool.reuse(reused != null ? reused.getNormalsData() : null, 3 * vertices);
+            final var indices = DataChunkPool.reuse(reused != null ? reused.getIndicesData() : null, vertices);
+
+            var chunkMinX = Float.MAX_VALUE;
+            var chunkMinY = Float.MAX_VALUE;
+            var chunkMinZ = Float.MAX_VALUE;
+            var chunkMaxX = -Float.MAX_VALUE;
+            var chunkMaxY = -Float.MAX_VALUE;
+            var chunkMaxZ = -Float.MAX_VALUE;
+
+            var recordPos = 0;
+            var pos = 0;
+            var vertex = 0;
+            for (var t = 0; t < triangles; t++) {
+                // facet normal is shared by all vertices of triangle
+                final var normalX = data.getFloat(recordPos);
+                final var normalY = data.getFloat(recordPos + 4);
+                final var normalZ = data.getFloat(recordPos + 8);
+
+                var offset = recordPos + 12;
+                for (var v = 0; v < VERTICES_PER_TRIANGLE; v++) {
+                    final var x = data.getFloat(offset);
+                    final var y = data.getFloat(offset + 4);
+                    final var z = data.getFloat(offset + 8);
+                    offset += 12;
+
+                    coords[pos] = x;
+                    coords[pos + 1] = y;
+                    coords[pos + 2] = z;
+                    normals[pos] = normalX;
+                    normals[pos + 1] = normalY;
+                    normals[pos + 2] = normalZ;
+                    pos += 3;
+
+                    indices[vertex] = vertex;
+                    vertex++;
+
+                    // update bounding box values
+                    if (x < chunkMinX) {
+                        chunkMinX = x;
+                    }
+                    if (y < chunkMinY) {
+                        chunkMinY = y;
+                    }
+                    if (z < chunkMinZ) {
+                        chunkMinZ = z;
+                    }
+                    if (x > chunkMaxX) {
+                        chunkMaxX = x;
+                    }
+                    if (y > chunkMaxY) {
+                        chunkMaxY = y;
+                    }
+                    if (z > chunkMaxZ) {
+                        chunkMaxZ = z;
+                    }
+                }
+
+                // skip two bytes of attribute byte count
+                recordPos += BINARY_TRIANGLE_SIZE;
+            }
+
+            final var dataChunk = pool != null ? pool.handOut(pooledChunk) : new DataChunk();
+            if (vertices > 0) {
+                dataChunk.setVerticesCoordinatesData(coords);
+                dataChunk.setIndicesData(indices);
+                dataChunk.setNormalsData(normals);
+            }
+            if (pool != null || format != null) {
+                dataChunk.setVertexCount(vertices);
+                dataChunk.setIndexCount(vertices);
+            }
+            dataChunk.setMinX(chunkMinX);
+            dataChunk.setMinY(chunkMinY);
+            dataChunk.setMinZ(chunkMinZ);
+            dataChunk.setMaxX(chunkMaxX);
+            dataChunk.setMaxY(chunkMaxY);
+            dataChunk.setMaxZ(chunkMaxZ);
+            if (format != null) {
+                VertexInterleaver.interleave(dataChunk, format, pooledBuffer, workingArrays);
+            }
+            return dataChunk;
+        }
+
         /**
          * Returns name for the 3D object.
          *
@@ -834,32 +1598,22 @@ public class LoaderSTL extends Loader {
         }
 
         /**
-         * Internal method to read a word from ASCII file.
+         * Initializes arrays forming current chunk of data, reusing arrays of
+         * provided released chunk when they are large enough.
          *
-         * @return next word that has been read.
-         * @throws IOException if an I/O error occurs.
+         * @param pooledChunk released chunk whose arrays are reused, or null.
          */
-        private String readNonEmptyWord() throws IOException {
-            // read normal
-            String word;
-            do {
-                // ignore empty words
-                // (line feeds, etc.)
-                word = reader.readWord();
-            } while (word != null && word.isEmpty());
-            return word;
-        }
-
-        /**
-         * Initializes arrays forming current chunk of data.
-         */
-        private void initChunkArrays() {
-            coordsInChunkArray = new float[loader.maxVerticesInChunk * VERTICES_PER_TRIANGLE];
-            normalsInChunkArray = new float[loader.maxVerticesInChunk * VERTICES_PER_TRIANGLE];
-            indicesInChunkArray = new int[loader.maxVerticesInChunk];
+        private void initChunkArrays(final DataChunk pooledChunk) {
+            coordsInChunkArray = DataChunkPool.reuse(
+                    pooledChunk != null ? pooledChunk.getVerticesCoordinatesData() : null,
+                    loader.maxVerticesInChunk * VERTICES_PER_TRIANGLE);
+            normalsInChunkArray = DataChunkPool.reuse(pooledChunk != null ? pooledChunk.getNormalsData() : null,
+                    loader.maxVerticesInChunk * VERTICES_PER_TRIANGLE);
+            indicesInChunkArray = DataChunkPool.reuse(pooledChunk != null ? pooledChunk.getIndicesData() : null,
+                    loader.maxVerticesInChunk);
 
             verticesInChunk = indicesInChunk = 0;
-            indicesInChunkSize = loader.maxVerticesInChunk;
+            indicesInChunkSize = indicesInChunkArray.length;
         }
 
         /**
@@ -993,6 +1747,8 @@ public class LoaderSTL extends Loader {
                 }
                 // load solid name
                 solidName = reader.readLine();
+
+                asciiParser = new AsciiStlParser(reader);
             } else {
                 // Binary format (always is in little endian form)
 
@@ -1002,6 +1758,8 @@ public class LoaderSTL extends Loader {
                 // read number of triangles
                 numberOfTriangles = reader.readUnsignedInt(EndianType.LITTLE_ENDIAN_TYPE);
                 numberOfVertices = VERTICES_PER_TRIANGLE * numberOfTriangles;
+
+                setUpParallelDecoding();
             }
         }
 
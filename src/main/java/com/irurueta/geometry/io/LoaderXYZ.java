@@ -0,0 +1,832 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Loads point clouds stored in plain ASCII XYZ or PTS files.
+ * Each line of these files contains the values of a single point separated by
+ * whitespaces, commas or semicolons. Supported layouts, which are determined
+ * by the number of values of the first point, are:
+ * - 3 values: x y z
+ * - 4 values: x y z intensity
+ * - 6 values: x y z r g b or x y z nx ny nz, depending on provided
+ * {@link XYZSixValuesLayout}. By default, layout is detected by sampling the
+ * first points of the file.
+ * - 7 values: x y z intensity r g b (usual layout of PTS files).
+ * For any other number of values, only the first three are loaded as point
+ * coordinates.
+ * Intensity values are available on each data chunk as a float vertex
+ * property named {@link #INTENSITY_PROPERTY}.
+ * Lines starting with '#' or '//' are considered comments, and a single
+ * integer value before the first point (i.e. the number of points in PTS
+ * files) is ignored.
+ * Points are streamed sequentially into chunks, hence loaded data chunks do not
+ * contain indices.
+ */
+public class LoaderXYZ extends Loader {
+    /**
+     * Constant defining the default value of maximum number of vertices to keep
+     * in a chunk. This is 65535, which corresponds to the maximum value allowed
+     * by graphical layer such as OpenGL when working with Vertex Buffer Objects.
+     */
+    public static final int DEFAULT_MAX_VERTICES_IN_CHUNK = 0xffff;
+
+    /**
+     * Minimum allowed value for maximum number of vertices in chunk, which is
+     * one.
+     */
+    public static final int MIN_MAX_VERTICES_IN_CHUNK = 1;
+
+    /**
+     * Amount of progress variation (1%) used to notify progress.
+     */
+    public static final float PROGRESS_DELTA = 0.01f;
+
+    /**
+     * Name of vertex property containing intensity values.
+     */
+    public static final String INTENSITY_PROPERTY = "intensity";
+
+    /**
+     * Default layout of files containing six values per point, which is
+     * detected from the first points of the file.
+     */
+    public static final XYZSixValuesLayout DEFAULT_SIX_VALUES_LAYOUT = XYZSixValuesLayout.AUTO;
+
+    /**
+     * Number of points sampled to detect layout of files containing six
+     * values per point.
+     */
+    public static final int SIX_VALUES_LAYOUT_SAMPLES = 64;
+
+    /**
+     * Maximum value of a color component.
+     */
+    private static final int MAX_COLOR_VALUE = 255;
+
+    /**
+     * Iterator currently loading provided file.
+     */
+    private LoaderIteratorXYZ loaderIterator;
+
+    /**
+     * Maximum number of vertices allowed in a chunk.
+     */
+    private int maxVerticesInChunk;
+
+    /**
+     * Layout of files containing six values per point.
+     */
+    private XYZSixValuesLayout sixValuesLayout = DEFAULT_SIX_VALUES_LAYOUT;
+
+    /**
+     * Constructor.
+     */
+    public LoaderXYZ() {
+        loaderIterator = null;
+        maxVerticesInChunk = DEFAULT_MAX_VERTICES_IN_CHUNK;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxVerticesInChunk Maximum number of vertices allowed in a chunk.
+     *                           Once this value is exceeded when loading a file, a new chunk of data is
+     *                           created.
+     * @throws IllegalArgumentException if maximum number of vertices allowed in
+     *                                  a chunk is lower than 1.
+     */
+    public LoaderXYZ(final int maxVerticesInChunk) {
+        loaderIterator = null;
+        internalSetMaxVerticesInChunk(maxVerticesInChunk);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param f file to be loaded.
+     * @throws IOException if an I/O error occurs.
+     */
+    public LoaderXYZ(final File f) throws IOException {
+        super(f);
+        loaderIterator = null;
+        maxVerticesInChunk = DEFAULT_MAX_VERTICES_IN_CHUNK;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param f                  file to be loaded.
+     * @param maxVerticesInChunk Maximum number of vertices allowed in a chunk.
+     *                           Once this value is exceeded when loading a file, a new chunk of data is
+     *                           created.
+     * @throws IllegalArgumentException if maximum number of vertices allowed in
+     *                                  a chunk is lower than 1.
+     * @throws IOException              if an I/O error occurs.
+     */
+    public LoaderXYZ(final File f, final int maxVerticesInChunk) throws IOException {
+        super(f);
+        loaderIterator = null;
+        internalSetMaxVerticesInChunk(maxVerticesInChunk);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param listener listener to be notified of loading progress and when
+     *                 loading process starts or finishes.
+     */
+    public LoaderXYZ(final LoaderListener listener) {
+        super(listener);
+        loaderIterator = null;
+        maxVerticesInChunk = DEFAULT_MAX_VERTICES_IN_CHUNK;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param listener           listener to be notified of loading progress and when
+     *                           loading process starts or finishes.
+     * @param maxVerticesInChunk Maximum number of vertices allowed in a chunk.
+     *                           Once this value is exceeded when loading a file, a new chunk of data is
+     *                           created.
+     * @throws IllegalArgumentException if maximum number of vertices allowed in
+     *                                  a chunk is lower than 1.
+     */
+    public LoaderXYZ(final LoaderListener listener, final int maxVerticesInChunk) {
+        super(listener);
+        loaderIterator = null;
+        internalSetMaxVerticesInChunk(maxVerticesInChunk);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param f        file to be loaded.
+     * @param listener listener to be notified of loading progress and when
+     *                 loading process starts or finishes.
+     * @throws IOException if an I/O error occurs.
+     */
+    public LoaderXYZ(final File f, final LoaderListener listener) throws IOException {
+        super(f, listener);
+        loaderIterator = null;
+        maxVerticesInChunk = DEFAULT_MAX_VERTICES_IN_CHUNK;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param f                  file to be loaded.
+     * @param listener           listener to be notified of loading progress and when
+     *                           loading process starts or finishes.
+     * @param maxVerticesInChunk Maximum number of vertices allowed in a chunk.
+     *                           Once this value is exceeded when loading a file, a new chunk of data is
+     *                           created.
+     * @throws IllegalArgumentException if maximum number of vertices allowed in
+     *                                  a chunk is lower than 1.
+     * @throws IOException              if an I/O error occurs.
+     */
+    public LoaderXYZ(final File f, final LoaderListener listener, final int maxVerticesInChunk) throws IOException {
+        super(f, listener);
+        loaderIterator = null;
+        internalSetMaxVerticesInChunk(maxVerticesInChunk);
+    }
+
+    /**
+     * Sets maximum number of vertices allowed in a chunk.
+     * Once this value is exceeded when loading a file, a new chunk of data is
+     * created.
+     *
+     * @param maxVerticesInChunk maximum allowed number of vertices to be set.
+     * @throws IllegalArgumentException if provided value is lower than 1.
+     * @throws LockedException          if this loader is currently loading a file.
+     */
+    public void setMaxVerticesInChunk(final int maxVerticesInChunk) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        internalSetMaxVerticesInChunk(maxVerticesInChunk);
+    }
+
+    /**
+     * Returns maximum number of vertices allowed in a chunk.
+     * Once this value is exceeded when loading a file, a new chunk of data is
+     * created.
+     *
+     * @return maximum number of vertices allowed in a chunk.
+     */
+    public int getMaxVerticesInChunk() {
+        return maxVerticesInChunk;
+    }
+
+    /**
+     * Returns layout of files containing six values per point, which
+     * determines whether the last three values are loaded as colors or as
+     * normals.
+     *
+     * @return layout of files containing six values per point.
+     */
+    public XYZSixValuesLayout getSixValuesLayout() {
+        return sixValuesLayout;
+    }
+
+    /**
+     * Sets layout of files containing six values per point, which determines
+     * whether the last three values are loaded as colors or as normals.
+     * When {@link XYZSixValuesLayout#AUTO} is used, up to
+     * {@link #SIX_VALUES_LAYOUT_SAMPLES} points are sampled. Values are then
+     * loaded as colors only if all of them are integers between 0 and 255 and
+     * at least one of them is greater than 1, so that unit normals such as
+     * "0 0 1" are not taken as colors.
+     *
+     * @param sixValuesLayout layout of files containing six values per point.
+     * @throws LockedException          if this loader is currently loading a file.
+     * @throws IllegalArgumentException if provided layout is null.
+     */
+    public void setSixValuesLayout(final XYZSixValuesLayout sixValuesLayout) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (sixValuesLayout == null) {
+            throw new IllegalArgumentException();
+        }
+        this.sixValuesLayout = sixValuesLayout;
+    }
+
+    /**
+     * If loader is ready to start loading a file.
+     * This is true once a file has been provided.
+     *
+     * @return true if ready to start loading a file, false otherwise.
+     */
+    @Override
+    public boolean isReady() {
+        return hasFile();
+    }
+
+    /**
+     * Returns mesh format supported by this class, which is MESH_FORMAT_XYZ.
+     *
+     * @return mesh format supported by this class.
+     */
+    @Override
+    public MeshFormat getMeshFormat() {
+        return MeshFormat.MESH_FORMAT_XYZ;
+    }
+
+    /**
+     * Determines if provided file is a valid file that can be read by this
+     * loader.
+     * A file is considered valid if its first point contains at least three
+     * numerical values.
+     *
+     * @return true if file is valid, false otherwise.
+     * @throws LockedException raised if this instance is already locked.
+     * @throws IOException     if an I/O error occurs.
+     */
+    @Override
+    public boolean isValidFile() throws LockedException, IOException {
+        if (!hasFile()) {
+            throw new IOException();
+        }
+        if (isLocked()) {
+            throw new LockedException();
+        }
+
+        setLocked(true);
+        try {
+            reader.seek(0);
+            final var tokens = new String[3];
+            final var line = readFirstPointLine(new AsciiLineReader(reader), tokens);
+            if (line == null || AsciiLineReader.tokenize(line, tokens) < 3) {
+                return false;
+            }
+            for (final var token : tokens) {
+                Float.parseFloat(token);
+            }
+            return true;
+        } catch (final NumberFormatException e) {
+            return false;
+        } finally {
+            reader.seek(0);
+            setLocked(false);
+        }
+    }
+
+    /**
+     * Starts the loading process of provided file.
+     * This method returns a LoaderIterator to start the iterative process to
+     * load a file in small chunks of data.
+     *
+     * @return a loader iterator to read the file in a step-by-step process.
+     * @throws LockedException   raised if this instance is already locked.
+     * @throws NotReadyException raised if this instance is not yet ready.
+     * @throws IOException       if an I/O error occurs.
+     * @throws LoaderException   if file is corrupted or cannot be interpreted.
+     */
+    @Override
+    public LoaderIterator load() throws LockedException, NotReadyException, IOException, LoaderException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+
+        setLocked(true);
+        if (listener != null) {
+            listener.onLoadStart(this);
+        }
+
+        try {
+            loaderIterator = new LoaderIteratorXYZ(this);
+        } catch (final IOException | LoaderException e) {
+            setLocked(false);
+            throw e;
+        }
+        loaderIterator.setListener(new LoaderIteratorListenerImpl(this));
+        return loaderIterator;
+    }
+
+    /**
+     * Internal method to set maximum number of vertices allowed in a chunk.
+     * This method is reused both in the constructor and in the setter of
+     * maximum number of vertices allowed in a chunk.
+     *
+     * @param maxVerticesInChunk maximum allowed number of vertices to be set.
+     * @throws IllegalArgumentException if provided value is lower than 1.
+     */
+    private void internalSetMaxVerticesInChunk(final int maxVerticesInChunk) {
+        if (maxVerticesInChunk < MIN_MAX_VERTICES_IN_CHUNK) {
+            throw new IllegalArgumentException();
+        }
+
+        this.maxVerticesInChunk = maxVerticesInChunk;
+    }
+
+    /**
+     * Reads lines until the first one containing a point is found.
+     * Empty lines, comments and a leading line containing a single value (i.e.
+     * the number of points in PTS files) are skipped.
+     *
+     * @param lineReader reader to read lines from.
+     * @param tokens     array to be reused when splitting lines.
+     * @return first line containing a point or null if none is found.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static String readFirstPointLine(final AsciiLineReader lineReader, final String[] tokens)
+            throws IOException {
+        String line;
+        var first = true;
+        while ((line = lineReader.readLine()) != null) {
+            if (isComment(line)) {
+                continue;
+            }
+            final var n = AsciiLineReader.tokenize(line, tokens);
+            if (n == 0) {
+                continue;
+            }
+            if (n == 1 && first) {
+                // number of points header
+                first = false;
+                continue;
+            }
+            return line;
+        }
+        return null;
+    }
+
+    /**
+     * Indicates whether provided line is a comment.
+     *
+     * @param line line to be checked.
+     * @return true if line is a comment, false otherwise.
+     */
+    private static boolean isComment(final String line) {
+        return line.startsWith("#") || line.startsWith("//");
+    }
+
+    /**
+     * Indicates whether provided value represents an integer.
+     *
+     * @param value value to be checked.
+     * @return true if value is an integer, false otherwise.
+     */
+    private static boolean isInteger(final String value) {
+        try {
+            Integer.parseInt(value);
+            return true;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Internal listener to be notified when loading process finishes.
+     * This listener is used to free resources when loading process finishes.
+     */
+    private class LoaderIteratorListenerImpl implements LoaderIteratorListener {
+
+        /**
+         * Reference to Loader loading a XYZ file.
+         */
+        private final LoaderXYZ loader;
+
+        /**
+         * Constructor.
+         *
+         * @param loader reference to Loader.
+         */
+        public LoaderIteratorListenerImpl(final LoaderXYZ loader) {
+            this.loader = loader;
+        }
+
+        /**
+         * Method to be notified when the loading process finishes.
+         *
+         * @param iterator iterator loading the file in chunks.
+         */
+        @Override
+        public void onIteratorFinished(final LoaderIterator iterator) {
+            // because iterator is finished, we should allow subsequent calls to
+            // load method
+            try {
+                // attempt restart stream to initial position
+                reader.seek(0);
+            } catch (final Exception ignore) {
+                // this is the best effort operation, if it fails it is ignored
+            }
+
+            // on subsequent calls
+            if (listener != null) {
+                listener.onLoadEnd(loader);
+            }
+            setLocked(false);
+        }
+    }
+
+    /**
+     * Loader iterator in charge of streaming points of the file sequentially
+     * into chunks of data.
+     */
+    private class LoaderIteratorXYZ implements LoaderIterator {
+
+        /**
+         * Maximum number of values of a point that are taken into account.
+         */
+        private static final int MAX_VALUES = 7;
+
+        /**
+         * Reference to loader loading XYZ file.
+         */
+        private final LoaderXYZ loader;
+
+        /**
+         * Reads lines of the file sequentially.
+         */
+        private final AsciiLineReader lineReader;
+
+        /**
+         * Accumulates points into chunks.
+         */
+        private final PointCloudChunkBuilder builder;
+
+        /**
+         * Array to be reused when splitting lines into values.
+         */
+        private final String[] tokens;
+
+        /**
+         * Lines containing points that have been read ahead of current point
+         * to detect layout of values, and that still need to be added.
+         */
+        private final Deque<String> sampledLines;
+
+        /**
+         * Number of values that each point must contain.
+         */
+        private int requiredValues;
+
+        /**
+         * Position of intensity value in a line or -1 if not available.
+         */
+        private int intensityPosition;
+
+        /**
+         * Position of first color value in a line or -1 if not available.
+         */
+        private int colorPosition;
+
+        /**
+         * Position of first normal value in a line or -1 if not available.
+         */
+        private int normalPosition;
+
+        /**
+         * Line containing next point to be added or null if no more points
+         * are available.
+         */
+        private String pendingLine;
+
+        /**
+         * Intensity values of current chunk.
+         */
+        private float[] intensityInChunkArray;
+
+        /**
+         * Size of the file being loaded.
+         */
+        private final long fileLength;
+
+        /**
+         * Latest notified progress.
+         */
+        private float previousProgress;
+
+        /**
+         * Reference to the listener of this loader iterator. This listener will
+         * be notified when the loading process finishes so that resources can
+         * be freed.
+         */
+        private LoaderIteratorListener listener;
+
+        /**
+         * Constructor.
+         *
+         * @param loader reference to loader loading XYZ file.
+         * @throws IOException     if an I/O error occurs.
+         * @throws LoaderException if file data is corrupt or cannot be
+         *                         understood.
+         */
+        public LoaderIteratorXYZ(final LoaderXYZ loader) throws IOException, LoaderException {
+            this.loader = loader;
+            reader.seek(0);
+            lineReader = new AsciiLineReader(reader);
+            builder = new PointCloudChunkBuilder(loader.maxVerticesInChunk, DataChunk.DEFAULT_COLOR_COMPONENTS);
+            tokens = new String[MAX_VALUES];
+            sampledLines = new ArrayDeque<>();
+            fileLength = loader.file != null ? loader.file.length() : 0;
+            previousProgress = 0.0f;
+            listener = null;
+
+            setUp();
+        }
+
+        /**
+         * Method to set listener of this loader iterator.
+         * This listener will be notified when the loading process finishes.
+         *
+         * @param listener listener of this loader iterator.
+         */
+        public void setListener(final LoaderIteratorListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * Indicates if there is another chunk of data to be loaded.
+         *
+         * @return true if there is another chunk of data, false otherwise.
+         */
+        @Override
+        public boolean hasNext() {
+            return pendingLine != null;
+        }
+
+        /**
+         * Loads and returns next chunk of data, if available.
+         *
+         * @return next chunk of data.
+         * @throws NotAvailableException thrown if no more data is available.
+         * @throws LoaderException       if file data is corrupt or cannot be
+         *                               understood.
+         * @throws IOException           if an I/O error occurs.
+         */
+        @Override
+        public DataChunk next() throws NotAvailableException, LoaderException, IOException {
+            if (reader == null) {
+                throw new IOException();
+            }
+
+            if (!hasNext()) {
+                throw new NotAvailableException();
+            }
+
+            if (intensityPosition >= 0) {
+                intensityInChunkArray = new float[loader.maxVerticesInChunk];
+            }
+
+            try {
+                while (pendingLine != null && !builder.isFull()) {
+                    addPoint(pendingLine);
+                    pendingLine = readNextPointLine();
+                }
+            } catch (final NumberFormatException e) {
+                throw new LoaderException(e);
+            }
+
+            final var n = builder.getNumberOfVertices();
+            final var dataChunk = builder.build();
+            if (intensityPosition >= 0) {
+                dataChunk.setVertexPropertyData(INTENSITY_PROPERTY,
+                        n == intensityInChunkArray.length ? intensityInChunkArray
+                                : Arrays.copyOf(intensityInChunkArray, n));
+                intensityInChunkArray = null;
+            }
+
+            notifyProgress();
+
+            if (!hasNext() && listener != null) {
+                // notify iterator finished
+                listener.onIteratorFinished(this);
+            }
+
+            // if no more chunks are available, then close input reader
+            if (!hasNext()) {
+                reader.close();
+            }
+
+            return dataChunk;
+        }
+
+        /**
+         * Parses provided line and adds its point into current chunk.
+         *
+         * @param line line containing a point.
+         * @throws LoaderException       if line does not contain enough values.
+         * @throws NumberFormatException if values cannot be parsed.
+         */
+        private void addPoint(final String line) throws LoaderException {
+            if (AsciiLineReader.tokenize(line, tokens) < requiredValues) {
+                throw new LoaderException();
+            }
+
+            if (intensityPosition >= 0) {
+                intensityInChunkArray[builder.getNumberOfVertices()] =
+                        Float.parseFloat(tokens[intensityPosition]);
+            }
+            if (colorPosition >= 0) {
+                builder.setColor((short) Integer.parseInt(tokens[colorPosition]),
+                        (short) Integer.parseInt(tokens[colorPosition + 1]),
+                        (short) Integer.parseInt(tokens[colorPosition + 2]), (short) 255);
+            }
+            if (normalPosition >= 0) {
+                builder.setNormal(Float.parseFloat(tokens[normalPosition]),
+                        Float.parseFloat(tokens[normalPosition + 1]),
+                        Float.parseFloat(tokens[normalPosition + 2]));
+            }
+            builder.addVertex(Float.parseFloat(tokens[0]), Float.parseFloat(tokens[1]),
+                    Float.parseFloat(tokens[2]));
+        }
+
+        /**
+         * Returns next line containing a point, either among lines read ahead
+         * to detect layout of values, or from the file.
+         *
+         * @return next line containing a point or null if no more points are
+         * available.
+         * @throws IOException if an I/O error occurs.
+         */
+        private String readNextPointLine() throws IOException {
+            if (!sampledLines.isEmpty()) {
+                return sampledLines.poll();
+            }
+            return readPointLineFromFile();
+        }
+
+        /**
+         * Reads next line containing a point from the file, skipping empty
+         * lines and comments.
+         *
+         * @return next line containing a point or null if no more points are
+         * available.
+         * @throws IOException if an I/O error occurs.
+         */
+        private String readPointLineFromFile() throws IOException {
+            String line;
+            while ((line = lineReader.readLine()) != null) {
+                if (!line.isBlank() && !isComment(line)) {
+                    return line;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Notifies loading progress if it has changed enough.
+         */
+        private void notifyProgress() {
+            if (loader.listener != null && fileLength > 0) {
+                final var progress = Math.min((float) lineReader.getPosition() / (float) fileLength, 1.0f);
+                if (progress - previousProgress >= PROGRESS_DELTA || !hasNext()) {
+                    previousProgress = progress;
+                    loader.listener.onLoadProgressChange(loader, progress);
+                }
+            }
+        }
+
+        /**
+         * Finds first point and determines layout of values of points.
+         *
+         * @throws IOException     if an I/O error occurs.
+         * @throws LoaderException if first point does not contain enough
+         *                         values.
+         */
+        private void setUp() throws IOException, LoaderException {
+            pendingLine = readFirstPointLine(lineReader, tokens);
+            intensityPosition = colorPosition = normalPosition = -1;
+            if (pendingLine == null) {
+                // file does not contain any point
+                throw new LoaderException();
+            }
+
+            final var n = AsciiLineReader.tokenize(pendingLine, tokens);
+            if (n < 3) {
+                throw new LoaderException();
+            }
+
+            switch (n) {
+                case 4:
+                    intensityPosition = 3;
+                    requiredValues = 4;
+                    break;
+                case 6:
+                    var layout = loader.sixValuesLayout;
+                    if (layout == XYZSixValuesLayout.AUTO) {
+                        layout = detectSixValuesLayout();
+                    }
+                    if (layout == XYZSixValuesLayout.COLORS) {
+                        colorPosition = 3;
+                    } else {
+                        normalPosition = 3;
+                    }
+                    requiredValues = 6;
+                    break;
+                case 7:
+                    intensityPosition = 3;
+                    colorPosition = 4;
+                    requiredValues = 7;
+                    break;
+                default:
+                    requiredValues = 3;
+                    break;
+            }
+        }
+
+        /**
+         * Detects whether the last three values of points containing six
+         * values are colors or normals by sampling up to
+         * {@link #SIX_VALUES_LAYOUT_SAMPLES} points starting at the first one.
+         * Sampled lines are kept so that they are added afterwards.
+         *
+         * @return detected layout.
+         * @throws IOException if an I/O error occurs.
+         */
+        private XYZSixValuesLayout detectSixValuesLayout() throws IOException {
+            var colorValueFound = false;
+            var line = pendingLine;
+            for (var i = 0; line != null && i < SIX_VALUES_LAYOUT_SAMPLES; i++) {
+                if (AsciiLineReader.tokenize(line, tokens) >= 6) {
+                    for (var j = 3; j < 6; j++) {
+                        if (!isInteger(tokens[j])) {
+                            return XYZSixValuesLayout.NORMALS;
+                        }
+                        final var value = Integer.parseInt(tokens[j]);
+                        if (value < 0 || value > MAX_COLOR_VALUE) {
+                            return XYZSixValuesLayout.NORMALS;
+                        }
+                        colorValueFound |= value > 1;
+                    }
+                }
+
+                if (i < SIX_VALUES_LAYOUT_SAMPLES - 1) {
+                    line = readPointLineFromFile();
+                    if (line != null) {
+                        sampledLines.add(line);
+                    }
+                }
+            }
+
+            // values restricted to 0 and 1 are most likely unit normals
+            return colorValueFound ? XYZSixValuesLayout.COLORS : XYZSixValuesLayout.NORMALS;
+        }
+    }
+}
@@ -0,0 +1,495 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * Chunk of data whose vertex data is backed by read-only views into a
+ * memory mapped file, rather than by arrays.
+ * Views are exposed through buffer getters without copying any data, which
+ * is useful for consumers that only need to forward data (e.g. to upload it
+ * into graphic memory or to send it through a socket).
+ * Arrays are only created on demand when array getters are called, and once
+ * created they are kept, hence subsequent calls return the same arrays.
+ * Views remain valid while the loader that created this chunk is open and
+ * keeps the same file, even after subsequent chunks are loaded. Once the
+ * loader is closed or its file is changed, buffer getters raise an
+ * {@link IllegalStateException}, and so do array getters for data that was
+ * not previously materialized. {@link #materialize()} can be used to copy
+ * all data into arrays so that this chunk can be used after closing the
+ * loader.
+ */
+public class MappedDataChunk extends DataChunk {
+
+    /**
+     * Mapped file containing the data of this chunk.
+     */
+    private final MappedFileReaderAndWriter source;
+
+    /**
+     * View containing 3D coordinates of vertices or null if not available.
+     */
+    private FloatBuffer coordsBuffer;
+
+    /**
+     * View containing colors of vertices as unsigned bytes or null if not
+     * available.
+     */
+    private ByteBuffer colorBuffer;
+
+    /**
+     * View containing indices of vertices, either as a {@link ShortBuffer}
+     * of unsigned 16-bit values or as an {@link IntBuffer}, or null if not
+     * available.
+     */
+    private Buffer indicesBuffer;
+
+    /**
+     * View containing texture coordinates or null if not available.
+     */
+    private FloatBuffer textureCoordsBuffer;
+
+    /**
+     * View containing normals or null if not available.
+     */
+    private FloatBuffer normalsBuffer;
+
+    /**
+     * Constructor.
+     *
+     * @param source mapped file containing the data of this chunk.
+     */
+    MappedDataChunk(final MappedFileReaderAndWriter source) {
+        this.source = source;
+    }
+
+    /**
+     * Indicates whether views of this chunk can still be accessed, which
+     * happens while the loader that created this chunk keeps its file open.
+     *
+     * @return true if views can be accessed, false otherwise.
+     */
+    public boolean isValid() {
+        return !source.isClosed();
+    }
+
+    /**
+     * Returns a read-only view containing 3D coordinates for all points in a
+     * chunk in consecutive order (x0, y0, z0, x1, y1, z1, ...).
+     *
+     * @return view containing 3D coordinates or null if not available.
+     * @throws IllegalStateException if the loader that created this chunk has
+     *                               been closed.
+     */
+    public FloatBuffer getVerticesCoordinatesBuffer() {
+        checkValid();
+        return coordsBuffer != null ? coordsBuffer.duplicate() : null;
+    }
+
+    /**
+     * Returns a read-only view containing the color for each vertex as
+     * unsigned bytes stored consecutively (r0, g0, b0, r1, g1, b1, ...).
+     *
+     * @return view containing colors or null if not available.
+     * @throws IllegalStateException if the loader that created this chunk has
+     *                               been closed.
+     * @see #getColorComponents()
+     */
+    public ByteBuffer getColorBuffer() {
+        checkValid();
+        return colorBuffer != null ? colorBuffer.duplicate() : null;
+    }
+
+    /**
+     * Returns a read-only view containing indices of vertices to build the
+     * triangles of this chunk. Returned view is a {@link ShortBuffer}
+     * containing unsigned 16-bit values or an {@link IntBuffer} if indices
+     * were stored as 32-bit values.
+     *
+     * @return view containing indices or null if not available.
+     * @throws IllegalStateException if the loader that created this chunk has
+     *                               been closed.
+     * @see #isIndices32Bit()
+     */
+    public Buffer getIndicesBuffer() {
+        checkValid();
+        if (indicesBuffer instanceof IntBuffer intBuffer) {
+            return intBuffer.duplicate();
+        } else if (indicesBuffer instanceof ShortBuffer shortBuffer) {
+            return shortBuffer.duplicate();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Indicates whether indices view contains 32-bit values.
+     *
+     * @return true if indices view is an {@link IntBuffer}, false otherwise.
+     */
+    public boolean isIndices32Bit() {
+        return indicesBuffer instanceof IntBuffer;
+    }
+
+    /**
+     * Returns a read-only view containing texture coordinates for all vertices
+     * in consecutive order (u0, v0, u1, v1, ...).
+     *
+     * @return view containing texture coordinates or null if not available.
+     * @throws IllegalStateException if the loader that created this chunk has
+     *                               been closed.
+     */
+    public FloatBuffer getTextureCoordinatesBuffer() {
+        checkValid();
+        return textureCoordsBuffer != null ? textureCoordsBuffer.duplicate() : null;
+    }
+
+    /**
+     * Returns a read-only view containing normals for all vertices in
+     * consecutive order (nx0, ny0, nz0, nx1, ny1, nz1, ...).
+     *
+     * @return view containing normals or null if not available.
+     * @throws IllegalStateException if the loader that created this chunk has
+     *                               been closed.
+     */
+    public FloatBuffer getNormalsBuffer() {
+        checkValid();
+        return normalsBuffer != null ? normalsBuffer.duplicate() : null;
+    }
+
+    /**
+     * Copies all data still backed by views into arrays, so that this chunk
+     * can be used after the loader that created it is closed.
+     *
+     * @throws IllegalStateException if the loader that created this chunk has
+     *                               been closed before data was materialized.
+     */
+    public void materialize() {
+        getVerticesCoordinatesData();
+        getColorData();
+        getIndicesData();
+        getTextureCoordinatesData();
+        getNormalsData();
+    }
+
+    /**
+     * Sets array containing 3D coordinates for all points in a chunk.
+     * Provided array replaces any view of the mapped file.
+     *
+     * @param coords Array containing 3D coordinates for all points in a chunk.
+     */
+    @Override
+    public void setVerticesCoordinatesData(final float[] coords) {
+        coordsBuffer = null;
+        super.setVerticesCoordinatesData(coords);
+    }
+
+    /**
+     * Returns array containing 3D coordinates for all points in a chunk.
+     * Array is copied from the mapped file the first time this method is
+     * called.
+     *
+     * @return Array containing 3D coordinates for all points in a chunk.
+     * @throws IllegalStateException if data has not been materialized yet and
+     *                               the loader that created this chunk has
+     *                               been closed.
+     */
+    @Override
+    public float[] getVerticesCoordinatesData() {
+        if (coordsBuffer != null) {
+            super.setVerticesCoordinatesData(toArray(getVerticesCoordinatesBuffer()));
+            coordsBuffer = null;
+        }
+        return super.getVerticesCoordinatesData();
+    }
+
+    /**
+     * Indicates if 3D coordinates are available, either as a view or as an
+     * array.
+     *
+     * @return True if available, false otherwise.
+     */
+    @Override
+    public boolean isVerticesCoordinatesDataAvailable() {
+        return coordsBuffer != null || super.isVerticesCoordinatesDataAvailable();
+    }
+
+    /**
+     * Sets array containing the color for each vertex in the chunk of data.
+     * Provided array replaces any view of the mapped file.
+     *
+     * @param colors Array containing the color for each vertex to be set.
+     */
+    @Override
+    public void setColorData(final short[] colors) {
+        colorBuffer = null;
+        super.setColorData(colors);
+    }
+
+    /**
+     * Returns array containing the color for each vertex in the chunk of data.
+     * Array is copied from the mapped file the first time this method is
+     * called.
+     *
+     * @return array containing the color for each vertex in the chunk of data.
+     * @throws IllegalStateException if data has not been materialized yet and
+     *                               the loader that created this chunk has
+     *                               been closed.
+     */
+    @Override
+    public short[] getColorData() {
+        if (colorBuffer != null) {
+            final var buffer = getColorBuffer();
+            final var colors = new short[buffer.remaining()];
+            for (var i = 0; i < colors.length; i++) {
+                // convert signed bytes into unsigned bytes stored in shorts
+                colors[i] = (short) (buffer.get() & 0x000000ff);
+            }
+            super.setColorData(colors);
+            colorBuffer = null;
+        }
+        return super.getColorData();
+    }
+
+    /**
+     * Indicates if colors are available, either as a view or as an array.
+     *
+     * @return True if available, false otherwise.
+     */
+    @Override
+    public boolean isColorDataAvailable() {
+        return colorBuffer != null || super.isColorDataAvailable();
+    }
+
+    /**
+     * Sets array that contains indices of vertices to build the triangles
+     * forming the 3D shape on this chunk.
+     * Provided array replaces any view of the mapped file.
+     *
+     * @param indices indices of vertices to build triangles.
+     */
+    @Override
+    public void setIndicesData(final int[] indices) {
+        indicesBuffer = null;
+        super.setIndicesData(indices);
+    }
+
+    /**
+     * Returns array containing indices of vertices to build the triangles
+     * forming the 3D shape on this chunk.
+     * Array is copied from the mapped file the first time this method is
+     * called.
+     *
+     * @return Array containing indices of vertices to build the triangles.
+     * @throws IllegalStateException if data has not been materialized yet and
+     *                               the loader that created this chunk has
+     *                               been closed.
+     */
+    @Override
+    public int[] getIndicesData() {
+        if (indicesBuffer != null) {
+            final var buffer = getIndicesBuffer();
+            final int[] indices;
+            if (buffer instanceof IntBuffer intBuffer) {
+                indices = new int[intBuffer.remaining()];
+                intBuffer.get(indices);
+            } else {
+                final var shortBuffer = (ShortBuffer) buffer;
+                indices = new int[shortBuffer.remaining()];
+                for (var i = 0; i < indices.length; i++) {
+                    // 16-bit indices are unsigned
+                    indices[i] = shortBuffer.get() & 0x0000ffff;
+                }
+            }
+            super.setIndicesData(indices);
+            indicesBuffer = null;
+        }
+        return super.getIndicesData();
+    }
+
+    /**
+     * Indicates if indices are available, either as a view or as an array.
+     *
+     * @return True if available, false otherwise.
+     */
+    @Override
+    public boolean isIndicesDataAvailable() {
+        return indicesBuffer != null || super.isIndicesDataAvailable();
+    }
+
+    /**
+     * Sets array containing texture coordinates.
+     * Provided array replaces any view of the mapped file.
+     *
+     * @param textureCoords array containing texture coordinates.
+     */
+    @Override
+    public void setTextureCoordinatesData(final float[] textureCoords) {
+        textureCoordsBuffer = null;
+        super.setTextureCoordinatesData(textureCoords);
+    }
+
+    /**
+     * Returns array containing texture coordinates.
+     * Array is copied from the mapped file the first time this method is
+     * called.
+     *
+     * @return array containing texture coordinates.
+     * @throws IllegalStateException if data has not been materialized yet and
+     *                               the loader that created this chunk has
+     *                               been closed.
+     */
+    @Override
+    public float[] getTextureCoordinatesData() {
+        if (textureCoordsBuffer != null) {
+            super.setTextureCoordinatesData(toArray(getTextureCoordinatesBuffer()));
+            textureCoordsBuffer = null;
+        }
+        return super.getTextureCoordinatesData();
+    }
+
+    /**
+     * Indicates if texture coordinates are available, either as a view or as
+     * an array.
+     *
+     * @return True if available, false otherwise.
+     */
+    @Override
+    public boolean isTextureCoordinatesDataAvailable() {
+        return textureCoordsBuffer != null || super.isTextureCoordinatesDataAvailable();
+    }
+
+    /**
+     * Sets array containing normals.
+     * Provided array replaces any view of the mapped file.
+     *
+     * @param normals array containing normals.
+     */
+    @Override
+    public void setNormalsData(final float[] normals) {
+        normalsBuffer = null;
+        super.setNormalsData(normals);
+    }
+
+    /**
+     * Returns array containing normals.
+     * Array is copied from the mapped file the first time this method is
+     * called.
+     *
+     * @return array containing normals.
+     * @throws IllegalStateException if data has not been materialized yet and
+     *                               the loader that created this chunk has
+     *                               been closed.
+     */
+    @Override
+    public float[] getNormalsData() {
+        if (normalsBuffer != null) {
+            super.setNormalsData(toArray(getNormalsBuffer()));
+            normalsBuffer = null;
+        }
+        return super.getNormalsData();
+    }
+
+    /**
+     * Indicates if normals are available, either as a view or as an array.
+     *
+     * @return True if available, false otherwise.
+     */
+    @Override
+    public boolean isNormalsDataAvailable() {
+        return normalsBuffer != null || super.isNormalsDataAvailable();
+    }
+
+    /**
+     * Sets view containing 3D coordinates.
+     *
+     * @param coordsBuffer view containing 3D coordinates.
+     */
+    void setVerticesCoordinatesBuffer(final FloatBuffer coordsBuffer) {
+        super.setVerticesCoordinatesData(null);
+        this.coordsBuffer = coordsBuffer;
+    }
+
+    /**
+     * Sets view containing colors as unsigned bytes.
+     *
+     * @param colorBuffer view containing colors.
+     */
+    void setColorBuffer(final ByteBuffer colorBuffer) {
+        super.setColorData(null);
+        this.colorBuffer = colorBuffer;
+    }
+
+    /**
+     * Sets view containing indices.
+     *
+     * @param indicesBuffer view containing either unsigned 16-bit indices or
+     *                      32-bit indices.
+     */
+    void setIndicesBuffer(final Buffer indicesBuffer) {
+        super.setIndicesData(null);
+        this.indicesBuffer = indicesBuffer;
+    }
+
+    /**
+     * Sets view containing texture coordinates.
+     *
+     * @param textureCoordsBuffer view containing texture coordinates.
+     */
+    void setTextureCoordinatesBuffer(final FloatBuffer textureCoordsBuffer) {
+        super.setTextureCoordinatesData(null);
+        this.textureCoordsBuffer = textureCoordsBuffer;
+    }
+
+    /**
+     * Sets view containing normals.
+     *
+     * @param normalsBuffer view containing normals.
+     */
+    void setNormalsBuffer(final FloatBuffer normalsBuffer) {
+        super.setNormalsData(null);
+        this.normalsBuffer = normalsBuffer;
+    }
+
+    /**
+     * Ensures that views of this chunk can still be accessed.
+     *
+     * @throws IllegalStateException if the loader that created this chunk has
+     *                               been closed.
+     */
+    private void checkValid() {
+        if (!isValid()) {
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Copies remaining values of provided view into a new array.
+     *
+     * @param buffer view to be copied.
+     * @return array containing copied values.
+     */
+    private static float[] toArray(final FloatBuffer buffer) {
+        final var result = new float[buffer.remaining()];
+        buffer.get(result);
+        return result;
+    }
+}
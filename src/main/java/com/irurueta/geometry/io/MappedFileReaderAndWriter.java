@@ -18,6 +18,7 @@ package com.irurueta.geometry.io;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 
@@ -43,6 +44,11 @@ public class MappedFileReaderAndWriter extends AbstractFileReaderAndWriter {
      */
     private boolean read;
 
+    /**
+     * Indicates whether this file has been closed.
+     */
+    private boolean closed;
+
     /**
      * Constructor.
      *
@@ -250,6 +256,30 @@ public class MappedFileReaderAndWriter extends AbstractFileReaderAndWriter {
     public void close() throws IOException {
         buffer.force();
         randomAccessFile.close();
+        closed = true;
+    }
+
+    /**
+     * Indicates whether this file has been closed, in which case buffers
+     * obtained through {@link #slice(long, int)} must no longer be used.
+     *
+     * @return true if file has been closed, false otherwise.
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Returns a read-only view of a region of the mapped file, without
+     * copying its data and without modifying current file position.
+     * Returned view uses big endian byte order.
+     *
+     * @param pos    position in bytes where the region starts.
+     * @param length length in bytes of the region.
+     * @return view of the region of the mapped file.
+     */
+    ByteBuffer slice(final long pos, final int length) {
+        return buffer.slice((int) pos, length).asReadOnlyBuffer();
     }
 
     /**
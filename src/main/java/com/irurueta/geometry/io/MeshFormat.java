@@ -37,5 +37,10 @@ public enum MeshFormat {
     /**
      * Binary v2 format.
      */
-    MESH_FORMAT_BINARY2
+    MESH_FORMAT_BINARY2,
+
+    /**
+     * XYZ or PTS ASCII point cloud format.
+     */
+    MESH_FORMAT_XYZ
 }
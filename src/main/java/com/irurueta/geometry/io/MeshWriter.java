@@ -144,6 +144,19 @@ public abstract class MeshWriter {
         return (stream != null) && (loader != null);
     }
 
+    /**
+     * Ensures that provided chunk stores vertex data into separate arrays,
+     * because writers cannot serialize interleaved vertex buffers.
+     *
+     * @param chunk chunk to be written.
+     * @throws LoaderException if vertex data of chunk is interleaved.
+     */
+    protected static void checkNotInterleaved(final DataChunk chunk) throws LoaderException {
+        if (chunk.isInterleavedVertexDataAvailable()) {
+            throw new LoaderException();
+        }
+    }
+
     /**
      * Internal class implementing listeners for different specific loaders.
      */
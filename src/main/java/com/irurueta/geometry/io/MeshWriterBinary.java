@@ -18,9 +18,16 @@ package com.irurueta.geometry.io;
 import java.io.BufferedOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Reads a 3D object and converts it into custom binary format.
@@ -37,11 +44,118 @@ public class MeshWriterBinary extends MeshWriter {
      */
     public static final int BUFFER_SIZE = 1024;
 
+    /**
+     * Version 3 of the binary file, which stores indices as 16 or 32-bit
+     * values depending on the number of vertices of each chunk, and writes
+     * each material only once in a material table referenced by chunks.
+     */
+    public static final byte VERSION_3 = BinaryFormat.VERSION_3;
+
+    /**
+     * Default version of written binary files.
+     */
+    public static final byte DEFAULT_VERSION = VERSION;
+
+    /**
+     * Indicates whether a chunk directory is written by default.
+     */
+    public static final boolean DEFAULT_CHUNK_DIRECTORY_ENABLED = false;
+
+    /**
+     * Indicates whether chunk data is compressed by default.
+     */
+    public static final boolean DEFAULT_COMPRESSED = false;
+
+    /**
+     * Minimum number of bits of quantized vertex positions.
+     */
+    public static final int MIN_POSITION_BITS = BinaryCompression.MIN_POSITION_BITS;
+
+    /**
+     * Maximum number of bits of quantized vertex positions.
+     */
+    public static final int MAX_POSITION_BITS = BinaryCompression.MAX_POSITION_BITS;
+
+    /**
+     * Default number of bits of quantized vertex positions.
+     */
+    public static final int DEFAULT_POSITION_BITS = MAX_POSITION_BITS;
+
+    /**
+     * Default maximum number of chunks being encoded or waiting to be written
+     * at the same time when writing in parallel.
+     */
+    public static final int DEFAULT_MAX_PENDING_CHUNKS = 16;
+
+    /**
+     * Minimum allowed value for the maximum number of pending chunks when
+     * writing in parallel.
+     */
+    public static final int MIN_PENDING_CHUNKS = 1;
+
     /**
      * Stream to write binary data to output.
      */
     private DataOutputStream dataStream;
 
+    /**
+     * Version of written binary file.
+     */
+    private byte version = DEFAULT_VERSION;
+
+    /**
+     * Positions within the material table of the materials written so far,
+     * indexed by material id. Only used in version 3.
+     */
+    private final Map<Integer, Integer> materialIndices = new HashMap<>();
+
+    /**
+     * Indicates whether a chunk directory is written at the end of version 3
+     * files.
+     */
+    private boolean chunkDirectoryEnabled = DEFAULT_CHUNK_DIRECTORY_ENABLED;
+
+    /**
+     * Indicates whether chunk data of version 3 files is compressed.
+     */
+    private boolean compressed = DEFAULT_COMPRESSED;
+
+    /**
+     * Number of bits of quantized vertex positions when chunk data is
+     * compressed.
+     */
+    private int positionBits = DEFAULT_POSITION_BITS;
+
+    /**
+     * Counts bytes written into output stream, so that positions of chunks
+     * and materials can be stored in the chunk directory.
+     */
+    private CountingOutputStream countingStream;
+
+    /**
+     * Positions in bytes of the material records written so far. Only used
+     * when writing a chunk directory.
+     */
+    private final List<Long> materialOffsets = new ArrayList<>();
+
+    /**
+     * Ids of the material records written so far. Only used when writing a
+     * chunk directory.
+     */
+    private final List<Integer> materialIds = new ArrayList<>();
+
+    /**
+     * Information about the chunks written so far. Only used when writing a
+     * chunk directory.
+     */
+    private final List<ChunkInfoBinary> chunkInfos = new ArrayList<>();
+
+    /**
+     * Maximum number of chunks being encoded or waiting to be written at the
+     * same time when writing in parallel.
+     */
+    private int maxPendingChunks = DEFAULT_MAX_PENDING_CHUNKS;
+
     /**
      * Constructor.
      *
@@ -64,6 +178,173 @@ public class MeshWriterBinary extends MeshWriter {
         super(loader, stream, listener);
     }
 
+    /**
+     * Returns version of written binary files.
+     * By default, version 2 is written so that files can be read by previous
+     * versions of this library.
+     *
+     * @return version of written binary files.
+     */
+    public byte getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets version of written binary files.
+     * Version 3 stores indices as 32-bit values for chunks having more than
+     * 65535 vertices (which version 2 cannot represent), and writes each
+     * material only once instead of in every chunk using it. Materials are
+     * identified by their id, hence materials having the same id are assumed
+     * to be equal.
+     *
+     * @param version version of written binary files, either {@link #VERSION}
+     *                or {@link #VERSION_3}.
+     * @throws IllegalArgumentException if provided version is not supported.
+     * @throws LockedException          if this mesh writer is locked processing a
+     *                                  file.
+     */
+    public void setVersion(final byte version) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (version != VERSION && version != VERSION_3) {
+            throw new IllegalArgumentException();
+        }
+        this.version = version;
+    }
+
+    /**
+     * Indicates whether a chunk directory is written at the end of version 3
+     * files.
+     *
+     * @return true if a chunk directory is written, false otherwise.
+     */
+    public boolean isChunkDirectoryEnabled() {
+        return chunkDirectoryEnabled;
+    }
+
+    /**
+     * Specifies whether a chunk directory is written at the end of version 3
+     * files.
+     * The chunk directory contains the position, size, bounding box, number
+     * of vertices and indices, and material of every chunk, along with the
+     * bounds and totals of the whole mesh, so that {@link LoaderBinary} can
+     * load chunks in any order or only those intersecting a region of
+     * interest.
+     * Chunk directories are not supported by version 2 files, hence this
+     * setting is ignored when writing them.
+     *
+     * @param chunkDirectoryEnabled true to write a chunk directory, false
+     *                              otherwise.
+     * @throws LockedException if this mesh writer is locked processing a
+     *                         file.
+     */
+    public void setChunkDirectoryEnabled(final boolean chunkDirectoryEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.chunkDirectoryEnabled = chunkDirectoryEnabled;
+    }
+
+    /**
+     * Indicates whether chunk data of version 3 files is compressed.
+     *
+     * @return true if chunk data is compressed, false otherwise.
+     */
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    /**
+     * Specifies whether chunk data of version 3 files is compressed.
+     * When compressed, vertex positions are quantized to
+     * {@link #getPositionBits()} bits relative to the bounding box of each
+     * chunk, normals are octahedral encoded into two 16-bit values, texture
+     * coordinates are quantized to 16 bits relative to their bounds, and
+     * indices are stored as variable length deltas.
+     * Compression is lossy for positions, normals and texture coordinates,
+     * and loaded normals are always unit vectors.
+     * Compression is not supported by version 2 files, hence this setting is
+     * ignored when writing them.
+     *
+     * @param compressed true to compress chunk data, false otherwise.
+     * @throws LockedException if this mesh writer is locked processing a
+     *                         file.
+     */
+    public void setCompressed(final boolean compressed) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.compressed = compressed;
+    }
+
+    /**
+     * Returns number of bits of quantized vertex positions when chunk data is
+     * compressed.
+     *
+     * @return number of bits of quantized vertex positions.
+     */
+    public int getPositionBits() {
+        return positionBits;
+    }
+
+    /**
+     * Sets number of bits of quantized vertex positions when chunk data is
+     * compressed. Positions are stored in 1 byte per coordinate when using 8
+     * bits or fewer, and in 2 bytes otherwise. The maximum error of each
+     * coordinate is half the size of the chunk bounding box divided by
+     * 2^bits - 1.
+     *
+     * @param positionBits number of bits of quantized vertex positions.
+     * @throws IllegalArgumentException if provided value is less than
+     *                                  {@link #MIN_POSITION_BITS} or greater
+     *                                  than {@link #MAX_POSITION_BITS}.
+     * @throws LockedException          if this mesh writer is locked processing
+     *                                  a file.
+     */
+    public void setPositionBits(final int positionBits) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (positionBits < MIN_POSITION_BITS || positionBits > MAX_POSITION_BITS) {
+            throw new IllegalArgumentException();
+        }
+        this.positionBits = positionBits;
+    }
+
+    /**
+     * Returns maximum number of chunks being encoded or waiting to be written
+     * at the same time when writing in parallel.
+     *
+     * @return maximum number of pending chunks.
+     */
+    public int getMaxPendingChunks() {
+        return maxPendingChunks;
+    }
+
+    /**
+     * Sets maximum number of chunks being encoded or waiting to be written at
+     * the same time when writing in parallel. Larger values allow more chunks
+     * to be encoded concurrently at the expense of larger memory usage, since
+     * each pending chunk keeps its loaded data and its encoded bytes in
+     * memory.
+     *
+     * @param maxPendingChunks maximum number of pending chunks.
+     * @throws IllegalArgumentException if provided value is less than
+     *                                  {@link #MIN_PENDING_CHUNKS}.
+     * @throws LockedException          if this mesh writer is locked processing
+     *                                  a file.
+     */
+    public void setMaxPendingChunks(final int maxPendingChunks) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (maxPendingChunks < MIN_PENDING_CHUNKS) {
+            throw new IllegalArgumentException();
+        }
+        this.maxPendingChunks = maxPendingChunks;
+    }
+
     /**
      * Processes input file provided to loader and writes it trans-coded into
      * output stream.
@@ -74,9 +355,55 @@ public class MeshWriterBinary extends MeshWriter {
      *                           loader has not been provided or an output stream has not been provided.
      * @throws LockedException   if this mesh writer is locked processing a file.
      */
-    @SuppressWarnings("DuplicatedCode")
     @Override
     public void write() throws LoaderException, IOException, NotReadyException, LockedException {
+        write(Runnable::run, 1);
+    }
+
+    /**
+     * Processes input file provided to loader and writes it trans-coded into
+     * output stream, encoding chunks concurrently in provided executor while
+     * the loader keeps producing them.
+     * Encoded chunks are written into output stream by the calling thread in
+     * the same order they are loaded, hence resulting output is equal to the
+     * one obtained by {@link #write()}. At most
+     * {@link #getMaxPendingChunks()} chunks are kept in memory waiting to be
+     * encoded or written.
+     *
+     * @param executor executor where chunks are encoded.
+     * @throws IllegalArgumentException if executor is null.
+     * @throws LoaderException          if 3D file loading fails.
+     * @throws IOException              if an I/O error occurs.
+     * @throws NotReadyException        if mesh writer is not ready because either
+     *                                  a loader has not been provided or an
+     *                                  output stream has not been provided.
+     * @throws LockedException          if this mesh writer is locked processing
+     *                                  a file.
+     */
+    public void writeParallel(final Executor executor) throws LoaderException, IOException, NotReadyException,
+            LockedException {
+        if (executor == null) {
+            throw new IllegalArgumentException();
+        }
+        write(executor, maxPendingChunks);
+    }
+
+    /**
+     * Processes input file provided to loader and writes it trans-coded into
+     * output stream, encoding chunks in provided executor.
+     *
+     * @param executor         executor where chunks are encoded.
+     * @param maxPendingChunks maximum number of chunks being encoded or waiting
+     *                         to be written.
+     * @throws LoaderException   if 3D file loading fails.
+     * @throws IOException       if an I/O error occurs.
+     * @throws NotReadyException if mesh writer is not ready because either a
+     *                           loader has not been provided or an output stream has not been provided.
+     * @throws LockedException   if this mesh writer is locked processing a file.
+     */
+    @SuppressWarnings("DuplicatedCode")
+    private void write(final Executor executor, final int maxPendingChunks) throws LoaderException, IOException,
+            NotReadyException, LockedException {
 
         if (!isReady()) {
             throw new NotReadyException();
@@ -85,8 +412,11 @@ public class MeshWriterBinary extends MeshWriter {
             throw new LockedException();
         }
 
+        final var pipeline = new ChunkWriterPipeline<>(executor, maxPendingChunks, ChunkEncoder::new,
+                ChunkEncoder::encode, version == VERSION_3 ? this::writeChunkV3 : this::writeChunkV2);
         try {
-            dataStream = new DataOutputStream(new BufferedOutputStream(stream));
+            countingStream = new CountingOutputStream(new BufferedOutputStream(stream));
+            dataStream = new DataOutputStream(countingStream);
 
             locked = true;
             if (listener != null) {
@@ -96,7 +426,11 @@ public class MeshWriterBinary extends MeshWriter {
             loader.setListener(this.internalListeners);
 
             // write version
-            dataStream.writeByte(VERSION);
+            dataStream.writeByte(version);
+            materialIndices.clear();
+            materialOffsets.clear();
+            materialIds.clear();
+            chunkInfos.clear();
 
             final var iter = loader.load();
 
@@ -109,23 +443,11 @@ public class MeshWriterBinary extends MeshWriter {
 
             while (iter.hasNext()) {
                 final var chunk = iter.next();
+                checkNotInterleaved(chunk);
                 if (listener != null) {
                     listener.onChunkAvailable(this, chunk);
                 }
 
-                final var coords = chunk.getVerticesCoordinatesData();
-                final var colors = chunk.getColorData();
-                final var indices = chunk.getIndicesData();
-                final var textureCoords = chunk.getTextureCoordinatesData();
-                final var normals = chunk.getNormalsData();
-                final var colorComponents = chunk.getColorComponents();
-
-                final var coordsAvailable = (coords != null);
-                final var colorsAvailable = (colors != null);
-                final var indicesAvailable = (indices != null);
-                final var textureCoordsAvailable = (textureCoords != null);
-                final var normalsAvailable = (normals != null);
-
                 if (chunk.getMinX() < minX) {
                     minX = chunk.getMinX();
                 }
@@ -146,165 +468,6 @@ public class MeshWriterBinary extends MeshWriter {
                     maxZ = chunk.getMaxZ();
                 }
 
-                // compute size of material in bytes
-                final var material = chunk.getMaterial();
-                // boolean indicating availability
-                // of material
-                var materialSizeInBytes = 1;
-
-                if (material != null) {
-                    // material id (int)
-                    materialSizeInBytes += Integer.SIZE / 8;
-                    // ambient color (RGB) -> 3 bytes
-
-                    //boolean indicating availability
-                    materialSizeInBytes += 1;
-                    if (material.isAmbientColorAvailable()) {
-                        // RGB components
-                        materialSizeInBytes += 3;
-                    }
-
-                    // diffuse color
-
-                    // boolean indicating availability
-                    materialSizeInBytes += 1;
-                    if (material.isDiffuseColorAvailable()) {
-                        // RGB components
-                        materialSizeInBytes += 3;
-                    }
-
-                    // specular color
-
-                    // boolean indicating availability
-                    materialSizeInBytes += 1;
-                    if (material.isSpecularColorAvailable()) {
-                        // RGB components
-                        materialSizeInBytes += 3;
-                    }
-
-                    // specular coefficient (float)
-
-                    // boolean indicating availability
-                    materialSizeInBytes += 1;
-                    if (material.isSpecularCoefficientAvailable()) {
-                        materialSizeInBytes += Float.SIZE / 8;
-                    }
-
-                    // ambient texture map
-
-                    // boolean indicating availability
-                    materialSizeInBytes += 1;
-                    if (material.isAmbientTextureMapAvailable()) {
-                        // id of texture (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                        // texture width (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                        // texture height (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                    }
-
-                    // diffuse texture map
-
-                    // boolean indicating availability
-                    materialSizeInBytes += 1;
-                    if (material.isDiffuseTextureMapAvailable()) {
-                        // id of texture (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                        // texture width (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                        // texture height (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                    }
-
-                    // specular texture map
-
-                    // boolean indicating availability
-                    materialSizeInBytes += 1;
-                    if (material.isSpecularTextureMapAvailable()) {
-                        // id of texture (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                        // texture width (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                        // texture height (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                    }
-
-                    // alpha texture map
-
-                    // boolean indicating availability
-                    materialSizeInBytes += 1;
-                    if (material.isAlphaTextureMapAvailable()) {
-                        // id of texture (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                        // texture width (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                        // texture height (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                    }
-
-                    // bump texture map
-
-                    // boolean indicating availability
-                    materialSizeInBytes += 1;
-                    if (material.isBumpTextureMapAvailable()) {
-                        // id of texture (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                        // texture width (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                        // texture height (int)
-                        materialSizeInBytes += Integer.SIZE / 8;
-                    }
-
-                    // transparency
-
-                    // availability
-                    materialSizeInBytes += 1;
-                    if (material.isTransparencyAvailable()) {
-                        // one byte 0-255 of
-                        // transparency
-                        materialSizeInBytes += 1;
-                    }
-
-                    // enum of illumination(int)
-                    // boolean containing availability
-                    materialSizeInBytes += 1;
-                    if (material.isIlluminationAvailable()) {
-                        materialSizeInBytes += Integer.SIZE / 8;
-                    }
-                }
-
-                // compute size of chunk data in bytes
-                var coordsSizeInBytes = 0;
-                var colorsSizeInBytes = 0;
-                var indicesSizeInBytes = 0;
-                var textureCoordsSizeInBytes = 0;
-                var normalsSizeInBytes = 0;
-
-                if (coordsAvailable) {
-                    coordsSizeInBytes = coords.length * Float.SIZE / 8;
-                }
-                if (colorsAvailable) {
-                    colorsSizeInBytes = colors.length;
-                }
-                if (indicesAvailable) {
-                    indicesSizeInBytes = indices.length * Short.SIZE / 8;
-                }
-                if (textureCoordsAvailable) {
-                    textureCoordsSizeInBytes = textureCoords.length * Float.SIZE / 8;
-                }
-                if (normalsAvailable) {
-                    normalsSizeInBytes = normals.length * Float.SIZE / 8;
-                }
-
-                int chunkSize = materialSizeInBytes + coordsSizeInBytes + colorsSizeInBytes + indicesSizeInBytes
-                        + textureCoordsSizeInBytes + normalsSizeInBytes
-                        + (5 * Integer.SIZE / 8) + // sizes
-                        (6 * Float.SIZE / 8); // min/max values
-                if (colorsAvailable) {
-                    // bytes for number of color components
-                    chunkSize += Integer.SIZE / 8;
-                }
-
                 // indicate that no more textures follow
                 if (!ignoreTextureValidation) {
                     // byte below is written only once after all textures and
@@ -316,187 +479,20 @@ public class MeshWriterBinary extends MeshWriter {
                     ignoreTextureValidation = true;
                 }
 
-                // write total chunk size
-                dataStream.writeInt(chunkSize);
-
-                // indicate material availability
-                dataStream.writeBoolean(material != null);
-                if (material != null) {
-                    // material id
-                    dataStream.writeInt(material.getId());
-
-                    // ambient color
-                    dataStream.writeBoolean(material.isAmbientColorAvailable());
-                    if (material.isAmbientColorAvailable()) {
-                        var b = (byte) (material.getAmbientRedColor() & 0x00ff);
-                        dataStream.writeByte(b);
-                        b = (byte) (material.getAmbientGreenColor() & 0x00ff);
-                        dataStream.writeByte(b);
-                        b = (byte) (material.getAmbientBlueColor() & 0x00ff);
-                        dataStream.writeByte(b);
-                    }
-
-                    // diffuse color
-                    dataStream.writeBoolean(material.isDiffuseColorAvailable());
-                    if (material.isDiffuseColorAvailable()) {
-                        var b = (byte) (material.getDiffuseRedColor() & 0x00ff);
-                        dataStream.writeByte(b);
-                        b = (byte) (material.getDiffuseGreenColor() & 0x00ff);
-                        dataStream.writeByte(b);
-                        b = (byte) (material.getDiffuseBlueColor() & 0x00ff);
-                        dataStream.writeByte(b);
-                    }
-
-                    // specular color
-                    dataStream.writeBoolean(material.isSpecularColorAvailable());
-                    if (material.isSpecularColorAvailable()) {
-                        var b = (byte) (material.getSpecularRedColor() & 0x00ff);
-                        dataStream.writeByte(b);
-                        b = (byte) (material.getSpecularGreenColor() & 0x00ff);
-                        dataStream.writeByte(b);
-                        b = (byte) (material.getSpecularBlueColor() & 0x00ff);
-                        dataStream.writeByte(b);
-                    }
-
-                    // specular coefficient (float)
-                    dataStream.writeBoolean(material.isSpecularCoefficientAvailable());
-                    if (material.isSpecularCoefficientAvailable()) {
-                        dataStream.writeFloat(material.getSpecularCoefficient());
-                    }
-
-                    // ambient texture map
-                    dataStream.writeBoolean(material.isAmbientTextureMapAvailable());
-                    if (material.isAmbientTextureMapAvailable()) {
-                        final var tex = material.getAmbientTextureMap();
-                        // texture id
-                        dataStream.writeInt(tex.getId());
-                        // texture width
-                        dataStream.writeInt(tex.getWidth());
-                        // texture height
-                        dataStream.writeInt(tex.getHeight());
-                    }
-
-                    // diffuse texture map
-                    dataStream.writeBoolean(material.isDiffuseTextureMapAvailable());
-                    if (material.isDiffuseTextureMapAvailable()) {
-                        final var tex = material.getDiffuseTextureMap();
-                        // texture id
-                        dataStream.writeInt(tex.getId());
-                        // texture width
-                        dataStream.writeInt(tex.getWidth());
-                        // texture height
-                        dataStream.writeInt(tex.getHeight());
-                    }
-
-                    // specular texture map
-                    dataStream.writeBoolean(material.isSpecularTextureMapAvailable());
-                    if (material.isSpecularTextureMapAvailable()) {
-                        final var tex = material.getSpecularTextureMap();
-                        // texture id
-                        dataStream.writeInt(tex.getId());
-                        // texture width
-                        dataStream.writeInt(tex.getWidth());
-                        // texture height
-                        dataStream.writeInt(tex.getHeight());
-                    }
-
-                    // alpha texture map
-                    dataStream.writeBoolean(material.isAlphaTextureMapAvailable());
-                    if (material.isAlphaTextureMapAvailable()) {
-                        final var tex = material.getAlphaTextureMap();
-                        // texture id
-                        dataStream.writeInt(tex.getId());
-                        // texture width
-                        dataStream.writeInt(tex.getWidth());
-                        // texture height
-                        dataStream.writeInt(tex.getHeight());
-                    }
-
-                    // bump texture map
-                    dataStream.writeBoolean(material.isBumpTextureMapAvailable());
-                    if (material.isBumpTextureMapAvailable()) {
-                        final var tex = material.getBumpTextureMap();
-                        // texture id
-                        dataStream.writeInt(tex.getId());
-                        // texture width
-                        dataStream.writeInt(tex.getWidth());
-                        // texture height
-                        dataStream.writeInt(tex.getHeight());
-                    }
-
-                    dataStream.writeBoolean(material.isTransparencyAvailable());
-                    if (material.isTransparencyAvailable()) {
-                        final var b = (byte) (material.getTransparency() & 0x00ff);
-                        dataStream.writeByte(b);
-                    }
-
-                    dataStream.writeBoolean(material.isIlluminationAvailable());
-                    if (material.isIlluminationAvailable()) {
-                        dataStream.writeInt(material.getIllumination().value());
-                    }
-                }
-
-                // write coords size
-                dataStream.writeInt(coordsSizeInBytes);
-                // write coords
-                if (coordsAvailable) {
-                    for (final var coord : coords) {
-                        dataStream.writeFloat(coord);
-                    }
-                }
-
-                // write colors size
-                dataStream.writeInt(colorsSizeInBytes);
-                // write colors
-                if (colorsAvailable) {
-                    var i = 0;
-                    while (i < colors.length) {
-                        final var b = (byte) (colors[i] & 0x00ff);
-                        dataStream.writeByte(b);
-                        i++;
-                    }
-                    dataStream.writeInt(colorComponents);
-                }
-
-                // write indices size
-                dataStream.writeInt(indicesSizeInBytes);
-                // write indices
-                if (indicesAvailable) {
-                    for (final var index : indices) {
-                        final var s = (short) (index & 0x0000ffff);
-                        dataStream.writeShort(s);
-                    }
-                }
-
-                // write texture coords
-                dataStream.writeInt(textureCoordsSizeInBytes);
-                // write texture coords
-                if (textureCoordsAvailable) {
-                    for (final var textureCoord : textureCoords) {
-                        dataStream.writeFloat(textureCoord);
-                    }
-                }
+                pipeline.submit(chunk);
+            }
+            pipeline.finish();
 
-                // write normals
-                dataStream.writeInt(normalsSizeInBytes);
-                // write normals
-                if (normalsAvailable) {
-                    for (final var normal : normals) {
-                        dataStream.writeFloat(normal);
-                    }
+            if (version == VERSION_3 && chunkDirectoryEnabled) {
+                if (!ignoreTextureValidation) {
+                    // no chunks were written, hence textures still need to be
+                    // terminated
+                    dataStream.writeBoolean(false);
+                    ignoreTextureValidation = true;
                 }
-
-                // write min/max x, y, z
-                dataStream.writeFloat(chunk.getMinX());
-                dataStream.writeFloat(chunk.getMinY());
-                dataStream.writeFloat(chunk.getMinZ());
-
-                dataStream.writeFloat(chunk.getMaxX());
-                dataStream.writeFloat(chunk.getMaxY());
-                dataStream.writeFloat(chunk.getMaxZ());
-
-                dataStream.flush();
+                writeChunkDirectory(minX, minY, minZ, maxX, maxY, maxZ);
             }
+            dataStream.flush();
 
             if (listener != null) {
                 listener.onWriteEnd(this);
@@ -504,8 +500,10 @@ public class MeshWriterBinary extends MeshWriter {
             locked = false;
 
         } catch (final LoaderException | IOException e) {
+            pipeline.cancel();
             throw e;
         } catch (final Exception e) {
+            pipeline.cancel();
             throw new LoaderException(e);
         }
     }
@@ -545,14 +543,627 @@ public class MeshWriterBinary extends MeshWriter {
         final var length = textureFile.length();
         dataStream.writeLong(length);
 
-        // write file data
-        try (final var textureStream = Files.newInputStream(textureFile.toPath())) {
-            final var buffer = new byte[BUFFER_SIZE];
-            int n;
-            while ((n = textureStream.read(buffer)) > 0) {
-                dataStream.write(buffer, 0, n);
+        // write file data, ensuring that it matches written length
+        if (Files.copy(textureFile.toPath(), dataStream) != length) {
+            throw new IOException();
+        }
+    }
+
+    /**
+     * Commits a chunk of data in version 2 format, where chunk data is
+     * preceded by the whole material of the chunk.
+     *
+     * @param encoder encoder containing encoded chunk data.
+     * @param chunk   chunk to be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writeChunkV2(final ChunkEncoder encoder, final DataChunk chunk) throws IOException {
+        final var material = chunk.getMaterial();
+        // boolean indicating availability of material
+        final var materialSizeInBytes = 1 + (material != null ? getMaterialSizeInBytes(material) : 0);
+
+        // write total chunk size
+        dataStream.writeInt(materialSizeInBytes + encoder.buffer.position());
+
+        // indicate material availability
+        dataStream.writeBoolean(material != null);
+        if (material != null) {
+            writeMaterial(material);
+        }
+
+        dataStream.write(encoder.buffer.array(), 0, encoder.buffer.position());
+    }
+
+    /**
+     * Commits a chunk of data in version 3 format, where chunk data is
+     * preceded by a reference to the material table and a flags byte
+     * indicating the width of indices.
+     * If the material of the chunk has not been written yet, a material
+     * record is written before the chunk record.
+     *
+     * @param encoder encoder containing encoded chunk data.
+     * @param chunk   chunk to be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writeChunkV3(final ChunkEncoder encoder, final DataChunk chunk) throws IOException {
+        final var material = chunk.getMaterial();
+        var materialIndex = BinaryFormat.NO_MATERIAL;
+        if (material != null) {
+            final var index = materialIndices.get(material.getId());
+            if (index != null) {
+                materialIndex = index;
+            } else {
+                // add material to table
+                materialIndex = materialIndices.size();
+                materialIndices.put(material.getId(), materialIndex);
+                materialOffsets.add(countingStream.getCount());
+                materialIds.add(material.getId());
+
+                dataStream.writeByte(BinaryFormat.MATERIAL_RECORD);
+                writeMaterial(material);
             }
-            dataStream.flush();
+        }
+
+        final var chunkOffset = countingStream.getCount();
+        dataStream.writeByte(BinaryFormat.CHUNK_RECORD);
+
+        // write total chunk size (material reference, flags and chunk data)
+        final var chunkSize = Integer.SIZE / 8 + 1 + encoder.buffer.position();
+        dataStream.writeInt(chunkSize);
+
+        dataStream.writeInt(materialIndex);
+        dataStream.writeByte(encoder.flags);
+
+        dataStream.write(encoder.buffer.array(), 0, encoder.buffer.position());
+
+        if (chunkDirectoryEnabled) {
+            chunkInfos.add(new ChunkInfoBinary(chunkInfos.size(), chunkOffset,
+                    1 + Integer.SIZE / 8 + chunkSize,
+                    chunk.getVerticesCoordinatesDataLength() / 3,
+                    chunk.getIndicesDataLength(),
+                    materialIndex, material != null ? material.getId() : 0,
+                    chunk.getMinX(), chunk.getMinY(), chunk.getMinZ(),
+                    chunk.getMaxX(), chunk.getMaxY(), chunk.getMaxZ()));
+        }
+    }
+
+    /**
+     * Writes chunk directory record followed by the trailer indicating its
+     * position.
+     *
+     * @param minX minimum x coordinate of the mesh bounding box.
+     * @param minY minimum y coordinate of the mesh bounding box.
+     * @param minZ minimum z coordinate of the mesh bounding box.
+     * @param maxX maximum x coordinate of the mesh bounding box.
+     * @param maxY maximum y coordinate of the mesh bounding box.
+     * @param maxZ maximum z coordinate of the mesh bounding box.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writeChunkDirectory(final float minX, final float minY, final float minZ,
+                                     final float maxX, final float maxY, final float maxZ)
+            throws IOException {
+        final var directoryOffset = countingStream.getCount();
+        dataStream.writeByte(BinaryFormat.DIRECTORY_RECORD);
+
+        // material table
+        dataStream.writeInt(materialOffsets.size());
+        for (var i = 0; i < materialOffsets.size(); i++) {
+            dataStream.writeLong(materialOffsets.get(i));
+            dataStream.writeInt(materialIds.get(i));
+        }
+
+        // chunks
+        var totalVertices = 0L;
+        var totalIndices = 0L;
+        dataStream.writeInt(chunkInfos.size());
+        for (final var info : chunkInfos) {
+            dataStream.writeLong(info.getOffset());
+            dataStream.writeInt(info.getSize());
+            dataStream.writeInt(info.getVertexCount());
+            dataStream.writeInt(info.getIndexCount());
+            dataStream.writeInt(info.getMaterialIndex());
+
+            dataStream.writeFloat(info.getMinX());
+            dataStream.writeFloat(info.getMinY());
+            dataStream.writeFloat(info.getMinZ());
+
+            dataStream.writeFloat(info.getMaxX());
+            dataStream.writeFloat(info.getMaxY());
+            dataStream.writeFloat(info.getMaxZ());
+
+            totalVertices += info.getVertexCount();
+            totalIndices += info.getIndexCount();
+        }
+
+        // whole mesh
+        dataStream.writeLong(totalVertices);
+        dataStream.writeLong(totalIndices);
+
+        dataStream.writeFloat(minX);
+        dataStream.writeFloat(minY);
+        dataStream.writeFloat(minZ);
+
+        dataStream.writeFloat(maxX);
+        dataStream.writeFloat(maxY);
+        dataStream.writeFloat(maxZ);
+
+        // trailer
+        dataStream.writeLong(directoryOffset);
+        dataStream.writeInt(BinaryFormat.DIRECTORY_MAGIC);
+    }
+
+    /**
+     * Computes size in bytes of compressed chunk data, which includes encoded
+     * vertex data preceded by its sizes, and the bounding box of the chunk.
+     *
+     * @param chunk                chunk to be written.
+     * @param encodedCoords        encoded vertex positions or null.
+     * @param encodedIndices       encoded indices or null.
+     * @param encodedTextureCoords encoded texture coordinates or null.
+     * @param encodedNormals       encoded normals or null.
+     * @return size of compressed chunk data.
+     */
+    private static int getCompressedChunkDataSizeInBytes(
+            final DataChunk chunk, final byte[] encodedCoords, final byte[] encodedIndices,
+            final byte[] encodedTextureCoords, final byte[] encodedNormals) {
+        var size = (5 * Integer.SIZE / 8) + // sizes
+                (6 * Float.SIZE / 8); // min/max values
+        if (encodedCoords != null) {
+            size += encodedCoords.length;
+        }
+        if (chunk.getColorData() != null) {
+            size += chunk.getColorDataLength();
+            // bytes for number of color components
+            size += Integer.SIZE / 8;
+        }
+        if (encodedIndices != null) {
+            size += encodedIndices.length;
+        }
+        if (encodedTextureCoords != null) {
+            size += encodedTextureCoords.length;
+        }
+        if (encodedNormals != null) {
+            size += encodedNormals.length;
+        }
+        return size;
+    }
+
+    /**
+     * Puts compressed chunk data, which includes encoded vertex data preceded
+     * by its sizes, and the bounding box of the chunk, into provided buffer.
+     * Colors are written as in uncompressed chunks, since they are already
+     * stored as bytes.
+     *
+     * @param buffer               buffer where data is put.
+     * @param chunk                chunk to be written.
+     * @param encodedCoords        encoded vertex positions or null.
+     * @param encodedIndices       encoded indices or null.
+     * @param encodedTextureCoords encoded texture coordinates or null.
+     * @param encodedNormals       encoded normals or null.
+     */
+    private static void putCompressedChunkData(
+            final ByteBuffer buffer, final DataChunk chunk, final byte[] encodedCoords,
+            final byte[] encodedIndices, final byte[] encodedTextureCoords, final byte[] encodedNormals) {
+        putEncodedSection(buffer, encodedCoords);
+        putColors(buffer, chunk);
+        putEncodedSection(buffer, encodedIndices);
+        putEncodedSection(buffer, encodedTextureCoords);
+        putEncodedSection(buffer, encodedNormals);
+        putBoundingBox(buffer, chunk);
+    }
+
+    /**
+     * Puts size of an encoded section of chunk data followed by its data into
+     * provided buffer.
+     *
+     * @param buffer buffer where data is put.
+     * @param data   encoded data or null if not available.
+     */
+    private static void putEncodedSection(final ByteBuffer buffer, final byte[] data) {
+        buffer.putInt(data != null ? data.length : 0);
+        if (data != null) {
+            buffer.put(data);
+        }
+    }
+
+    /**
+     * Computes size in bytes of chunk data, which includes vertex data
+     * preceded by its sizes, and the bounding box of the chunk.
+     *
+     * @param chunk              chunk to be written.
+     * @param indicesSizeInBytes size of indices in bytes.
+     * @return size of chunk data.
+     */
+    private static int getChunkDataSizeInBytes(final DataChunk chunk, final int indicesSizeInBytes) {
+        var size = indicesSizeInBytes
+                + (5 * Integer.SIZE / 8) + // sizes
+                (6 * Float.SIZE / 8); // min/max values
+        size += chunk.getVerticesCoordinatesDataLength() * Float.SIZE / 8;
+        if (chunk.getColorData() != null) {
+            size += chunk.getColorDataLength();
+            // bytes for number of color components
+            size += Integer.SIZE / 8;
+        }
+        size += chunk.getTextureCoordinatesDataLength() * Float.SIZE / 8;
+        size += chunk.getNormalsDataLength() * Float.SIZE / 8;
+        return size;
+    }
+
+    /**
+     * Puts chunk data, which includes vertex data preceded by its sizes, and
+     * the bounding box of the chunk, into provided buffer.
+     * Valid values of arrays are copied at once instead of putting values one
+     * by one.
+     *
+     * @param buffer             buffer where data is put.
+     * @param chunk              chunk to be written.
+     * @param indicesSizeInBytes size of indices in bytes.
+     * @param use32BitIndices    true to write indices as 32-bit values, false
+     *                           to write them as 16-bit values.
+     */
+    private static void putChunkData(final ByteBuffer buffer, final DataChunk chunk, final int indicesSizeInBytes,
+                                     final boolean use32BitIndices) {
+        final var indices = chunk.getIndicesData();
+        final var indicesLength = chunk.getIndicesDataLength();
+
+        // coords size and coords
+        putFloats(buffer, chunk.getVerticesCoordinatesData(), chunk.getVerticesCoordinatesDataLength());
+
+        putColors(buffer, chunk);
+
+        // indices size and indices
+        buffer.putInt(indicesSizeInBytes);
+        if (indices != null) {
+            if (use32BitIndices) {
+                buffer.asIntBuffer().put(indices, 0, indicesLength);
+                buffer.position(buffer.position() + indicesSizeInBytes);
+            } else {
+                final var shortBuffer = buffer.asShortBuffer();
+                for (var i = 0; i < indicesLength; i++) {
+                    shortBuffer.put((short) (indices[i] & 0x0000ffff));
+                }
+                buffer.position(buffer.position() + indicesSizeInBytes);
+            }
+        }
+
+        // texture coords size and texture coords
+        putFloats(buffer, chunk.getTextureCoordinatesData(), chunk.getTextureCoordinatesDataLength());
+
+        // normals size and normals
+        putFloats(buffer, chunk.getNormalsData(), chunk.getNormalsDataLength());
+
+        putBoundingBox(buffer, chunk);
+    }
+
+    /**
+     * Puts size in bytes of the first values of provided array followed by
+     * such values into provided buffer.
+     *
+     * @param buffer buffer where data is put.
+     * @param values array to be put or null if not available.
+     * @param length number of values to be put.
+     */
+    private static void putFloats(final ByteBuffer buffer, final float[] values, final int length) {
+        buffer.putInt(length * Float.SIZE / 8);
+        if (values != null) {
+            buffer.asFloatBuffer().put(values, 0, length);
+            buffer.position(buffer.position() + length * Float.SIZE / 8);
+        }
+    }
+
+    /**
+     * Puts size of colors followed by colors and number of color components,
+     * if available, into provided buffer.
+     *
+     * @param buffer buffer where data is put.
+     * @param chunk  chunk to be written.
+     */
+    private static void putColors(final ByteBuffer buffer, final DataChunk chunk) {
+        final var colors = chunk.getColorData();
+        final var length = chunk.getColorDataLength();
+
+        // colors size
+        buffer.putInt(length);
+        if (colors != null) {
+            for (var i = 0; i < length; i++) {
+                buffer.put((byte) (colors[i] & 0x00ff));
+            }
+            buffer.putInt(chunk.getColorComponents());
+        }
+    }
+
+    /**
+     * Puts bounding box of a chunk into provided buffer.
+     *
+     * @param buffer buffer where data is put.
+     * @param chunk  chunk to be written.
+     */
+    private static void putBoundingBox(final ByteBuffer buffer, final DataChunk chunk) {
+        // min/max x, y, z
+        buffer.putFloat(chunk.getMinX());
+        buffer.putFloat(chunk.getMinY());
+        buffer.putFloat(chunk.getMinZ());
+
+        buffer.putFloat(chunk.getMaxX());
+        buffer.putFloat(chunk.getMaxY());
+        buffer.putFloat(chunk.getMaxZ());
+    }
+
+    /**
+     * Computes size in bytes of a material, not including the boolean
+     * indicating its availability.
+     *
+     * @param material material to be written.
+     * @return size of material in bytes.
+     */
+    private static int getMaterialSizeInBytes(final Material material) {
+        // material id (int)
+        var materialSizeInBytes = Integer.SIZE / 8;
+
+        // ambient, diffuse and specular colors: boolean indicating
+        // availability and RGB components
+        materialSizeInBytes += 3;
+        if (material.isAmbientColorAvailable()) {
+            materialSizeInBytes += 3;
+        }
+        if (material.isDiffuseColorAvailable()) {
+            materialSizeInBytes += 3;
+        }
+        if (material.isSpecularColorAvailable()) {
+            materialSizeInBytes += 3;
+        }
+
+        // specular coefficient (float): boolean indicating availability
+        materialSizeInBytes += 1;
+        if (material.isSpecularCoefficientAvailable()) {
+            materialSizeInBytes += Float.SIZE / 8;
+        }
+
+        // ambient, diffuse, specular, alpha and bump texture maps: boolean
+        // indicating availability, and id, width and height of texture (int)
+        materialSizeInBytes += 5;
+        final var textureSizeInBytes = 3 * Integer.SIZE / 8;
+        if (material.isAmbientTextureMapAvailable()) {
+            materialSizeInBytes += textureSizeInBytes;
+        }
+        if (material.isDiffuseTextureMapAvailable()) {
+            materialSizeInBytes += textureSizeInBytes;
+        }
+        if (material.isSpecularTextureMapAvailable()) {
+            materialSizeInBytes += textureSizeInBytes;
+        }
+        if (material.isAlphaTextureMapAvailable()) {
+            materialSizeInBytes += textureSizeInBytes;
+        }
+        if (material.isBumpTextureMapAvailable()) {
+            materialSizeInBytes += textureSizeInBytes;
+        }
+
+        // transparency: availability and one byte 0-255 of transparency
+        materialSizeInBytes += 1;
+        if (material.isTransparencyAvailable()) {
+            materialSizeInBytes += 1;
+        }
+
+        // enum of illumination(int): boolean containing availability
+        materialSizeInBytes += 1;
+        if (material.isIlluminationAvailable()) {
+            materialSizeInBytes += Integer.SIZE / 8;
+        }
+        return materialSizeInBytes;
+    }
+
+    /**
+     * Writes a material, not including the boolean indicating its
+     * availability.
+     *
+     * @param material material to be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writeMaterial(final Material material) throws IOException {
+        // material id
+        dataStream.writeInt(material.getId());
+
+        // ambient color
+        dataStream.writeBoolean(material.isAmbientColorAvailable());
+        if (material.isAmbientColorAvailable()) {
+            dataStream.writeByte((byte) (material.getAmbientRedColor() & 0x00ff));
+            dataStream.writeByte((byte) (material.getAmbientGreenColor() & 0x00ff));
+            dataStream.writeByte((byte) (material.getAmbientBlueColor() & 0x00ff));
+        }
+
+        // diffuse color
+        dataStream.writeBoolean(material.isDiffuseColorAvailable());
+        if (material.isDiffuseColorAvailable()) {
+            dataStream.writeByte((byte) (material.getDiffuseRedColor() & 0x00ff));
+            dataStream.writeByte((byte) (material.getDiffuseGreenColor() & 0x00ff));
+            dataStream.writeByte((byte) (material.getDiffuseBlueColor() & 0x00ff));
+        }
+
+        // specular color
+        dataStream.writeBoolean(material.isSpecularColorAvailable());
+        if (material.isSpecularColorAvailable()) {
+            dataStream.writeByte((byte) (material.getSpecularRedColor() & 0x00ff));
+            dataStream.writeByte((byte) (material.getSpecularGreenColor() & 0x00ff));
+            dataStream.writeByte((byte) (material.getSpecularBlueColor() & 0x00ff));
+        }
+
+        // specular coefficient (float)
+        dataStream.writeBoolean(material.isSpecularCoefficientAvailable());
+        if (material.isSpecularCoefficientAvailable()) {
+            dataStream.writeFloat(material.getSpecularCoefficient());
+        }
+
+        // ambient, diffuse, specular, alpha and bump texture maps
+        writeTextureMap(material.isAmbientTextureMapAvailable() ? material.getAmbientTextureMap() : null);
+        writeTextureMap(material.isDiffuseTextureMapAvailable() ? material.getDiffuseTextureMap() : null);
+        writeTextureMap(material.isSpecularTextureMapAvailable() ? material.getSpecularTextureMap() : null);
+        writeTextureMap(material.isAlphaTextureMapAvailable() ? material.getAlphaTextureMap() : null);
+        writeTextureMap(material.isBumpTextureMapAvailable() ? material.getBumpTextureMap() : null);
+
+        dataStream.writeBoolean(material.isTransparencyAvailable());
+        if (material.isTransparencyAvailable()) {
+            dataStream.writeByte((byte) (material.getTransparency() & 0x00ff));
+        }
+
+        dataStream.writeBoolean(material.isIlluminationAvailable());
+        if (material.isIlluminationAvailable()) {
+            dataStream.writeInt(material.getIllumination().value());
+        }
+    }
+
+    /**
+     * Writes a boolean indicating availability of a texture map followed by
+     * its id, width and height when available.
+     *
+     * @param tex texture map or null if not available.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writeTextureMap(final Texture tex) throws IOException {
+        dataStream.writeBoolean(tex != null);
+        if (tex != null) {
+            // texture id
+            dataStream.writeInt(tex.getId());
+            // texture width
+            dataStream.writeInt(tex.getWidth());
+            // texture height
+            dataStream.writeInt(tex.getHeight());
+        }
+    }
+
+    /**
+     * Encodes chunk data into a reusable buffer, so that whole arrays are
+     * copied at once instead of writing values one by one. Encoders are
+     * pooled and reused across chunks, and each one is used by a single
+     * thread at a time.
+     */
+    private class ChunkEncoder {
+
+        /**
+         * Buffer containing encoded chunk data, from its start to its current
+         * position.
+         */
+        private ByteBuffer buffer;
+
+        /**
+         * Flags of encoded chunk. Only used in version 3.
+         */
+        private byte flags;
+
+        /**
+         * Encodes provided chunk, compressing its data or choosing the width
+         * of indices depending on the version being written.
+         *
+         * @param chunk chunk to be encoded.
+         */
+        void encode(final DataChunk chunk) {
+            final var indices = chunk.getIndicesData();
+            final var indicesLength = chunk.getIndicesDataLength();
+
+            if (version == VERSION_3 && compressed) {
+                final var coords = chunk.getVerticesCoordinatesData();
+                final var textureCoords = chunk.getTextureCoordinatesData();
+                final var normals = chunk.getNormalsData();
+
+                final var encodedCoords = coords != null ? BinaryCompression.encodePositions(coords,
+                        chunk.getVerticesCoordinatesDataLength(), positionBits) : null;
+                final var encodedIndices = indices != null
+                        ? BinaryCompression.encodeIndices(indices, indicesLength) : null;
+                final var encodedTextureCoords = textureCoords != null ? BinaryCompression.encodeTextureCoordinates(
+                        textureCoords, chunk.getTextureCoordinatesDataLength()) : null;
+                final var encodedNormals = normals != null
+                        ? BinaryCompression.encodeNormals(normals, chunk.getNormalsDataLength()) : null;
+
+                prepareBuffer(getCompressedChunkDataSizeInBytes(chunk, encodedCoords, encodedIndices,
+                        encodedTextureCoords, encodedNormals));
+                putCompressedChunkData(buffer, chunk, encodedCoords, encodedIndices, encodedTextureCoords,
+                        encodedNormals);
+                flags = BinaryFormat.COMPRESSED_FLAG;
+            } else {
+                // version 2 always stores 16-bit indices
+                var use32BitIndices = false;
+                if (version == VERSION_3 && indices != null) {
+                    for (var i = 0; i < indicesLength; i++) {
+                        final var index = indices[i];
+                        if (index > BinaryFormat.MAX_16_BIT_INDEX || index < 0) {
+                            use32BitIndices = true;
+                            break;
+                        }
+                    }
+                }
+                final var indicesSizeInBytes = indicesLength * (use32BitIndices ? Integer.SIZE : Short.SIZE) / 8;
+
+                prepareBuffer(getChunkDataSizeInBytes(chunk, indicesSizeInBytes));
+                putChunkData(buffer, chunk, indicesSizeInBytes, use32BitIndices);
+                flags = use32BitIndices ? BinaryFormat.INDICES_32_BIT_FLAG : 0;
+            }
+        }
+
+        /**
+         * Ensures that buffer has at least provided capacity and clears it.
+         *
+         * @param capacity required capacity in bytes.
+         */
+        private void prepareBuffer(final int capacity) {
+            if (buffer == null || buffer.capacity() < capacity) {
+                buffer = ByteBuffer.allocate(capacity);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Output stream counting the number of bytes written through it.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        /**
+         * Number of bytes written so far.
+         */
+        private long count;
+
+        /**
+         * Constructor.
+         *
+         * @param out stream where data is written.
+         */
+        CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        /**
+         * Returns number of bytes written so far.
+         *
+         * @return number of bytes written so far.
+         */
+        long getCount() {
+            return count;
+        }
+
+        /**
+         * Writes a byte.
+         *
+         * @param b byte to be written.
+         * @throws IOException if an I/O error occurs.
+         */
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        /**
+         * Writes provided bytes.
+         *
+         * @param b   array containing bytes to be written.
+         * @param off position of first byte to be written.
+         * @param len number of bytes to be written.
+         * @throws IOException if an I/O error occurs.
+         */
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
         }
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Helper methods for writers that stage sections of a file into temporal
+ * files and assemble them once totals needed in the header are known.
+ */
+final class MeshWriterFiles {
+
+    /**
+     * Size of buffer used to copy files (64 KB).
+     */
+    static final int BUFFER_SIZE = 65536;
+
+    /**
+     * Constructor to prevent instantiation.
+     */
+    private MeshWriterFiles() {
+    }
+
+    /**
+     * Copies the content of a file into provided stream.
+     *
+     * @param path   path of file to be copied.
+     * @param stream stream where data will be copied to.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void copy(final Path path, final OutputStream stream) throws IOException {
+        try (final var input = Files.newInputStream(path)) {
+            final var buffer = new byte[BUFFER_SIZE];
+            int n;
+            while ((n = input.read(buffer)) > 0) {
+                stream.write(buffer, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Overwrites a previously written or reserved header.
+     *
+     * @param channel  channel of output file.
+     * @param position position where header was written.
+     * @param header   header to be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void patchHeader(final FileChannel channel, final long position, final byte[] header)
+            throws IOException {
+        final var buffer = ByteBuffer.wrap(header);
+        var pos = position;
+        while (buffer.hasRemaining()) {
+            pos += channel.write(buffer, pos);
+        }
+    }
+}
@@ -0,0 +1,774 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads a 3D object and converts it into binary glTF 2.0 format (GLB), so
+ * that resulting data can be directly uploaded to the GPU without parsing.
+ * Each chunk of data is converted into a triangle primitive of a single
+ * mesh, whose vertex positions, normals, texture coordinates, colors and
+ * indices are packed into a single binary buffer described by accessors and
+ * buffer views.
+ * Materials are converted into PBR materials using their diffuse color and
+ * diffuse texture as base color, and textures are embedded into the binary
+ * buffer as images.
+ * Texture coordinates are flipped vertically, since glTF places the origin
+ * of textures at their top-left corner.
+ * Because GLB files contain their JSON description before the binary buffer,
+ * chunks are streamed into a temporary file while the description is built,
+ * and both are written into output stream once all chunks have been loaded.
+ */
+public class MeshWriterGltf extends MeshWriter {
+
+    /**
+     * Buffer size to encode and copy data into output stream.
+     */
+    public static final int BUFFER_SIZE = 65536;
+
+    /**
+     * Magic number identifying GLB files ("glTF" in little endian order).
+     */
+    private static final int GLB_MAGIC = 0x46546C67;
+
+    /**
+     * Version of GLB container.
+     */
+    private static final int GLB_VERSION = 2;
+
+    /**
+     * Type of JSON chunk of GLB files ("JSON" in little endian order).
+     */
+    private static final int JSON_CHUNK_TYPE = 0x4E4F534A;
+
+    /**
+     * Type of binary chunk of GLB files ("BIN" in little endian order).
+     */
+    private static final int BIN_CHUNK_TYPE = 0x004E4942;
+
+    /**
+     * Size of GLB header.
+     */
+    private static final int GLB_HEADER_SIZE = 12;
+
+    /**
+     * Size of header of each GLB chunk.
+     */
+    private static final int CHUNK_HEADER_SIZE = 8;
+
+    /**
+     * Alignment in bytes of GLB chunks and buffer views.
+     */
+    private static final int ALIGNMENT = 4;
+
+    /**
+     * Maximum length of a GLB file.
+     */
+    private static final long MAX_GLB_LENGTH = 0xFFFFFFFFL;
+
+    /**
+     * Accessor component type of unsigned bytes.
+     */
+    private static final int UNSIGNED_BYTE = 5121;
+
+    /**
+     * Accessor component type of unsigned shorts.
+     */
+    private static final int UNSIGNED_SHORT = 5123;
+
+    /**
+     * Accessor component type of unsigned ints.
+     */
+    private static final int UNSIGNED_INT = 5125;
+
+    /**
+     * Accessor component type of floats.
+     */
+    private static final int FLOAT = 5126;
+
+    /**
+     * Buffer view target of vertex attributes.
+     */
+    private static final int ARRAY_BUFFER = 34962;
+
+    /**
+     * Buffer view target of indices.
+     */
+    private static final int ELEMENT_ARRAY_BUFFER = 34963;
+
+    /**
+     * Primitive mode of points.
+     */
+    private static final int POINTS = 0;
+
+    /**
+     * Primitive mode of triangles.
+     */
+    private static final int TRIANGLES = 4;
+
+    /**
+     * Maximum number of vertices that can be indexed using unsigned shorts.
+     */
+    private static final int MAX_SHORT_INDEXED_VERTICES = 65535;
+
+    /**
+     * Maximum value of color components.
+     */
+    private static final float MAX_COLOR_VALUE = 255.0f;
+
+    /**
+     * Buffer to encode data in little endian order before writing it into
+     * temporary binary file.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Stream where binary buffer is temporarily written.
+     */
+    private OutputStream binStream;
+
+    /**
+     * Number of bytes of binary buffer written so far.
+     */
+    private long binLength;
+
+    /**
+     * JSON description of accessors.
+     */
+    private final StringBuilder accessors = new StringBuilder();
+
+    /**
+     * JSON description of buffer views.
+     */
+    private final StringBuilder bufferViews = new StringBuilder();
+
+    /**
+     * JSON description of mesh primitives.
+     */
+    private final StringBuilder primitives = new StringBuilder();
+
+    /**
+     * JSON description of materials.
+     */
+    private final StringBuilder materials = new StringBuilder();
+
+    /**
+     * JSON description of textures.
+     */
+    private final StringBuilder textures = new StringBuilder();
+
+    /**
+     * JSON description of images.
+     */
+    private final StringBuilder images = new StringBuilder();
+
+    /**
+     * Number of accessors written so far.
+     */
+    private int accessorCount;
+
+    /**
+     * Number of buffer views written so far.
+     */
+    private int bufferViewCount;
+
+    /**
+     * Number of primitives written so far.
+     */
+    private int primitiveCount;
+
+    /**
+     * Positions of written materials, indexed by material id.
+     */
+    private final Map<Integer, Integer> materialIndices = new HashMap<>();
+
+    /**
+     * Positions of written textures, indexed by texture id.
+     */
+    private final Map<Integer, Integer> textureIndices = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param loader loader to load a 3D file.
+     * @param stream stream where trans-coded data will be written to.
+     */
+    public MeshWriterGltf(final Loader loader, final OutputStream stream) {
+        super(loader, stream);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param loader   loader to load a 3D file.
+     * @param stream   stream where trans-coded data will be written to.
+     * @param listener listener to be notified of progress changes or when
+     *                 transcoding process starts or finishes.
+     */
+    public MeshWriterGltf(final Loader loader, final OutputStream stream, final MeshWriterListener listener) {
+        super(loader, stream, listener);
+    }
+
+    /**
+     * Processes input file provided to loader and writes it trans-coded into
+     * output stream.
+     *
+     * @throws LoaderException   if 3D file loading fails.
+     * @throws IOException       if an I/O error occurs or if resulting file
+     *                           exceeds the maximum size of GLB files.
+     * @throws NotReadyException if mesh writer is not ready because either a
+     *                           loader has not been provided or an output stream has not been provided.
+     * @throws LockedException   if this mesh writer is locked processing a file.
+     */
+    @Override
+    public void write() throws LoaderException, IOException, NotReadyException, LockedException {
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+        if (isLocked()) {
+            throw new LockedException();
+        }
+
+        Path binPath = null;
+        try {
+            locked = true;
+            reset();
+            if (listener != null) {
+                listener.onWriteStart(this);
+            }
+
+            binPath = Files.createTempFile("buffer", ".bin");
+            binStream = new BufferedOutputStream(Files.newOutputStream(binPath), BUFFER_SIZE);
+
+            loader.setListener(this.internalListeners);
+
+            final var iter = loader.load();
+            while (iter.hasNext()) {
+                final var chunk = iter.next();
+                checkNotInterleaved(chunk);
+                if (listener != null) {
+                    listener.onChunkAvailable(this, chunk);
+                }
+                writeChunk(chunk);
+                chunk.release();
+            }
+
+            flushBuffer();
+            binStream.close();
+            binStream = null;
+
+            writeGlb(binPath);
+
+            if (listener != null) {
+                listener.onWriteEnd(this);
+            }
+            locked = false;
+
+        } catch (final LoaderException | IOException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new LoaderException(e);
+        } finally {
+            if (binStream != null) {
+                binStream.close();
+                binStream = null;
+            }
+            if (binPath != null) {
+                Files.deleteIfExists(binPath);
+            }
+        }
+    }
+
+    /**
+     * Processes texture file. By reading provided texture file that has been
+     * created in a temporal location and embedding it as an image into the
+     * binary buffer of resulting file.
+     * Only PNG and JPEG images can be embedded, as required by glTF.
+     *
+     * @param texture     reference to texture that uses texture image.
+     * @param textureFile file containing texture image. File will usually be
+     *                    created in a temporal location.
+     * @throws IOException if an I/O error occurs or if texture image is
+     *                     neither a PNG nor a JPEG image.
+     */
+    @Override
+    protected void processTextureFile(final Texture texture, final File textureFile) throws IOException {
+        if (binStream == null || textureIndices.containsKey(texture.getId())) {
+            return;
+        }
+
+        final String mimeType;
+        try (final var textureStream = Files.newInputStream(textureFile.toPath())) {
+            final var data = new byte[BUFFER_SIZE];
+            var n = textureStream.readNBytes(data, 0, data.length);
+            mimeType = getImageMimeType(data, n);
+            if (mimeType == null) {
+                throw new IOException();
+            }
+
+            final var offset = beginBufferView();
+            flushBuffer();
+            while (n > 0) {
+                binStream.write(data, 0, n);
+                binLength += n;
+                n = textureStream.read(data);
+            }
+            final var bufferView = endBufferView(offset, 0);
+
+            appendSeparator(images);
+            images.append("{\"bufferView\":").append(bufferView).append(",\"mimeType\":\"")
+                    .append(mimeType).append("\"}");
+        }
+
+        final var imageIndex = textureIndices.size();
+        appendSeparator(textures);
+        textures.append("{\"sampler\":0,\"source\":").append(imageIndex).append("}");
+        textureIndices.put(texture.getId(), imageIndex);
+    }
+
+    /**
+     * Resets state of a previous write.
+     */
+    private void reset() {
+        if (buffer == null) {
+            buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        buffer.clear();
+        binLength = 0;
+        accessors.setLength(0);
+        bufferViews.setLength(0);
+        primitives.setLength(0);
+        materials.setLength(0);
+        textures.setLength(0);
+        images.setLength(0);
+        accessorCount = 0;
+        bufferViewCount = 0;
+        primitiveCount = 0;
+        materialIndices.clear();
+        textureIndices.clear();
+    }
+
+    /**
+     * Writes data of provided chunk into binary buffer and describes it as a
+     * mesh primitive.
+     * Chunks without vertex positions are ignored, as well as attributes whose
+     * number of valid values does not match the number of vertices.
+     * Chunks without indices are described as points.
+     *
+     * @param chunk chunk to be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writeChunk(final DataChunk chunk) throws IOException {
+        final var coords = chunk.getVerticesCoordinatesData();
+        final var vertexCount = chunk.getVerticesCoordinatesDataLength() / 3;
+        if (coords == null || vertexCount == 0) {
+            return;
+        }
+        final var normals = chunk.getNormalsData();
+        final var textureCoords = chunk.getTextureCoordinatesData();
+        final var colors = chunk.getColorData();
+        final var colorComponents = chunk.getColorComponents();
+        final var indices = chunk.getIndicesData();
+
+        final var attributes = new StringBuilder();
+        attributes.append("\"POSITION\":").append(writePositions(coords, vertexCount));
+        if (normals != null && chunk.getNormalsDataLength() >= 3 * vertexCount) {
+            attributes.append(",\"NORMAL\":").append(writeFloats(normals, vertexCount, 3, false));
+        }
+        if (textureCoords != null && chunk.getTextureCoordinatesDataLength() >= 2 * vertexCount) {
+            attributes.append(",\"TEXCOORD_0\":").append(writeFloats(textureCoords, vertexCount, 2, true));
+        }
+        if (colors != null && (colorComponents == 3 || colorComponents == 4)
+                && chunk.getColorDataLength() >= colorComponents * vertexCount) {
+            attributes.append(",\"COLOR_0\":").append(writeColors(colors, colorComponents, vertexCount));
+        }
+
+        appendSeparator(primitives);
+        primitives.append("{\"attributes\":{").append(attributes).append("}");
+        final var indexCount = chunk.getIndicesDataLength();
+        final var hasIndices = indices != null && indexCount > 0;
+        if (hasIndices) {
+            primitives.append(",\"indices\":").append(writeIndices(indices, indexCount, vertexCount));
+        }
+        final var material = chunk.getMaterial();
+        if (material != null) {
+            primitives.append(",\"material\":").append(getMaterialIndex(material));
+        }
+        primitives.append(",\"mode\":").append(hasIndices ? TRIANGLES : POINTS).append("}");
+        primitiveCount++;
+    }
+
+    /**
+     * Writes vertex positions and describes them with an accessor containing
+     * their bounds, as required by glTF.
+     *
+     * @param coords      vertex positions.
+     * @param vertexCount number of vertices.
+     * @return index of accessor.
+     * @throws IOException if an I/O error occurs.
+     */
+    private int writePositions(final float[] coords, final int vertexCount) throws IOException {
+        final var min = new float[]{Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE};
+        final var max = new float[]{-Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE};
+
+        final var offset = beginBufferView();
+        final var length = 3 * vertexCount;
+        for (var i = 0; i < length; i++) {
+            ensureRemaining(Float.BYTES);
+            final var c = i % 3;
+            final var value = coords[i];
+            buffer.putFloat(value);
+            if (value < min[c]) {
+                min[c] = value;
+            }
+            if (value > max[c]) {
+                max[c] = value;
+            }
+        }
+        final var bufferView = endBufferView(offset, ARRAY_BUFFER);
+
+        return addAccessor(bufferView, FLOAT, false, vertexCount, "VEC3",
+                ",\"min\":[" + min[0] + "," + min[1] + "," + min[2] + "],\"max\":[" + max[0] + ","
+                        + max[1] + "," + max[2] + "]");
+    }
+
+    /**
+     * Writes float vertex attributes.
+     *
+     * @param values      values to be written.
+     * @param vertexCount number of vertices.
+     * @param components  number of components of each vertex.
+     * @param flip        true to flip texture coordinates vertically.
+     * @return index of accessor.
+     * @throws IOException if an I/O error occurs.
+     */
+    private int writeFloats(final float[] values, final int vertexCount, final int components,
+                            final boolean flip) throws IOException {
+        final var offset = beginBufferView();
+        final var length = components * vertexCount;
+        for (var i = 0; i < length; i++) {
+            ensureRemaining(Float.BYTES);
+            buffer.putFloat(flip && i % 2 == 1 ? 1.0f - values[i] : values[i]);
+        }
+        final var bufferView = endBufferView(offset, ARRAY_BUFFER);
+
+        return addAccessor(bufferView, FLOAT, false, vertexCount, components == 2 ? "VEC2" : "VEC3", "");
+    }
+
+    /**
+     * Writes vertex colors as normalized unsigned bytes. Colors are always
+     * written with an alpha component, so that each vertex is aligned to 4
+     * bytes.
+     *
+     * @param colors          color values between 0 and 255.
+     * @param colorComponents number of components of each color.
+     * @param vertexCount     number of vertices.
+     * @return index of accessor.
+     * @throws IOException if an I/O error occurs.
+     */
+    private int writeColors(final short[] colors, final int colorComponents, final int vertexCount)
+            throws IOException {
+        final var offset = beginBufferView();
+        var pos = 0;
+        for (var i = 0; i < vertexCount; i++) {
+            ensureRemaining(4);
+            buffer.put((byte) colors[pos++]);
+            buffer.put((byte) colors[pos++]);
+            buffer.put((byte) colors[pos++]);
+            buffer.put(colorComponents == 4 ? (byte) colors[pos++] : (byte) 0xff);
+        }
+        final var bufferView = endBufferView(offset, ARRAY_BUFFER);
+
+        return addAccessor(bufferView, UNSIGNED_BYTE, true, vertexCount, "VEC4", "");
+    }
+
+    /**
+     * Writes indices of triangles, using unsigned shorts when the number of
+     * vertices allows it, or unsigned ints otherwise.
+     *
+     * @param indices     indices to be written.
+     * @param indexCount  number of indices to be written.
+     * @param vertexCount number of vertices.
+     * @return index of accessor.
+     * @throws IOException if an I/O error occurs.
+     */
+    private int writeIndices(final int[] indices, final int indexCount, final int vertexCount)
+            throws IOException {
+        final var shortIndices = vertexCount <= MAX_SHORT_INDEXED_VERTICES;
+        final var offset = beginBufferView();
+        for (var i = 0; i < indexCount; i++) {
+            final var index = indices[i];
+            if (shortIndices) {
+                ensureRemaining(Short.BYTES);
+                buffer.putShort((short) index);
+            } else {
+                ensureRemaining(Integer.BYTES);
+                buffer.putInt(index);
+            }
+        }
+        final var bufferView = endBufferView(offset, ELEMENT_ARRAY_BUFFER);
+
+        return addAccessor(bufferView, shortIndices ? UNSIGNED_SHORT : UNSIGNED_INT, false, indexCount,
+                "SCALAR", "");
+    }
+
+    /**
+     * Returns index of provided material, describing it as a PBR material if
+     * it has not been written yet.
+     *
+     * @param material material.
+     * @return index of material.
+     */
+    private int getMaterialIndex(final Material material) {
+        final var existing = materialIndices.get(material.getId());
+        if (existing != null) {
+            return existing;
+        }
+
+        final var index = materialIndices.size();
+        appendSeparator(materials);
+        materials.append("{\"name\":\"material").append(material.getId()).append("\"");
+        materials.append(",\"pbrMetallicRoughness\":{");
+        if (material.isDiffuseColorAvailable()) {
+            materials.append("\"baseColorFactor\":[").append(material.getDiffuseRedColor() / MAX_COLOR_VALUE)
+                    .append(",").append(material.getDiffuseGreenColor() / MAX_COLOR_VALUE)
+                    .append(",").append(material.getDiffuseBlueColor() / MAX_COLOR_VALUE)
+                    .append(",1.0],");
+        }
+        if (material.isDiffuseTextureMapAvailable()) {
+            final var textureIndex = textureIndices.get(material.getDiffuseTextureMap().getId());
+            if (textureIndex != null) {
+                materials.append("\"baseColorTexture\":{\"index\":").append(textureIndex).append("},");
+            }
+        }
+        materials.append("\"metallicFactor\":0.0,\"roughnessFactor\":1.0}}");
+        materialIndices.put(material.getId(), index);
+        return index;
+    }
+
+    /**
+     * Starts a new buffer view, aligning its start to 4 bytes.
+     *
+     * @return position where buffer view starts.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long beginBufferView() throws IOException {
+        while ((binLength + buffer.position()) % ALIGNMENT != 0) {
+            ensureRemaining(1);
+            buffer.put((byte) 0);
+        }
+        return binLength + buffer.position();
+    }
+
+    /**
+     * Finishes a buffer view and describes it.
+     *
+     * @param offset position where buffer view starts.
+     * @param target target of buffer view, or 0 if it has none.
+     * @return index of buffer view.
+     */
+    private int endBufferView(final long offset, final int target) {
+        appendSeparator(bufferViews);
+        bufferViews.append("{\"buffer\":0,\"byteOffset\":").append(offset).append(",\"byteLength\":")
+                .append(binLength + buffer.position() - offset);
+        if (target != 0) {
+            bufferViews.append(",\"target\":").append(target);
+        }
+        bufferViews.append("}");
+        return bufferViewCount++;
+    }
+
+    /**
+     * Describes an accessor.
+     *
+     * @param bufferView    index of buffer view containing accessor data.
+     * @param componentType type of components.
+     * @param normalized    true if integer values are normalized.
+     * @param count         number of elements.
+     * @param type          type of elements.
+     * @param extra         additional properties of accessor.
+     * @return index of accessor.
+     */
+    private int addAccessor(final int bufferView, final int componentType, final boolean normalized,
+                            final int count, final String type, final String extra) {
+        appendSeparator(accessors);
+        accessors.append("{\"bufferView\":").append(bufferView).append(",\"componentType\":").append(componentType);
+        if (normalized) {
+            accessors.append(",\"normalized\":true");
+        }
+        accessors.append(",\"count\":").append(count).append(",\"type\":\"").append(type).append("\"")
+                .append(extra).append("}");
+        return accessorCount++;
+    }
+
+    /**
+     * Writes GLB header, JSON description and binary buffer into output
+     * stream.
+     *
+     * @param binPath path of temporary file containing binary buffer.
+     * @throws IOException if an I/O error occurs or if resulting file exceeds
+     *                     the maximum size of GLB files.
+     */
+    private void writeGlb(final Path binPath) throws IOException {
+        final var json = buildJson().getBytes(StandardCharsets.UTF_8);
+        final var jsonPadding = padding(json.length);
+        final var binPadding = padding(binLength);
+
+        var totalLength = (long) GLB_HEADER_SIZE + CHUNK_HEADER_SIZE + json.length + jsonPadding;
+        if (binLength > 0) {
+            totalLength += CHUNK_HEADER_SIZE + binLength + binPadding;
+        }
+        if (totalLength > MAX_GLB_LENGTH) {
+            throw new IOException();
+        }
+
+        final var header = ByteBuffer.allocate(GLB_HEADER_SIZE + CHUNK_HEADER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(GLB_MAGIC);
+        header.putInt(GLB_VERSION);
+        header.putInt((int) totalLength);
+        header.putInt(json.length + jsonPadding);
+        header.putInt(JSON_CHUNK_TYPE);
+        stream.write(header.array());
+        stream.write(json);
+        for (var i = 0; i < jsonPadding; i++) {
+            stream.write(' ');
+        }
+
+        if (binLength > 0) {
+            header.clear();
+            header.putInt((int) (binLength + binPadding));
+            header.putInt(BIN_CHUNK_TYPE);
+            stream.write(header.array(), 0, CHUNK_HEADER_SIZE);
+            Files.copy(binPath, stream);
+            for (var i = 0; i < binPadding; i++) {
+                stream.write(0);
+            }
+        }
+        stream.flush();
+    }
+
+    /**
+     * Builds JSON description of resulting file.
+     *
+     * @return JSON description.
+     */
+    private String buildJson() {
+        final var json = new StringBuilder();
+        json.append("{\"asset\":{\"version\":\"2.0\",\"generator\":\"irurueta-geometry-io\"},\"scene\":0");
+        if (primitiveCount > 0) {
+            json.append(",\"scenes\":[{\"nodes\":[0]}],\"nodes\":[{\"mesh\":0}]");
+            json.append(",\"meshes\":[{\"primitives\":[").append(primitives).append("]}]");
+        } else {
+            json.append(",\"scenes\":[{}]");
+        }
+        if (!materials.isEmpty()) {
+            json.append(",\"materials\":[").append(materials).append("]");
+        }
+        if (!textures.isEmpty()) {
+            json.append(",\"textures\":[").append(textures).append("]");
+            json.append(",\"images\":[").append(images).append("]");
+            json.append(",\"samplers\":[{}]");
+        }
+        if (!accessors.isEmpty()) {
+            json.append(",\"accessors\":[").append(accessors).append("]");
+        }
+        if (!bufferViews.isEmpty()) {
+            json.append(",\"bufferViews\":[").append(bufferViews).append("]");
+        }
+        if (binLength > 0) {
+            json.append(",\"buffers\":[{\"byteLength\":").append(binLength).append("}]");
+        }
+        json.append("}");
+        return json.toString();
+    }
+
+    /**
+     * Makes sure that encoding buffer has provided number of remaining bytes,
+     * writing its contents into temporary binary file otherwise.
+     *
+     * @param bytes number of required bytes.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void ensureRemaining(final int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flushBuffer();
+        }
+    }
+
+    /**
+     * Writes contents of encoding buffer into temporary binary file.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void flushBuffer() throws IOException {
+        binStream.write(buffer.array(), 0, buffer.position());
+        binLength += buffer.position();
+        buffer.clear();
+    }
+
+    /**
+     * Gets MIME type of an image from the signature at the beginning of its
+     * data.
+     *
+     * @param data   beginning of image data.
+     * @param length number of available bytes.
+     * @return MIME type of image, or null if image is neither a PNG nor a JPEG
+     * image.
+     */
+    private static String getImageMimeType(final byte[] data, final int length) {
+        if (length >= 4 && (data[0] & 0xff) == 0x89 && data[1] == 'P' && data[2] == 'N' && data[3] == 'G') {
+            return "image/png";
+        }
+        if (length >= 3 && (data[0] & 0xff) == 0xFF && (data[1] & 0xff) == 0xD8 && (data[2] & 0xff) == 0xFF) {
+            return "image/jpeg";
+        }
+        return null;
+    }
+
+    /**
+     * Appends a separator into provided JSON array if it already contains any
+     * element.
+     *
+     * @param builder JSON array.
+     */
+    private static void appendSeparator(final StringBuilder builder) {
+        if (!builder.isEmpty()) {
+            builder.append(",");
+        }
+    }
+
+    /**
+     * Returns number of bytes required to align provided length to 4 bytes.
+     *
+     * @param length length in bytes.
+     * @return number of padding bytes.
+     */
+    private static int padding(final long length) {
+        return (int) ((ALIGNMENT - length % ALIGNMENT) % ALIGNMENT);
+    }
+}
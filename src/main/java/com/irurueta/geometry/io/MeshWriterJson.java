@@ -15,15 +15,19 @@
  */
 package com.irurueta.geometry.io;
 
-import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Base64OutputStream;
 
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
 
 public class MeshWriterJson extends MeshWriter {
 
@@ -45,6 +49,72 @@ public class MeshWriterJson extends MeshWriter {
      */
     public static final boolean DEFAULT_USE_REMOTE_TEXTURE_ID = false;
 
+    /**
+     * Buffer size to read texture data to be embedded into resulting file.
+     */
+    public static final int BUFFER_SIZE = 65536;
+
+    /**
+     * Default precision mode of vertex positions, normals and texture
+     * coordinates.
+     */
+    public static final JsonPrecisionMode DEFAULT_PRECISION_MODE = JsonPrecisionMode.FULL;
+
+    /**
+     * Minimum number of decimals or significant digits used when limiting
+     * precision of written values.
+     */
+    public static final int MIN_PRECISION_DIGITS = 0;
+
+    /**
+     * Maximum number of decimals or significant digits used when limiting
+     * precision of written values.
+     */
+    public static final int MAX_PRECISION_DIGITS = 9;
+
+    /**
+     * Default number of decimals or significant digits used when limiting
+     * precision of written values.
+     */
+    public static final int DEFAULT_PRECISION_DIGITS = 6;
+
+    /**
+     * Indicates whether vertex positions are quantized by default.
+     */
+    public static final boolean DEFAULT_POSITION_QUANTIZATION_ENABLED = false;
+
+    /**
+     * Minimum number of bits of quantized vertex positions.
+     */
+    public static final int MIN_POSITION_BITS = BinaryCompression.MIN_POSITION_BITS;
+
+    /**
+     * Maximum number of bits of quantized vertex positions.
+     */
+    public static final int MAX_POSITION_BITS = BinaryCompression.MAX_POSITION_BITS;
+
+    /**
+     * Default number of bits of quantized vertex positions.
+     */
+    public static final int DEFAULT_POSITION_BITS = MAX_POSITION_BITS;
+
+    /**
+     * Default maximum number of chunks being encoded or waiting to be written
+     * at the same time when writing in parallel.
+     */
+    public static final int DEFAULT_MAX_PENDING_CHUNKS = 16;
+
+    /**
+     * Minimum allowed value for the maximum number of pending chunks when
+     * writing in parallel.
+     */
+    public static final int MIN_PENDING_CHUNKS = 1;
+
+    /**
+     * Indicates whether output is split into multiple parts by default.
+     */
+    public static final boolean DEFAULT_SPLIT_OUTPUT_ENABLED = false;
+
     /**
      * Indicates charset to use in resulting JSON file. By default, this will be
      * UTF-8.
@@ -56,11 +126,23 @@ public class MeshWriterJson extends MeshWriter {
      */
     private BufferedWriter writer;
 
+    /**
+     * Indicates whether charset being used encodes ASCII characters as
+     * single bytes, so that encoded chunks can be directly written into
+     * output stream.
+     */
+    private boolean asciiCompatible;
+
     /**
      * Counter for the number of textures that have been read.
      */
     private int textureCounter;
 
+    /**
+     * Counter for the number of chunks that have been written.
+     */
+    private int chunkCounter;
+
     /**
      * Indicates if textures will be embedded into resulting JSON stream of
      * data. When embedding textures their stream of bytes is written using
@@ -80,6 +162,58 @@ public class MeshWriterJson extends MeshWriter {
      */
     private boolean remoteTextureIdEnabled;
 
+    /**
+     * Precision mode of vertex positions.
+     */
+    private JsonPrecisionMode positionPrecisionMode = DEFAULT_PRECISION_MODE;
+
+    /**
+     * Number of decimals or significant digits of vertex positions.
+     */
+    private int positionPrecisionDigits = DEFAULT_PRECISION_DIGITS;
+
+    /**
+     * Precision mode of vertex normals.
+     */
+    private JsonPrecisionMode normalPrecisionMode = DEFAULT_PRECISION_MODE;
+
+    /**
+     * Number of decimals or significant digits of vertex normals.
+     */
+    private int normalPrecisionDigits = DEFAULT_PRECISION_DIGITS;
+
+    /**
+     * Precision mode of texture coordinates.
+     */
+    private JsonPrecisionMode textureCoordinatePrecisionMode = DEFAULT_PRECISION_MODE;
+
+    /**
+     * Number of decimals or significant digits of texture coordinates.
+     */
+    private int textureCoordinatePrecisionDigits = DEFAULT_PRECISION_DIGITS;
+
+    /**
+     * Indicates whether vertex positions are quantized.
+     */
+    private boolean positionQuantizationEnabled = DEFAULT_POSITION_QUANTIZATION_ENABLED;
+
+    /**
+     * Number of bits of quantized vertex positions.
+     */
+    private int positionBits = DEFAULT_POSITION_BITS;
+
+    /**
+     * Maximum number of chunks being encoded or waiting to be written at the
+     * same time when writing in parallel.
+     */
+    private int maxPendingChunks = DEFAULT_MAX_PENDING_CHUNKS;
+
+    /**
+     * Indicates whether chunks and textures are written as separate parts
+     * referenced by a manifest written into output stream.
+     */
+    private boolean splitOutputEnabled = DEFAULT_SPLIT_OUTPUT_ENABLED;
+
     /**
      * Constructor.
      *
@@ -222,6 +356,282 @@ public class MeshWriterJson extends MeshWriter {
         this.remoteTextureIdEnabled = remoteTextureIdEnabled;
     }
 
+    /**
+     * Returns precision mode of written vertex positions.
+     *
+     * @return precision mode of vertex positions.
+     */
+    public JsonPrecisionMode getPositionPrecisionMode() {
+        return positionPrecisionMode;
+    }
+
+    /**
+     * Returns number of decimals or significant digits of written vertex
+     * positions, depending on their precision mode. This value is ignored
+     * when using full precision.
+     *
+     * @return number of decimals or significant digits of vertex positions.
+     */
+    public int getPositionPrecisionDigits() {
+        return positionPrecisionDigits;
+    }
+
+    /**
+     * Sets precision of written vertex positions.
+     * Values that are already represented with fewer digits keep their
+     * shortest representation.
+     * Precision is ignored when position quantization is enabled.
+     *
+     * @param mode   precision mode of vertex positions.
+     * @param digits number of decimals or significant digits of vertex
+     *               positions, depending on provided mode.
+     * @throws IllegalArgumentException if mode is null, if digits is not
+     *                                  between {@link #MIN_PRECISION_DIGITS} and
+     *                                  {@link #MAX_PRECISION_DIGITS} or if digits
+     *                                  is zero for significant digits mode.
+     * @throws LockedException          if this mesh writer is locked processing
+     *                                  a file.
+     */
+    public void setPositionPrecision(final JsonPrecisionMode mode, final int digits) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        checkPrecision(mode, digits);
+        positionPrecisionMode = mode;
+        positionPrecisionDigits = digits;
+    }
+
+    /**
+     * Returns precision mode of written vertex normals.
+     *
+     * @return precision mode of vertex normals.
+     */
+    public JsonPrecisionMode getNormalPrecisionMode() {
+        return normalPrecisionMode;
+    }
+
+    /**
+     * Returns number of decimals or significant digits of written vertex
+     * normals, depending on their precision mode. This value is ignored when
+     * using full precision.
+     *
+     * @return number of decimals or significant digits of vertex normals.
+     */
+    public int getNormalPrecisionDigits() {
+        return normalPrecisionDigits;
+    }
+
+    /**
+     * Sets precision of written vertex normals.
+     * Values that are already represented with fewer digits keep their
+     * shortest representation.
+     *
+     * @param mode   precision mode of vertex normals.
+     * @param digits number of decimals or significant digits of vertex
+     *               normals, depending on provided mode.
+     * @throws IllegalArgumentException if mode is null, if digits is not
+     *                                  between {@link #MIN_PRECISION_DIGITS} and
+     *                                  {@link #MAX_PRECISION_DIGITS} or if digits
+     *                                  is zero for significant digits mode.
+     * @throws LockedException          if this mesh writer is locked processing
+     *                                  a file.
+     */
+    public void setNormalPrecision(final JsonPrecisionMode mode, final int digits) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        checkPrecision(mode, digits);
+        normalPrecisionMode = mode;
+        normalPrecisionDigits = digits;
+    }
+
+    /**
+     * Returns precision mode of written texture coordinates.
+     *
+     * @return precision mode of texture coordinates.
+     */
+    public JsonPrecisionMode getTextureCoordinatePrecisionMode() {
+        return textureCoordinatePrecisionMode;
+    }
+
+    /**
+     * Returns number of decimals or significant digits of written texture
+     * coordinates, depending on their precision mode. This value is ignored
+     * when using full precision.
+     *
+     * @return number of decimals or significant digits of texture
+     * coordinates.
+     */
+    public int getTextureCoordinatePrecisionDigits() {
+        return textureCoordinatePrecisionDigits;
+    }
+
+    /**
+     * Sets precision of written texture coordinates.
+     * Values that are already represented with fewer digits keep their
+     * shortest representation.
+     *
+     * @param mode   precision mode of texture coordinates.
+     * @param digits number of decimals or significant digits of texture
+     *               coordinates, depending on provided mode.
+     * @throws IllegalArgumentException if mode is null, if digits is not
+     *                                  between {@link #MIN_PRECISION_DIGITS} and
+     *                                  {@link #MAX_PRECISION_DIGITS} or if digits
+     *                                  is zero for significant digits mode.
+     * @throws LockedException          if this mesh writer is locked processing
+     *                                  a file.
+     */
+    public void setTextureCoordinatePrecision(final JsonPrecisionMode mode, final int digits)
+            throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        checkPrecision(mode, digits);
+        textureCoordinatePrecisionMode = mode;
+        textureCoordinatePrecisionDigits = digits;
+    }
+
+    /**
+     * Indicates whether vertex positions are quantized.
+     *
+     * @return true if vertex positions are quantized, false otherwise.
+     */
+    public boolean isPositionQuantizationEnabled() {
+        return positionQuantizationEnabled;
+    }
+
+    /**
+     * Specifies whether vertex positions are quantized.
+     * When enabled, vertex positions of each chunk are written as integers
+     * between 0 and 2^bits - 1 relative to the bounding box of the chunk,
+     * followed by a "positionQuantization" object containing the number of
+     * bits, an "offset" and a "scale" for each coordinate, so that positions
+     * can be obtained as offset + value * scale.
+     *
+     * @param positionQuantizationEnabled true to quantize vertex positions,
+     *                                    false otherwise.
+     * @throws LockedException if this mesh writer is locked processing a
+     *                         file.
+     */
+    public void setPositionQuantizationEnabled(final boolean positionQuantizationEnabled)
+            throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.positionQuantizationEnabled = positionQuantizationEnabled;
+    }
+
+    /**
+     * Returns number of bits of quantized vertex positions.
+     *
+     * @return number of bits of quantized vertex positions.
+     */
+    public int getPositionBits() {
+        return positionBits;
+    }
+
+    /**
+     * Sets number of bits of quantized vertex positions. The maximum error of
+     * each coordinate is half the size of the chunk bounding box divided by
+     * 2^bits - 1.
+     *
+     * @param positionBits number of bits of quantized vertex positions.
+     * @throws IllegalArgumentException if provided value is less than
+     *                                  {@link #MIN_POSITION_BITS} or greater
+     *                                  than {@link #MAX_POSITION_BITS}.
+     * @throws LockedException          if this mesh writer is locked processing
+     *                                  a file.
+     */
+    public void setPositionBits(final int positionBits) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (positionBits < MIN_POSITION_BITS || positionBits > MAX_POSITION_BITS) {
+            throw new IllegalArgumentException();
+        }
+        this.positionBits = positionBits;
+    }
+
+    /**
+     * Returns maximum number of chunks being encoded or waiting to be written
+     * at the same time when writing in parallel.
+     *
+     * @return maximum number of pending chunks.
+     */
+    public int getMaxPendingChunks() {
+        return maxPendingChunks;
+    }
+
+    /**
+     * Sets maximum number of chunks being encoded or waiting to be written at
+     * the same time when writing in parallel. Larger values allow more chunks
+     * to be encoded concurrently at the expense of larger memory usage, since
+     * each pending chunk keeps its loaded data and its encoded JSON in memory.
+     *
+     * @param maxPendingChunks maximum number of pending chunks.
+     * @throws IllegalArgumentException if provided value is less than
+     *                                  {@link #MIN_PENDING_CHUNKS}.
+     * @throws LockedException          if this mesh writer is locked processing
+     *                                  a file.
+     */
+    public void setMaxPendingChunks(final int maxPendingChunks) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (maxPendingChunks < MIN_PENDING_CHUNKS) {
+            throw new IllegalArgumentException();
+        }
+        this.maxPendingChunks = maxPendingChunks;
+    }
+
+    /**
+     * Indicates whether chunks and textures are written as separate parts
+     * referenced by a manifest written into output stream.
+     *
+     * @return true if output is split into multiple parts, false if a single
+     * JSON containing all data is written.
+     */
+    public boolean isSplitOutputEnabled() {
+        return splitOutputEnabled;
+    }
+
+    /**
+     * Specifies whether chunks and textures are written as separate parts
+     * referenced by a manifest written into output stream, so that clients
+     * can fetch parts in parallel and render chunks progressively.
+     * The manifest has the same structure as the single JSON, but each chunk
+     * is replaced by an object containing the name and size in bytes of its
+     * part and its bounding box, and each texture contains the name and size
+     * of its part instead of embedded data.
+     * Streams of parts are provided by a {@link MeshWriterJsonPartListener},
+     * which must be set for this writer to be ready. Chunk parts are JSON
+     * objects containing only ASCII characters and texture parts contain
+     * texture images as they were received.
+     *
+     * @param splitOutputEnabled true to split output into multiple parts,
+     *                           false to write a single JSON containing all
+     *                           data.
+     * @throws LockedException if this mesh writer is locked processing a file.
+     */
+    public void setSplitOutputEnabled(final boolean splitOutputEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.splitOutputEnabled = splitOutputEnabled;
+    }
+
+    /**
+     * Indicates if mesh writer is ready to start processing additional data.
+     * When output is split into multiple parts, a
+     * {@link MeshWriterJsonPartListener} is also required.
+     *
+     * @return true if mesh writer is ready, false otherwise.
+     */
+    @Override
+    public boolean isReady() {
+        return super.isReady() && (!splitOutputEnabled || listener instanceof MeshWriterJsonPartListener);
+    }
+
     /**
      * Processes input file provided to loader and writes it trans-coded into
      * output stream.
@@ -232,9 +642,55 @@ public class MeshWriterJson extends MeshWriter {
      *                           loader has not been provided or an output stream has not been provided.
      * @throws LockedException   if this mesh writer is locked processing a file.
      */
-    @SuppressWarnings("DuplicatedCode")
     @Override
     public void write() throws LoaderException, IOException, NotReadyException, LockedException {
+        write(Runnable::run, 1);
+    }
+
+    /**
+     * Processes input file provided to loader and writes it trans-coded into
+     * output stream, encoding chunks concurrently in provided executor while
+     * the loader keeps producing them.
+     * Encoded chunks are written into output stream by the calling thread in
+     * the same order they are loaded, hence resulting output is equal to the
+     * one obtained by {@link #write()}. At most
+     * {@link #getMaxPendingChunks()} chunks are kept in memory waiting to be
+     * encoded or written.
+     *
+     * @param executor executor where chunks are encoded.
+     * @throws IllegalArgumentException if executor is null.
+     * @throws LoaderException          if 3D file loading fails.
+     * @throws IOException              if an I/O error occurs.
+     * @throws NotReadyException        if mesh writer is not ready because either
+     *                                  a loader has not been provided or an
+     *                                  output stream has not been provided.
+     * @throws LockedException          if this mesh writer is locked processing
+     *                                  a file.
+     */
+    public void writeParallel(final Executor executor) throws LoaderException, IOException, NotReadyException,
+            LockedException {
+        if (executor == null) {
+            throw new IllegalArgumentException();
+        }
+        write(executor, maxPendingChunks);
+    }
+
+    /**
+     * Processes input file provided to loader and writes it trans-coded into
+     * output stream, encoding chunks in provided executor.
+     *
+     * @param executor         executor where chunks are encoded.
+     * @param maxPendingChunks maximum number of chunks being encoded or waiting
+     *                         to be written.
+     * @throws LoaderException   if 3D file loading fails.
+     * @throws IOException       if an I/O error occurs.
+     * @throws NotReadyException if mesh writer is not ready because either a
+     *                           loader has not been provided or an output stream has not been provided.
+     * @throws LockedException   if this mesh writer is locked processing a file.
+     */
+    @SuppressWarnings("DuplicatedCode")
+    private void write(final Executor executor, final int maxPendingChunks) throws LoaderException, IOException,
+            NotReadyException, LockedException {
         if (!isReady()) {
             throw new NotReadyException();
         }
@@ -242,6 +698,8 @@ public class MeshWriterJson extends MeshWriter {
             throw new LockedException();
         }
 
+        final var pipeline = new ChunkWriterPipeline<>(executor, maxPendingChunks, ChunkEncoder::new,
+                ChunkEncoder::encode, this::writeChunk);
         try {
             if (charset == null) {
                 // use default charset
@@ -250,9 +708,14 @@ public class MeshWriterJson extends MeshWriter {
                 // use provided charset
                 writer = new BufferedWriter(new OutputStreamWriter(stream, charset));
             }
+            final var effectiveCharset = charset != null ? charset : Charset.defaultCharset();
+            asciiCompatible = StandardCharsets.UTF_8.equals(effectiveCharset)
+                    || StandardCharsets.US_ASCII.equals(effectiveCharset)
+                    || StandardCharsets.ISO_8859_1.equals(effectiveCharset);
 
             locked = true;
             textureCounter = 0;
+            chunkCounter = 0;
             if (listener != null) {
                 listener.onWriteStart(this);
             }
@@ -275,21 +738,7 @@ public class MeshWriterJson extends MeshWriter {
             ignoreTextureValidation = true;
             while (iter.hasNext()) {
                 final var chunk = iter.next();
-                final var coords = chunk.getVerticesCoordinatesData();
-                final var colors = chunk.getColorData();
-                final var indices = chunk.getIndicesData();
-                final var textureCoords = chunk.getTextureCoordinatesData();
-                final var normals = chunk.getNormalsData();
-
-                final var material = chunk.getMaterial();
-
-                final var coordsAvailable = (coords != null);
-                final var colorsAvailable = (colors != null);
-                final var indicesAvailable = (indices != null);
-                final var textureCoordsAvailable = (textureCoords != null);
-                final var normalsAvailable = (normals != null);
-                var hasPreviousContent = false;
-
+                checkNotInterleaved(chunk);
                 if (chunk.getMinX() < minX) {
                     minX = chunk.getMinX();
                 }
@@ -310,145 +759,9 @@ public class MeshWriterJson extends MeshWriter {
                     maxZ = chunk.getMaxZ();
                 }
 
-                //write chunk opening
-                writer.write("{");
-
-                // CHUNK CONTENTS
-                if (material != null) {
-                    // write material
-                    writeMaterial(material);
-                    hasPreviousContent = true;
-                }
-                if (indicesAvailable) {
-                    // write separator for next piece of data
-                    if (hasPreviousContent) {
-                        writer.write(",");
-                    }
-
-                    // write indices opening
-                    writer.write("\"indices\":[");
-                    for (var i = 0; i < indices.length; i++) {
-                        writer.write(Integer.toString(indices[i]));
-                        // write separator if more elements in array
-                        if (i < (indices.length - 1)) {
-                            writer.write(",");
-                        }
-                    }
-                    // write indices closing
-                    writer.write("]");
-                    hasPreviousContent = true;
-                }
-                if (normalsAvailable) {
-                    // write separator for next piece of data
-                    if (hasPreviousContent) {
-                        writer.write(",");
-                    }
-
-                    // write normals opening
-                    writer.write("\"vertexNormals\":[");
-                    for (var i = 0; i < normals.length; i++) {
-                        if (Float.isInfinite(normals[i]) || Float.isNaN(normals[i])) {
-                            writer.write(Float.toString(Float.MAX_VALUE));
-                        } else {
-                            writer.write(Float.toString(normals[i]));
-                        }
-                        // write separator if more elements in array
-                        if (i < (normals.length - 1)) {
-                            writer.write(",");
-                        }
-                    }
-                    // write normals closing
-                    writer.write("]");
-                    hasPreviousContent = true;
-                }
-                if (coordsAvailable) {
-                    // write separator for next piece of data
-                    if (hasPreviousContent) {
-                        writer.write(",");
-                    }
-
-                    // write coords opening
-                    writer.write("\"vertexPositions\":[");
-                    for (var i = 0; i < coords.length; i++) {
-                        if (Float.isInfinite(coords[i]) || Float.isNaN(coords[i])) {
-                            writer.write(Float.toString(Float.MAX_VALUE));
-                        } else {
-                            writer.write(Float.toString(coords[i]));
-                        }
-                        // write separator if more elements in array
-                        if (i < (coords.length - 1)) {
-                            writer.write(",");
-                        }
-                    }
-                    // write coords closing
-                    writer.write("]");
-                    hasPreviousContent = true;
-                }
-                if (textureCoordsAvailable) {
-                    // write separator for next piece of data
-                    if (hasPreviousContent) {
-                        writer.write(",");
-                    }
-
-                    // write texture coords opening
-                    writer.write("\"vertexTextureCoords\":[");
-                    for (var i = 0; i < textureCoords.length; i++) {
-                        if (Float.isInfinite(textureCoords[i]) || Float.isNaN(textureCoords[i])) {
-                            writer.write(Float.toString(Float.MAX_VALUE));
-                        } else {
-                            writer.write(Float.toString(textureCoords[i]));
-                        }
-                        // write separator if more elements in array
-                        if (i < (textureCoords.length - 1)) {
-                            writer.write(",");
-                        }
-                    }
-                    // write texture coords closing
-                    writer.write("]");
-                    hasPreviousContent = true;
-                }
-                if (coordsAvailable) {
-                    // write separator for next piece of data
-                    writer.write(",");
-
-                    // write min corner
-                    writer.write("\"minCorner\":[" + chunk.getMinX() + "," + chunk.getMinY() + ","
-                            + chunk.getMinZ() + "],");
-
-                    // write max corner
-                    writer.write("\"maxCorner\":[" + chunk.getMaxX() + "," + chunk.getMaxY() + ","
-                            + chunk.getMaxZ() + "]");
-                }
-                if (colorsAvailable) {
-                    // write separator for next piece of data
-                    if (hasPreviousContent) {
-                        writer.write(",");
-                    }
-
-                    // write colors opening
-                    writer.write("\"vertexColors\":[");
-                    for (var i = 0; i < colors.length; i++) {
-                        writer.write(Short.toString(colors[i]));
-
-                        if (i < (colors.length - 1)) {
-                            writer.write(",");
-                        }
-                    }
-
-                    // write colors closing and color components
-                    writer.write("],\"colorComponents\": " + chunk.getColorComponents());
-                }
-
-                // write chunk closing
-                writer.write("}");
-
-                // write chunk separator if more chunks are available
-                if (iter.hasNext()) {
-                    writer.write(",");
-                }
-
-                writer.flush();
+                pipeline.submit(chunk);
             }
+            pipeline.finish();
             // write array closing
             writer.write("],");
             // write bounding box for all chunks
@@ -468,8 +781,10 @@ public class MeshWriterJson extends MeshWriter {
             locked = false;
 
         } catch (final LoaderException | IOException e) {
+            pipeline.cancel();
             throw e;
         } catch (final Exception e) {
+            pipeline.cancel();
             throw new LoaderException(e);
         }
 
@@ -510,25 +825,28 @@ public class MeshWriterJson extends MeshWriter {
             }
 
         }
-        if (embedTexturesEnabled) {
+        if (splitOutputEnabled) {
+            final var name = getTexturePartName(texture, textureFile);
+            final long length;
+            try (final var partStream = ((MeshWriterJsonPartListener) listener).onTexturePartRequested(this,
+                    texture, name)) {
+                if (partStream == null) {
+                    throw new IOException();
+                }
+                length = Files.copy(textureFile.toPath(), partStream);
+            }
+            writer.write(",\"file\":\"" + name + "\",\"size\":" + length);
+        } else if (embedTexturesEnabled) {
             writer.write(",\"data\":\"");
-            // write texture file data as base64
-
-            // flush to sync writer and stream
-            writer.flush();
-
-
-            try (final var textureStream = Files.newInputStream(textureFile.toPath())) {
-                final var imageData = new byte[(int) textureFile.length()];
-
-                if (textureStream.read(imageData) > 0) {
-                    // convert image byte array into Base64 string
-                    //TODO: could we use a Base64OutputStream to reduce memory usage,
-                    // but doing the same replacement for safe json generation?
-                    String base64 = Base64.encodeBase64String(imageData);
-                    base64 = base64.replace("/", "\\/");
-                    writer.write(base64);
-                    writer.flush();
+            // stream texture file data through a Base64 encoder in fixed size
+            // blocks, so that memory usage does not depend on texture size
+            try (final var textureStream = Files.newInputStream(textureFile.toPath());
+                 final var base64Stream = new Base64OutputStream(new JsonStringOutputStream(writer), true,
+                         0, null)) {
+                final var buffer = new byte[BUFFER_SIZE];
+                int n;
+                while ((n = textureStream.read(buffer)) > 0) {
+                    base64Stream.write(buffer, 0, n);
                 }
             }
             writer.write("\"");
@@ -538,55 +856,494 @@ public class MeshWriterJson extends MeshWriter {
     }
 
     /**
-     * Writes material into output JSON file.
+     * Writes provided encoded chunk into output, preceded by a separator if
+     * it is not the first chunk. When output is split, the chunk is written
+     * into its own part and only a reference to it is written into output.
      *
-     * @param material material to be written.
+     * @param encoder encoder containing encoded chunk.
+     * @param chunk   encoded chunk.
      * @throws IOException if an I/O error occurs.
      */
-    private void writeMaterial(final Material material) throws IOException {
-        writer.write("\"material\":{");
-        writer.write("\"id\":" + material.getId());
-        if (material.isAmbientColorAvailable()) {
-            writer.write(",\"ambientColor\":[" + material.getAmbientRedColor() + ","
-                    + material.getAmbientGreenColor() + "," + material.getAmbientBlueColor() + "]");
+    private void writeChunk(final ChunkEncoder encoder, final DataChunk chunk) throws IOException {
+        if (chunkCounter > 0) {
+            writer.write(",");
         }
-        if (material.isDiffuseColorAvailable()) {
-            writer.write(",\"diffuseColor\":[" + material.getDiffuseRedColor() + ","
-                    + material.getDiffuseGreenColor() + "," + material.getDiffuseBlueColor() + "]");
+        if (splitOutputEnabled) {
+            final var name = "chunk" + chunkCounter + ".json";
+            try (final var partStream = ((MeshWriterJsonPartListener) listener).onChunkPartRequested(this,
+                    chunkCounter, name)) {
+                if (partStream == null) {
+                    throw new IOException();
+                }
+                partStream.write(encoder.buffer, 0, encoder.length);
+            }
+
+            // write reference to part and bounding box of chunk
+            writer.write("{\"file\":\"" + name + "\",\"size\":" + encoder.length);
+            writer.write(",\"minCorner\":[" + chunk.getMinX() + "," + chunk.getMinY() + ","
+                    + chunk.getMinZ() + "]");
+            writer.write(",\"maxCorner\":[" + chunk.getMaxX() + "," + chunk.getMaxY() + ","
+                    + chunk.getMaxZ() + "]}");
+        } else if (asciiCompatible) {
+            writer.flush();
+            stream.write(encoder.buffer, 0, encoder.length);
+        } else {
+            writer.write(new String(encoder.buffer, 0, encoder.length, StandardCharsets.US_ASCII));
+            writer.flush();
         }
-        if (material.isSpecularColorAvailable()) {
-            writer.write(",\"specularColor\":[" + material.getSpecularRedColor() + ","
-                    + material.getSpecularGreenColor() + "," + material.getSpecularBlueColor() + "]");
+        chunkCounter++;
+    }
+
+    /**
+     * Returns name of the part containing provided texture, keeping the
+     * extension of the file containing its image.
+     *
+     * @param texture     texture being written.
+     * @param textureFile file containing texture image.
+     * @return name of part.
+     */
+    private static String getTexturePartName(final Texture texture, final File textureFile) {
+        final var fileName = textureFile.getName();
+        final var pos = fileName.lastIndexOf('.');
+        return "texture" + texture.getId() + (pos >= 0 ? fileName.substring(pos) : "");
+    }
+
+    /**
+     * Checks whether provided precision settings are valid.
+     *
+     * @param mode   precision mode.
+     * @param digits number of decimals or significant digits.
+     * @throws IllegalArgumentException if mode is null, if digits is not
+     *                                  between {@link #MIN_PRECISION_DIGITS} and
+     *                                  {@link #MAX_PRECISION_DIGITS} or if digits
+     *                                  is zero for significant digits mode.
+     */
+    private static void checkPrecision(final JsonPrecisionMode mode, final int digits) {
+        if (mode == null || digits < MIN_PRECISION_DIGITS || digits > MAX_PRECISION_DIGITS
+                || mode == JsonPrecisionMode.SIGNIFICANT_DIGITS && digits == 0) {
+            throw new IllegalArgumentException();
         }
-        if (material.isSpecularCoefficientAvailable()) {
-            writer.write(",\"specularCoefficient\":" + material.getSpecularCoefficient());
+    }
+
+    /**
+     * Encodes chunks as JSON objects into a reusable buffer of ASCII
+     * characters, formatting numbers directly as bytes. Encoders are pooled
+     * and reused across chunks, and each one is used by a single thread at a
+     * time.
+     */
+    private class ChunkEncoder {
+
+        /**
+         * Buffer containing encoded chunk.
+         */
+        private byte[] buffer = new byte[BUFFER_SIZE];
+
+        /**
+         * Number of bytes of encoded chunk contained in buffer.
+         */
+        private int length;
+
+        /**
+         * Encodes provided chunk as a JSON object.
+         *
+         * @param chunk chunk to be encoded.
+         */
+        void encode(final DataChunk chunk) {
+            length = 0;
+
+            final var coords = chunk.getVerticesCoordinatesData();
+            final var colors = chunk.getColorData();
+            final var indices = chunk.getIndicesData();
+            final var textureCoords = chunk.getTextureCoordinatesData();
+            final var normals = chunk.getNormalsData();
+
+            final var material = chunk.getMaterial();
+
+            final var coordsAvailable = (coords != null);
+            final var colorsAvailable = (colors != null);
+            final var indicesAvailable = (indices != null);
+            final var textureCoordsAvailable = (textureCoords != null);
+            final var normalsAvailable = (normals != null);
+            var hasPreviousContent = false;
+
+            //write chunk opening
+            append("{");
+
+            // CHUNK CONTENTS
+            if (material != null) {
+                // write material
+                appendMaterial(material);
+                hasPreviousContent = true;
+            }
+            if (indicesAvailable) {
+                // write separator for next piece of data
+                if (hasPreviousContent) {
+                    append(",");
+                }
+
+                // write indices opening
+                append("\"indices\":[");
+                appendArray(indices, chunk.getIndicesDataLength());
+                // write indices closing
+                append("]");
+                hasPreviousContent = true;
+            }
+            if (normalsAvailable) {
+                // write separator for next piece of data
+                if (hasPreviousContent) {
+                    append(",");
+                }
+
+                // write normals opening
+                append("\"vertexNormals\":[");
+                appendArray(normals, chunk.getNormalsDataLength(), normalPrecisionMode, normalPrecisionDigits);
+                // write normals closing
+                append("]");
+                hasPreviousContent = true;
+            }
+            if (coordsAvailable) {
+                // write separator for next piece of data
+                if (hasPreviousContent) {
+                    append(",");
+                }
+
+                // write coords opening
+                append("\"vertexPositions\":[");
+                if (!positionQuantizationEnabled || !appendQuantizedPositions(coords,
+                        chunk.getVerticesCoordinatesDataLength())) {
+                    appendArray(coords, chunk.getVerticesCoordinatesDataLength(), positionPrecisionMode,
+                            positionPrecisionDigits);
+                    // write coords closing
+                    append("]");
+                }
+                hasPreviousContent = true;
+            }
+            if (textureCoordsAvailable) {
+                // write separator for next piece of data
+                if (hasPreviousContent) {
+                    append(",");
+                }
+
+                // write texture coords opening
+                append("\"vertexTextureCoords\":[");
+                appendArray(textureCoords, chunk.getTextureCoordinatesDataLength(),
+                        textureCoordinatePrecisionMode, textureCoordinatePrecisionDigits);
+                // write texture coords closing
+                append("]");
+                hasPreviousContent = true;
+            }
+            if (coordsAvailable) {
+                // write separator for next piece of data
+                append(",");
+
+                // write min corner
+                append("\"minCorner\":[" + chunk.getMinX() + "," + chunk.getMinY() + ","
+                        + chunk.getMinZ() + "],");
+
+                // write max corner
+                append("\"maxCorner\":[" + chunk.getMaxX() + "," + chunk.getMaxY() + ","
+                        + chunk.getMaxZ() + "]");
+            }
+            if (colorsAvailable) {
+                // write separator for next piece of data
+                if (hasPreviousContent) {
+                    append(",");
+                }
+
+                // write colors opening
+                append("\"vertexColors\":[");
+                appendArray(colors, chunk.getColorDataLength());
+
+                // write colors closing and color components
+                append("],\"colorComponents\": " + chunk.getColorComponents());
+            }
+
+            // write chunk closing
+            append("}");
         }
-        if (material.isAmbientTextureMapAvailable()) {
-            final var tex = material.getAmbientTextureMap();
-            writer.write(",\"ambientTextureId\":" + tex.getId());
+
+        /**
+         * Appends the first provided int values separated by commas.
+         *
+         * @param values values to be appended.
+         * @param count  number of values to be appended.
+         */
+        private void appendArray(final int[] values, final int count) {
+            for (var i = 0; i < count; i++) {
+                ensureCapacity(JsonNumberFormatter.MAX_INT_LENGTH + 1);
+                if (i > 0) {
+                    buffer[length++] = ',';
+                }
+                length = JsonNumberFormatter.formatInt(values[i], buffer, length);
+            }
         }
-        if (material.isDiffuseTextureMapAvailable()) {
-            final var tex = material.getDiffuseTextureMap();
-            writer.write(",\"diffuseTextureId\":" + tex.getId());
+
+        /**
+         * Appends the first provided short values separated by commas.
+         *
+         * @param values values to be appended.
+         * @param count  number of values to be appended.
+         */
+        private void appendArray(final short[] values, final int count) {
+            for (var i = 0; i < count; i++) {
+                ensureCapacity(JsonNumberFormatter.MAX_INT_LENGTH + 1);
+                if (i > 0) {
+                    buffer[length++] = ',';
+                }
+                length = JsonNumberFormatter.formatInt(values[i], buffer, length);
+            }
         }
-        if (material.isSpecularTextureMapAvailable()) {
-            final var tex = material.getSpecularTextureMap();
-            writer.write(",\"specularTextureId\":" + tex.getId());
+
+        /**
+         * Appends the first provided float values separated by commas,
+         * replacing infinite or NaN values by the maximum float value, since
+         * they are not supported by JSON.
+         *
+         * @param values values to be appended.
+         * @param count  number of values to be appended.
+         * @param mode   precision mode of values.
+         * @param digits number of decimals or significant digits of values.
+         */
+        private void appendArray(final float[] values, final int count, final JsonPrecisionMode mode,
+                                 final int digits) {
+            for (var i = 0; i < count; i++) {
+                ensureCapacity(JsonNumberFormatter.MAX_FLOAT_LENGTH + 1);
+                if (i > 0) {
+                    buffer[length++] = ',';
+                }
+                var value = values[i];
+                if (Float.isInfinite(value) || Float.isNaN(value)) {
+                    value = Float.MAX_VALUE;
+                }
+                length = switch (mode) {
+                    case FIXED_DECIMALS -> JsonNumberFormatter.formatFloatDecimals(value, digits, buffer, length);
+                    case SIGNIFICANT_DIGITS -> JsonNumberFormatter.formatFloatSignificant(value, digits, buffer,
+                            length);
+                    default -> JsonNumberFormatter.formatFloat(value, buffer, length);
+                };
+            }
         }
-        if (material.isAlphaTextureMapAvailable()) {
-            final var tex = material.getAlphaTextureMap();
-            writer.write(",\"alphaTextureId\":" + tex.getId());
+
+        /**
+         * Appends vertex positions quantized relative to their bounding box,
+         * followed by the array closing and the values required to dequantize
+         * them.
+         * The bounding box is computed from the positions themselves, since
+         * loader-provided chunk bounds need not be exact.
+         * Nothing is appended when positions cannot be quantized because they
+         * contain non-finite values or their range overflows.
+         *
+         * @param coords vertex positions to be appended.
+         * @param count  number of values to be appended.
+         * @return true if positions were appended, false otherwise.
+         */
+        private boolean appendQuantizedPositions(final float[] coords, final int count) {
+            final var min = new float[]{Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE};
+            final var max = new float[]{-Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE};
+            for (var i = 0; i < count; i++) {
+                final var value = coords[i];
+                if (!Float.isFinite(value)) {
+                    return false;
+                }
+                final var c = i % 3;
+                if (value < min[c]) {
+                    min[c] = value;
+                }
+                if (value > max[c]) {
+                    max[c] = value;
+                }
+            }
+
+            final var maxValue = (1 << positionBits) - 1;
+            final var factor = new float[3];
+            final var scale = new float[3];
+            for (var c = 0; c < 3; c++) {
+                final var range = max[c] - min[c];
+                if (range < 0.0f) {
+                    // no values for this component
+                    return false;
+                } else if (Float.isInfinite(range)) {
+                    // range overflows
+                    return false;
+                } else if (range > 0.0f) {
+                    factor[c] = maxValue / range;
+                    scale[c] = range / maxValue;
+                }
+                // when all values are equal, they are fully described by the
+                // offset, and they are quantized as zero with zero scale
+            }
+
+            for (var i = 0; i < count; i++) {
+                ensureCapacity(JsonNumberFormatter.MAX_INT_LENGTH + 1);
+                if (i > 0) {
+                    buffer[length++] = ',';
+                }
+                final var c = i % 3;
+                final var q = Math.max(0, Math.min(Math.round((coords[i] - min[c]) * factor[c]), maxValue));
+                length = JsonNumberFormatter.formatInt(q, buffer, length);
+            }
+
+            // append coords closing and values to dequantize them
+            append("],\"positionQuantization\":{\"bits\":" + positionBits);
+            append(",\"offset\":[" + min[0] + "," + min[1] + "," + min[2] + "]");
+            append(",\"scale\":[" + scale[0] + "," + scale[1] + "," + scale[2] + "]}");
+            return true;
+        }
+
+        /**
+         * Appends material.
+         *
+         * @param material material to be appended.
+         */
+        private void appendMaterial(final Material material) {
+            append("\"material\":{");
+            append("\"id\":" + material.getId());
+            if (material.isAmbientColorAvailable()) {
+                append(",\"ambientColor\":[" + material.getAmbientRedColor() + ","
+                        + material.getAmbientGreenColor() + "," + material.getAmbientBlueColor() + "]");
+            }
+            if (material.isDiffuseColorAvailable()) {
+                append(",\"diffuseColor\":[" + material.getDiffuseRedColor() + ","
+                        + material.getDiffuseGreenColor() + "," + material.getDiffuseBlueColor() + "]");
+            }
+            if (material.isSpecularColorAvailable()) {
+                append(",\"specularColor\":[" + material.getSpecularRedColor() + ","
+                        + material.getSpecularGreenColor() + "," + material.getSpecularBlueColor() + "]");
+            }
+            if (material.isSpecularCoefficientAvailable()) {
+                append(",\"specularCoefficient\":" + material.getSpecularCoefficient());
+            }
+            if (material.isAmbientTextureMapAvailable()) {
+                final var tex = material.getAmbientTextureMap();
+                append(",\"ambientTextureId\":" + tex.getId());
+            }
+            if (material.isDiffuseTextureMapAvailable()) {
+                final var tex = material.getDiffuseTextureMap();
+                append(",\"diffuseTextureId\":" + tex.getId());
+            }
+            if (material.isSpecularTextureMapAvailable()) {
+                final var tex = material.getSpecularTextureMap();
+                append(",\"specularTextureId\":" + tex.getId());
+            }
+            if (material.isAlphaTextureMapAvailable()) {
+                final var tex = material.getAlphaTextureMap();
+                append(",\"alphaTextureId\":" + tex.getId());
+            }
+            if (material.isBumpTextureMapAvailable()) {
+                final var tex = material.getBumpTextureMap();
+                append(",\"bumpTextureId\":" + tex.getId());
+            }
+            if (material.isTransparencyAvailable()) {
+                append(",\"transparency\":" + material.getTransparency());
+            }
+            if (material.isIlluminationAvailable()) {
+                append(",\"illumination\":\"" + material.getIllumination().name() + "\"");
+            }
+            append("}");
+        }
+
+        /**
+         * Appends provided string, which must only contain ASCII characters.
+         *
+         * @param value string to be appended.
+         */
+        private void append(final String value) {
+            final var n = value.length();
+            ensureCapacity(n);
+            for (var i = 0; i < n; i++) {
+                buffer[length++] = (byte) value.charAt(i);
+            }
         }
-        if (material.isBumpTextureMapAvailable()) {
-            final var tex = material.getBumpTextureMap();
-            writer.write(",\"bumpTextureId\":" + tex.getId());
+
+        /**
+         * Ensures that buffer can contain provided number of additional bytes,
+         * growing it if needed.
+         *
+         * @param extra number of additional bytes.
+         */
+        private void ensureCapacity(final int extra) {
+            if (length + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, length + extra));
+            }
         }
-        if (material.isTransparencyAvailable()) {
-            writer.write(",\"transparency\":" + material.getTransparency());
+    }
+
+    /**
+     * Output stream writing ASCII bytes (such as Base64 data) as characters
+     * of a JSON string into a writer, escaping forward slashes so that
+     * resulting string can be safely embedded in HTML.
+     * Closing this stream does not close the underlying writer.
+     */
+    private static class JsonStringOutputStream extends OutputStream {
+
+        /**
+         * Writer where characters are written to.
+         */
+        private final Writer writer;
+
+        /**
+         * Buffer of characters to be written, which can hold an escaped
+         * character for each byte of a block.
+         */
+        private final char[] buffer = new char[2 * BUFFER_SIZE];
+
+        /**
+         * Constructor.
+         *
+         * @param writer writer where characters are written to.
+         */
+        JsonStringOutputStream(final Writer writer) {
+            this.writer = writer;
         }
-        if (material.isIlluminationAvailable()) {
-            writer.write(",\"illumination\":\"" + material.getIllumination().name() + "\"");
+
+        /**
+         * Writes provided byte as a character.
+         *
+         * @param b byte to be written.
+         * @throws IOException if an I/O error occurs.
+         */
+        @Override
+        public void write(final int b) throws IOException {
+            if (b == '/') {
+                writer.write("\\/");
+            } else {
+                writer.write(b & 0xff);
+            }
+        }
+
+        /**
+         * Writes provided bytes as characters.
+         *
+         * @param b   bytes to be written.
+         * @param off offset where bytes start.
+         * @param len number of bytes to be written.
+         * @throws IOException if an I/O error occurs.
+         */
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            var count = 0;
+            for (var i = off; i < off + len; i++) {
+                if (count >= buffer.length - 1) {
+                    writer.write(buffer, 0, count);
+                    count = 0;
+                }
+
+                final var c = (char) (b[i] & 0xff);
+                if (c == '/') {
+                    buffer[count++] = '\\';
+                }
+                buffer[count++] = c;
+            }
+            writer.write(buffer, 0, count);
+        }
+
+        /**
+         * Does not close underlying writer, which is still used after
+         * embedded data has been written.
+         */
+        @Override
+        public void close() {
+            // no action needed
         }
-        writer.write("}");
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.io.OutputStream;
+
+/**
+ * Listener of a JSON writer splitting its output into multiple parts.
+ * This listener provides the streams where each chunk and each texture is
+ * written, while the output stream of the writer receives a manifest
+ * referencing all parts by name.
+ */
+public interface MeshWriterJsonPartListener extends MeshWriterJsonListener {
+
+    /**
+     * Handles chunk to provide the stream where it will be written as a JSON
+     * object. Provided stream is closed by the writer once the chunk has been
+     * written.
+     *
+     * @param writer reference to writer.
+     * @param index  position of chunk, starting at zero.
+     * @param name   name of the part referenced by the manifest.
+     * @return stream where chunk will be written.
+     */
+    OutputStream onChunkPartRequested(final MeshWriterJson writer, final int index, final String name);
+
+    /**
+     * Handles texture to provide the stream where its image data will be
+     * written. Provided stream is closed by the writer once the texture has
+     * been written.
+     *
+     * @param writer  reference to writer.
+     * @param texture reference to texture being processed.
+     * @param name    name of the part referenced by the manifest.
+     * @return stream where texture image will be written.
+     */
+    OutputStream onTexturePartRequested(final MeshWriterJson writer, final Texture texture, final String name);
+}
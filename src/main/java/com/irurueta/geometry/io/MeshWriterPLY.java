@@ -0,0 +1,499 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads a 3D object and converts it into PLY format.
+ * Vertices are written with their coordinates, and with their normals and
+ * colors when those are available in the first chunk of data. Faces are
+ * written as triangles using global vertex indices.
+ * Because PLY headers must contain the number of vertices and faces, when
+ * output stream is a {@link FileOutputStream} a header of fixed size is
+ * reserved and back-patched once all data has been written. Otherwise, vertex
+ * data is temporarily stored in a file until the number of vertices is known.
+ * Face data is always temporarily stored in a file, since in PLY files all
+ * faces must follow all vertices.
+ * Textures are not supported by PLY format, hence they are ignored.
+ */
+public class MeshWriterPLY extends MeshWriter {
+
+    /**
+     * Default storage mode of resulting PLY file.
+     */
+    public static final PLYStorageMode DEFAULT_STORAGE_MODE = PLYStorageMode.PLY_LITTLE_ENDIAN;
+
+    /**
+     * Buffer size to copy temporarily stored data into output stream.
+     */
+    public static final int BUFFER_SIZE = 65536;
+
+    /**
+     * Maximum number of digits of the number of vertices or faces written
+     * into header.
+     */
+    private static final int MAX_DIGITS = 19;
+
+    /**
+     * Number of color components written into PLY file for each vertex.
+     */
+    private static final int PLY_COLOR_COMPONENTS = 4;
+
+    /**
+     * Number of vertices of each face.
+     */
+    private static final int VERTICES_PER_FACE = 3;
+
+    /**
+     * Size in bytes of a face record (number of vertices as uchar and vertex
+     * indices as int).
+     */
+    private static final int FACE_SIZE = 1 + VERTICES_PER_FACE * Integer.BYTES;
+
+    /**
+     * Storage mode of resulting PLY file.
+     */
+    private PLYStorageMode storageMode;
+
+    /**
+     * Indicates whether vertex normals are written.
+     */
+    private boolean normalsAvailable;
+
+    /**
+     * Number of color components of input data or zero if vertex colors are
+     * not written.
+     */
+    private int colorComponents;
+
+    /**
+     * Constructor.
+     *
+     * @param loader loader to load a 3D file.
+     * @param stream stream where trans-coded data will be written to.
+     */
+    public MeshWriterPLY(final Loader loader, final OutputStream stream) {
+        super(loader, stream);
+        storageMode = DEFAULT_STORAGE_MODE;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param loader   loader to load a 3D file.
+     * @param stream   stream where trans-coded data will be written to.
+     * @param listener listener to be notified of progress changes or when
+     *                 transcoding process starts or finishes.
+     */
+    public MeshWriterPLY(final Loader loader, final OutputStream stream, final MeshWriterListener listener) {
+        super(loader, stream, listener);
+        storageMode = DEFAULT_STORAGE_MODE;
+    }
+
+    /**
+     * Returns storage mode of resulting PLY file. By default, binary little
+     * endian is used.
+     *
+     * @return storage mode of resulting PLY file.
+     */
+    public PLYStorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    /**
+     * Sets storage mode of resulting PLY file.
+     *
+     * @param storageMode storage mode of resulting PLY file.
+     * @throws LockedException          if this mesh writer is locked processing a
+     *                                  file.
+     * @throws IllegalArgumentException if provided storage mode is null.
+     */
+    public void setStorageMode(final PLYStorageMode storageMode) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (storageMode == null) {
+            throw new IllegalArgumentException();
+        }
+        this.storageMode = storageMode;
+    }
+
+    /**
+     * Processes input file provided to loader and writes it trans-coded into
+     * output stream.
+     *
+     * @throws LoaderException   if 3D file loading fails.
+     * @throws IOException       if an I/O error occurs or if more vertices are
+     *                           written than can be indexed by PLY int values.
+     * @throws NotReadyException if mesh writer is not ready because either a
+     *                           loader has not been provided or an output stream has not been provided.
+     * @throws LockedException   if this mesh writer is locked processing a file.
+     */
+    @Override
+    public void write() throws LoaderException, IOException, NotReadyException, LockedException {
+
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+        if (isLocked()) {
+            throw new LockedException();
+        }
+
+        Path verticesPath = null;
+        Path facesPath = null;
+        try {
+            locked = true;
+            if (listener != null) {
+                listener.onWriteStart(this);
+            }
+
+            loader.setListener(this.internalListeners);
+
+            final var iter = loader.load();
+
+            // when output is a file, header is reserved and back-patched at
+            // the end, otherwise vertices are temporarily stored
+            final var channel = stream instanceof FileOutputStream fileStream ? fileStream.getChannel() : null;
+            final var headerPosition = channel != null ? channel.position() : 0L;
+
+            facesPath = Files.createTempFile("faces", ".ply");
+            final OutputStream verticesStream;
+            if (channel == null) {
+                verticesPath = Files.createTempFile("vertices", ".ply");
+                verticesStream = new BufferedOutputStream(Files.newOutputStream(verticesPath), BUFFER_SIZE);
+            } else {
+                verticesStream = stream;
+            }
+
+            var numberOfVertices = 0L;
+            var numberOfFaces = 0L;
+            var firstChunk = true;
+            try (final var facesStream = new BufferedOutputStream(Files.newOutputStream(facesPath), BUFFER_SIZE)) {
+                while (iter.hasNext()) {
+                    final var chunk = iter.next();
+                    checkNotInterleaved(chunk);
+                    if (listener != null) {
+                        listener.onChunkAvailable(this, chunk);
+                    }
+
+                    if (firstChunk) {
+                        // layout of vertices is determined by first chunk
+                        normalsAvailable = chunk.getNormalsData() != null;
+                        colorComponents = chunk.getColorData() != null ? chunk.getColorComponents() : 0;
+
+                        if (channel != null) {
+                            // reserve header
+                            stream.write(buildHeader(0, 0, true));
+                        }
+                        firstChunk = false;
+                    }
+
+                    final var indices = chunk.getIndicesData();
+                    final var chunkVertices = chunk.getVerticesCoordinatesDataLength() / 3;
+                    final var chunkFaces = chunk.getIndicesDataLength() / VERTICES_PER_FACE;
+                    if (numberOfVertices + chunkVertices - 1 > Integer.MAX_VALUE) {
+                        // vertex indices are written as PLY int values
+                        throw new IOException();
+                    }
+
+                    if (storageMode == PLYStorageMode.PLY_ASCII) {
+                        verticesStream.write(encodeAsciiVertices(chunk, chunkVertices));
+                        facesStream.write(encodeAsciiFaces(indices, chunkFaces, numberOfVertices));
+                    } else {
+                        verticesStream.write(encodeBinaryVertices(chunk, chunkVertices));
+                        facesStream.write(encodeBinaryFaces(indices, chunkFaces, numberOfVertices));
+                    }
+
+                    numberOfVertices += chunkVertices;
+                    numberOfFaces += chunkFaces;
+                    chunk.release();
+                }
+            }
+
+            if (channel == null) {
+                verticesStream.close();
+                stream.write(buildHeader(numberOfVertices, numberOfFaces, false));
+                MeshWriterFiles.copy(verticesPath, stream);
+                MeshWriterFiles.copy(facesPath, stream);
+                stream.flush();
+            } else {
+                if (firstChunk) {
+                    // no data was available, reserve header anyway
+                    stream.write(buildHeader(0, 0, true));
+                }
+                MeshWriterFiles.copy(facesPath, stream);
+                stream.flush();
+
+                // back-patch header with actual number of vertices and faces
+                MeshWriterFiles.patchHeader(channel, headerPosition,
+                        buildHeader(numberOfVertices, numberOfFaces, true));
+            }
+
+            if (listener != null) {
+                listener.onWriteEnd(this);
+            }
+            locked = false;
+
+        } catch (final LoaderException | IOException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new LoaderException(e);
+        } finally {
+            if (verticesPath != null) {
+                Files.deleteIfExists(verticesPath);
+            }
+            if (facesPath != null) {
+                Files.deleteIfExists(facesPath);
+            }
+        }
+    }
+
+    /**
+     * Processes texture file. PLY format does not support textures, hence
+     * provided texture is ignored.
+     *
+     * @param texture     reference to texture that uses texture image.
+     * @param textureFile file containing texture image. File will usually be
+     *                    created in a temporal location.
+     */
+    @Override
+    protected void processTextureFile(final Texture texture, final File textureFile) {
+        // no action needed
+    }
+
+    /**
+     * Builds PLY header.
+     * When header is padded, a comment line is added so that the header has
+     * the same length regardless of the number of vertices and faces, so that
+     * it can be reserved and later back-patched.
+     *
+     * @param numberOfVertices number of vertices.
+     * @param numberOfFaces    number of faces.
+     * @param padded           true to pad header to a fixed length, false
+     *                         otherwise.
+     * @return bytes of PLY header.
+     */
+    private byte[] buildHeader(final long numberOfVertices, final long numberOfFaces, final boolean padded) {
+        final var vertices = Long.toString(numberOfVertices);
+        final var faces = Long.toString(numberOfFaces);
+
+        final var builder = new StringBuilder();
+        builder.append("ply\n");
+        builder.append("format ").append(switch (storageMode) {
+            case PLY_ASCII -> "ascii";
+            case PLY_BIG_ENDIAN -> "binary_big_endian";
+            case PLY_LITTLE_ENDIAN -> "binary_little_endian";
+        }).append(" 1.0\n");
+        if (padded) {
+            builder.append("comment ").append(" ".repeat(2 * MAX_DIGITS - vertices.length() - faces.length()))
+                    .append("\n");
+        }
+        builder.append("element vertex ").append(vertices).append("\n");
+        builder.append("property float x\n");
+        builder.append("property float y\n");
+        builder.append("property float z\n");
+        if (normalsAvailable) {
+            builder.append("property float nx\n");
+            builder.append("property float ny\n");
+            builder.append("property float nz\n");
+        }
+        if (colorComponents > 0) {
+            builder.append("property uchar red\n");
+            builder.append("property uchar green\n");
+            builder.append("property uchar blue\n");
+            builder.append("property uchar alpha\n");
+        }
+        builder.append("element face ").append(faces).append("\n");
+        builder.append("property list uchar int vertex_indices\n");
+        builder.append("end_header\n");
+
+        return builder.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Encodes vertices of provided chunk in binary format into a single
+     * buffer.
+     *
+     * @param chunk         chunk containing vertices to be encoded.
+     * @param chunkVertices number of vertices in chunk.
+     * @return encoded vertices.
+     */
+    private byte[] encodeBinaryVertices(final DataChunk chunk, final int chunkVertices) {
+        final var coords = chunk.getVerticesCoordinatesData();
+        final var normals = chunk.getNormalsData();
+        final var colors = chunk.getColorData();
+        final var chunkColorComponents = chunk.getColorComponents();
+
+        var vertexSize = 3 * Float.BYTES;
+        if (normalsAvailable) {
+            vertexSize += 3 * Float.BYTES;
+        }
+        if (colorComponents > 0) {
+            vertexSize += PLY_COLOR_COMPONENTS;
+        }
+
+        final var buffer = ByteBuffer.allocate(chunkVertices * vertexSize).order(
+                storageMode == PLYStorageMode.PLY_BIG_ENDIAN ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        for (var i = 0; i < chunkVertices; i++) {
+            final var pos = 3 * i;
+            buffer.putFloat(coords[pos]);
+            buffer.putFloat(coords[pos + 1]);
+            buffer.putFloat(coords[pos + 2]);
+
+            if (normalsAvailable) {
+                if (normals != null) {
+                    buffer.putFloat(normals[pos]);
+                    buffer.putFloat(normals[pos + 1]);
+                    buffer.putFloat(normals[pos + 2]);
+                } else {
+                    buffer.putFloat(0.0f);
+                    buffer.putFloat(0.0f);
+                    buffer.putFloat(0.0f);
+                }
+            }
+
+            if (colorComponents > 0) {
+                for (var j = 0; j < PLY_COLOR_COMPONENTS; j++) {
+                    buffer.put((byte) color(colors, chunkColorComponents, i, j));
+                }
+            }
+        }
+
+        return buffer.array();
+    }
+
+    /**
+     * Encodes faces of provided chunk in binary format into a single buffer.
+     *
+     * @param indices      indices of chunk.
+     * @param chunkFaces   number of faces in chunk.
+     * @param vertexOffset number of vertices written before current chunk,
+     *                     which must not exceed the range of an int.
+     * @return encoded faces.
+     */
+    private byte[] encodeBinaryFaces(final int[] indices, final int chunkFaces, final long vertexOffset) {
+        final var buffer = ByteBuffer.allocate(chunkFaces * FACE_SIZE).order(
+                storageMode == PLYStorageMode.PLY_BIG_ENDIAN ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        // vertex offset and indices of chunk have already been checked to fit
+        // into an int
+        final var offset = (int) vertexOffset;
+        var pos = 0;
+        for (var i = 0; i < chunkFaces; i++) {
+            buffer.put((byte) VERTICES_PER_FACE);
+            for (var j = 0; j < VERTICES_PER_FACE; j++) {
+                buffer.putInt(offset + indices[pos++]);
+            }
+        }
+
+        return buffer.array();
+    }
+
+    /**
+     * Encodes vertices of provided chunk in ASCII format.
+     *
+     * @param chunk         chunk containing vertices to be encoded.
+     * @param chunkVertices number of vertices in chunk.
+     * @return encoded vertices.
+     */
+    private byte[] encodeAsciiVertices(final DataChunk chunk, final int chunkVertices) {
+        final var coords = chunk.getVerticesCoordinatesData();
+        final var normals = chunk.getNormalsData();
+        final var colors = chunk.getColorData();
+        final var chunkColorComponents = chunk.getColorComponents();
+
+        final var builder = new StringBuilder();
+        for (var i = 0; i < chunkVertices; i++) {
+            final var pos = 3 * i;
+            builder.append(coords[pos]).append(' ').append(coords[pos + 1]).append(' ').append(coords[pos + 2]);
+
+            if (normalsAvailable) {
+                if (normals != null) {
+                    builder.append(' ').append(normals[pos]).append(' ').append(normals[pos + 1]).append(' ')
+                            .append(normals[pos + 2]);
+                } else {
+                    builder.append(" 0.0 0.0 0.0");
+                }
+            }
+
+            if (colorComponents > 0) {
+                for (var j = 0; j < PLY_COLOR_COMPONENTS; j++) {
+                    builder.append(' ').append(color(colors, chunkColorComponents, i, j));
+                }
+            }
+            builder.append('\n');
+        }
+
+        return builder.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Encodes faces of provided chunk in ASCII format.
+     *
+     * @param indices      indices of chunk.
+     * @param chunkFaces   number of faces in chunk.
+     * @param vertexOffset number of vertices written before current chunk.
+     * @return encoded faces.
+     */
+    private static byte[] encodeAsciiFaces(final int[] indices, final int chunkFaces, final long vertexOffset) {
+        final var builder = new StringBuilder();
+        var pos = 0;
+        for (var i = 0; i < chunkFaces; i++) {
+            builder.append(VERTICES_PER_FACE);
+            for (var j = 0; j < VERTICES_PER_FACE; j++) {
+                builder.append(' ').append(vertexOffset + indices[pos++]);
+            }
+            builder.append('\n');
+        }
+
+        return builder.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns color component of a vertex as an RGBA value between 0 and 255.
+     * Missing components are expanded from available ones (a single component
+     * is treated as a gray level), and alpha defaults to 255.
+     *
+     * @param colors          colors of chunk or null if not available.
+     * @param components      number of color components of chunk.
+     * @param vertex          position of vertex within chunk.
+     * @param component       RGBA component to be returned.
+     * @return color component.
+     */
+    private static int color(final short[] colors, final int components, final int vertex, final int component) {
+        if (colors == null) {
+            return 255;
+        }
+        if (component < components) {
+            return colors[vertex * components + component] & 0xff;
+        }
+        if (component == PLY_COLOR_COMPONENTS - 1) {
+            // alpha
+            return 255;
+        }
+        // gray level or missing channel
+        return components == 1 ? colors[vertex] & 0xff : 0;
+    }
+}
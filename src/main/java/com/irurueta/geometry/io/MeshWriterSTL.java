@@ -0,0 +1,523 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads a 3D object and converts it into STL format.
+ * Indexed triangles of each chunk are expanded into independent triangles,
+ * since STL files do not share vertices.
+ * In binary format, triangles are written in 50-byte little-endian records,
+ * encoded in large batches for each chunk of data. Because binary STL files
+ * start with the number of triangles, when output stream is a
+ * {@link FileOutputStream} the number of triangles is back-patched once all
+ * triangles have been written. Otherwise, triangles are temporarily stored
+ * in a file until the number of triangles is known.
+ * In ASCII format, triangles are streamed directly into output stream.
+ * Facet normals are obtained from vertex normals when available, or computed
+ * from vertex positions otherwise.
+ * Textures, colors and materials are not supported by STL format, hence they
+ * are ignored.
+ */
+public class MeshWriterSTL extends MeshWriter {
+
+    /**
+     * Default storage mode of resulting STL file.
+     */
+    public static final STLStorageMode DEFAULT_STORAGE_MODE = STLStorageMode.STL_BINARY;
+
+    /**
+     * Default name of solid written into resulting STL file.
+     */
+    public static final String DEFAULT_SOLID_NAME = "mesh";
+
+    /**
+     * Buffer size to encode and copy data into output stream.
+     */
+    public static final int BUFFER_SIZE = 65536;
+
+    /**
+     * Size of header of binary STL files.
+     */
+    private static final int BINARY_HEADER_SIZE = 80;
+
+    /**
+     * Size of each triangle record of binary STL files.
+     */
+    private static final int BINARY_TRIANGLE_SIZE = 50;
+
+    /**
+     * Number of vertices of each triangle.
+     */
+    private static final int VERTICES_PER_TRIANGLE = 3;
+
+    /**
+     * Maximum number of bytes required to write a line of an ASCII STL file
+     * containing three values.
+     */
+    private static final int MAX_ASCII_LINE_LENGTH = 32 + 3 * AsciiFloatFormatter.MAX_LENGTH;
+
+    /**
+     * Storage mode of resulting STL file.
+     */
+    private STLStorageMode storageMode;
+
+    /**
+     * Name of solid written into resulting STL file.
+     */
+    private String solidName;
+
+    /**
+     * Facet normal of triangle being written.
+     */
+    private final float[] facetNormal = new float[3];
+
+    /**
+     * Constructor.
+     *
+     * @param loader loader to load a 3D file.
+     * @param stream stream where trans-coded data will be written to.
+     */
+    public MeshWriterSTL(final Loader loader, final OutputStream stream) {
+        super(loader, stream);
+        storageMode = DEFAULT_STORAGE_MODE;
+        solidName = DEFAULT_SOLID_NAME;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param loader   loader to load a 3D file.
+     * @param stream   stream where trans-coded data will be written to.
+     * @param listener listener to be notified of progress changes or when
+     *                 transcoding process starts or finishes.
+     */
+    public MeshWriterSTL(final Loader loader, final OutputStream stream, final MeshWriterListener listener) {
+        super(loader, stream, listener);
+        storageMode = DEFAULT_STORAGE_MODE;
+        solidName = DEFAULT_SOLID_NAME;
+    }
+
+    /**
+     * Returns storage mode of resulting STL file. By default, binary format is
+     * used.
+     *
+     * @return storage mode of resulting STL file.
+     */
+    public STLStorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    /**
+     * Sets storage mode of resulting STL file.
+     *
+     * @param storageMode storage mode of resulting STL file.
+     * @throws LockedException          if this mesh writer is locked processing a
+     *                                  file.
+     * @throws IllegalArgumentException if provided storage mode is null.
+     */
+    public void setStorageMode(final STLStorageMode storageMode) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (storageMode == null) {
+            throw new IllegalArgumentException();
+        }
+        this.storageMode = storageMode;
+    }
+
+    /**
+     * Returns name of solid written into resulting STL file.
+     *
+     * @return name of solid.
+     */
+    public String getSolidName() {
+        return solidName;
+    }
+
+    /**
+     * Sets name of solid written into resulting STL file.
+     * ASCII files contain the name of the solid at their start and end, while
+     * binary files contain it in their header.
+     *
+     * @param solidName name of solid.
+     * @throws LockedException          if this mesh writer is locked processing a
+     *                                  file.
+     * @throws IllegalArgumentException if provided name is null or contains
+     *                                  line feeds.
+     */
+    public void setSolidName(final String solidName) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (solidName == null || solidName.indexOf('\n') >= 0 || solidName.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.solidName = solidName;
+    }
+
+    /**
+     * Processes input file provided to loader and writes it trans-coded into
+     * output stream.
+     *
+     * @throws LoaderException   if 3D file loading fails.
+     * @throws IOException       if an I/O error occurs.
+     * @throws NotReadyException if mesh writer is not ready because either a
+     *                           loader has not been provided or an output stream has not been provided.
+     * @throws LockedException   if this mesh writer is locked processing a file.
+     */
+    @Override
+    public void write() throws LoaderException, IOException, NotReadyException, LockedException {
+
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+        if (isLocked()) {
+            throw new LockedException();
+        }
+
+        Path trianglesPath = null;
+        try {
+            locked = true;
+            if (listener != null) {
+                listener.onWriteStart(this);
+            }
+
+            loader.setListener(this.internalListeners);
+
+            final var iter = loader.load();
+
+            if (storageMode == STLStorageMode.STL_ASCII) {
+                writeAscii(iter);
+            } else {
+                // when output is a file, number of triangles is back-patched
+                // at the end, otherwise triangles are temporarily stored
+                final var channel = stream instanceof FileOutputStream fileStream ? fileStream.getChannel() : null;
+                final var headerPosition = channel != null ? channel.position() : 0L;
+
+                final OutputStream trianglesStream;
+                if (channel == null) {
+                    trianglesPath = Files.createTempFile("triangles", ".stl");
+                    trianglesStream = new BufferedOutputStream(Files.newOutputStream(trianglesPath), BUFFER_SIZE);
+                } else {
+                    stream.write(buildBinaryHeader(0));
+                    trianglesStream = stream;
+                }
+
+                final var numberOfTriangles = writeBinaryTriangles(iter, trianglesStream);
+
+                if (channel == null) {
+                    trianglesStream.close();
+                    stream.write(buildBinaryHeader(numberOfTriangles));
+                    MeshWriterFiles.copy(trianglesPath, stream);
+                    stream.flush();
+                } else {
+                    stream.flush();
+
+                    // back-patch header with actual number of triangles
+                    MeshWriterFiles.patchHeader(channel, headerPosition, buildBinaryHeader(numberOfTriangles));
+                }
+            }
+
+            if (listener != null) {
+                listener.onWriteEnd(this);
+            }
+            locked = false;
+
+        } catch (final LoaderException | IOException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new LoaderException(e);
+        } finally {
+            if (trianglesPath != null) {
+                Files.deleteIfExists(trianglesPath);
+            }
+        }
+    }
+
+    /**
+     * Processes texture file. STL format does not support textures, hence
+     * provided texture is ignored.
+     *
+     * @param texture     reference to texture that uses texture image.
+     * @param textureFile file containing texture image. File will usually be
+     *                    created in a temporal location.
+     */
+    @Override
+    protected void processTextureFile(final Texture texture, final File textureFile) {
+        // no action needed
+    }
+
+    /**
+     * Writes triangles of all chunks in binary format into provided stream.
+     *
+     * @param iter            iterator to load chunks of data.
+     * @param trianglesStream stream where triangle records are written.
+     * @return number of written triangles.
+     * @throws Exception if loading or writing fails.
+     */
+    private long writeBinaryTriangles(final LoaderIterator iter, final OutputStream trianglesStream)
+            throws Exception {
+        final var buffer = ByteBuffer.allocate(BUFFER_SIZE / BINARY_TRIANGLE_SIZE * BINARY_TRIANGLE_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        var numberOfTriangles = 0L;
+        while (iter.hasNext()) {
+            final var chunk = iter.next();
+            checkNotInterleaved(chunk);
+            if (listener != null) {
+                listener.onChunkAvailable(this, chunk);
+            }
+
+            final var coords = chunk.getVerticesCoordinatesData();
+            final var normals = getVertexNormals(chunk);
+            final var indices = chunk.getIndicesData();
+            if (coords == null || indices == null) {
+                continue;
+            }
+
+            final var chunkTriangles = chunk.getIndicesDataLength() / VERTICES_PER_TRIANGLE;
+            var pos = 0;
+            for (var t = 0; t < chunkTriangles; t++) {
+                if (!buffer.hasRemaining()) {
+                    trianglesStream.write(buffer.array(), 0, buffer.position());
+                    buffer.clear();
+                }
+
+                computeFacetNormal(coords, normals, indices, pos);
+                buffer.putFloat(facetNormal[0]);
+                buffer.putFloat(facetNormal[1]);
+                buffer.putFloat(facetNormal[2]);
+                for (var v = 0; v < VERTICES_PER_TRIANGLE; v++) {
+                    final var vertexPos = 3 * indices[pos++];
+                    buffer.putFloat(coords[vertexPos]);
+                    buffer.putFloat(coords[vertexPos + 1]);
+                    buffer.putFloat(coords[vertexPos + 2]);
+                }
+                // attribute byte count
+                buffer.putShort((short) 0);
+            }
+            numberOfTriangles += chunkTriangles;
+            chunk.release();
+        }
+
+        trianglesStream.write(buffer.array(), 0, buffer.position());
+        return numberOfTriangles;
+    }
+
+    /**
+     * Writes triangles of all chunks in ASCII format into output stream.
+     *
+     * @param iter iterator to load chunks of data.
+     * @throws Exception if loading or writing fails.
+     */
+    private void writeAscii(final LoaderIterator iter) throws Exception {
+        stream.write(("solid " + solidName + "\n").getBytes(StandardCharsets.US_ASCII));
+
+        final var buffer = new byte[BUFFER_SIZE];
+        var length = 0;
+
+        while (iter.hasNext()) {
+            final var chunk = iter.next();
+            checkNotInterleaved(chunk);
+            if (listener != null) {
+                listener.onChunkAvailable(this, chunk);
+            }
+
+            final var coords = chunk.getVerticesCoordinatesData();
+            final var normals = getVertexNormals(chunk);
+            final var indices = chunk.getIndicesData();
+            if (coords == null || indices == null) {
+                continue;
+            }
+
+            final var chunkTriangles = chunk.getIndicesDataLength() / VERTICES_PER_TRIANGLE;
+            var pos = 0;
+            for (var t = 0; t < chunkTriangles; t++) {
+                computeFacetNormal(coords, normals, indices, pos);
+
+                length = ensureAsciiCapacity(buffer, length);
+                length = putAscii("facet normal", buffer, length);
+                length = putAsciiValues(facetNormal, 0, buffer, length);
+                length = putAscii("  outer loop\n", buffer, length);
+                for (var v = 0; v < VERTICES_PER_TRIANGLE; v++) {
+                    length = ensureAsciiCapacity(buffer, length);
+                    length = putAscii("    vertex", buffer, length);
+                    length = putAsciiValues(coords, 3 * indices[pos++], buffer, length);
+                }
+                length = ensureAsciiCapacity(buffer, length);
+                length = putAscii("  endloop\nendfacet\n", buffer, length);
+            }
+            chunk.release();
+        }
+
+        stream.write(buffer, 0, length);
+        stream.write(("endsolid " + solidName + "\n").getBytes(StandardCharsets.US_ASCII));
+        stream.flush();
+    }
+
+    /**
+     * Returns vertex normals of provided chunk if there is one normal for each
+     * vertex.
+     *
+     * @param chunk chunk of data.
+     * @return vertex normals or null if not available.
+     */
+    private static float[] getVertexNormals(final DataChunk chunk) {
+        final var normals = chunk.getNormalsData();
+        return normals != null && chunk.getNormalsDataLength() == chunk.getVerticesCoordinatesDataLength()
+                ? normals : null;
+    }
+
+    /**
+     * Computes facet normal of a triangle.
+     * When vertex normals are available, the facet normal is their average
+     * (which is kept as it is when all vertices share the same normal, as in
+     * files loaded from STL). Otherwise, the facet normal is computed from the
+     * positions of the vertices following the right-hand rule.
+     * Degenerate triangles have a zero normal.
+     *
+     * @param coords  vertex coordinates of chunk.
+     * @param normals vertex normals of chunk, or null if not available.
+     * @param indices indices of chunk.
+     * @param pos     position of first index of triangle.
+     */
+    private void computeFacetNormal(final float[] coords, final float[] normals, final int[] indices,
+                                    final int pos) {
+        final var a = 3 * indices[pos];
+        final var b = 3 * indices[pos + 1];
+        final var c = 3 * indices[pos + 2];
+
+        float nx;
+        float ny;
+        float nz;
+        if (normals != null) {
+            if (normals[a] == normals[b] && normals[a] == normals[c]
+                    && normals[a + 1] == normals[b + 1] && normals[a + 1] == normals[c + 1]
+                    && normals[a + 2] == normals[b + 2] && normals[a + 2] == normals[c + 2]) {
+                facetNormal[0] = normals[a];
+                facetNormal[1] = normals[a + 1];
+                facetNormal[2] = normals[a + 2];
+                return;
+            }
+            nx = normals[a] + normals[b] + normals[c];
+            ny = normals[a + 1] + normals[b + 1] + normals[c + 1];
+            nz = normals[a + 2] + normals[b + 2] + normals[c + 2];
+        } else {
+            final var ux = coords[b] - coords[a];
+            final var uy = coords[b + 1] - coords[a + 1];
+            final var uz = coords[b + 2] - coords[a + 2];
+            final var vx = coords[c] - coords[a];
+            final var vy = coords[c + 1] - coords[a + 1];
+            final var vz = coords[c + 2] - coords[a + 2];
+            nx = uy * vz - uz * vy;
+            ny = uz * vx - ux * vz;
+            nz = ux * vy - uy * vx;
+        }
+
+        final var norm = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+        if (norm > 0.0f) {
+            nx /= norm;
+            ny /= norm;
+            nz /= norm;
+        } else {
+            nx = ny = nz = 0.0f;
+        }
+        facetNormal[0] = nx;
+        facetNormal[1] = ny;
+        facetNormal[2] = nz;
+    }
+
+    /**
+     * Builds header of binary STL file, containing name of solid and number of
+     * triangles.
+     * Header never starts with "solid" so that it is not mistaken by an ASCII
+     * file.
+     *
+     * @param numberOfTriangles number of triangles.
+     * @return bytes of header.
+     */
+    private byte[] buildBinaryHeader(final long numberOfTriangles) {
+        final var buffer = ByteBuffer.allocate(BINARY_HEADER_SIZE + Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        final var name = ("binary " + solidName).getBytes(StandardCharsets.US_ASCII);
+        buffer.put(name, 0, Math.min(name.length, BINARY_HEADER_SIZE));
+        buffer.position(BINARY_HEADER_SIZE);
+        // number of triangles is an unsigned 32-bit value
+        buffer.putInt((int) numberOfTriangles);
+        return buffer.array();
+    }
+
+    /**
+     * Writes buffered ASCII data into output stream when there might not be
+     * enough room for another line.
+     *
+     * @param buffer buffer containing ASCII data.
+     * @param length number of bytes in buffer.
+     * @return number of bytes in buffer after writing.
+     * @throws IOException if an I/O error occurs.
+     */
+    private int ensureAsciiCapacity(final byte[] buffer, final int length) throws IOException {
+        if (length + MAX_ASCII_LINE_LENGTH <= buffer.length) {
+            return length;
+        }
+        stream.write(buffer, 0, length);
+        return 0;
+    }
+
+    /**
+     * Writes three values separated by spaces and followed by a line feed.
+     *
+     * @param values values to be written.
+     * @param offset position of first value.
+     * @param buffer buffer where values are written.
+     * @param length position where values start.
+     * @return position after written values.
+     */
+    private static int putAsciiValues(final float[] values, final int offset, final byte[] buffer,
+                                      final int length) {
+        var pos = length;
+        for (var i = 0; i < 3; i++) {
+            buffer[pos++] = ' ';
+            pos = AsciiFloatFormatter.format(values[offset + i], buffer, pos);
+        }
+        buffer[pos++] = '\n';
+        return pos;
+    }
+
+    /**
+     * Writes ASCII text into buffer.
+     *
+     * @param text   text to be written.
+     * @param buffer buffer where text is written.
+     * @param length position where text starts.
+     * @return position after written text.
+     */
+    private static int putAscii(final String text, final byte[] buffer, final int length) {
+        for (var i = 0; i < text.length(); i++) {
+            buffer[length + i] = (byte) text.charAt(i);
+        }
+        return length + text.length();
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.util.Arrays;
+
+/**
+ * Accumulates vertices of a point cloud (i.e. a file without faces) into
+ * chunks of data.
+ * Vertices are appended sequentially, hence no indices, stream seeks or
+ * de-duplication maps are needed.
+ * Colors and normals of a vertex must be set before adding its coordinates.
+ * Colors and normals are only included in built chunks when they have been set
+ * for some vertex of the chunk.
+ */
+class PointCloudChunkBuilder {
+
+    /**
+     * Maximum number of vertices in a chunk.
+     */
+    private final int maxVerticesInChunk;
+
+    /**
+     * Number of color components of each vertex.
+     */
+    private final int colorComponents;
+
+    /**
+     * Vertex coordinates of current chunk.
+     */
+    private float[] coords;
+
+    /**
+     * Vertex colors of current chunk.
+     */
+    private short[] colors;
+
+    /**
+     * Vertex normals of current chunk.
+     */
+    private float[] normals;
+
+    /**
+     * Number of vertices in current chunk.
+     */
+    private int verticesInChunk;
+
+    /**
+     * X minimum coordinate of the bounding box of current chunk.
+     */
+    private float minX;
+
+    /**
+     * Y minimum coordinate of the bounding box of current chunk.
+     */
+    private float minY;
+
+    /**
+     * Z minimum coordinate of the bounding box of current chunk.
+     */
+    private float minZ;
+
+    /**
+     * X maximum coordinate of the bounding box of current chunk.
+     */
+    private float maxX;
+
+    /**
+     * Y maximum coordinate of the bounding box of current chunk.
+     */
+    private float maxY;
+
+    /**
+     * Z maximum coordinate of the bounding box of current chunk.
+     */
+    private float maxZ;
+
+    /**
+     * Constructor.
+     *
+     * @param maxVerticesInChunk maximum number of vertices in a chunk.
+     * @param colorComponents    number of color components of each vertex.
+     * @throws IllegalArgumentException if maximum number of vertices is lower
+     *                                  than 1 or if color components is lower than 1.
+     */
+    PointCloudChunkBuilder(final int maxVerticesInChunk, final int colorComponents) {
+        if (maxVerticesInChunk < 1 || colorComponents < DataChunk.MIN_COLOR_COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+        this.maxVerticesInChunk = maxVerticesInChunk;
+        this.colorComponents = colorComponents;
+        reset();
+    }
+
+    /**
+     * Returns number of vertices in current chunk.
+     *
+     * @return number of vertices in current chunk.
+     */
+    int getNumberOfVertices() {
+        return verticesInChunk;
+    }
+
+    /**
+     * Indicates whether current chunk cannot hold more vertices.
+     *
+     * @return true if chunk is full, false otherwise.
+     */
+    boolean isFull() {
+        return verticesInChunk >= maxVerticesInChunk;
+    }
+
+    /**
+     * Sets color of next vertex to be added. Only the first color components
+     * are stored.
+     *
+     * @param red   red component.
+     * @param green green component.
+     * @param blue  blue component.
+     * @param alpha alpha component.
+     */
+    void setColor(final short red, final short green, final short blue, final short alpha) {
+        if (colors == null) {
+            colors = new short[maxVerticesInChunk * colorComponents];
+        }
+        final var pos = verticesInChunk * colorComponents;
+        colors[pos] = red;
+        if (colorComponents >= 2) {
+            colors[pos + 1] = green;
+        }
+        if (colorComponents >= 3) {
+            colors[pos + 2] = blue;
+        }
+        if (colorComponents >= 4) {
+            colors[pos + 3] = alpha;
+        }
+    }
+
+    /**
+     * Sets normal of next vertex to be added.
+     *
+     * @param nX x coordinate of normal.
+     * @param nY y coordinate of normal.
+     * @param nZ z coordinate of normal.
+     */
+    void setNormal(final float nX, final float nY, final float nZ) {
+        if (normals == null) {
+            normals = new float[maxVerticesInChunk * 3];
+        }
+        final var pos = verticesInChunk * 3;
+        normals[pos] = nX;
+        normals[pos + 1] = nY;
+        normals[pos + 2] = nZ;
+    }
+
+    /**
+     * Adds a vertex into current chunk.
+     *
+     * @param x x coordinate.
+     * @param y y coordinate.
+     * @param z z coordinate.
+     */
+    void addVertex(final float x, final float y, final float z) {
+        if (coords == null) {
+            coords = new float[maxVerticesInChunk * 3];
+        }
+        final var pos = verticesInChunk * 3;
+        coords[pos] = x;
+        coords[pos + 1] = y;
+        coords[pos + 2] = z;
+
+        // update bounding box values
+        if (x < minX) {
+            minX = x;
+        }
+        if (y < minY) {
+            minY = y;
+        }
+        if (z < minZ) {
+            minZ = z;
+        }
+        if (x > maxX) {
+            maxX = x;
+        }
+        if (y > maxY) {
+            maxY = y;
+        }
+        if (z > maxZ) {
+            maxZ = z;
+        }
+
+        verticesInChunk++;
+    }
+
+    /**
+     * Builds a data chunk containing vertices added so far and resets this
+     * instance so that a new chunk can be filled.
+     *
+     * @return a data chunk.
+     */
+    DataChunk build() {
+        final var dataChunk = new DataChunk();
+        if (verticesInChunk > 0) {
+            dataChunk.setVerticesCoordinatesData(trim(coords, verticesInChunk * 3));
+            dataChunk.setMinX(minX);
+            dataChunk.setMinY(minY);
+            dataChunk.setMinZ(minZ);
+            dataChunk.setMaxX(maxX);
+            dataChunk.setMaxY(maxY);
+            dataChunk.setMaxZ(maxZ);
+
+            if (colors != null) {
+                final var elems = verticesInChunk * colorComponents;
+                dataChunk.setColorData(colors.length == elems ? colors : Arrays.copyOf(colors, elems));
+                dataChunk.setColorComponents(colorComponents);
+            }
+            if (normals != null) {
+                dataChunk.setNormalsData(trim(normals, verticesInChunk * 3));
+            }
+        }
+
+        reset();
+        return dataChunk;
+    }
+
+    /**
+     * Resets this instance to start a new chunk.
+     */
+    private void reset() {
+        coords = null;
+        colors = null;
+        normals = null;
+        verticesInChunk = 0;
+        minX = minY = minZ = Float.MAX_VALUE;
+        maxX = maxY = maxZ = -Float.MAX_VALUE;
+    }
+
+    /**
+     * Trims provided array to given length if needed.
+     *
+     * @param array  array to be trimmed.
+     * @param length length of resulting array.
+     * @return trimmed array.
+     */
+    private static float[] trim(final float[] array, final int length) {
+        return array.length == length ? array : Arrays.copyOf(array, length);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+/**
+ * Enumerator containing different storage modes supported for STL files.
+ */
+public enum STLStorageMode {
+    /**
+     * Binary. Each triangle is stored in a 50-byte record in little-endian
+     * order.
+     */
+    STL_BINARY,
+
+    /**
+     * ASCII text. Data is stored in readable text format, which requires much
+     * more space than binary format.
+     */
+    STL_ASCII
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+/**
+ * Describes a texture embedded in a binary file, so that its data can be
+ * accessed on demand without copying it while the file is being loaded.
+ */
+public class TextureInfoBinary {
+
+    /**
+     * Id of the texture.
+     */
+    private final int id;
+
+    /**
+     * Width of the texture expressed in pixels.
+     */
+    private final int width;
+
+    /**
+     * Height of the texture expressed in pixels.
+     */
+    private final int height;
+
+    /**
+     * Position in bytes within the file where texture data starts.
+     */
+    private final long offset;
+
+    /**
+     * Length in bytes of texture data.
+     */
+    private final long length;
+
+    /**
+     * Constructor.
+     *
+     * @param id     id of the texture.
+     * @param width  width of the texture expressed in pixels.
+     * @param height height of the texture expressed in pixels.
+     * @param offset position in bytes where texture data starts.
+     * @param length length in bytes of texture data.
+     */
+    TextureInfoBinary(final int id, final int width, final int height, final long offset, final long length) {
+        this.id = id;
+        this.width = width;
+        this.height = height;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns id of the texture.
+     *
+     * @return id of the texture.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns width of the texture expressed in pixels.
+     *
+     * @return width of the texture.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns height of the texture expressed in pixels.
+     *
+     * @return height of the texture.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns position in bytes within the file where texture data starts.
+     *
+     * @return position in bytes where texture data starts.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns length in bytes of texture data, which contains the whole
+     * texture image file.
+     *
+     * @return length in bytes of texture data.
+     */
+    public long getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+/**
+ * Enumerator defining vertex attributes that can be stored into an
+ * interleaved vertex buffer.
+ */
+public enum VertexAttribute {
+    /**
+     * 3D coordinates of vertices stored as 3 floats.
+     */
+    POSITION,
+
+    /**
+     * Normals of vertices stored as 3 floats.
+     */
+    NORMAL,
+
+    /**
+     * Texture coordinates of vertices stored as 2 floats.
+     */
+    TEXTURE_COORDINATES,
+
+    /**
+     * Colors of vertices stored either as floats or as normalized unsigned
+     * bytes, having as many components as the color components of the chunk.
+     */
+    COLOR
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+
+/**
+ * Packs vertex data of chunks into interleaved vertex buffers.
+ * Loaders use this class once a chunk has been loaded, so that consumers
+ * receive vertex data ready to be uploaded without any further processing.
+ */
+final class VertexInterleaver {
+
+    /**
+     * Maximum value of normalized unsigned byte components.
+     */
+    private static final int MAX_BYTE_VALUE = 255;
+
+    /**
+     * Prevents instantiation.
+     */
+    private VertexInterleaver() {
+    }
+
+    /**
+     * Returns chunk whose arrays are reused to load a new chunk.
+     * When vertex data is interleaved, separate vertex arrays never leave
+     * the loader, hence they are kept into provided working chunk, while the
+     * array of indices is taken from the released chunk, if any.
+     *
+     * @param workingArrays chunk keeping separate vertex arrays of a loader
+     *                      or null if vertex data is not interleaved.
+     * @param pooledChunk   released chunk or null.
+     * @return chunk whose arrays are reused, or null.
+     */
+    static DataChunk arraysToReuse(final DataChunk workingArrays, final DataChunk pooledChunk) {
+        if (workingArrays == null) {
+            return pooledChunk;
+        }
+        workingArrays.setIndicesData(pooledChunk != null ? pooledChunk.getIndicesData() : null);
+        return workingArrays;
+    }
+
+    /**
+     * Returns interleaved buffer of provided released chunk, so that it can
+     * be reused.
+     *
+     * @param pooledChunk released chunk or null.
+     * @return buffer to be reused or null.
+     */
+    static ByteBuffer bufferToReuse(final DataChunk pooledChunk) {
+        return pooledChunk != null ? pooledChunk.getInterleavedVertexData() : null;
+    }
+
+    /**
+     * Creates layout of vertices containing the requested attributes that are
+     * available in provided chunk.
+     * An attribute is considered available when the chunk contains values for
+     * all of its vertices.
+     *
+     * @param chunk  chunk to be interleaved.
+     * @param format format defining requested attributes and their order.
+     * @return layout of vertices.
+     */
+    static InterleavedVertexLayout createLayout(final DataChunk chunk, final InterleavedVertexFormat format) {
+        final var vertexCount = chunk.getVertexCount();
+        final var attributes = new ArrayList<InterleavedVertexAttribute>();
+        var offset = 0;
+        for (final var attribute : format.getAttributes()) {
+            final int components;
+            final int length;
+            switch (attribute) {
+                case POSITION -> {
+                    components = 3;
+                    length = chunk.getVerticesCoordinatesDataLength();
+                }
+                case NORMAL -> {
+                    components = 3;
+                    length = chunk.getNormalsDataLength();
+                }
+                case TEXTURE_COORDINATES -> {
+                    components = 2;
+                    length = chunk.getTextureCoordinatesDataLength();
+                }
+                default -> {
+                    components = chunk.getColorComponents();
+                    length = chunk.getColorDataLength();
+                }
+            }
+
+            if (length == 0 || length < components * vertexCount) {
+                continue;
+            }
+
+            final var componentSize = attribute == VertexAttribute.COLOR && format.isNormalizedByteColors()
+                    ? InterleavedVertexAttribute.BYTE_COMPONENT_SIZE
+                    : InterleavedVertexAttribute.FLOAT_COMPONENT_SIZE;
+            final var a = new InterleavedVertexAttribute(attribute, offset, components, componentSize);
+            attributes.add(a);
+            offset += a.getSize();
+        }
+        return new InterleavedVertexLayout(attributes);
+    }
+
+    /**
+     * Packs vertex data of provided chunk into an interleaved buffer.
+     * Buffers of pooled chunks are allocated to fit the vertex capacity of
+     * their arrays.
+     * Separate vertex arrays are removed from the chunk and, if provided,
+     * kept into the working chunk so that they can be reused to load
+     * subsequent chunks. Number of vertices and indices are explicitly set on
+     * the chunk, since its array of indices might be larger than required.
+     *
+     * @param chunk         chunk to be interleaved.
+     * @param format        format defining requested attributes and their
+     *                      order.
+     * @param buffer        buffer to be reused if large enough, or null.
+     * @param workingArrays chunk where separate vertex arrays are kept, or
+     *                      null to discard them.
+     */
+    static void interleave(final DataChunk chunk, final InterleavedVertexFormat format, final ByteBuffer buffer,
+                           final DataChunk workingArrays) {
+        final var vertexCount = chunk.getVertexCount();
+        chunk.setVertexCount(vertexCount);
+        chunk.setIndexCount(chunk.getIndexCount());
+
+        final var layout = createLayout(chunk, format);
+        final var stride = layout.getStride();
+        final var size = vertexCount * stride;
+        final ByteBuffer result;
+        if (buffer != null && buffer.capacity() >= size) {
+            result = buffer;
+            result.clear();
+        } else {
+            // pooled chunks are returned to their loader, hence their buffers
+            // are sized to fit as many vertices as their arrays so that they
+            // can be reused for any subsequent chunk
+            final var capacity = chunk.isPooled() ? Math.max(size, chunk.getVertexCapacity() * stride) : size;
+            result = ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+        }
+
+        for (final var attribute : layout.getAttributes()) {
+            final var offset = attribute.getOffset();
+            switch (attribute.getAttribute()) {
+                case POSITION -> putFloats(result, chunk.getVerticesCoordinatesData(), 3, vertexCount, offset,
+                        stride);
+                case NORMAL -> putFloats(result, chunk.getNormalsData(), 3, vertexCount, offset, stride);
+                case TEXTURE_COORDINATES -> putFloats(result, chunk.getTextureCoordinatesData(), 2, vertexCount,
+                        offset, stride);
+                default -> putColors(result, chunk.getColorData(), attribute, vertexCount, stride);
+            }
+        }
+        result.limit(size);
+
+        if (workingArrays != null) {
+            workingArrays.setVerticesCoordinatesData(chunk.getVerticesCoordinatesData());
+            workingArrays.setNormalsData(chunk.getNormalsData());
+            workingArrays.setTextureCoordinatesData(chunk.getTextureCoordinatesData());
+            workingArrays.setColorData(chunk.getColorData());
+        }
+        chunk.setVerticesCoordinatesData(null);
+        chunk.setNormalsData(null);
+        chunk.setTextureCoordinatesData(null);
+        chunk.setColorData(null);
+
+        chunk.setInterleavedVertexData(result, layout);
+    }
+
+    /**
+     * Stores float values of an attribute into provided buffer.
+     *
+     * @param buffer      buffer where values are stored.
+     * @param values      values of attribute for all vertices.
+     * @param components  number of components of attribute.
+     * @param vertexCount number of vertices.
+     * @param offset      offset in bytes of attribute within each vertex.
+     * @param stride      size in bytes of each vertex.
+     */
+    private static void putFloats(final ByteBuffer buffer, final float[] values, final int components,
+                                  final int vertexCount, final int offset, final int stride) {
+        var pos = 0;
+        var bytePos = offset;
+        for (var i = 0; i < vertexCount; i++) {
+            for (var j = 0; j < components; j++) {
+                buffer.putFloat(bytePos + j * Float.BYTES, values[pos++]);
+            }
+            bytePos += stride;
+        }
+    }
+
+    /**
+     * Stores colors into provided buffer, either as normalized unsigned bytes
+     * or as floats between 0.0 and 1.0.
+     *
+     * @param buffer      buffer where colors are stored.
+     * @param colors      colors of all vertices.
+     * @param attribute   description of color attribute.
+     * @param vertexCount number of vertices.
+     * @param stride      size in bytes of each vertex.
+     */
+    private static void putColors(final ByteBuffer buffer, final short[] colors,
+                                  final InterleavedVertexAttribute attribute, final int vertexCount,
+                                  final int stride) {
+        final var components = attribute.getComponents();
+        final var normalizedByte = attribute.isNormalizedByte();
+        var pos = 0;
+        var bytePos = attribute.getOffset();
+        for (var i = 0; i < vertexCount; i++) {
+            for (var j = 0; j < components; j++) {
+                final var value = Math.max(0, Math.min(MAX_BYTE_VALUE, colors[pos++]));
+                if (normalizedByte) {
+                    buffer.put(bytePos + j, (byte) value);
+                } else {
+                    buffer.putFloat(bytePos + j * Float.BYTES, (float) value / MAX_BYTE_VALUE);
+                }
+            }
+            bytePos += stride;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.util.Arrays;
+
+/**
+ * Merges duplicated vertices of a chunk of data so that triangles sharing a
+ * vertex reference the same index.
+ * Vertices are considered equal when their quantized positions are equal.
+ * When quantization epsilon is zero, positions must be exactly equal,
+ * otherwise positions are quantized into cells having epsilon size.
+ * Quantized positions are kept in an open addressing hash table of primitive
+ * values, hence no object is allocated per vertex.
+ * When normals are averaged, vertices are merged by position only, and the
+ * normals of merged vertices are averaged and normalized. Otherwise, vertices
+ * are only merged when their normals are also exactly equal, so that facet
+ * normals are preserved.
+ * This class is thread safe as long as configuration is not modified while
+ * welding.
+ */
+class VertexWelder {
+
+    /**
+     * Number of coordinates of each vertex.
+     */
+    private static final int COORDS = 3;
+
+    /**
+     * Value indicating an empty slot in the hash table.
+     */
+    private static final int EMPTY = -1;
+
+    /**
+     * Largest magnitude of quantized cells. Positions whose cells exceed
+     * this magnitude are compared by their exact value instead.
+     */
+    private static final double MAX_CELL = 0x1p62;
+
+    /**
+     * Quantization epsilon. Zero indicates that only identical positions are
+     * merged.
+     */
+    private final float epsilon;
+
+    /**
+     * Indicates whether normals of merged vertices are averaged.
+     */
+    private final boolean averageNormals;
+
+    /**
+     * Constructor.
+     *
+     * @param epsilon        quantization epsilon. Zero indicates that only
+     *                       identical positions are merged.
+     * @param averageNormals true to merge vertices by position only and
+     *                       average their normals, false to only merge
+     *                       vertices having equal normals.
+     * @throws IllegalArgumentException if epsilon is negative or not finite.
+     */
+    VertexWelder(final float epsilon, final boolean averageNormals) {
+        if (!(epsilon >= 0.0f) || Float.isInfinite(epsilon)) {
+            throw new IllegalArgumentException();
+        }
+        this.epsilon = epsilon;
+        this.averageNormals = averageNormals;
+    }
+
+    /**
+     * Returns a chunk containing the same triangles as provided chunk, where
+     * duplicated vertices have been merged.
+     * The bounding box of returned chunk is computed from its vertices.
+     * Chunks without coordinates or indices are returned as they are.
+     *
+     * @param chunk chunk to be welded.
+     * @return welded chunk.
+     */
+    DataChunk weld(final DataChunk chunk) {
+        final var coords = chunk.getVerticesCoordinatesData();
+        final var indices = chunk.getIndicesData();
+        if (coords == null || indices == null) {
+            return chunk;
+        }
+
+        final var normals = chunk.getNormalsData();
+        final var hasNormals = normals != null && normals.length == coords.length;
+        final var compareNormals = hasNormals && !averageNormals;
+
+        final var vertices = coords.length / COORDS;
+        final var tableSize = tableSize(vertices);
+        final var mask = tableSize - 1;
+        final var table = new int[tableSize];
+        Arrays.fill(table, EMPTY);
+
+        // quantized keys of unique vertices
+        final var keys = new long[vertices * COORDS];
+        // remapped index of each original vertex
+        final var remap = new int[vertices];
+
+        final var newCoords = new float[coords.length];
+        final var newNormals = hasNormals ? new float[coords.length] : null;
+        var uniqueVertices = 0;
+
+        for (var v = 0; v < vertices; v++) {
+            final var pos = v * COORDS;
+            final var kx = quantize(coords[pos]);
+            final var ky = quantize(coords[pos + 1]);
+            final var kz = quantize(coords[pos + 2]);
+
+            var h = hash(kx, ky, kz);
+            if (compareNormals) {
+                h = 31 * h + hash(normalBits(normals[pos]), normalBits(normals[pos + 1]),
+                        normalBits(normals[pos + 2]));
+            }
+
+            var slot = mix(h) & mask;
+            var found = EMPTY;
+            while (table[slot] != EMPTY) {
+                final var candidate = table[slot];
+                final var candidatePos = candidate * COORDS;
+                if (keys[candidatePos] == kx && keys[candidatePos + 1] == ky && keys[candidatePos + 2] == kz
+                        && (!compareNormals || sameNormal(newNormals, candidatePos, normals, pos))) {
+                    found = candidate;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            if (found == EMPTY) {
+                // new unique vertex
+                found = uniqueVertices++;
+                table[slot] = found;
+
+                final var newPos = found * COORDS;
+                keys[newPos] = kx;
+                keys[newPos + 1] = ky;
+                keys[newPos + 2] = kz;
+                System.arraycopy(coords, pos, newCoords, newPos, COORDS);
+                if (hasNormals) {
+                    System.arraycopy(normals, pos, newNormals, newPos, COORDS);
+                }
+            } else if (hasNormals && averageNormals) {
+                // accumulate normal, which is normalized afterward
+                final var newPos = found * COORDS;
+                newNormals[newPos] += normals[pos];
+                newNormals[newPos + 1] += normals[pos + 1];
+                newNormals[newPos + 2] += normals[pos + 2];
+            }
+            remap[v] = found;
+        }
+
+        final var newIndices = new int[indices.length];
+        for (var i = 0; i < indices.length; i++) {
+            newIndices[i] = remap[indices[i]];
+        }
+
+        final var elems = uniqueVertices * COORDS;
+        final var weldedCoords = Arrays.copyOf(newCoords, elems);
+
+        final var result = new DataChunk();
+        result.setVerticesCoordinatesData(weldedCoords);
+        result.setIndicesData(newIndices);
+
+        if (hasNormals) {
+            final var weldedNormals = Arrays.copyOf(newNormals, elems);
+            if (averageNormals) {
+                normalize(weldedNormals);
+            }
+            result.setNormalsData(weldedNormals);
+        }
+
+        final var colors = chunk.getColorData();
+        if (colors != null) {
+            // keep color of first vertex merged into each unique vertex
+            final var components = chunk.getColorComponents();
+            final var weldedColors = new short[uniqueVertices * components];
+            for (var v = vertices - 1; v >= 0; v--) {
+                System.arraycopy(colors, v * components, weldedColors, remap[v] * components, components);
+            }
+            result.setColorData(weldedColors);
+            result.setColorComponents(components);
+        }
+
+        computeBoundingBox(weldedCoords, result);
+        return result;
+    }
+
+    /**
+     * Quantizes provided coordinate.
+     * Cells are kept as long values so that large coordinates quantized
+     * with small epsilons do not saturate into the same cell. Coordinates
+     * whose cell cannot be represented (i.e. infinite values) are kept as
+     * their exact bits, outside the range of cells.
+     *
+     * @param value coordinate to be quantized.
+     * @return quantized coordinate.
+     */
+    private long quantize(final float value) {
+        if (epsilon == 0.0f) {
+            // +0.0 and -0.0 are considered equal
+            return value == 0.0f ? 0 : Float.floatToIntBits(value);
+        }
+        final var cell = Math.floor((double) value / epsilon);
+        if (Math.abs(cell) < MAX_CELL) {
+            return (long) cell;
+        }
+        return Long.MAX_VALUE - (Float.floatToIntBits(value) & 0xffffffffL);
+    }
+
+    /**
+     * Returns bits of a normal component, where +0.0 and -0.0 are considered
+     * equal.
+     *
+     * @param value normal component.
+     * @return bits of normal component.
+     */
+    private static int normalBits(final float value) {
+        return value == 0.0f ? 0 : Float.floatToIntBits(value);
+    }
+
+    /**
+     * Indicates whether normal of a unique vertex is equal to the normal of
+     * a vertex of the chunk being welded.
+     *
+     * @param uniqueNormals normals of unique vertices.
+     * @param uniquePos     position of unique vertex normal.
+     * @param normals       normals of chunk being welded.
+     * @param pos           position of normal in chunk being welded.
+     * @return true if both normals are equal, false otherwise.
+     */
+    private static boolean sameNormal(final float[] uniqueNormals, final int uniquePos, final float[] normals,
+                                      final int pos) {
+        return normalBits(uniqueNormals[uniquePos]) == normalBits(normals[pos])
+                && normalBits(uniqueNormals[uniquePos + 1]) == normalBits(normals[pos + 1])
+                && normalBits(uniqueNormals[uniquePos + 2]) == normalBits(normals[pos + 2]);
+    }
+
+    /**
+     * Combines three quantized values into a hash.
+     *
+     * @param x first value.
+     * @param y second value.
+     * @param z third value.
+     * @return a hash.
+     */
+    private static int hash(final long x, final long y, final long z) {
+        return (Long.hashCode(x) * 73856093) ^ (Long.hashCode(y) * 19349663) ^ (Long.hashCode(z) * 83492791);
+    }
+
+    /**
+     * Spreads bits of provided hash so that lower bits can be used to index
+     * the hash table.
+     *
+     * @param h hash to be mixed.
+     * @return mixed hash.
+     */
+    private static int mix(final int h) {
+        final var m = h * 0x9E3779B9;
+        return m ^ (m >>> 16);
+    }
+
+    /**
+     * Returns size of hash table for provided number of vertices, which is
+     * the smallest power of two being at least twice the number of vertices.
+     *
+     * @param vertices number of vertices.
+     * @return size of hash table.
+     */
+    private static int tableSize(final int vertices) {
+        var size = 2;
+        while (size < 2 * vertices) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * Normalizes provided normals in place. Normals having zero length are left
+     * as they are.
+     *
+     * @param normals normals to be normalized.
+     */
+    private static void normalize(final float[] normals) {
+        for (var i = 0; i < normals.length; i += COORDS) {
+            final var x = normals[i];
+            final var y = normals[i + 1];
+            final var z = normals[i + 2];
+            final var norm = (float) Math.sqrt(x * x + y * y + z * z);
+            if (norm > 0.0f) {
+                normals[i] = x / norm;
+                normals[i + 1] = y / norm;
+                normals[i + 2] = z / norm;
+            }
+        }
+    }
+
+    /**
+     * Computes bounding box of provided coordinates and sets it into provided
+     * chunk.
+     *
+     * @param coords coordinates of vertices.
+     * @param chunk  chunk where bounding box is set.
+     */
+    private static void computeBoundingBox(final float[] coords, final DataChunk chunk) {
+        var minX = Float.MAX_VALUE;
+        var minY = Float.MAX_VALUE;
+        var minZ = Float.MAX_VALUE;
+        var maxX = -Float.MAX_VALUE;
+        var maxY = -Float.MAX_VALUE;
+        var maxZ = -Float.MAX_VALUE;
+        for (var i = 0; i < coords.length; i += COORDS) {
+            minX = Math.min(minX, coords[i]);
+            minY = Math.min(minY, coords[i + 1]);
+            minZ = Math.min(minZ, coords[i + 2]);
+            maxX = Math.max(maxX, coords[i]);
+            maxY = Math.max(maxY, coords[i + 1]);
+            maxZ = Math.max(maxZ, coords[i + 2]);
+        }
+        chunk.setMinX(minX);
+        chunk.setMinY(minY);
+        chunk.setMinZ(minZ);
+        chunk.setMaxX(maxX);
+        chunk.setMaxY(maxY);
+        chunk.setMaxZ(maxZ);
+    }
+}
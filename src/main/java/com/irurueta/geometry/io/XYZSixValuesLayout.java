@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+/**
+ * Enumerator defining how the last three values of points are interpreted in
+ * XYZ files containing six values per point.
+ */
+public enum XYZSixValuesLayout {
+    /**
+     * Layout is detected by sampling the first points of the file. Values are
+     * considered colors when all of them are integers between 0 and 255 and
+     * at least one of them is greater than 1, and normals otherwise.
+     */
+    AUTO,
+
+    /**
+     * Points contain x y z r g b values.
+     */
+    COLORS,
+
+    /**
+     * Points contain x y z nx ny nz values.
+     */
+    NORMALS
+}
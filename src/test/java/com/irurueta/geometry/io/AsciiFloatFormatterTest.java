@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsciiFloatFormatterTest {
+
+    private static final int TIMES = 100000;
+
+    @Test
+    void testFormat() {
+        assertEquals("0.0e+00", format(0.0f));
+        assertEquals("-0.0e+00", format(-0.0f));
+        assertEquals("1.0e+00", format(1.0f));
+        assertEquals("-2.5e-01", format(-0.25f));
+        assertEquals("1.23456792e+08", format(123456789.0f));
+        assertEquals("1.0e+10", format(1e10f));
+        assertEquals("3.40282347e+38", format(Float.MAX_VALUE));
+        assertEquals("1.40129846e-45", format(Float.MIN_VALUE));
+        assertEquals("NaN", format(Float.NaN));
+        assertEquals("Infinity", format(Float.POSITIVE_INFINITY));
+        assertEquals("-Infinity", format(Float.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    void testFormatRoundTrip() {
+        final var random = new Random();
+        for (var i = 0; i < TIMES; i++) {
+            final var value = Float.intBitsToFloat(random.nextInt());
+            final var text = format(value);
+            assertTrue(text.length() <= AsciiFloatFormatter.MAX_LENGTH);
+            if (Float.isNaN(value)) {
+                assertEquals("NaN", text);
+            } else {
+                assertEquals(Float.floatToIntBits(value), Float.floatToIntBits(Float.parseFloat(text)), text);
+            }
+        }
+    }
+
+    private static String format(final float value) {
+        final var buffer = new byte[AsciiFloatFormatter.MAX_LENGTH + 2];
+        buffer[0] = '#';
+        final var end = AsciiFloatFormatter.format(value, buffer, 1);
+        return new String(buffer, 1, end - 1, StandardCharsets.US_ASCII);
+    }
+}
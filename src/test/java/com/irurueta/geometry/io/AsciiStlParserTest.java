@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsciiStlParserTest {
+
+    private static final String FILE_NAME = "./src/test/java/asciiStlParser.stl";
+
+    private static final int TIMES = 1000;
+
+    @Test
+    void testNextKeyword() throws IOException, LoaderException {
+        final var text = "solid ENDSOLID Facet nOrMaL outer\tloop\r\nvertex endloop endfacet "
+                + "facets face vertex1 1.0";
+        final var parsed = parse(text, parser -> {
+            assertEquals(AsciiStlParser.Keyword.SOLID, parser.nextKeyword());
+            assertEquals(AsciiStlParser.Keyword.END_SOLID, parser.nextKeyword());
+            assertEquals(AsciiStlParser.Keyword.FACET, parser.nextKeyword());
+            assertEquals(AsciiStlParser.Keyword.NORMAL, parser.nextKeyword());
+            assertEquals(AsciiStlParser.Keyword.OUTER, parser.nextKeyword());
+            assertEquals(AsciiStlParser.Keyword.LOOP, parser.nextKeyword());
+            assertEquals(AsciiStlParser.Keyword.VERTEX, parser.nextKeyword());
+            assertEquals(AsciiStlParser.Keyword.END_LOOP, parser.nextKeyword());
+            assertEquals(AsciiStlParser.Keyword.END_FACET, parser.nextKeyword());
+            assertEquals(AsciiStlParser.Keyword.UNKNOWN, parser.nextKeyword());
+            assertEquals(AsciiStlParser.Keyword.UNKNOWN, parser.nextKeyword());
+            assertEquals(AsciiStlParser.Keyword.UNKNOWN, parser.nextKeyword());
+            assertEquals(AsciiStlParser.Keyword.UNKNOWN, parser.nextKeyword());
+
+            // end of file
+            final var ex = assertThrows(LoaderException.class, parser::nextKeyword);
+            assertTrue(ex.getMessage().contains("offset"));
+            return parser.getPosition();
+        });
+        assertEquals(text.length(), parsed.longValue());
+    }
+
+    @Test
+    void testExpectKeyword() throws IOException, LoaderException {
+        parse("outer loop\nouter lop", parser -> {
+            assertEquals(AsciiStlParser.Keyword.OUTER, parser.nextKeyword());
+            parser.expectKeyword(AsciiStlParser.Keyword.LOOP);
+            assertEquals(AsciiStlParser.Keyword.OUTER, parser.nextKeyword());
+
+            final var ex = assertThrows(LoaderException.class,
+                    () -> parser.expectKeyword(AsciiStlParser.Keyword.LOOP));
+            assertEquals("Unexpected word at byte offset 17", ex.getMessage());
+            return null;
+        });
+    }
+
+    @Test
+    void testNextFloat() throws IOException, LoaderException {
+        final var values = new String[]{"0", "-0", "+1", "1.", ".5", "-2.5e-3", "1E+10", "3.4028235e38",
+                "1.4e-45", "123456789012345678901234567890", "0.000000000000000000000000000001",
+                "1.0000000596046448", "NaN", "-Infinity", "6.5e-01", "-8.765432e+02"};
+        final var text = String.join(" ", values);
+        parse(text, parser -> {
+            for (final var value : values) {
+                assertEquals(Float.floatToIntBits(Float.parseFloat(value)),
+                        Float.floatToIntBits(parser.nextFloat()), value);
+            }
+            return null;
+        });
+    }
+
+    @Test
+    void testNextFloatMatchesStandardParser() throws IOException, LoaderException {
+        final var random = new Random();
+        final var values = new String[TIMES];
+        for (var i = 0; i < TIMES; i++) {
+            final var value = (random.nextFloat() - 0.5f) * (float) Math.pow(10.0, random.nextInt(12) - 6);
+            values[i] = switch (i % 4) {
+                case 0 -> String.format(Locale.ENGLISH, "%e", value);
+                case 1 -> String.format(Locale.ENGLISH, "%.7f", value);
+                case 2 -> Float.toString(value);
+                default -> Double.toString(value);
+            };
+        }
+
+        parse(String.join("\n", values), parser -> {
+            for (final var value : values) {
+                assertEquals(Float.floatToIntBits(Float.parseFloat(value)),
+                        Float.floatToIntBits(parser.nextFloat()), value);
+            }
+            return null;
+        });
+    }
+
+    @Test
+    void testInvalidFloat() throws IOException, LoaderException {
+        parse("1.0 abc 2.0e", parser -> {
+            assertEquals(1.0f, parser.nextFloat(), 0.0f);
+
+            var ex = assertThrows(LoaderException.class, parser::nextFloat);
+            assertEquals("Invalid number at byte offset 4", ex.getMessage());
+            ex = assertThrows(LoaderException.class, parser::nextFloat);
+            assertEquals("Invalid number at byte offset 8", ex.getMessage());
+            ex = assertThrows(LoaderException.class, parser::nextFloat);
+            assertEquals("Unexpected end of file at byte offset 12", ex.getMessage());
+            return null;
+        });
+    }
+
+    @Test
+    void testSmallBuffer() throws IOException, LoaderException {
+        final var f = new File(FILE_NAME);
+        Files.writeString(f.toPath(), "  vertex 1.5  -2.25\n3e2 endloop", StandardCharsets.US_ASCII);
+        try (final var reader = new FileReaderAndWriter(f, FileChannel.MapMode.READ_ONLY)) {
+            assertThrows(IllegalArgumentException.class, () -> new AsciiStlParser(reader, 0));
+
+            // tokens span several buffers
+            final var parser = new AsciiStlParser(reader, 3);
+            assertEquals(AsciiStlParser.Keyword.VERTEX, parser.nextKeyword());
+            assertEquals(1.5f, parser.nextFloat(), 0.0f);
+            assertEquals(-2.25f, parser.nextFloat(), 0.0f);
+            assertEquals(300.0f, parser.nextFloat(), 0.0f);
+            assertEquals(AsciiStlParser.Keyword.END_LOOP, parser.nextKeyword());
+        } finally {
+            assertTrue(f.delete());
+        }
+    }
+
+    private static <T> T parse(final String text, final ParserConsumer<T> consumer) throws IOException,
+            LoaderException {
+        final var f = new File(FILE_NAME);
+        Files.writeString(f.toPath(), text, StandardCharsets.US_ASCII);
+        try (final var reader = new FileReaderAndWriter(f, FileChannel.MapMode.READ_ONLY)) {
+            return consumer.accept(new AsciiStlParser(reader));
+        } finally {
+            assertTrue(f.delete());
+        }
+    }
+
+    private interface ParserConsumer<T> {
+        T accept(final AsciiStlParser parser) throws IOException, LoaderException;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryCompressionTest {
+
+    private static final int VERTICES = 1000;
+
+    private static final float MIN_VALUE = -50.0f;
+
+    private static final float MAX_VALUE = 50.0f;
+
+    @Test
+    void testEncodeDecodePositions() throws LoaderException {
+        final var random = new Random();
+        final var coords = new float[VERTICES * 3];
+        for (var i = 0; i < coords.length; i++) {
+            coords[i] = MIN_VALUE + random.nextFloat() * (MAX_VALUE - MIN_VALUE);
+        }
+
+        for (final var bits : new int[]{BinaryCompression.MIN_POSITION_BITS, 8, 12,
+                BinaryCompression.MAX_POSITION_BITS}) {
+            final var data = BinaryCompression.encodePositions(coords, bits);
+            assertEquals(1 + 24 + coords.length * (bits <= 8 ? 1 : 2), data.length);
+
+            final var decoded = BinaryCompression.decodePositions(data);
+            assertEquals(coords.length, decoded.length);
+
+            // error is at most half a quantization step
+            final var step = (MAX_VALUE - MIN_VALUE) / ((1 << bits) - 1);
+            for (var i = 0; i < coords.length; i++) {
+                assertEquals(coords[i], decoded[i], 0.5 * step + 1e-4);
+            }
+        }
+    }
+
+    @Test
+    void testEncodeDecodeFlatPositions() throws LoaderException {
+        // all vertices lie on plane z = 2
+        final var coords = new float[]{0.0f, 0.0f, 2.0f, 1.0f, 0.0f, 2.0f, 0.0f, 1.0f, 2.0f};
+
+        final var decoded = BinaryCompression.decodePositions(BinaryCompression.encodePositions(coords, 16));
+        assertArrayEquals(coords, decoded, 1e-4f);
+
+        // empty positions
+        assertEquals(0, BinaryCompression.decodePositions(
+                BinaryCompression.encodePositions(new float[0], 16)).length);
+    }
+
+    @Test
+    void testDecodeInvalidPositions() {
+        assertThrows(LoaderException.class, () -> BinaryCompression.decodePositions(new byte[10]));
+
+        // invalid number of bits
+        final var data = BinaryCompression.encodePositions(new float[3], 16);
+        data[0] = 17;
+        assertThrows(LoaderException.class, () -> BinaryCompression.decodePositions(data));
+
+        // incomplete vertex
+        final var data2 = BinaryCompression.encodePositions(new float[3], 16);
+        final var truncated = new byte[data2.length - 1];
+        System.arraycopy(data2, 0, truncated, 0, truncated.length);
+        assertThrows(LoaderException.class, () -> BinaryCompression.decodePositions(truncated));
+    }
+
+    @Test
+    void testEncodeDecodeNormals() throws LoaderException {
+        final var random = new Random();
+        final var normals = new float[VERTICES * 3];
+        for (var i = 0; i < normals.length; i += 3) {
+            final var x = random.nextFloat() * 2.0f - 1.0f;
+            final var y = random.nextFloat() * 2.0f - 1.0f;
+            final var z = random.nextFloat() * 2.0f - 1.0f;
+            final var norm = (float) Math.sqrt(x * x + y * y + z * z);
+            normals[i] = x / norm;
+            normals[i + 1] = y / norm;
+            normals[i + 2] = z / norm;
+        }
+
+        final var data = BinaryCompression.encodeNormals(normals);
+        assertEquals(VERTICES * 4, data.length);
+
+        final var decoded = BinaryCompression.decodeNormals(data);
+        assertEquals(normals.length, decoded.length);
+        for (var i = 0; i < normals.length; i++) {
+            assertEquals(normals[i], decoded[i], 1e-3);
+        }
+    }
+
+    @Test
+    void testEncodeDecodeSpecialNormals() throws LoaderException {
+        final var normals = new float[]{
+                0.0f, 0.0f, 1.0f,
+                0.0f, 0.0f, -1.0f,
+                1.0f, 0.0f, 0.0f,
+                0.0f, -1.0f, 0.0f,
+                // non-unit normal is decoded as unit normal
+                0.0f, 2.0f, 0.0f,
+                // zero normal
+                0.0f, 0.0f, 0.0f};
+
+        final var decoded = BinaryCompression.decodeNormals(BinaryCompression.encodeNormals(normals));
+        assertArrayEquals(new float[]{
+                0.0f, 0.0f, 1.0f,
+                0.0f, 0.0f, -1.0f,
+                1.0f, 0.0f, 0.0f,
+                0.0f, -1.0f, 0.0f,
+                0.0f, 1.0f, 0.0f,
+                0.0f, 0.0f, 1.0f}, decoded, 1e-4f);
+
+        assertThrows(LoaderException.class, () -> BinaryCompression.decodeNormals(new byte[3]));
+    }
+
+    @Test
+    void testEncodeDecodeTextureCoordinates() throws LoaderException {
+        final var random = new Random();
+        final var textureCoords = new float[VERTICES * 2];
+        for (var i = 0; i < textureCoords.length; i++) {
+            // texture coordinates might exceed [0, 1] range
+            textureCoords[i] = random.nextFloat() * 3.0f - 1.0f;
+        }
+
+        final var data = BinaryCompression.encodeTextureCoordinates(textureCoords);
+        assertEquals(16 + textureCoords.length * 2, data.length);
+
+        final var decoded = BinaryCompression.decodeTextureCoordinates(data);
+        assertEquals(textureCoords.length, decoded.length);
+        for (var i = 0; i < textureCoords.length; i++) {
+            assertEquals(textureCoords[i], decoded[i], 3.0 / 65535.0);
+        }
+
+        assertThrows(LoaderException.class, () -> BinaryCompression.decodeTextureCoordinates(new byte[17]));
+    }
+
+    @Test
+    void testEncodeDecodeIndices() throws LoaderException {
+        final var random = new Random();
+        final var indices = new int[VERTICES * 3];
+        for (var i = 0; i < indices.length; i++) {
+            // mostly increasing indices with some large jumps
+            indices[i] = i % 100 == 0 ? random.nextInt(Integer.MAX_VALUE) : i / 2 + random.nextInt(10);
+        }
+
+        final var data = BinaryCompression.encodeIndices(indices);
+        assertArrayEquals(indices, BinaryCompression.decodeIndices(data));
+
+        // small deltas require a single byte per index
+        final var sequential = new int[VERTICES];
+        for (var i = 0; i < sequential.length; i++) {
+            sequential[i] = i;
+        }
+        final var sequentialData = BinaryCompression.encodeIndices(sequential);
+        assertEquals(4 + VERTICES, sequentialData.length);
+        assertArrayEquals(sequential, BinaryCompression.decodeIndices(sequentialData));
+
+        assertArrayEquals(new int[0], BinaryCompression.decodeIndices(BinaryCompression.encodeIndices(new int[0])));
+    }
+
+    @Test
+    void testDecodeInvalidIndices() {
+        assertThrows(LoaderException.class, () -> BinaryCompression.decodeIndices(new byte[3]));
+
+        // count larger than available data
+        assertThrows(LoaderException.class, () -> BinaryCompression.decodeIndices(new byte[]{0, 0, 0, 2, 1}));
+
+        // unterminated varint
+        assertThrows(LoaderException.class,
+                () -> BinaryCompression.decodeIndices(new byte[]{0, 0, 0, 1, (byte) 0x80}));
+
+        // trailing data
+        assertThrows(LoaderException.class, () -> BinaryCompression.decodeIndices(new byte[]{0, 0, 0, 1, 2, 3}));
+    }
+
+    @Test
+    void testEncodeFirstValues() {
+        final var random = new Random();
+        final var values = new float[VERTICES * 3];
+        final var indices = new int[VERTICES];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = MIN_VALUE + random.nextFloat() * (MAX_VALUE - MIN_VALUE);
+        }
+        for (var i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(VERTICES);
+        }
+
+        // only the first values are encoded, as if arrays were trimmed
+        final var length = 3 * (VERTICES / 2);
+        final var textureLength = 2 * (VERTICES / 2);
+        assertArrayEquals(BinaryCompression.encodePositions(Arrays.copyOf(values, length), 12),
+                BinaryCompression.encodePositions(values, length, 12));
+        assertArrayEquals(BinaryCompression.encodeNormals(Arrays.copyOf(values, length)),
+                BinaryCompression.encodeNormals(values, length));
+        assertArrayEquals(BinaryCompression.encodeTextureCoordinates(Arrays.copyOf(values, textureLength)),
+                BinaryCompression.encodeTextureCoordinates(values, textureLength));
+        assertArrayEquals(BinaryCompression.encodeIndices(Arrays.copyOf(indices, VERTICES / 2)),
+                BinaryCompression.encodeIndices(indices, VERTICES / 2));
+    }
+}
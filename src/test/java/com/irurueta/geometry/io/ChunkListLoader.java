@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.util.List;
+
+/**
+ * Loader handing over a fixed list of chunks.
+ */
+class ChunkListLoader extends Loader {
+
+    private final List<DataChunk> chunks;
+
+    ChunkListLoader(final List<DataChunk> chunks) {
+        this.chunks = chunks;
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    @Override
+    public MeshFormat getMeshFormat() {
+        return MeshFormat.MESH_FORMAT_PLY;
+    }
+
+    @Override
+    public boolean isValidFile() {
+        return true;
+    }
+
+    @Override
+    public LoaderIterator load() {
+        final var iterator = chunks.iterator();
+        return new LoaderIterator() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public DataChunk next() {
+                return iterator.next();
+            }
+        };
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Assertions comparing data chunks handed over by loaders.
+ */
+final class DataChunkAssertions {
+
+    private DataChunkAssertions() {
+    }
+
+    /**
+     * Asserts that provided chunk contains the same valid values as the
+     * expected one, ignoring any unused capacity of their arrays.
+     *
+     * @param expected expected chunk.
+     * @param chunk    chunk to be checked.
+     */
+    static void assertSameValidValues(final DataChunk expected, final DataChunk chunk) {
+        final var vertexCount = expected.getVertexCount();
+        final var indexCount = expected.getIndexCount();
+        assertEquals(vertexCount, chunk.getVertexCount());
+        assertEquals(indexCount, chunk.getIndexCount());
+        assertArrayEquals(prefix(expected.getVerticesCoordinatesData(), 3 * vertexCount),
+                prefix(chunk.getVerticesCoordinatesData(), 3 * vertexCount), 0.0f);
+        assertArrayEquals(prefix(expected.getNormalsData(), 3 * vertexCount),
+                prefix(chunk.getNormalsData(), 3 * vertexCount), 0.0f);
+        assertArrayEquals(prefix(expected.getTextureCoordinatesData(), 2 * vertexCount),
+                prefix(chunk.getTextureCoordinatesData(), 2 * vertexCount), 0.0f);
+        assertArrayEquals(prefix(expected.getIndicesData(), indexCount), prefix(chunk.getIndicesData(), indexCount));
+        assertEquals(expected.getColorComponents(), chunk.getColorComponents());
+        assertEquals(expected.getMinX(), chunk.getMinX(), 0.0f);
+        assertEquals(expected.getMaxZ(), chunk.getMaxZ(), 0.0f);
+    }
+
+    private static float[] prefix(final float[] array, final int length) {
+        return array != null && length > 0 ? Arrays.copyOf(array, length) : null;
+    }
+
+    private static int[] prefix(final int[] array, final int length) {
+        return array != null && length > 0 ? Arrays.copyOf(array, length) : null;
+    }
+}
@@ -17,6 +17,10 @@ package com.irurueta.geometry.io;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DataChunkTest {
@@ -244,4 +248,218 @@ class DataChunkTest {
         assertSame(material, chunk.getMaterial());
         assertTrue(chunk.isMaterialAvailable());
     }
+
+    @Test
+    void testGetSetVertexPropertyData() {
+        final var chunk = new DataChunk();
+
+        // check default values
+        assertTrue(chunk.getVertexPropertyNames().isEmpty());
+        assertNull(chunk.getVertexPropertyData("confidence"));
+        assertFalse(chunk.isVertexPropertyDataAvailable("confidence"));
+
+        final var floatData = new float[]{0.5f, 1.0f};
+        final var doubleData = new double[]{0.25, 2.0};
+        final var intData = new int[]{1, 2};
+        final var longData = new long[]{3L, 4L};
+
+        // set new values
+        chunk.setVertexPropertyData("confidence", floatData);
+        chunk.setVertexPropertyData("curvature", doubleData);
+        chunk.setVertexPropertyData("intensity", intData);
+        chunk.setVertexPropertyData("label", longData);
+
+        // check correctness
+        assertEquals(Set.of("confidence", "curvature", "intensity", "label"), chunk.getVertexPropertyNames());
+        assertSame(floatData, chunk.getVertexPropertyData("confidence"));
+        assertSame(floatData, chunk.getFloatVertexPropertyData("confidence"));
+        assertSame(doubleData, chunk.getDoubleVertexPropertyData("curvature"));
+        assertSame(intData, chunk.getIntVertexPropertyData("intensity"));
+        assertSame(longData, chunk.getLongVertexPropertyData("label"));
+        assertTrue(chunk.isVertexPropertyDataAvailable("confidence"));
+
+        // requesting a different type returns null
+        assertNull(chunk.getIntVertexPropertyData("confidence"));
+        assertNull(chunk.getFloatVertexPropertyData("curvature"));
+        assertNull(chunk.getDoubleVertexPropertyData("label"));
+        assertNull(chunk.getLongVertexPropertyData("intensity"));
+
+        // remove property
+        chunk.setVertexPropertyData("confidence", (float[]) null);
+        assertFalse(chunk.isVertexPropertyDataAvailable("confidence"));
+        assertEquals(3, chunk.getVertexPropertyNames().size());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> chunk.setVertexPropertyData(null, floatData));
+    }
+
+    @Test
+    void testGetSetVertexCount() {
+        final var chunk = new DataChunk();
+
+        // check default value
+        assertEquals(0, chunk.getVertexCount());
+
+        // inferred from available arrays
+        chunk.setColorData(new short[9]);
+        assertEquals(3, chunk.getVertexCount());
+        chunk.setTextureCoordinatesData(new float[8]);
+        assertEquals(4, chunk.getVertexCount());
+        chunk.setNormalsData(new float[15]);
+        assertEquals(5, chunk.getVertexCount());
+        chunk.setVerticesCoordinatesData(new float[18]);
+        assertEquals(6, chunk.getVertexCount());
+
+        // set new value
+        chunk.setVertexCount(2);
+        // check correctness
+        assertEquals(2, chunk.getVertexCount());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> chunk.setVertexCount(-1));
+    }
+
+    @Test
+    void testGetSetIndexCount() {
+        final var chunk = new DataChunk();
+
+        // check default value
+        assertEquals(0, chunk.getIndexCount());
+
+        // inferred from indices
+        chunk.setIndicesData(new int[6]);
+        assertEquals(6, chunk.getIndexCount());
+
+        // set new value
+        chunk.setIndexCount(3);
+        // check correctness
+        assertEquals(3, chunk.getIndexCount());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> chunk.setIndexCount(-1));
+    }
+
+    @Test
+    void testGetCapacitiesAndDataLengths() {
+        final var chunk = new DataChunk();
+
+        // check default values
+        assertEquals(0, chunk.getVertexCapacity());
+        assertEquals(0, chunk.getIndexCapacity());
+        assertEquals(0, chunk.getVerticesCoordinatesDataLength());
+        assertEquals(0, chunk.getColorDataLength());
+        assertEquals(0, chunk.getTextureCoordinatesDataLength());
+        assertEquals(0, chunk.getNormalsDataLength());
+        assertEquals(0, chunk.getIndicesDataLength());
+
+        chunk.setVerticesCoordinatesData(new float[30]);
+        chunk.setColorData(new short[30]);
+        chunk.setTextureCoordinatesData(new float[20]);
+        chunk.setNormalsData(new float[30]);
+        chunk.setIndicesData(new int[12]);
+
+        // whole arrays are valid when no counts are set
+        assertEquals(10, chunk.getVertexCapacity());
+        assertEquals(10, chunk.getVertexCount());
+        assertEquals(12, chunk.getIndexCapacity());
+        assertEquals(12, chunk.getIndexCount());
+        assertEquals(30, chunk.getVerticesCoordinatesDataLength());
+        assertEquals(30, chunk.getColorDataLength());
+        assertEquals(20, chunk.getTextureCoordinatesDataLength());
+        assertEquals(30, chunk.getNormalsDataLength());
+        assertEquals(12, chunk.getIndicesDataLength());
+
+        // only the first values are valid when counts are set
+        chunk.setVertexCount(4);
+        chunk.setIndexCount(6);
+        assertEquals(10, chunk.getVertexCapacity());
+        assertEquals(12, chunk.getIndexCapacity());
+        assertEquals(12, chunk.getVerticesCoordinatesDataLength());
+        assertEquals(12, chunk.getColorDataLength());
+        assertEquals(8, chunk.getTextureCoordinatesDataLength());
+        assertEquals(12, chunk.getNormalsDataLength());
+        assertEquals(6, chunk.getIndicesDataLength());
+
+        // counts never exceed the length of arrays
+        chunk.setVertexCount(20);
+        chunk.setIndexCount(20);
+        assertEquals(30, chunk.getVerticesCoordinatesDataLength());
+        assertEquals(12, chunk.getIndicesDataLength());
+    }
+
+    @Test
+    void testGetSetInterleavedVertexData() {
+        final var chunk = new DataChunk();
+
+        // check default values
+        assertNull(chunk.getInterleavedVertexData());
+        assertNull(chunk.getInterleavedVertexLayout());
+        assertFalse(chunk.isInterleavedVertexDataAvailable());
+
+        // set new values
+        final var buffer = ByteBuffer.allocate(48);
+        final var layout = new InterleavedVertexLayout(List.of(
+                new InterleavedVertexAttribute(VertexAttribute.POSITION, 0, 3, 4)));
+        chunk.setInterleavedVertexData(buffer, layout);
+
+        // check
+        assertSame(buffer, chunk.getInterleavedVertexData());
+        assertSame(layout, chunk.getInterleavedVertexLayout());
+        assertTrue(chunk.isInterleavedVertexDataAvailable());
+
+        // vertex capacity is inferred from buffer
+        assertEquals(4, chunk.getVertexCapacity());
+        assertEquals(4, chunk.getVertexCount());
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> chunk.setInterleavedVertexData(buffer, null));
+        assertThrows(IllegalArgumentException.class, () -> chunk.setInterleavedVertexData(null, layout));
+
+        // reset clears interleaved data
+        chunk.reset();
+        assertFalse(chunk.isInterleavedVertexDataAvailable());
+        assertNull(chunk.getInterleavedVertexLayout());
+
+        chunk.setInterleavedVertexData(buffer, layout);
+        chunk.setInterleavedVertexData(null, null);
+        assertFalse(chunk.isInterleavedVertexDataAvailable());
+        assertEquals(0, chunk.getVertexCapacity());
+    }
+
+    @Test
+    void testRelease() {
+        final var chunk = new DataChunk();
+
+        // check default value
+        assertFalse(chunk.isPooled());
+
+        // releasing a chunk that is not pooled has no effect
+        chunk.release();
+        assertFalse(chunk.isPooled());
+
+        final var pool = new DataChunkPool();
+        final var coords = new float[6];
+        final var pooled = pool.handOut(null);
+        pooled.setVerticesCoordinatesData(coords);
+        pooled.setVertexCount(1);
+        pooled.setMaterial(new Material());
+        assertTrue(pooled.isPooled());
+        assertNull(pool.poll());
+
+        // release
+        pooled.release();
+        assertFalse(pooled.isPooled());
+        pooled.release();
+        assertSame(pooled, pool.poll());
+        assertNull(pool.poll());
+
+        // handing out a released chunk clears its content
+        assertSame(pooled, pool.handOut(pooled));
+        assertTrue(pooled.isPooled());
+        assertNull(pooled.getVerticesCoordinatesData());
+        assertNull(pooled.getMaterial());
+        assertEquals(0, pooled.getVertexCount());
+        assertSame(coords, DataChunkPool.reuse(coords, 6));
+        assertNotSame(coords, DataChunkPool.reuse(coords, 7));
+    }
 }
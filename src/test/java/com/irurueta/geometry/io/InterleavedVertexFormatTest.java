@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterleavedVertexFormatTest {
+
+    @Test
+    void testConstructor() {
+        var format = new InterleavedVertexFormat();
+
+        // check default values
+        assertEquals(InterleavedVertexFormat.DEFAULT_ATTRIBUTES, format.getAttributes());
+        assertEquals(List.of(VertexAttribute.POSITION, VertexAttribute.NORMAL,
+                VertexAttribute.TEXTURE_COORDINATES, VertexAttribute.COLOR), format.getAttributes());
+        assertEquals(InterleavedVertexFormat.DEFAULT_NORMALIZED_BYTE_COLORS, format.isNormalizedByteColors());
+        assertFalse(format.isNormalizedByteColors());
+
+        // constructor with attributes
+        final var attributes = new ArrayList<>(List.of(VertexAttribute.COLOR, VertexAttribute.POSITION));
+        format = new InterleavedVertexFormat(attributes);
+        assertEquals(List.of(VertexAttribute.COLOR, VertexAttribute.POSITION), format.getAttributes());
+        assertFalse(format.isNormalizedByteColors());
+
+        // attributes are copied
+        attributes.clear();
+        assertEquals(2, format.getAttributes().size());
+        final var result = format.getAttributes();
+        assertThrows(UnsupportedOperationException.class, () -> result.add(VertexAttribute.NORMAL));
+
+        // constructor with byte colors
+        format = new InterleavedVertexFormat(List.of(VertexAttribute.POSITION), true);
+        assertEquals(List.of(VertexAttribute.POSITION), format.getAttributes());
+        assertTrue(format.isNormalizedByteColors());
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new InterleavedVertexFormat(null));
+        final var empty = Collections.<VertexAttribute>emptyList();
+        assertThrows(IllegalArgumentException.class, () -> new InterleavedVertexFormat(empty));
+        final var withNull = Arrays.asList(VertexAttribute.POSITION, null);
+        assertThrows(IllegalArgumentException.class, () -> new InterleavedVertexFormat(withNull));
+        final var repeated = List.of(VertexAttribute.POSITION, VertexAttribute.POSITION);
+        assertThrows(IllegalArgumentException.class, () -> new InterleavedVertexFormat(repeated, true));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNumberFormatterTest {
+
+    private static final int TIMES = 100000;
+
+    @Test
+    void testFormatInt() {
+        assertEquals("0", formatInt(0));
+        assertEquals("7", formatInt(7));
+        assertEquals("-7", formatInt(-7));
+        assertEquals("10", formatInt(10));
+        assertEquals("65535", formatInt(65535));
+        assertEquals(Integer.toString(Integer.MAX_VALUE), formatInt(Integer.MAX_VALUE));
+        assertEquals(Integer.toString(Integer.MIN_VALUE), formatInt(Integer.MIN_VALUE));
+
+        final var random = new Random();
+        for (var i = 0; i < TIMES; i++) {
+            final var value = random.nextInt();
+            assertEquals(Integer.toString(value), formatInt(value));
+        }
+    }
+
+    @Test
+    void testFormatFloat() {
+        assertEquals("0.0", formatFloat(0.0f));
+        assertEquals("-0.0", formatFloat(-0.0f));
+        assertEquals("1.0", formatFloat(1.0f));
+        assertEquals("-0.25", formatFloat(-0.25f));
+        assertEquals("0.1", formatFloat(0.1f));
+        assertEquals("0.001", formatFloat(0.001f));
+        assertEquals("1.0E-4", formatFloat(1e-4f));
+        assertEquals("123.456", formatFloat(123.456f));
+        assertEquals("1000000.0", formatFloat(1e6f));
+        assertEquals("1.0E7", formatFloat(1e7f));
+        assertEquals("1.2345679E8", formatFloat(123456789.0f));
+        assertEquals("3.4028235E38", formatFloat(Float.MAX_VALUE));
+        assertEquals("1.4E-45", formatFloat(Float.MIN_VALUE));
+        assertEquals("NaN", formatFloat(Float.NaN));
+        assertEquals("Infinity", formatFloat(Float.POSITIVE_INFINITY));
+        assertEquals("-Infinity", formatFloat(Float.NEGATIVE_INFINITY));
+
+        // shortest representation is used even when Float.toString is longer
+        // in older JDKs
+        assertEquals("2.5709E10", formatFloat(2.5709E10f));
+        assertEquals("1.1754944E-38", formatFloat(Float.MIN_NORMAL));
+
+        // subnormal values
+        assertEquals("9.8E-45", formatFloat(Float.intBitsToFloat(7)));
+        assertEquals("4.2E-45", formatFloat(4.0E-45f));
+        assertEquals("2.0E-44", formatFloat(2.0E-44f));
+
+        // values close to powers of two or ten
+        assertEquals("3.3554432E7", formatFloat(33554432.0f));
+        assertEquals("0.99999994", formatFloat(Math.nextDown(1.0f)));
+        assertEquals("1.0E23", formatFloat(1.0E23f));
+        assertEquals("9.999999E-4", formatFloat(9.999999E-4f));
+    }
+
+    @Test
+    void testFormatFloatRoundTrip() {
+        final var random = new Random();
+        for (var i = 0; i < TIMES; i++) {
+            final var value = i % 2 == 0 ? Float.intBitsToFloat(random.nextInt())
+                    : (random.nextFloat() - 0.5f) * 1000.0f;
+            final var text = formatFloat(value);
+            assertTrue(text.length() <= JsonNumberFormatter.MAX_FLOAT_LENGTH);
+            assertTrue(text.length() <= Float.toString(value).length());
+            if (Float.isNaN(value)) {
+                assertEquals("NaN", text);
+            } else {
+                assertEquals(Float.floatToIntBits(value), Float.floatToIntBits(Float.parseFloat(text)), text);
+            }
+        }
+    }
+
+    @Test
+    void testFormatFloatSignificant() {
+        assertEquals("3.14", formatFloatSignificant(3.14159265f, 3));
+        assertEquals("-3.0", formatFloatSignificant(-3.0001f, 3));
+        assertEquals("0.1", formatFloatSignificant(0.1f, 9));
+        assertEquals("1.23E-5", formatFloatSignificant(1.2345e-5f, 3));
+        assertEquals("1.0E8", formatFloatSignificant(99999999.0f, 2));
+        assertEquals("0.0", formatFloatSignificant(0.0f, 3));
+
+        final var random = new Random();
+        for (var i = 0; i < TIMES; i++) {
+            final var value = (random.nextFloat() - 0.5f) * 1000.0f;
+            final var digits = 1 + random.nextInt(9);
+            final var text = formatFloatSignificant(value, digits);
+            // rounding error is at most half a unit of the last digit, plus
+            // float resolution
+            assertEquals(value, Float.parseFloat(text), 0.5 * Math.pow(10.0,
+                    Math.floor(Math.log10(Math.abs(value))) - digits + 1) + Math.ulp(value), text);
+        }
+    }
+
+    @Test
+    void testFormatFloatDecimals() {
+        assertEquals("3.14", formatFloatDecimals(3.14159265f, 2));
+        assertEquals("3.0", formatFloatDecimals(3.14159265f, 0));
+        assertEquals("-0.001", formatFloatDecimals(-0.00123f, 3));
+        assertEquals("0.0", formatFloatDecimals(0.0004f, 3));
+        assertEquals("0.0", formatFloatDecimals(-1e-30f, 3));
+        assertEquals("0.5", formatFloatDecimals(0.5f, 6));
+        assertEquals("1234567.5", formatFloatDecimals(1234567.5f, 3));
+        assertEquals("1.0E10", formatFloatDecimals(1e10f, 3));
+
+        final var random = new Random();
+        for (var i = 0; i < TIMES; i++) {
+            final var value = (random.nextFloat() - 0.5f) * 1000.0f;
+            final var decimals = random.nextInt(10);
+            final var text = formatFloatDecimals(value, decimals);
+            final var point = text.indexOf('.');
+            assertTrue(text.length() - point - 1 <= Math.max(decimals, 1), text);
+            assertEquals(value, Float.parseFloat(text), 0.5 * Math.pow(10.0, -decimals) + Math.ulp(value), text);
+        }
+    }
+
+    private static String formatInt(final int value) {
+        final var buffer = new byte[JsonNumberFormatter.MAX_INT_LENGTH + 2];
+        buffer[0] = '#';
+        final var end = JsonNumberFormatter.formatInt(value, buffer, 1);
+        return new String(buffer, 1, end - 1, StandardCharsets.US_ASCII);
+    }
+
+    private static String formatFloat(final float value) {
+        final var buffer = new byte[JsonNumberFormatter.MAX_FLOAT_LENGTH + 2];
+        buffer[0] = '#';
+        final var end = JsonNumberFormatter.formatFloat(value, buffer, 1);
+        return new String(buffer, 1, end - 1, StandardCharsets.US_ASCII);
+    }
+
+    private static String formatFloatSignificant(final float value, final int digits) {
+        final var buffer = new byte[JsonNumberFormatter.MAX_FLOAT_LENGTH + 2];
+        buffer[0] = '#';
+        final var end = JsonNumberFormatter.formatFloatSignificant(value, digits, buffer, 1);
+        return new String(buffer, 1, end - 1, StandardCharsets.US_ASCII);
+    }
+
+    private static String formatFloatDecimals(final float value, final int decimals) {
+        final var buffer = new byte[JsonNumberFormatter.MAX_FLOAT_LENGTH + 2];
+        buffer[0] = '#';
+        final var end = JsonNumberFormatter.formatFloatDecimals(value, decimals, buffer, 1);
+        return new String(buffer, 1, end - 1, StandardCharsets.US_ASCII);
+    }
+}
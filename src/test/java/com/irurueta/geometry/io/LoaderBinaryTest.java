@@ -24,11 +24,15 @@ import org.junit.jupiter.params.provider.CsvSource;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ShortBuffer;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -441,6 +445,717 @@ class LoaderBinaryTest implements LoaderListenerBinary, LoaderListenerOBJ, Mater
         fileBin.delete();
     }
 
+    @Test
+    void testLoadAndIterateVersion3() throws IOException, LockedException, NotReadyException,
+            LoaderException, NotAvailableException {
+
+        final var filePly = new File(INPUT_FOLDER, "booksBinary.ply");
+        final var fileBin = new File(TMP_FOLDER, "booksBinary3.bin");
+        convertToBin(filePly, fileBin, MeshFormat.MESH_FORMAT_PLY, MeshWriterBinary.VERSION_3);
+
+        try (final var validityLoader = new LoaderBinary(fileBin)) {
+            assertTrue(validityLoader.isValidFile());
+        }
+
+        final var loaderBin = new LoaderBinary(fileBin);
+        loaderBin.setListener(this);
+        final var loaderPly = new LoaderPLY(filePly);
+
+        final var binIt = loaderBin.load();
+        final var plyIt = loaderPly.load();
+
+        // check correctness of chunks
+        while (binIt.hasNext() && plyIt.hasNext()) {
+            final var binChunk = binIt.next();
+            final var plyChunk = plyIt.next();
+
+            checkChunkEqualness(binChunk, plyChunk);
+        }
+
+        assertTrue(isEndValid());
+        assertTrue(isLockedValid());
+        assertTrue(isProgressValid());
+        assertTrue(isStartValid());
+        resetListener();
+
+        assertFalse(binIt.hasNext());
+        assertFalse(plyIt.hasNext());
+
+        loaderBin.close();
+        loaderPly.close();
+
+        //noinspection all
+        fileBin.delete();
+    }
+
+    @Test
+    void testLoadVersion3With32BitIndices() throws IOException, LockedException, NotReadyException,
+            LoaderException, NotAvailableException {
+
+        // a single chunk containing more than 65535 vertices requires 32-bit
+        // indices
+        final var fileStl = new File(INPUT_FOLDER, "pitcher-bin.stl");
+        final var fileBin = new File(TMP_FOLDER, "pitcher3.bin");
+
+        final var loaderStl = new LoaderSTL(fileStl);
+        loaderStl.setMaxVerticesInChunk(200000);
+        try (final var outStream = new FileOutputStream(fileBin)) {
+            final var writer = new MeshWriterBinary(loaderStl, outStream);
+            writer.setVersion(MeshWriterBinary.VERSION_3);
+            writer.write();
+        }
+        loaderStl.close();
+
+        final var loaderBin = new LoaderBinary(fileBin);
+        final var loaderStl2 = new LoaderSTL(fileStl);
+        loaderStl2.setMaxVerticesInChunk(200000);
+
+        final var binIt = loaderBin.load();
+        final var stlIt = loaderStl2.load();
+
+        final var binChunk = binIt.next();
+        final var stlChunk = stlIt.next();
+        assertTrue(stlChunk.getVerticesCoordinatesData().length / 3 > BinaryFormat.MAX_16_BIT_INDEX);
+        checkChunkEqualness(binChunk, stlChunk);
+
+        assertFalse(binIt.hasNext());
+        assertFalse(stlIt.hasNext());
+
+        loaderBin.close();
+        loaderStl2.close();
+
+        //noinspection all
+        fileBin.delete();
+    }
+
+    @Test
+    void testLoadVersion3SharesMaterials() throws IOException, LockedException, NotReadyException,
+            LoaderException, NotAvailableException {
+
+        // small chunks so that many chunks share the same material
+        final var fileObj = new File(INPUT_FOLDER, "potro.obj");
+        final var fileBin2 = new File(TMP_FOLDER, "potroObj2.bin");
+        final var fileBin3 = new File(TMP_FOLDER, "potroObj3.bin");
+        final var loaderObj = new LoaderOBJ(fileObj);
+        loaderObj.setMaxVerticesInChunk(1000);
+        try (final var outStream = new FileOutputStream(fileBin2)) {
+            final var writer = new MeshWriterBinary(loaderObj, outStream);
+            writer.setListener(this);
+            writer.write();
+        }
+        loaderObj.close();
+
+        // obj loader might return different results after consecutive
+        // executions, hence version 3 file is converted from version 2 file
+        final var loaderBin = new LoaderBinary(fileBin2);
+        try (final var outStream = new FileOutputStream(fileBin3)) {
+            final var writer = new MeshWriterBinary(loaderBin, outStream);
+            writer.setListener(this);
+            writer.setVersion(MeshWriterBinary.VERSION_3);
+            writer.setChunkDirectoryEnabled(true);
+            writer.write();
+        }
+        loaderBin.close();
+
+        final var loaderBin2 = new LoaderBinary(fileBin2);
+        final var loaderBin3 = new LoaderBinary(fileBin3);
+
+        final var it2 = loaderBin2.load();
+        final var it3 = loaderBin3.load();
+
+        final var materials = new HashMap<Integer, Material>();
+        var chunks = 0;
+        while (it2.hasNext() && it3.hasNext()) {
+            final var chunk2 = it2.next();
+            final var chunk3 = it3.next();
+            checkChunkEqualness(chunk3, chunk2);
+
+            final var material2 = chunk2.getMaterial();
+            final var material3 = chunk3.getMaterial();
+            assertEquals(material2 != null, material3 != null);
+            if (material3 != null) {
+                assertEquals(material2.getId(), material3.getId());
+                assertEquals(material2.isDiffuseTextureMapAvailable(), material3.isDiffuseTextureMapAvailable());
+
+                // chunks sharing a material share the same instance
+                final var previous = materials.putIfAbsent(material3.getId(), material3);
+                if (previous != null) {
+                    assertSame(previous, material3);
+                }
+            }
+            chunks++;
+        }
+        assertTrue(chunks > materials.size());
+        assertFalse(it2.hasNext());
+        assertFalse(it3.hasNext());
+
+        // materials of randomly accessed chunks are also shared
+        final var directory = loaderBin3.getChunkDirectory();
+        assertEquals(chunks, directory.getChunkCount());
+        assertEquals(materials.size(), directory.getMaterialCount());
+        final var last = directory.getChunkCount() - 1;
+
+        // materials are written only once, hence data preceding the chunk
+        // directory is smaller than version 2 file
+        final var lastInfo = directory.getChunks().get(last);
+        assertTrue(lastInfo.getOffset() + lastInfo.getSize() < fileBin2.length());
+        final var lastChunk = loaderBin3.loadChunk(last);
+        assertEquals(directory.getChunks().get(last).getMaterialId(), lastChunk.getMaterial().getId());
+        assertSame(lastChunk.getMaterial(), loaderBin3.loadChunk(last).getMaterial());
+
+        loaderBin2.close();
+        loaderBin3.close();
+
+        //noinspection all
+        fileBin2.delete();
+        //noinspection all
+        fileBin3.delete();
+    }
+
+    @Test
+    void testChunkDirectory() throws IOException, LockedException, NotReadyException, LoaderException,
+            NotAvailableException {
+
+        final var filePly = new File(INPUT_FOLDER, "booksBinary.ply");
+        final var fileBin = new File(TMP_FOLDER, "booksDirectory.bin");
+
+        final var loaderPly = new LoaderPLY(filePly);
+        loaderPly.setMaxVerticesInChunk(500);
+        try (final var outStream = new FileOutputStream(fileBin)) {
+            final var writer = new MeshWriterBinary(loaderPly, outStream);
+            writer.setVersion(MeshWriterBinary.VERSION_3);
+            writer.setChunkDirectoryEnabled(true);
+            writer.write();
+        }
+        loaderPly.close();
+
+        // load sequentially
+        final var loaderPly2 = new LoaderPLY(filePly);
+        loaderPly2.setMaxVerticesInChunk(500);
+        final var plyIt = loaderPly2.load();
+        final var plyChunks = new ArrayList<DataChunk>();
+        while (plyIt.hasNext()) {
+            plyChunks.add(plyIt.next());
+        }
+        loaderPly2.close();
+
+        final var loaderBin = new LoaderBinary(fileBin);
+        loaderBin.setListener(this);
+        final var binIt = loaderBin.load();
+        var counter = 0;
+        while (binIt.hasNext()) {
+            checkChunkEqualness(binIt.next(), plyChunks.get(counter));
+            counter++;
+        }
+        assertEquals(plyChunks.size(), counter);
+        assertTrue(isEndValid());
+        assertTrue(isLockedValid());
+        assertTrue(isStartValid());
+        resetListener();
+
+        // check directory
+        assertTrue(loaderBin.hasChunkDirectory());
+        final var directory = loaderBin.getChunkDirectory();
+        assertTrue(plyChunks.size() > 1);
+        assertEquals(plyChunks.size(), directory.getChunkCount());
+        assertEquals(0, directory.getMaterialCount());
+
+        var totalVertices = 0L;
+        var totalIndices = 0L;
+        var minX = Float.MAX_VALUE;
+        var maxX = -Float.MAX_VALUE;
+        for (var i = 0; i < plyChunks.size(); i++) {
+            final var plyChunk = plyChunks.get(i);
+            final var info = directory.getChunks().get(i);
+            assertEquals(i, info.getIndex());
+            assertEquals(plyChunk.getVerticesCoordinatesData().length / 3, info.getVertexCount());
+            assertEquals(plyChunk.getIndicesData().length, info.getIndexCount());
+            assertEquals(plyChunk.getMinX(), info.getMinX(), 0.0);
+            assertEquals(plyChunk.getMaxZ(), info.getMaxZ(), 0.0);
+            assertFalse(info.isMaterialAvailable());
+            assertThrows(NotAvailableException.class, info::getMaterialId);
+            assertTrue(info.getOffset() > 0);
+            assertTrue(info.getSize() > 0);
+
+            totalVertices += info.getVertexCount();
+            totalIndices += info.getIndexCount();
+            minX = Math.min(minX, plyChunk.getMinX());
+            maxX = Math.max(maxX, plyChunk.getMaxX());
+        }
+        assertEquals(totalVertices, directory.getTotalVertices());
+        assertEquals(totalIndices, directory.getTotalIndices());
+        assertEquals(minX, directory.getMinX(), 0.0);
+        assertEquals(maxX, directory.getMaxX(), 0.0);
+
+        // load chunks in reverse order
+        for (var i = plyChunks.size() - 1; i >= 0; i--) {
+            checkChunkEqualness(loaderBin.loadChunk(i), plyChunks.get(i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> loaderBin.loadChunk(-1));
+        assertThrows(IllegalArgumentException.class, () -> loaderBin.loadChunk(plyChunks.size()));
+
+        // load chunks intersecting a box containing the first chunk only
+        final var first = directory.getChunks().get(0);
+        final var found = directory.findChunks(first.getMinX(), first.getMinY(), first.getMinZ(),
+                first.getMaxX(), first.getMaxY(), first.getMaxZ());
+        final var chunks = loaderBin.loadChunks(first.getMinX(), first.getMinY(), first.getMinZ(),
+                first.getMaxX(), first.getMaxY(), first.getMaxZ());
+        assertFalse(found.isEmpty());
+        assertEquals(found.size(), chunks.size());
+        assertEquals(0, found.get(0).getIndex());
+        for (var i = 0; i < found.size(); i++) {
+            checkChunkEqualness(chunks.get(i), plyChunks.get(found.get(i).getIndex()));
+        }
+
+        // a box far away intersects no chunk
+        assertTrue(loaderBin.loadChunks(maxX + 1.0f, -Float.MAX_VALUE, -Float.MAX_VALUE,
+                Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE).isEmpty());
+
+        // file can still be loaded sequentially after random access
+        final var binIt2 = loaderBin.load();
+        counter = 0;
+        while (binIt2.hasNext()) {
+            checkChunkEqualness(binIt2.next(), plyChunks.get(counter));
+            counter++;
+        }
+        assertEquals(plyChunks.size(), counter);
+
+        loaderBin.close();
+
+        //noinspection all
+        fileBin.delete();
+    }
+
+    @Test
+    void testChunkDirectoryNotAvailable() throws IOException, LockedException, NotReadyException,
+            LoaderException {
+
+        final var filePly = new File(INPUT_FOLDER, "randomBig.ply");
+        final var fileBin2 = new File(TMP_FOLDER, "randomBig2.bin");
+        final var fileBin3 = new File(TMP_FOLDER, "randomBig3.bin");
+        convertToBin(filePly, fileBin2, MeshFormat.MESH_FORMAT_PLY);
+        convertToBin(filePly, fileBin3, MeshFormat.MESH_FORMAT_PLY, MeshWriterBinary.VERSION_3);
+
+        try (final var loader = new LoaderBinary(fileBin2)) {
+            assertFalse(loader.hasChunkDirectory());
+            assertThrows(NotAvailableException.class, loader::getChunkDirectory);
+            assertThrows(NotAvailableException.class, () -> loader.loadChunk(0));
+        }
+        try (final var loader = new LoaderBinary(fileBin3)) {
+            assertFalse(loader.hasChunkDirectory());
+            assertThrows(NotAvailableException.class, loader::getChunkDirectory);
+        }
+
+        // loader without file is not ready
+        try (final var loader = new LoaderBinary()) {
+            assertThrows(NotReadyException.class, loader::hasChunkDirectory);
+        }
+
+        //noinspection all
+        fileBin2.delete();
+        //noinspection all
+        fileBin3.delete();
+    }
+
+    @Test
+    void testLoadCompressed() throws IOException, LockedException, NotReadyException, LoaderException,
+            NotAvailableException {
+
+        final var filePly = new File(INPUT_FOLDER, "pitcher.ply");
+        final var fileBin = new File(TMP_FOLDER, "pitcher3.bin");
+        final var fileCompressed = new File(TMP_FOLDER, "pitcherCompressed.bin");
+        convertToBin(filePly, fileBin, MeshFormat.MESH_FORMAT_PLY, MeshWriterBinary.VERSION_3);
+
+        final var loaderPly = new LoaderPLY(filePly);
+        try (final var outStream = new FileOutputStream(fileCompressed)) {
+            final var writer = new MeshWriterBinary(loaderPly, outStream);
+            writer.setVersion(MeshWriterBinary.VERSION_3);
+            writer.setCompressed(true);
+            writer.setChunkDirectoryEnabled(true);
+            writer.write();
+        }
+        loaderPly.close();
+
+        // compressed file is much smaller, even though colors are not
+        // compressed
+        assertTrue(fileCompressed.length() < 0.6 * fileBin.length());
+
+        final var loaderBin = new LoaderBinary(fileBin);
+        final var loaderCompressed = new LoaderBinary(fileCompressed);
+        loaderCompressed.setListener(this);
+
+        final var binIt = loaderBin.load();
+        final var compressedIt = loaderCompressed.load();
+        var counter = 0;
+        while (binIt.hasNext() && compressedIt.hasNext()) {
+            final var chunk = binIt.next();
+            final var compressedChunk = compressedIt.next();
+            checkCompressedChunk(chunk, compressedChunk);
+
+            // random access also decodes compressed chunks
+            if (counter == 0) {
+                assertArrayEquals(compressedChunk.getIndicesData(), loaderCompressed.loadChunk(0).getIndicesData());
+            }
+            counter++;
+        }
+        assertFalse(binIt.hasNext());
+        assertFalse(compressedIt.hasNext());
+        assertTrue(isEndValid());
+        assertTrue(isLockedValid());
+        assertTrue(isStartValid());
+        resetListener();
+
+        assertEquals(counter, loaderCompressed.getChunkDirectory().getChunkCount());
+        checkCompressedChunk(loaderBin.load().next(), loaderCompressed.loadChunk(0));
+
+        loaderBin.close();
+        loaderCompressed.close();
+
+        //noinspection all
+        fileBin.delete();
+        //noinspection all
+        fileCompressed.delete();
+    }
+
+    @Test
+    void testIsSetZeroCopyEnabled() throws IOException, LockedException {
+        final var loader = new LoaderBinary();
+
+        // check default value
+        assertEquals(LoaderBinary.DEFAULT_ZERO_COPY_ENABLED, loader.isZeroCopyEnabled());
+
+        // set new value
+        loader.setZeroCopyEnabled(true);
+
+        // check
+        assertTrue(loader.isZeroCopyEnabled());
+
+        loader.close();
+    }
+
+    @Test
+    void testLoadZeroCopy() throws IOException, LockedException, NotReadyException, LoaderException,
+            NotAvailableException {
+
+        final var filePly = new File(INPUT_FOLDER, "pitcher.ply");
+        final var fileBin = new File(TMP_FOLDER, "pitcher.bin");
+        convertToBin(filePly, fileBin, MeshFormat.MESH_FORMAT_PLY);
+
+        final var loader = new LoaderBinary(fileBin);
+        final var mappedLoader = new LoaderBinary(fileBin);
+        mappedLoader.setZeroCopyEnabled(true);
+        mappedLoader.setListener(this);
+
+        final var it = loader.load();
+        final var mappedIt = mappedLoader.load();
+        final var mappedChunks = new ArrayList<MappedDataChunk>();
+        while (it.hasNext() && mappedIt.hasNext()) {
+            final var chunk = it.next();
+            final var mappedChunk = assertInstanceOf(MappedDataChunk.class, mappedIt.next());
+            assertTrue(mappedChunk.isValid());
+
+            // views contain the same data without being copied into arrays
+            final var coords = mappedChunk.getVerticesCoordinatesBuffer();
+            assertTrue(coords.isReadOnly());
+            assertEquals(chunk.getVerticesCoordinatesData().length, coords.remaining());
+            for (final var value : chunk.getVerticesCoordinatesData()) {
+                assertEquals(value, coords.get(), 0.0);
+            }
+            assertFalse(mappedChunk.isIndices32Bit());
+            final var indices = (ShortBuffer) mappedChunk.getIndicesBuffer();
+            assertEquals(chunk.getIndicesData().length, indices.remaining());
+            for (final var index : chunk.getIndicesData()) {
+                assertEquals(index, indices.get() & 0xffff);
+            }
+
+            // consuming a view does not modify the chunk
+            assertEquals(chunk.getVerticesCoordinatesData().length,
+                    mappedChunk.getVerticesCoordinatesBuffer().remaining());
+
+            mappedChunks.add(mappedChunk);
+        }
+        assertFalse(it.hasNext());
+        assertFalse(mappedIt.hasNext());
+        assertTrue(isEndValid());
+        assertTrue(isLockedValid());
+        assertTrue(isStartValid());
+        resetListener();
+
+        // views of previous chunks remain valid after iterating, and arrays
+        // are created on demand
+        final var chunks = new ArrayList<DataChunk>();
+        final var it2 = loader.load();
+        while (it2.hasNext()) {
+            chunks.add(it2.next());
+        }
+        assertEquals(chunks.size(), mappedChunks.size());
+        for (var i = 0; i < chunks.size(); i++) {
+            checkChunkEqualness(chunks.get(i), mappedChunks.get(i));
+            assertSame(mappedChunks.get(i).getIndicesData(), mappedChunks.get(i).getIndicesData());
+        }
+
+        // load first chunk again and materialize only its coordinates
+        // before closing loader
+        final var mappedChunk = mappedChunks.get(0);
+        final var otherMappedChunk = (MappedDataChunk) mappedLoader.load().next();
+        mappedChunk.materialize();
+        assertNotNull(otherMappedChunk.getVerticesCoordinatesData());
+        mappedLoader.close();
+
+        assertFalse(mappedChunk.isValid());
+        assertThrows(IllegalStateException.class, mappedChunk::getVerticesCoordinatesBuffer);
+        assertThrows(IllegalStateException.class, mappedChunk::getIndicesBuffer);
+        checkChunkEqualness(chunks.get(0), mappedChunk);
+
+        // data materialized before closing is still available
+        assertArrayEquals(chunks.get(0).getVerticesCoordinatesData(),
+                otherMappedChunk.getVerticesCoordinatesData(), 0.0f);
+        assertThrows(IllegalStateException.class, otherMappedChunk::getIndicesData);
+
+        loader.close();
+
+        //noinspection all
+        fileBin.delete();
+    }
+
+    @Test
+    void testIsSetLazyTexturesEnabled() throws IOException, LockedException {
+        final var loader = new LoaderBinary();
+
+        // check default value
+        assertEquals(LoaderBinary.DEFAULT_LAZY_TEXTURES_ENABLED, loader.isLazyTexturesEnabled());
+
+        // set new value
+        loader.setLazyTexturesEnabled(true);
+
+        // check
+        assertTrue(loader.isLazyTexturesEnabled());
+
+        loader.close();
+    }
+
+    @Test
+    void testLazyTextures() throws IOException, LockedException, NotReadyException, LoaderException,
+            NotAvailableException {
+
+        final var fileObj = new File(INPUT_FOLDER, "potro.obj");
+        final var fileBin = new File(TMP_FOLDER, "potroObj.bin");
+        convertToBin(fileObj, fileBin, MeshFormat.MESH_FORMAT_OBJ);
+
+        // texture descriptors can be read before loading
+        final var loaderBin = new LoaderBinary(fileBin);
+        final var textures = loaderBin.getTextures();
+        assertFalse(textures.isEmpty());
+
+        // when textures are lazily accessed, listener is not requested any
+        // texture file
+        loaderBin.setLazyTexturesEnabled(true);
+        loaderBin.setListener(this);
+        final var it = loaderBin.load();
+        assertTrue(binTextures.isEmpty());
+
+        // textures can be accessed while chunks are being loaded
+        assertSame(textures, loaderBin.getTextures());
+        final var texture = textures.get(0);
+        final var textureFile = new File(TMP_FOLDER, "lazyTexture.jpg");
+        loaderBin.copyTexture(texture, textureFile);
+        assertEquals(texture.getLength(), textureFile.length());
+        try (final var stream = loaderBin.openTexture(texture)) {
+            assertArrayEquals(Files.readAllBytes(textureFile.toPath()), stream.readAllBytes());
+            assertEquals(-1, stream.read());
+        }
+
+        while (it.hasNext()) {
+            it.next();
+        }
+        assertTrue(binTextures.isEmpty());
+        assertTrue(isEndValid());
+        assertTrue(isLockedValid());
+        assertTrue(isStartValid());
+        resetListener();
+
+        // when textures are not lazily accessed, listener receives the same
+        // texture data
+        loaderBin.setLazyTexturesEnabled(false);
+        final var it2 = loaderBin.load();
+        assertEquals(textures.size(), binTextures.size());
+        assertTrue(areEqual(textureFile, binTextures.get(texture.getId())));
+        while (it2.hasNext()) {
+            it2.next();
+        }
+        resetListener();
+
+        final var invalidTexture = new TextureInfoBinary(texture.getId(), texture.getWidth(),
+                texture.getHeight(), fileBin.length(), 1);
+        assertThrows(IllegalArgumentException.class, () -> loaderBin.openTexture(invalidTexture));
+        assertThrows(IllegalArgumentException.class, () -> loaderBin.copyTexture(invalidTexture, textureFile));
+
+        loaderBin.close();
+
+        for (final var binTexFile : binTextures.values()) {
+            //noinspection all
+            binTexFile.delete();
+        }
+        binTextures.clear();
+
+        //noinspection all
+        textureFile.delete();
+        //noinspection all
+        fileBin.delete();
+    }
+
+    @Test
+    void testGetSetMaxPendingChunks() throws IOException, LockedException {
+        final var loader = new LoaderBinary();
+
+        // check default value
+        assertEquals(LoaderBinary.DEFAULT_MAX_PENDING_CHUNKS, loader.getMaxPendingChunks());
+
+        // set new value
+        loader.setMaxPendingChunks(2);
+
+        // check
+        assertEquals(2, loader.getMaxPendingChunks());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> loader.setMaxPendingChunks(0));
+
+        loader.close();
+    }
+
+    @Test
+    void testLoadParallel() throws IOException, LockedException, NotReadyException, LoaderException,
+            NotAvailableException, InterruptedException {
+
+        // small chunks so that many chunks are decoded concurrently
+        final var fileObj = new File(INPUT_FOLDER, "potro.obj");
+        final var fileBin2 = new File(TMP_FOLDER, "potroObj2.bin");
+        final var fileBin3 = new File(TMP_FOLDER, "potroObj3.bin");
+        final var fileBin3Directory = new File(TMP_FOLDER, "potroObj3Directory.bin");
+        final var loaderObj = new LoaderOBJ(fileObj);
+        loaderObj.setMaxVerticesInChunk(1000);
+        try (final var outStream = new FileOutputStream(fileBin2)) {
+            new MeshWriterBinary(loaderObj, outStream).write();
+        }
+        loaderObj.close();
+
+        for (final var directory : new boolean[]{false, true}) {
+            final var loaderBin = new LoaderBinary(fileBin2);
+            try (final var outStream = new FileOutputStream(directory ? fileBin3Directory : fileBin3)) {
+                final var writer = new MeshWriterBinary(loaderBin, outStream);
+                writer.setVersion(MeshWriterBinary.VERSION_3);
+                writer.setChunkDirectoryEnabled(directory);
+                writer.write();
+            }
+            loaderBin.close();
+        }
+
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            for (final var file : new File[]{fileBin2, fileBin3, fileBin3Directory}) {
+                final var loader = new LoaderBinary(file);
+                final var chunks = new ArrayList<DataChunk>();
+                final var it = loader.load();
+                while (it.hasNext()) {
+                    chunks.add(it.next());
+                }
+                assertTrue(chunks.size() > 1);
+
+                // chunks are returned in file order
+                final var parallelLoader = new LoaderBinary(file);
+                parallelLoader.setListener(this);
+                parallelLoader.setMaxPendingChunks(2);
+                final var parallelIt = parallelLoader.loadParallel(executor);
+                assertTrue(parallelLoader.isLocked());
+                for (final var chunk : chunks) {
+                    assertTrue(parallelIt.hasNext());
+                    final var parallelChunk = parallelIt.next();
+                    checkChunkEqualness(chunk, parallelChunk);
+                    assertEquals(chunk.isMaterialAvailable(), parallelChunk.isMaterialAvailable());
+                    if (chunk.isMaterialAvailable()) {
+                        assertEquals(chunk.getMaterial().getId(), parallelChunk.getMaterial().getId());
+                    }
+                }
+                assertFalse(parallelIt.hasNext());
+                assertThrows(NotAvailableException.class, parallelIt::next);
+                assertFalse(parallelLoader.isLocked());
+                assertTrue(isEndValid());
+                assertTrue(isLockedValid());
+                assertTrue(isProgressValid());
+                assertTrue(isStartValid());
+                resetListener();
+
+                // chunks are notified as soon as they are decoded
+                final var parallelChunks = new DataChunk[chunks.size()];
+                parallelLoader.loadParallel(executor, (l, index, chunk) -> {
+                    assertSame(parallelLoader, l);
+                    assertNull(parallelChunks[index]);
+                    parallelChunks[index] = chunk;
+                });
+                assertFalse(parallelLoader.isLocked());
+                assertTrue(isEndValid());
+                assertTrue(isLockedValid());
+                assertTrue(isProgressValid());
+                resetListener();
+                for (var i = 0; i < chunks.size(); i++) {
+                    checkChunkEqualness(chunks.get(i), parallelChunks[i]);
+                }
+
+                // Force IllegalArgumentException
+                assertThrows(IllegalArgumentException.class, () -> parallelLoader.loadParallel(null));
+                assertThrows(IllegalArgumentException.class,
+                        () -> parallelLoader.loadParallel(executor, null));
+
+                loader.close();
+                parallelLoader.close();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+
+        //noinspection all
+        fileBin2.delete();
+        //noinspection all
+        fileBin3.delete();
+        //noinspection all
+        fileBin3Directory.delete();
+    }
+
+    private static void checkCompressedChunk(final DataChunk chunk, final DataChunk compressedChunk) {
+        // indices and colors are lossless
+        assertArrayEquals(chunk.getIndicesData(), compressedChunk.getIndicesData());
+        assertArrayEquals(chunk.getColorData(), compressedChunk.getColorData());
+        assertEquals(chunk.getColorComponents(), compressedChunk.getColorComponents());
+        assertEquals(chunk.getMinX(), compressedChunk.getMinX(), 0.0);
+        assertEquals(chunk.getMaxZ(), compressedChunk.getMaxZ(), 0.0);
+
+        // positions have an error of at most half a quantization step
+        final var coords = chunk.getVerticesCoordinatesData();
+        final var compressedCoords = compressedChunk.getVerticesCoordinatesData();
+        assertEquals(coords.length, compressedCoords.length);
+        final var size = Math.max(chunk.getMaxX() - chunk.getMinX(),
+                Math.max(chunk.getMaxY() - chunk.getMinY(), chunk.getMaxZ() - chunk.getMinZ()));
+        final var positionError = size / 65535.0;
+        for (var i = 0; i < coords.length; i++) {
+            assertEquals(coords[i], compressedCoords[i], positionError);
+        }
+
+        // normals are normalized
+        final var normals = chunk.getNormalsData();
+        final var compressedNormals = compressedChunk.getNormalsData();
+        assertEquals(normals.length, compressedNormals.length);
+        for (var i = 0; i < normals.length; i += 3) {
+            final var norm = Math.sqrt(normals[i] * normals[i] + normals[i + 1] * normals[i + 1]
+                    + normals[i + 2] * normals[i + 2]);
+            if (norm > 0.0) {
+                for (var j = 0; j < 3; j++) {
+                    assertEquals(normals[i + j] / norm, compressedNormals[i + j], 1e-3);
+                }
+            }
+        }
+    }
+
     private void checkChunkEqualness(DataChunk chunk, DataChunk otherChunk) {
         assertTrue((chunk.getVerticesCoordinatesData() != null
                 && otherChunk.getVerticesCoordinatesData() != null) || (chunk.getVerticesCoordinatesData() == null
@@ -768,6 +1483,12 @@ class LoaderBinaryTest implements LoaderListenerBinary, LoaderListenerOBJ, Mater
     private void convertToBin(
             final File inputFile, final File outputFile, final MeshFormat inputFormat) throws IOException,
             LockedException, LoaderException, NotReadyException {
+        convertToBin(inputFile, outputFile, inputFormat, MeshWriterBinary.DEFAULT_VERSION);
+    }
+
+    private void convertToBin(
+            final File inputFile, final File outputFile, final MeshFormat inputFormat, final byte version)
+            throws IOException, LockedException, LoaderException, NotReadyException {
 
         final Loader loader;
         if (inputFormat == MeshFormat.MESH_FORMAT_PLY) {
@@ -783,6 +1504,7 @@ class LoaderBinaryTest implements LoaderListenerBinary, LoaderListenerOBJ, Mater
         final var outStream = new FileOutputStream(outputFile);
         final var writer = new MeshWriterBinary(loader, outStream);
         writer.setListener(this);
+        writer.setVersion(version);
 
         writer.write();
         outStream.close();
@@ -16,9 +16,15 @@
 package com.irurueta.geometry.io;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -534,6 +540,250 @@ class LoaderOBJTest implements LoaderListenerOBJ {
         }
     }
 
+    @Test
+    void testIsSetPointCloudMode() throws LockedException, IOException {
+        try (final var loader = new LoaderOBJ()) {
+
+            assertEquals(LoaderOBJ.DEFAULT_POINT_CLOUD_MODE, loader.isPointCloudMode());
+
+            loader.setPointCloudMode(true);
+
+            assertTrue(loader.isPointCloudMode());
+        }
+    }
+
+    @Test
+    void testIsSetChunkPoolingEnabled() throws LockedException, IOException {
+        try (final var loader = new LoaderOBJ()) {
+
+            assertEquals(LoaderOBJ.DEFAULT_CHUNK_POOLING_ENABLED, loader.isChunkPoolingEnabled());
+
+            loader.setChunkPoolingEnabled(true);
+
+            assertTrue(loader.isChunkPoolingEnabled());
+        }
+    }
+
+    @Test
+    void testLoadPooled() throws IOException, LockedException, NotReadyException, LoaderException,
+            NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/pitcher.obj");
+
+        final var expected = new ArrayList<DataChunk>();
+        try (final var loader = new LoaderOBJ(f, 1000)) {
+            loader.setListener(this);
+            final var it = loader.load();
+            while (it.hasNext()) {
+                expected.add(it.next());
+            }
+        }
+        assertTrue(expected.size() > 1);
+
+        try (final var loader = new LoaderOBJ(f, 1000)) {
+            loader.setListener(this);
+            loader.setChunkPoolingEnabled(true);
+            resetListener();
+            final var it = loader.load();
+            assertThrows(LockedException.class, () -> loader.setChunkPoolingEnabled(false));
+
+            DataChunk previous = null;
+            var count = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                assertTrue(chunk.isPooled());
+                DataChunkAssertions.assertSameValidValues(expected.get(count), chunk);
+                if (previous != null) {
+                    // released chunk is reused
+                    assertSame(previous, chunk);
+                }
+                chunk.release();
+                assertFalse(chunk.isPooled());
+                previous = chunk;
+                count++;
+            }
+            assertEquals(expected.size(), count);
+            assertTrue(isLockedValid());
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testIsSetTrimmedChunkArrays() throws LockedException, IOException {
+        try (final var loader = new LoaderOBJ()) {
+
+            assertEquals(LoaderOBJ.DEFAULT_TRIMMED_CHUNK_ARRAYS, loader.isTrimmedChunkArrays());
+
+            loader.setTrimmedChunkArrays(false);
+
+            assertFalse(loader.isTrimmedChunkArrays());
+        }
+    }
+
+    @Test
+    void testLoadUntrimmed() throws IOException, LockedException, NotReadyException, LoaderException,
+            NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/pitcher.obj");
+
+        final var expected = new ArrayList<DataChunk>();
+        try (final var loader = new LoaderOBJ(f, 1000)) {
+            loader.setListener(this);
+            final var it = loader.load();
+            while (it.hasNext()) {
+                expected.add(it.next());
+            }
+        }
+
+        try (final var loader = new LoaderOBJ(f, 1000)) {
+            loader.setListener(this);
+            loader.setTrimmedChunkArrays(false);
+            resetListener();
+            final var it = loader.load();
+
+            var count = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                assertFalse(chunk.isPooled());
+                // arrays keep the capacity of a whole chunk
+                assertEquals(1000, chunk.getVertexCapacity());
+                DataChunkAssertions.assertSameValidValues(expected.get(count), chunk);
+                count++;
+            }
+            assertEquals(expected.size(), count);
+            assertTrue(isLockedValid());
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testGetSetInterleavedVertexFormat() throws LockedException, IOException {
+        try (final var loader = new LoaderOBJ()) {
+
+            assertNull(loader.getInterleavedVertexFormat());
+
+            final var format = new InterleavedVertexFormat();
+            loader.setInterleavedVertexFormat(format);
+
+            assertSame(format, loader.getInterleavedVertexFormat());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"false", "true"})
+    void testLoadInterleaved(final boolean pooled) throws IOException, LockedException, NotReadyException,
+            LoaderException, NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/pitcher.obj");
+
+        final var expected = new ArrayList<DataChunk>();
+        try (final var loader = new LoaderOBJ(f, 1000)) {
+            loader.setListener(this);
+            final var it = loader.load();
+            while (it.hasNext()) {
+                expected.add(it.next());
+            }
+        }
+
+        final var format = new InterleavedVertexFormat();
+        try (final var loader = new LoaderOBJ(f, 1000)) {
+            loader.setListener(this);
+            loader.setChunkPoolingEnabled(pooled);
+            loader.setInterleavedVertexFormat(format);
+            resetListener();
+            final var it = loader.load();
+
+            ByteBuffer previous = null;
+            var count = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                assertEquals(pooled, chunk.isPooled());
+                VertexInterleaverTest.assertInterleaved(expected.get(count), chunk, format);
+                // positions, normals and texture coordinates
+                assertEquals(32, chunk.getInterleavedVertexLayout().getStride());
+                if (previous != null && pooled) {
+                    // buffer of released chunk is reused
+                    assertSame(previous, chunk.getInterleavedVertexData());
+                }
+                previous = chunk.getInterleavedVertexData();
+                chunk.release();
+                count++;
+            }
+            assertEquals(expected.size(), count);
+            assertTrue(isLockedValid());
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testLoadInterleavedPointCloud() throws IOException, LockedException, NotReadyException,
+            LoaderException, NotAvailableException {
+        final var f = new File("./src/test/java/interleavedPointCloud.obj");
+        Files.writeString(f.toPath(), """
+                v 0.0 0.0 0.0 1.0 0.0 0.0
+                v 1.0 2.0 3.0 0.0 1.0 0.2
+                """, StandardCharsets.US_ASCII);
+
+        final var format = new InterleavedVertexFormat(InterleavedVertexFormat.DEFAULT_ATTRIBUTES, true);
+        try (final var loader = new LoaderOBJ(f, 2)) {
+            loader.setPointCloudMode(true);
+            loader.setInterleavedVertexFormat(format);
+
+            final var it = loader.load();
+            final var chunk = it.next();
+            assertFalse(it.hasNext());
+
+            assertNull(chunk.getVerticesCoordinatesData());
+            assertNull(chunk.getColorData());
+            final var layout = chunk.getInterleavedVertexLayout();
+            assertEquals(15, layout.getStride());
+            final var buffer = chunk.getInterleavedVertexData();
+            assertEquals(30, buffer.limit());
+            assertEquals(3.0f, buffer.getFloat(15 + 8), 0.0f);
+            assertEquals((byte) 255, buffer.get(12));
+            assertEquals((byte) 255, buffer.get(15 + 13));
+            assertEquals(51, buffer.get(15 + 14));
+            assertFalse(loader.isLocked());
+        }
+
+        assertTrue(f.delete());
+    }
+
+    @Test
+    void testLoadPointCloud() throws IOException, LockedException, NotReadyException, LoaderException,
+            NotAvailableException {
+        final var f = new File("./src/test/java/pointCloud.obj");
+        Files.writeString(f.toPath(), """
+                # point cloud
+                v 0.0 0.0 0.0 1.0 0.0 0.0
+                v 1.0 2.0 3.0 0.0 1.0 0.0
+                vn 0.0 0.0 1.0
+                v 2.0 4.0 6.0 2.0
+                f 1 2 3
+                """, StandardCharsets.US_ASCII);
+
+        try (final var loader = new LoaderOBJ(f, 2)) {
+            loader.setPointCloudMode(true);
+
+            final var it = loader.load();
+            assertTrue(it.hasNext());
+            final var chunk1 = it.next();
+            assertTrue(it.hasNext());
+            final var chunk2 = it.next();
+            assertFalse(it.hasNext());
+
+            assertArrayEquals(new float[]{0, 0, 0, 1, 2, 3}, chunk1.getVerticesCoordinatesData(), 0.0f);
+            assertArrayEquals(new short[]{255, 0, 0, 0, 255, 0}, chunk1.getColorData());
+            assertNull(chunk1.getIndicesData());
+            assertNull(chunk1.getNormalsData());
+
+            assertArrayEquals(new float[]{1, 2, 3}, chunk2.getVerticesCoordinatesData(), 0.0f);
+            assertNull(chunk2.getColorData());
+
+            assertEquals(1, loader.getComments().size());
+            assertFalse(loader.isLocked());
+        }
+
+        assertTrue(f.delete());
+    }
+
     @Test
     void testIsValidFile() throws LockedException, IOException {
         final var f = new File("./src/test/java/com/irurueta/geometry/io/books.obj");
@@ -1221,6 +1471,33 @@ class LoaderOBJTest implements LoaderListenerOBJ {
         } catch (final Throwable e) {
             lockedValid = false;
         }
+
+        try {
+            loader.setChunkPoolingEnabled(true);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+
+        try {
+            loader.setTrimmedChunkArrays(true);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+
+        try {
+            loader.setInterleavedVertexFormat(null);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
     }
 
     private void resetListener() {
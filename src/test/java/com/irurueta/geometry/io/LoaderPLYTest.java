@@ -19,6 +19,13 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -438,6 +445,79 @@ class LoaderPLYTest implements LoaderListener {
         }
     }
 
+    @Test
+    void testGetSetExtraVertexProperties() throws LockedException, IOException {
+        try (final var loader = new LoaderPLY()) {
+
+            assertTrue(loader.getExtraVertexProperties().isEmpty());
+
+            // set new value
+            loader.setExtraVertexProperties(Set.of("confidence", "intensity"));
+            // check correctness
+            assertEquals(Set.of("confidence", "intensity"), loader.getExtraVertexProperties());
+
+            // set null value
+            loader.setExtraVertexProperties(null);
+            // check correctness
+            assertTrue(loader.getExtraVertexProperties().isEmpty());
+        }
+    }
+
+    @Test
+    void testGetSetPointCloudMode() throws LockedException, IOException {
+        try (final var loader = new LoaderPLY()) {
+
+            assertEquals(LoaderPLY.DEFAULT_POINT_CLOUD_MODE, loader.isPointCloudMode());
+
+            // set new value
+            loader.setPointCloudMode(true);
+            // check correctness
+            assertTrue(loader.isPointCloudMode());
+        }
+    }
+
+    @Test
+    void testGetSetFaceDecodingThreads() throws LockedException, IOException {
+        try (final var loader = new LoaderPLY()) {
+
+            assertEquals(LoaderPLY.DEFAULT_FACE_DECODING_THREADS, loader.getFaceDecodingThreads());
+
+            // set new value
+            loader.setFaceDecodingThreads(4);
+            // check correctness
+            assertEquals(4, loader.getFaceDecodingThreads());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> loader.setFaceDecodingThreads(0));
+        }
+    }
+
+    @Test
+    void testIsSetChunkPoolingEnabled() throws LockedException, IOException {
+        try (final var loader = new LoaderPLY()) {
+
+            assertEquals(LoaderPLY.DEFAULT_CHUNK_POOLING_ENABLED, loader.isChunkPoolingEnabled());
+
+            // set new value
+            loader.setChunkPoolingEnabled(true);
+            // check correctness
+            assertTrue(loader.isChunkPoolingEnabled());
+        }
+    }
+
+    @Test
+    void testIsSetTrimmedChunkArrays() throws LockedException, IOException {
+        try (final var loader = new LoaderPLY()) {
+
+            assertEquals(LoaderPLY.DEFAULT_TRIMMED_CHUNK_ARRAYS, loader.isTrimmedChunkArrays());
+
+            // set new value
+            loader.setTrimmedChunkArrays(false);
+            // check correctness
+            assertFalse(loader.isTrimmedChunkArrays());
+        }
+    }
+
     @Test
     void testIsValidFile() throws LockedException, IOException {
         final var f = new File("./src/test/java/com/irurueta/geometry/io/booksBinary.ply");
@@ -506,6 +586,605 @@ class LoaderPLYTest implements LoaderListener {
         }
     }
 
+    @Test
+    void testLoadExtraVertexPropertiesAscii() throws IOException, LockedException, LoaderException,
+            NotReadyException, NotAvailableException {
+        final var f = new File("./src/test/java/extraPropertiesAscii.ply");
+        Files.writeString(f.toPath(), """
+                ply
+                format ascii 1.0
+                element vertex 4
+                property float x
+                property float y
+                property float z
+                property float confidence
+                property uchar intensity
+                property int label
+                element face 2
+                property list uchar int vertex_indices
+                end_header
+                0 0 0 0.5 10 1
+                1 0 0 0.25 20 2
+                1 1 0 0.125 30 3
+                0 1 0 1.0 255 4
+                3 0 1 2
+                3 0 2 3
+                """, StandardCharsets.US_ASCII);
+
+        try (final var loader = new LoaderPLY(f)) {
+            loader.setExtraVertexProperties(Set.of("confidence", "intensity", "unknown"));
+
+            final var it = loader.load();
+            assertTrue(it.hasNext());
+            final var chunk = it.next();
+            assertFalse(it.hasNext());
+
+            checkExtraVertexProperties(chunk);
+        }
+
+        assertTrue(f.delete());
+    }
+
+    @Test
+    void testLoadExtraVertexPropertiesBinary() throws IOException, LockedException, LoaderException,
+            NotReadyException, NotAvailableException {
+        final var f = new File("./src/test/java/extraPropertiesBinary.ply");
+        final var header = """
+                ply
+                format binary_little_endian 1.0
+                element vertex 4
+                property float x
+                property float y
+                property float z
+                property float confidence
+                property uchar intensity
+                property int label
+                element face 2
+                property list uchar int vertex_indices
+                end_header
+                """.getBytes(StandardCharsets.US_ASCII);
+
+        final var vertices = new float[][]{{0, 0, 0, 0.5f}, {1, 0, 0, 0.25f}, {1, 1, 0, 0.125f}, {0, 1, 0, 1.0f}};
+        final var intensities = new int[]{10, 20, 30, 255};
+        final var buffer = ByteBuffer.allocate(header.length + 4 * 21 + 2 * 13).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(header);
+        for (var i = 0; i < vertices.length; i++) {
+            for (final var value : vertices[i]) {
+                buffer.putFloat(value);
+            }
+            buffer.put((byte) intensities[i]);
+            buffer.putInt(i + 1);
+        }
+        buffer.put((byte) 3).putInt(0).putInt(1).putInt(2);
+        buffer.put((byte) 3).putInt(0).putInt(2).putInt(3);
+        Files.write(f.toPath(), buffer.array());
+
+        try (final var loader = new LoaderPLY(f)) {
+            loader.setExtraVertexProperties(Set.of("confidence", "intensity"));
+
+            final var it = loader.load();
+            assertTrue(it.hasNext());
+            final var chunk = it.next();
+            assertFalse(it.hasNext());
+
+            checkExtraVertexProperties(chunk);
+        }
+
+        assertTrue(f.delete());
+    }
+
+    @Test
+    void testLoadPointCloudAscii() throws IOException, LockedException, LoaderException, NotReadyException,
+            NotAvailableException {
+        final var f = new File("./src/test/java/pointCloudAscii.ply");
+        Files.writeString(f.toPath(), """
+                ply
+                format ascii 1.0
+                element vertex 5
+                property float x
+                property float y
+                property float z
+                property uchar red
+                property uchar green
+                property uchar blue
+                property float intensity
+                end_header
+                0 0 0 255 0 0 0.5
+                1 0 0 0 255 0 0.25
+                1 1 0 0 0 255 0.125
+                0 1 2 10 20 30 1.0
+                -1 -1 -1 1 2 3 0.0
+                """, StandardCharsets.US_ASCII);
+
+        try (final var loader = new LoaderPLY(f, 3)) {
+            loader.setExtraVertexProperties(Set.of("intensity"));
+
+            final var it = loader.load();
+            assertTrue(it.hasNext());
+            final var chunk1 = it.next();
+            assertTrue(it.hasNext());
+            final var chunk2 = it.next();
+            assertFalse(it.hasNext());
+
+            assertArrayEquals(new float[]{0, 0, 0, 1, 0, 0, 1, 1, 0}, chunk1.getVerticesCoordinatesData(), 0.0f);
+            assertNull(chunk1.getIndicesData());
+            assertNull(chunk1.getNormalsData());
+            assertEquals(3, chunk1.getColorComponents());
+            assertArrayEquals(new short[]{255, 0, 0, 0, 255, 0, 0, 0, 255}, chunk1.getColorData());
+            assertArrayEquals(new float[]{0.5f, 0.25f, 0.125f}, chunk1.getFloatVertexPropertyData("intensity"),
+                    0.0f);
+            assertEquals(0.0f, chunk1.getMinX(), 0.0f);
+            assertEquals(1.0f, chunk1.getMaxY(), 0.0f);
+
+            assertArrayEquals(new float[]{0, 1, 2, -1, -1, -1}, chunk2.getVerticesCoordinatesData(), 0.0f);
+            assertArrayEquals(new short[]{10, 20, 30, 1, 2, 3}, chunk2.getColorData());
+            assertArrayEquals(new float[]{1.0f, 0.0f}, chunk2.getFloatVertexPropertyData("intensity"), 0.0f);
+            assertEquals(-1.0f, chunk2.getMinZ(), 0.0f);
+            assertEquals(2.0f, chunk2.getMaxZ(), 0.0f);
+        }
+
+        assertTrue(f.delete());
+    }
+
+    @Test
+    void testLoadPointCloudBinaryMode() throws IOException, LockedException, LoaderException,
+            NotReadyException, NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/booksBinary.ply");
+
+        try (final var loader = new LoaderPLY(f, 500)) {
+            loader.setPointCloudMode(true);
+            loader.setListener(this);
+            resetListener();
+
+            final var it = loader.load();
+
+            var vertices = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                final var coords = chunk.getVerticesCoordinatesData();
+                assertNull(chunk.getIndicesData());
+                assertEquals(coords.length, chunk.getNormalsData().length);
+                assertNotNull(chunk.getColorData());
+                assertTrue(coords.length / 3 <= 500);
+                assertTrue(chunk.getMinX() <= chunk.getMaxX());
+                assertTrue(chunk.getMinY() <= chunk.getMaxY());
+                assertTrue(chunk.getMinZ() <= chunk.getMaxZ());
+                vertices += coords.length / 3;
+            }
+
+            // all vertices in file are loaded
+            assertEquals(2568, vertices);
+            assertTrue(isEndValid());
+            assertTrue(isProgressValid());
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testLoadFixedStrideFaces() throws IOException, LockedException, LoaderException, NotReadyException,
+            NotAvailableException {
+        // grid of 80x80 vertices containing 12482 triangles
+        final var faces = gridFaces(80);
+        final var asciiF = new File("./src/test/java/fixedStrideAscii.ply");
+        final var binaryF = new File("./src/test/java/fixedStrideBinary.ply");
+        writeGrid(asciiF, binaryF, 80, faces);
+
+        final var expected = loadChunks(asciiF);
+        assertTrue(expected.size() > 1);
+        checkSameChunks(expected, loadChunks(binaryF));
+
+        assertTrue(asciiF.delete());
+        assertTrue(binaryF.delete());
+    }
+
+    @Test
+    void testLoadVariableFacesFallsBackToSequential() throws IOException, LockedException, LoaderException,
+            NotReadyException, NotAvailableException {
+        // second face is a quad, hence face records do not have fixed size.
+        // Because the last index of remaining faces is 3, sampled face records
+        // still seem to contain triangles, and fallback happens while loading
+        final var faces = new int[200][];
+        faces[0] = new int[]{0, 1, 12};
+        faces[1] = new int[]{0, 1, 12, 11};
+        for (var i = 2; i < faces.length; i++) {
+            faces[i] = new int[]{(i * 7) % 121, (i * 13 + 1) % 121, 3};
+        }
+        final var asciiF = new File("./src/test/java/variableFacesAscii.ply");
+        final var binaryF = new File("./src/test/java/variableFacesBinary.ply");
+        writeGrid(asciiF, binaryF, 11, faces);
+
+        final var expected = loadChunks(asciiF);
+        checkSameChunks(expected, loadChunks(binaryF));
+
+        assertTrue(asciiF.delete());
+        assertTrue(binaryF.delete());
+    }
+
+    @Test
+    void testLoadFixedStrideFacesInParallel() throws IOException, LockedException, LoaderException,
+            NotReadyException, NotAvailableException {
+        // grid of 120x120 vertices containing 28322 triangles, which are
+        // split into 7 ranges of faces
+        final var faces = gridFaces(120);
+        final var asciiF = new File("./src/test/java/parallelFacesAscii.ply");
+        final var binaryF = new File("./src/test/java/parallelFacesBinary.ply");
+        writeGrid(asciiF, binaryF, 120, faces);
+
+        final var expected = loadChunks(asciiF, 1);
+        final var result = loadChunks(binaryF, 4);
+        assertTrue(result.size() > 7);
+        assertArrayEquals(triangleSoup(expected), triangleSoup(result), 0.0f);
+        for (final var chunk : result) {
+            assertTrue(chunk.getVertexCount() <= 1000);
+        }
+
+        // chunks do not depend on the number of threads
+        checkSameChunks(result, loadChunks(binaryF, 2));
+
+        assertTrue(asciiF.delete());
+        assertTrue(binaryF.delete());
+    }
+
+    @Test
+    void testLoadBundledFilesInParallel() throws IOException, LockedException, LoaderException,
+            NotReadyException, NotAvailableException {
+        for (final var name : new String[]{"pitcher.ply", "macbook.ply", "booksBinary.ply", "randomLittle.ply",
+                "randomBig.ply"}) {
+            final var f = new File("./src/test/java/com/irurueta/geometry/io/" + name);
+
+            final var expected = loadChunks(f, 1);
+            final var result = loadChunks(f, 3);
+            assertArrayEquals(triangleSoup(expected), triangleSoup(result), 0.0f);
+            for (var i = 0; i < result.size(); i++) {
+                assertEquals(expected.get(0).getColorComponents(), result.get(i).getColorComponents());
+            }
+        }
+    }
+
+    @Test
+    void testLoadVariableFacesInParallelFallsBackToSequential() throws IOException, LockedException,
+            LoaderException, NotReadyException, NotAvailableException {
+        // face 6000 is a quad, hence face records do not have fixed size.
+        // Because the last index of remaining faces is 3, sampled face records
+        // still seem to contain triangles, and the range containing the quad
+        // falls back to sequential loading
+        final var faces = new int[9000][];
+        for (var i = 0; i < faces.length; i++) {
+            faces[i] = new int[]{(i * 7) % 121, (i * 13 + 1) % 121, 3};
+        }
+        faces[6000] = new int[]{0, 1, 12, 11};
+        final var asciiF = new File("./src/test/java/variableParallelFacesAscii.ply");
+        final var binaryF = new File("./src/test/java/variableParallelFacesBinary.ply");
+        writeGrid(asciiF, binaryF, 11, faces);
+
+        final var expected = loadChunks(asciiF, 1);
+        assertArrayEquals(triangleSoup(expected), triangleSoup(loadChunks(binaryF, 2)), 0.0f);
+
+        assertTrue(asciiF.delete());
+        assertTrue(binaryF.delete());
+    }
+
+    @Test
+    void testLoadUntrimmedAndInterleavedInParallel() throws IOException, LockedException, LoaderException,
+            NotReadyException, NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/pitcher.ply");
+
+        final var expected = loadChunks(f, 2);
+
+        try (final var loader = new LoaderPLY(f, 1000)) {
+            loader.setFaceDecodingThreads(2);
+            loader.setTrimmedChunkArrays(false);
+            final var it = loader.load();
+
+            var count = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                assertEquals(1000, chunk.getVertexCapacity());
+                DataChunkAssertions.assertSameValidValues(expected.get(count), chunk);
+                count++;
+            }
+            assertEquals(expected.size(), count);
+            assertFalse(loader.isLocked());
+        }
+
+        final var format = new InterleavedVertexFormat();
+        try (final var loader = new LoaderPLY(f, 1000)) {
+            loader.setFaceDecodingThreads(2);
+            loader.setInterleavedVertexFormat(format);
+            final var it = loader.load();
+
+            var count = 0;
+            while (it.hasNext()) {
+                VertexInterleaverTest.assertInterleaved(expected.get(count), it.next(), format);
+                count++;
+            }
+            assertEquals(expected.size(), count);
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testLoadPooled() throws IOException, LockedException, LoaderException, NotReadyException,
+            NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/pitcher.ply");
+
+        final var expected = loadChunks(f);
+        assertTrue(expected.size() > 1);
+
+        try (final var loader = new LoaderPLY(f, 1000)) {
+            loader.setChunkPoolingEnabled(true);
+            final var it = loader.load();
+
+            DataChunk previous = null;
+            var count = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                assertTrue(chunk.isPooled());
+                DataChunkAssertions.assertSameValidValues(expected.get(count), chunk);
+                if (previous != null) {
+                    // released chunk is reused
+                    assertSame(previous, chunk);
+                }
+                chunk.release();
+                assertFalse(chunk.isPooled());
+                previous = chunk;
+                count++;
+            }
+            assertEquals(expected.size(), count);
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testLoadUntrimmed() throws IOException, LockedException, LoaderException, NotReadyException,
+            NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/pitcher.ply");
+
+        final var expected = loadChunks(f);
+
+        try (final var loader = new LoaderPLY(f, 1000)) {
+            loader.setTrimmedChunkArrays(false);
+            final var it = loader.load();
+
+            var count = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                assertFalse(chunk.isPooled());
+                // arrays keep the capacity of a whole chunk
+                assertEquals(1000, chunk.getVertexCapacity());
+                DataChunkAssertions.assertSameValidValues(expected.get(count), chunk);
+                count++;
+            }
+            assertEquals(expected.size(), count);
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testGetSetInterleavedVertexFormat() throws LockedException, IOException {
+        try (final var loader = new LoaderPLY()) {
+
+            assertNull(loader.getInterleavedVertexFormat());
+
+            // set new value
+            final var format = new InterleavedVertexFormat();
+            loader.setInterleavedVertexFormat(format);
+            // check correctness
+            assertSame(format, loader.getInterleavedVertexFormat());
+        }
+    }
+
+    @Test
+    void testLoadInterleaved() throws IOException, LockedException, LoaderException, NotReadyException,
+            NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/pitcher.ply");
+
+        final var expected = loadChunks(f);
+
+        final var format = new InterleavedVertexFormat();
+        try (final var loader = new LoaderPLY(f, 1000)) {
+            loader.setInterleavedVertexFormat(format);
+            final var it = loader.load();
+
+            var count = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                assertFalse(chunk.isPooled());
+                VertexInterleaverTest.assertInterleaved(expected.get(count), chunk, format);
+                // positions, normals and colors with 4 float components
+                assertEquals(40, chunk.getInterleavedVertexLayout().getStride());
+                count++;
+            }
+            assertEquals(expected.size(), count);
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testLoadInterleavedPooled() throws IOException, LockedException, LoaderException, NotReadyException,
+            NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/pitcher.ply");
+
+        final var expected = loadChunks(f);
+
+        final var format = new InterleavedVertexFormat(List.of(VertexAttribute.COLOR, VertexAttribute.POSITION),
+                true);
+        try (final var loader = new LoaderPLY(f, 1000)) {
+            loader.setChunkPoolingEnabled(true);
+            loader.setInterleavedVertexFormat(format);
+            final var it = loader.load();
+
+            ByteBuffer previous = null;
+            var count = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                assertTrue(chunk.isPooled());
+                VertexInterleaverTest.assertInterleaved(expected.get(count), chunk, format);
+                assertEquals(16, chunk.getInterleavedVertexLayout().getStride());
+                if (previous != null) {
+                    // buffer of released chunk is reused
+                    assertSame(previous, chunk.getInterleavedVertexData());
+                }
+                previous = chunk.getInterleavedVertexData();
+                chunk.release();
+                count++;
+            }
+            assertEquals(expected.size(), count);
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testLoadInterleavedPointCloud() throws IOException, LockedException, LoaderException,
+            NotReadyException, NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/booksBinary.ply");
+
+        final var expected = new ArrayList<DataChunk>();
+        try (final var loader = new LoaderPLY(f, 500)) {
+            loader.setPointCloudMode(true);
+            final var it = loader.load();
+            while (it.hasNext()) {
+                expected.add(it.next());
+            }
+        }
+
+        final var format = new InterleavedVertexFormat();
+        try (final var loader = new LoaderPLY(f, 500)) {
+            loader.setPointCloudMode(true);
+            loader.setInterleavedVertexFormat(format);
+            final var it = loader.load();
+
+            var count = 0;
+            while (it.hasNext()) {
+                VertexInterleaverTest.assertInterleaved(expected.get(count), it.next(), format);
+                count++;
+            }
+            assertEquals(expected.size(), count);
+        }
+    }
+
+    private static int[][] gridFaces(final int size) {
+        final var faces = new int[2 * (size - 1) * (size - 1)][];
+        var pos = 0;
+        for (var i = 0; i < size - 1; i++) {
+            for (var j = 0; j < size - 1; j++) {
+                final var v = i * size + j;
+                faces[pos++] = new int[]{v, v + 1, v + size + 1};
+                faces[pos++] = new int[]{v, v + size + 1, v + size};
+            }
+        }
+        return faces;
+    }
+
+    private static void writeGrid(final File asciiF, final File binaryF, final int size, final int[][] faces)
+            throws IOException {
+        final var header = "ply\nformat %s 1.0\nelement vertex " + size * size
+                + "\nproperty float x\nproperty float y\nproperty float z\nelement face " + faces.length
+                + "\nproperty list uchar int vertex_indices\nend_header\n";
+
+        final var ascii = new StringBuilder(String.format(header, "ascii"));
+        final var binaryHeader = String.format(header, "binary_little_endian").getBytes(StandardCharsets.US_ASCII);
+        var faceBytes = 0;
+        for (final var face : faces) {
+            faceBytes += 1 + 4 * face.length;
+        }
+        final var binary = ByteBuffer.allocate(binaryHeader.length + 12 * size * size + faceBytes)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        binary.put(binaryHeader);
+
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < size; j++) {
+                final var z = (float) ((i * 7 + j * 3) % 5);
+                ascii.append(j).append(' ').append(i).append(' ').append(z).append('\n');
+                binary.putFloat(j).putFloat(i).putFloat(z);
+            }
+        }
+        for (final var face : faces) {
+            ascii.append(face.length);
+            binary.put((byte) face.length);
+            for (final var index : face) {
+                ascii.append(' ').append(index);
+                binary.putInt(index);
+            }
+            ascii.append('\n');
+        }
+
+        Files.writeString(asciiF.toPath(), ascii, StandardCharsets.US_ASCII);
+        Files.write(binaryF.toPath(), binary.array());
+    }
+
+    private static List<DataChunk> loadChunks(final File f) throws IOException, LockedException, LoaderException,
+            NotReadyException, NotAvailableException {
+        return loadChunks(f, 1);
+    }
+
+    private static List<DataChunk> loadChunks(final File f, final int threads) throws IOException,
+            LockedException, LoaderException, NotReadyException, NotAvailableException {
+        final var result = new ArrayList<DataChunk>();
+        try (final var loader = new LoaderPLY(f, 1000)) {
+            loader.setFaceDecodingThreads(threads);
+            final var it = loader.load();
+            while (it.hasNext()) {
+                result.add(it.next());
+            }
+            assertFalse(loader.isLocked());
+        }
+        return result;
+    }
+
+    private static void checkSameChunks(final List<DataChunk> expected, final List<DataChunk> result) {
+        assertEquals(expected.size(), result.size());
+        for (var i = 0; i < expected.size(); i++) {
+            final var chunk1 = expected.get(i);
+            final var chunk2 = result.get(i);
+            assertArrayEquals(chunk1.getVerticesCoordinatesData(), chunk2.getVerticesCoordinatesData(), 0.0f);
+            assertArrayEquals(chunk1.getIndicesData(), chunk2.getIndicesData());
+            assertEquals(chunk1.getMinX(), chunk2.getMinX(), 0.0f);
+            assertEquals(chunk1.getMaxZ(), chunk2.getMaxZ(), 0.0f);
+        }
+    }
+
+    private static float[] triangleSoup(final List<DataChunk> chunks) {
+        // coordinates, normals and colors of each triangle corner in order
+        var length = 0;
+        for (final var chunk : chunks) {
+            length += chunk.getIndexCount() * (6 + chunk.getColorComponents());
+        }
+
+        final var soup = new float[length];
+        var pos = 0;
+        for (final var chunk : chunks) {
+            final var coords = chunk.getVerticesCoordinatesData();
+            final var normals = chunk.getNormalsData();
+            final var colors = chunk.getColorData();
+            final var components = chunk.getColorComponents();
+            final var indices = chunk.getIndicesData();
+            for (var i = 0; i < chunk.getIndexCount(); i++) {
+                final var index = indices[i];
+                for (var j = 0; j < 3; j++) {
+                    soup[pos++] = coords[3 * index + j];
+                    soup[pos++] = normals != null ? normals[3 * index + j] : Float.NaN;
+                }
+                for (var j = 0; j < components; j++) {
+                    soup[pos++] = colors != null ? colors[components * index + j] : Float.NaN;
+                }
+            }
+        }
+        return soup;
+    }
+
+    private static void checkExtraVertexProperties(final DataChunk chunk) {
+        assertEquals(12, chunk.getVerticesCoordinatesData().length);
+        assertArrayEquals(new int[]{0, 1, 2, 0, 2, 3}, chunk.getIndicesData());
+
+        assertEquals(Set.of("confidence", "intensity"), chunk.getVertexPropertyNames());
+        assertArrayEquals(new float[]{0.5f, 0.25f, 0.125f, 1.0f}, chunk.getFloatVertexPropertyData("confidence"),
+                0.0f);
+        assertArrayEquals(new int[]{10, 20, 30, 255}, chunk.getIntVertexPropertyData("intensity"));
+        assertFalse(chunk.isVertexPropertyDataAvailable("label"));
+        assertFalse(chunk.isVertexPropertyDataAvailable("unknown"));
+    }
+
     @Override
     public void onLoadStart(Loader loader) {
         if (startCounter != 0) {
@@ -544,6 +1223,12 @@ class LoaderPLYTest implements LoaderListener {
         assertThrows(LockedException.class, () -> loader.setMaxVerticesInChunk(0));
         assertThrows(LockedException.class, () -> loader.setAllowDuplicateVerticesInChunk(false));
         assertThrows(LockedException.class, () -> loader.setMaxStreamPositions(1));
+        assertThrows(LockedException.class, () -> loader.setExtraVertexProperties(null));
+        assertThrows(LockedException.class, () -> loader.setPointCloudMode(true));
+        assertThrows(LockedException.class, () -> loader.setFaceDecodingThreads(1));
+        assertThrows(LockedException.class, () -> loader.setChunkPoolingEnabled(true));
+        assertThrows(LockedException.class, () -> loader.setTrimmedChunkArrays(true));
+        assertThrows(LockedException.class, () -> loader.setInterleavedVertexFormat(null));
         assertThrows(LockedException.class, loader::isValidFile);
         assertThrows(LockedException.class, loader::load);
     }
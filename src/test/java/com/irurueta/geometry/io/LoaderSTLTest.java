@@ -16,9 +16,16 @@
 package com.irurueta.geometry.io;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -429,6 +436,517 @@ class LoaderSTLTest implements LoaderListener {
         }
     }
 
+    @Test
+    void testLoadBinaryMatchesAscii() throws LockedException, NotReadyException, IOException, LoaderException,
+            NotAvailableException {
+        final var fileStlBin = new File("./src/test/java/com/irurueta/geometry/io/booksBinary.stl");
+        final var fileStlAscii = new File("./src/test/java/com/irurueta/geometry/io/booksAscii.stl");
+
+        try (final var binLoader = new LoaderSTL(fileStlBin, 500);
+             final var asciiLoader = new LoaderSTL(fileStlAscii, 500)) {
+            binLoader.setListener(this);
+            resetListener();
+
+            final var binIt = binLoader.load();
+            final var asciiIt = asciiLoader.load();
+            assertEquals(3600L, binLoader.getNumberOfVertices().longValue());
+
+            var chunks = 0;
+            while (binIt.hasNext()) {
+                assertTrue(asciiIt.hasNext());
+                final var binChunk = binIt.next();
+                final var asciiChunk = asciiIt.next();
+
+                // each chunk contains as many triangles as fit in it
+                assertTrue(binChunk.getVerticesCoordinatesData().length <= 3 * 500);
+                assertArrayEquals(asciiChunk.getVerticesCoordinatesData(), binChunk.getVerticesCoordinatesData(),
+                        (float) ERROR);
+                assertArrayEquals(asciiChunk.getNormalsData(), binChunk.getNormalsData(), (float) ERROR);
+                assertArrayEquals(asciiChunk.getIndicesData(), binChunk.getIndicesData());
+                assertEquals(asciiChunk.getMinX(), binChunk.getMinX(), ERROR);
+                assertEquals(asciiChunk.getMinY(), binChunk.getMinY(), ERROR);
+                assertEquals(asciiChunk.getMinZ(), binChunk.getMinZ(), ERROR);
+                assertEquals(asciiChunk.getMaxX(), binChunk.getMaxX(), ERROR);
+                assertEquals(asciiChunk.getMaxY(), binChunk.getMaxY(), ERROR);
+                assertEquals(asciiChunk.getMaxZ(), binChunk.getMaxZ(), ERROR);
+                chunks++;
+            }
+            assertFalse(asciiIt.hasNext());
+            assertEquals(8, chunks);
+
+            assertTrue(isEndValid());
+            assertTrue(isProgressValid());
+            assertFalse(binLoader.isLocked());
+        }
+    }
+
+    @Test
+    void testLoadTruncatedBinary() throws IOException, LockedException, NotReadyException, LoaderException {
+        final var f = new File("./src/test/java/truncated.stl");
+        final var bytes = Files.readAllBytes(
+                new File("./src/test/java/com/irurueta/geometry/io/booksBinary.stl").toPath());
+        Files.write(f.toPath(), Arrays.copyOf(bytes, bytes.length - 30));
+
+        try (final var loader = new LoaderSTL(f)) {
+            final var it = loader.load();
+            assertThrows(LoaderException.class, it::next);
+        }
+
+        assertTrue(f.delete());
+    }
+
+    @Test
+    void testLoadAsciiMixedCase() throws IOException, LockedException, NotReadyException, LoaderException,
+            NotAvailableException {
+        final var f = new File("./src/test/java/mixedCase.stl");
+        Files.writeString(f.toPath(), "solid test\n"
+                + "FACET Normal 0 0 1.0E0\n"
+                + "\tOuter LOOP\r\n"
+                + "\t\tVertex 0.0 0.0 0.0\n"
+                + "\t\tvertex 1e0 -0 +0\n"
+                + "\t\tVERTEX 1.5 2.5e-1 0\n"
+                + "\tEndLoop\n"
+                + "EndFacet\n"
+                + "EndSolid test\n");
+
+        try (final var loader = new LoaderSTL(f)) {
+            final var it = loader.load();
+            final var chunk = it.next();
+            assertFalse(it.hasNext());
+            assertEquals(" test", loader.getSolidName());
+
+            assertArrayEquals(new float[]{0.0f, 0.0f, 0.0f, 1.0f, 0.0f, 0.0f, 1.5f, 0.25f, 0.0f},
+                    chunk.getVerticesCoordinatesData(), 0.0f);
+            assertArrayEquals(new float[]{0.0f, 0.0f, 1.0f, 0.0f, 0.0f, 1.0f, 0.0f, 0.0f, 1.0f},
+                    chunk.getNormalsData(), 0.0f);
+            assertArrayEquals(new int[]{0, 1, 2}, chunk.getIndicesData());
+        } finally {
+            assertTrue(f.delete());
+        }
+    }
+
+    @Test
+    void testLoadInvalidAscii() throws IOException, LockedException, NotReadyException, LoaderException {
+        final var f = new File("./src/test/java/invalid.stl");
+        Files.writeString(f.toPath(), "solid test\n"
+                + "facet normal 0 0 1\n"
+                + "outer loop\n"
+                + "vertex 0 0 0\n"
+                + "vertex 1 0 0\n"
+                + "vertex 1 x 0\n");
+
+        try (final var loader = new LoaderSTL(f)) {
+            final var it = loader.load();
+            final var ex = assertThrows(LoaderException.class, it::next);
+            assertEquals("Invalid number at byte offset 76", ex.getMessage());
+        } finally {
+            assertTrue(f.delete());
+        }
+    }
+
+    @Test
+    void testGetSetVertexWelding() throws LockedException {
+        final var loader = new LoaderSTL();
+
+        // check default values
+        assertEquals(LoaderSTL.DEFAULT_VERTEX_WELDING, loader.isVertexWelding());
+        assertEquals(LoaderSTL.DEFAULT_WELDING_EPSILON, loader.getWeldingEpsilon(), 0.0f);
+        assertEquals(LoaderSTL.DEFAULT_AVERAGE_WELDED_NORMALS, loader.isAverageWeldedNormals());
+
+        // set new values
+        loader.setVertexWelding(true);
+        loader.setWeldingEpsilon(1e-3f);
+        loader.setAverageWeldedNormals(true);
+
+        // check
+        assertTrue(loader.isVertexWelding());
+        assertEquals(1e-3f, loader.getWeldingEpsilon(), 0.0f);
+        assertTrue(loader.isAverageWeldedNormals());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> loader.setWeldingEpsilon(-1.0f));
+        assertThrows(IllegalArgumentException.class, () -> loader.setWeldingEpsilon(Float.NaN));
+        assertThrows(IllegalArgumentException.class,
+                () -> loader.setWeldingEpsilon(Float.POSITIVE_INFINITY));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"booksBinary.stl,false", "booksBinary.stl,true", "booksAscii.stl,false", "booksAscii.stl,true"})
+    void testLoadWelded(final String fileName, final boolean averageNormals) throws LockedException,
+            NotReadyException, IOException, LoaderException, NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/" + fileName);
+
+        try (final var loader = new LoaderSTL(f, 500);
+             final var weldingLoader = new LoaderSTL(f, 500)) {
+            weldingLoader.setVertexWelding(true);
+            weldingLoader.setAverageWeldedNormals(averageNormals);
+            weldingLoader.setListener(this);
+            resetListener();
+
+            final var it = loader.load();
+            final var weldedIt = weldingLoader.load();
+            assertTrue(weldingLoader.isLocked());
+            assertThrows(LockedException.class, () -> weldingLoader.setVertexWelding(false));
+            assertThrows(LockedException.class, () -> weldingLoader.setWeldingEpsilon(1.0f));
+            assertThrows(LockedException.class, () -> weldingLoader.setAverageWeldedNormals(false));
+
+            var vertices = 0;
+            var weldedVertices = 0;
+            while (it.hasNext()) {
+                assertTrue(weldedIt.hasNext());
+                final var chunk = it.next();
+                final var weldedChunk = weldedIt.next();
+
+                final var coords = chunk.getVerticesCoordinatesData();
+                final var normals = chunk.getNormalsData();
+                final var indices = chunk.getIndicesData();
+                final var weldedCoords = weldedChunk.getVerticesCoordinatesData();
+                final var weldedNormals = weldedChunk.getNormalsData();
+                final var weldedIndices = weldedChunk.getIndicesData();
+
+                // same triangles are defined
+                assertEquals(indices.length, weldedIndices.length);
+                for (var i = 0; i < indices.length; i++) {
+                    for (var j = 0; j < 3; j++) {
+                        assertEquals(coords[3 * indices[i] + j], weldedCoords[3 * weldedIndices[i] + j], 0.0f);
+                        if (!averageNormals) {
+                            assertEquals(normals[3 * indices[i] + j], weldedNormals[3 * weldedIndices[i] + j],
+                                    0.0f);
+                        }
+                    }
+                }
+
+                // welded vertices are unique
+                final var uniqueVertices = weldedCoords.length / 3;
+                assertEquals(weldedCoords.length, weldedNormals.length);
+                if (averageNormals) {
+                    final var positions = new HashSet<String>();
+                    for (var v = 0; v < uniqueVertices; v++) {
+                        assertTrue(positions.add(weldedCoords[3 * v] + "," + weldedCoords[3 * v + 1] + ","
+                                + weldedCoords[3 * v + 2]));
+                        final var norm = Math.sqrt(weldedNormals[3 * v] * weldedNormals[3 * v]
+                                + weldedNormals[3 * v + 1] * weldedNormals[3 * v + 1]
+                                + weldedNormals[3 * v + 2] * weldedNormals[3 * v + 2]);
+                        assertTrue(Math.abs(norm - 1.0) < ERROR || norm == 0.0);
+                    }
+                }
+
+                assertEquals(chunk.getMinX(), weldedChunk.getMinX(), 0.0f);
+                assertEquals(chunk.getMinY(), weldedChunk.getMinY(), 0.0f);
+                assertEquals(chunk.getMinZ(), weldedChunk.getMinZ(), 0.0f);
+                assertEquals(chunk.getMaxX(), weldedChunk.getMaxX(), 0.0f);
+                assertEquals(chunk.getMaxY(), weldedChunk.getMaxY(), 0.0f);
+                assertEquals(chunk.getMaxZ(), weldedChunk.getMaxZ(), 0.0f);
+
+                vertices += coords.length / 3;
+                weldedVertices += uniqueVertices;
+            }
+            assertFalse(weldedIt.hasNext());
+
+            assertEquals(3600, vertices);
+            assertTrue(weldedVertices < vertices);
+
+            assertTrue(isEndValid());
+            assertFalse(weldingLoader.isLocked());
+        }
+    }
+
+    @Test
+    void testGetSetDecodingThreads() throws LockedException {
+        final var loader = new LoaderSTL();
+
+        // check default values
+        assertEquals(LoaderSTL.DEFAULT_DECODING_THREADS, loader.getDecodingThreads());
+        assertEquals(LoaderSTL.DEFAULT_ORDERED_CHUNKS, loader.isOrderedChunks());
+
+        // set new values
+        loader.setDecodingThreads(4);
+        loader.setOrderedChunks(false);
+
+        // check
+        assertEquals(4, loader.getDecodingThreads());
+        assertFalse(loader.isOrderedChunks());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> loader.setDecodingThreads(0));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"true,false", "false,false", "true,true", "false,true"})
+    void testLoadBinaryWithMultipleThreads(final boolean ordered, final boolean welding) throws LockedException,
+            NotReadyException, IOException, LoaderException, NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/booksBinary.stl");
+
+        final var expected = new ArrayList<DataChunk>();
+        try (final var loader = new LoaderSTL(f, 31)) {
+            loader.setVertexWelding(welding);
+            final var it = loader.load();
+            while (it.hasNext()) {
+                expected.add(it.next());
+            }
+        }
+        // 10 triangles per chunk
+        assertEquals(120, expected.size());
+
+        try (final var loader = new LoaderSTL(f, this, 31)) {
+            loader.setVertexWelding(welding);
+            loader.setDecodingThreads(4);
+            loader.setOrderedChunks(ordered);
+            resetListener();
+
+            final var it = loader.load();
+            assertTrue(loader.isLocked());
+            assertThrows(LockedException.class, () -> loader.setDecodingThreads(1));
+            assertThrows(LockedException.class, () -> loader.setOrderedChunks(true));
+
+            final var remaining = new ArrayList<>(expected);
+            var count = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                final DataChunk match;
+                if (ordered) {
+                    match = remaining.remove(0);
+                    assertSameChunk(match, chunk);
+                } else {
+                    match = remaining.stream().filter(c -> Arrays.equals(c.getVerticesCoordinatesData(),
+                            chunk.getVerticesCoordinatesData())).findFirst().orElse(null);
+                    assertNotNull(match);
+                    assertSameChunk(match, chunk);
+                    remaining.remove(match);
+                }
+                count++;
+            }
+            assertEquals(120, count);
+            assertTrue(remaining.isEmpty());
+
+            assertThrows(NotAvailableException.class, it::next);
+            assertTrue(isEndValid());
+            assertTrue(isProgressValid());
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testIsSetChunkPoolingEnabled() throws LockedException {
+        final var loader = new LoaderSTL();
+
+        // check default value
+        assertEquals(LoaderSTL.DEFAULT_CHUNK_POOLING_ENABLED, loader.isChunkPoolingEnabled());
+
+        // set new value
+        loader.setChunkPoolingEnabled(true);
+
+        // check
+        assertTrue(loader.isChunkPoolingEnabled());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"booksAscii.stl,1", "booksBinary.stl,1", "booksBinary.stl,4"})
+    void testLoadPooled(final String fileName, final int threads) throws LockedException, NotReadyException,
+            IOException, LoaderException, NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/" + fileName);
+
+        final var expected = new ArrayList<DataChunk>();
+        try (final var loader = new LoaderSTL(f, 31)) {
+            final var it = loader.load();
+            while (it.hasNext()) {
+                expected.add(it.next());
+            }
+        }
+
+        try (final var loader = new LoaderSTL(f, this, 31)) {
+            loader.setChunkPoolingEnabled(true);
+            loader.setDecodingThreads(threads);
+            resetListener();
+
+            final var it = loader.load();
+            assertThrows(LockedException.class, () -> loader.setChunkPoolingEnabled(false));
+
+            DataChunk previous = null;
+            var count = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                assertTrue(chunk.isPooled());
+                DataChunkAssertions.assertSameValidValues(expected.get(count), chunk);
+                if (previous != null && threads == 1) {
+                    // released chunk is reused
+                    assertSame(previous, chunk);
+                }
+                chunk.release();
+                assertFalse(chunk.isPooled());
+                previous = chunk;
+                count++;
+            }
+            assertEquals(expected.size(), count);
+
+            assertTrue(isEndValid());
+            assertTrue(isLockedValid());
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testGetSetInterleavedVertexFormat() throws LockedException {
+        final var loader = new LoaderSTL();
+
+        // check default value
+        assertNull(loader.getInterleavedVertexFormat());
+
+        // set new value
+        final var format = new InterleavedVertexFormat();
+        loader.setInterleavedVertexFormat(format);
+
+        // check
+        assertSame(format, loader.getInterleavedVertexFormat());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"booksAscii.stl,1,false,false", "booksAscii.stl,1,true,false", "booksBinary.stl,1,false,false",
+            "booksBinary.stl,1,true,false", "booksBinary.stl,4,true,false", "booksAscii.stl,1,false,true",
+            "booksBinary.stl,4,false,true"})
+    void testLoadInterleaved(final String fileName, final int threads, final boolean pooled,
+                             final boolean welded) throws LockedException, NotReadyException, IOException,
+            LoaderException, NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/" + fileName);
+
+        final var expected = new ArrayList<DataChunk>();
+        try (final var loader = new LoaderSTL(f, 31)) {
+            loader.setVertexWelding(welded);
+            final var it = loader.load();
+            while (it.hasNext()) {
+                expected.add(it.next());
+            }
+        }
+
+        final var format = new InterleavedVertexFormat();
+        try (final var loader = new LoaderSTL(f, this, 31)) {
+            loader.setVertexWelding(welded);
+            loader.setChunkPoolingEnabled(pooled);
+            loader.setDecodingThreads(threads);
+            loader.setInterleavedVertexFormat(format);
+            resetListener();
+
+            final var it = loader.load();
+            assertThrows(LockedException.class, () -> loader.setInterleavedVertexFormat(null));
+
+            ByteBuffer previous = null;
+            var count = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                assertEquals(pooled, chunk.isPooled());
+                VertexInterleaverTest.assertInterleaved(expected.get(count), chunk, format);
+                if (chunk.getVertexCount() > 0) {
+                    // positions and normals
+                    assertEquals(24, chunk.getInterleavedVertexLayout().getStride());
+                }
+                if (previous != null && pooled && threads == 1) {
+                    // buffer of released chunk is reused
+                    assertSame(previous, chunk.getInterleavedVertexData());
+                }
+                previous = chunk.getInterleavedVertexData();
+                chunk.release();
+                count++;
+            }
+            assertEquals(expected.size(), count);
+
+            assertTrue(isEndValid());
+            assertTrue(isLockedValid());
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testLoadPooledParallelProgress() throws LockedException, NotReadyException, IOException,
+            LoaderException, NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/booksBinary.stl");
+
+        // last chunk contains fewer triangles than the reused arrays can hold
+        try (final var loader = new LoaderSTL(f, this, 24)) {
+            loader.setChunkPoolingEnabled(true);
+            loader.setDecodingThreads(4);
+            resetListener();
+
+            final var it = loader.load();
+            var triangles = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                triangles += chunk.getIndexCount() / 3;
+                chunk.release();
+            }
+
+            assertEquals(1200, triangles);
+            assertTrue(isProgressValid());
+            assertEquals(1.0f, previousProgress, 0.0f);
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testIsSetTrimmedChunkArrays() throws LockedException {
+        final var loader = new LoaderSTL();
+
+        // check default value
+        assertEquals(LoaderSTL.DEFAULT_TRIMMED_CHUNK_ARRAYS, loader.isTrimmedChunkArrays());
+
+        // set new value
+        loader.setTrimmedChunkArrays(false);
+
+        // check
+        assertFalse(loader.isTrimmedChunkArrays());
+    }
+
+    @Test
+    void testLoadUntrimmed() throws LockedException, NotReadyException, IOException, LoaderException,
+            NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/booksAscii.stl");
+
+        final var expected = new ArrayList<DataChunk>();
+        try (final var loader = new LoaderSTL(f, 31)) {
+            final var it = loader.load();
+            while (it.hasNext()) {
+                expected.add(it.next());
+            }
+        }
+
+        try (final var loader = new LoaderSTL(f, this, 31)) {
+            loader.setTrimmedChunkArrays(false);
+            resetListener();
+
+            final var it = loader.load();
+            assertThrows(LockedException.class, () -> loader.setTrimmedChunkArrays(true));
+
+            var count = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                assertFalse(chunk.isPooled());
+                // arrays keep the capacity of a whole chunk
+                assertEquals(31, chunk.getVertexCapacity());
+                DataChunkAssertions.assertSameValidValues(expected.get(count), chunk);
+                count++;
+            }
+            assertEquals(expected.size(), count);
+
+            assertTrue(isEndValid());
+            assertTrue(isLockedValid());
+            assertFalse(loader.isLocked());
+        }
+    }
+
+    @Test
+    void testCloseWhileDecodingWithMultipleThreads() throws LockedException, NotReadyException, IOException,
+            LoaderException, NotAvailableException {
+        final var f = new File("./src/test/java/com/irurueta/geometry/io/booksBinary.stl");
+
+        final var loader = new LoaderSTL(f, 31);
+        loader.setDecodingThreads(2);
+        final var it = loader.load();
+        assertNotNull(it.next());
+        assertTrue(it.hasNext());
+
+        // abandon iteration
+        assertDoesNotThrow(loader::close);
+    }
+
     @Override
     public void onLoadStart(final Loader loader) {
         if (startCounter != 0) {
@@ -493,6 +1011,33 @@ class LoaderSTLTest implements LoaderListener {
         } catch (final Throwable e) {
             lockedValid = false;
         }
+
+        try {
+            loader.setChunkPoolingEnabled(true);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+
+        try {
+            loader.setTrimmedChunkArrays(true);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+
+        try {
+            loader.setInterleavedVertexFormat(null);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
     }
 
     private void resetListener() {
@@ -501,6 +1046,18 @@ class LoaderSTLTest implements LoaderListener {
         previousProgress = 0.0f;
     }
 
+    private static void assertSameChunk(final DataChunk expected, final DataChunk chunk) {
+        assertArrayEquals(expected.getVerticesCoordinatesData(), chunk.getVerticesCoordinatesData(), 0.0f);
+        assertArrayEquals(expected.getNormalsData(), chunk.getNormalsData(), 0.0f);
+        assertArrayEquals(expected.getIndicesData(), chunk.getIndicesData());
+        assertEquals(expected.getMinX(), chunk.getMinX(), 0.0f);
+        assertEquals(expected.getMinY(), chunk.getMinY(), 0.0f);
+        assertEquals(expected.getMinZ(), chunk.getMinZ(), 0.0f);
+        assertEquals(expected.getMaxX(), chunk.getMaxX(), 0.0f);
+        assertEquals(expected.getMaxY(), chunk.getMaxY(), 0.0f);
+        assertEquals(expected.getMaxZ(), chunk.getMaxZ(), 0.0f);
+    }
+
     private boolean isStartValid() {
         return startValid;
     }
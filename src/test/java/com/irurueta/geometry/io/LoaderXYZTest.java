@@ -0,0 +1,375 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoaderXYZTest implements LoaderListener {
+
+    private boolean startValid = true;
+    private boolean endValid = true;
+    private boolean progressValid = true;
+
+    private int startCounter = 0;
+    private int endCounter = 0;
+    private float previousProgress = 0.0f;
+
+    @Test
+    void testConstructors() throws IOException {
+        // test constants are equal to LoaderPLY
+        assertEquals(LoaderXYZ.DEFAULT_MAX_VERTICES_IN_CHUNK, LoaderPLY.DEFAULT_MAX_VERTICES_IN_CHUNK);
+        assertEquals(LoaderXYZ.MIN_MAX_VERTICES_IN_CHUNK, LoaderPLY.MIN_MAX_VERTICES_IN_CHUNK);
+        assertEquals(LoaderXYZ.PROGRESS_DELTA, LoaderPLY.PROGRESS_DELTA, 0.0);
+
+        // test empty constructor
+        var loader = new LoaderXYZ();
+        assertEquals(LoaderXYZ.DEFAULT_MAX_VERTICES_IN_CHUNK, loader.getMaxVerticesInChunk());
+        assertFalse(loader.isReady());
+        assertEquals(MeshFormat.MESH_FORMAT_XYZ, loader.getMeshFormat());
+        assertFalse(loader.isLocked());
+        assertNull(loader.getListener());
+        assertThrows(IOException.class, loader::isValidFile);
+        assertThrows(NotReadyException.class, loader::load);
+
+        // test constructor with maxVerticesInChunk
+        final var maxVerticesInChunk = 21423;
+        loader = new LoaderXYZ(maxVerticesInChunk);
+        assertEquals(maxVerticesInChunk, loader.getMaxVerticesInChunk());
+        assertFalse(loader.isReady());
+
+        // Force IllegalArgumentException
+        //noinspection resource
+        assertThrows(IllegalArgumentException.class, () -> new LoaderXYZ(0));
+
+        // test constructor with listener
+        loader = new LoaderXYZ(this);
+        assertSame(this, loader.getListener());
+        assertEquals(LoaderXYZ.DEFAULT_MAX_VERTICES_IN_CHUNK, loader.getMaxVerticesInChunk());
+
+        loader = new LoaderXYZ(this, maxVerticesInChunk);
+        assertSame(this, loader.getListener());
+        assertEquals(maxVerticesInChunk, loader.getMaxVerticesInChunk());
+
+        // Force IllegalArgumentException
+        //noinspection resource
+        assertThrows(IllegalArgumentException.class, () -> new LoaderXYZ(this, 0));
+
+        // test constructors with file
+        final var f = new File("./src/test/java/constructors.xyz");
+        Files.writeString(f.toPath(), "0 0 0\n", StandardCharsets.US_ASCII);
+
+        loader = new LoaderXYZ(f);
+        assertTrue(loader.isReady());
+        assertEquals(LoaderXYZ.DEFAULT_MAX_VERTICES_IN_CHUNK, loader.getMaxVerticesInChunk());
+        loader.close();
+
+        loader = new LoaderXYZ(f, maxVerticesInChunk);
+        assertTrue(loader.isReady());
+        assertEquals(maxVerticesInChunk, loader.getMaxVerticesInChunk());
+        loader.close();
+
+        loader = new LoaderXYZ(f, this);
+        assertTrue(loader.isReady());
+        assertSame(this, loader.getListener());
+        loader.close();
+
+        loader = new LoaderXYZ(f, this, maxVerticesInChunk);
+        assertTrue(loader.isReady());
+        assertSame(this, loader.getListener());
+        assertEquals(maxVerticesInChunk, loader.getMaxVerticesInChunk());
+        loader.close();
+
+        //noinspection resource
+        assertThrows(IllegalArgumentException.class, () -> new LoaderXYZ(f, 0));
+
+        // Force IOException
+        final var badF = new File("./non-existing");
+        assertFalse(badF.exists());
+        //noinspection resource
+        assertThrows(IOException.class, () -> new LoaderXYZ(badF));
+
+        assertTrue(f.delete());
+    }
+
+    @Test
+    void testGetSetMaxVerticesInChunk() throws LockedException, IOException {
+        try (final var loader = new LoaderXYZ()) {
+            final var maxVerticesInChunk = 521351;
+
+            assertEquals(LoaderXYZ.DEFAULT_MAX_VERTICES_IN_CHUNK, loader.getMaxVerticesInChunk());
+
+            // set new value
+            loader.setMaxVerticesInChunk(maxVerticesInChunk);
+            // check correctness
+            assertEquals(maxVerticesInChunk, loader.getMaxVerticesInChunk());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> loader.setMaxVerticesInChunk(0));
+        }
+    }
+
+    @Test
+    void testGetSetSixValuesLayout() throws LockedException, IOException {
+        try (final var loader = new LoaderXYZ()) {
+
+            assertEquals(LoaderXYZ.DEFAULT_SIX_VALUES_LAYOUT, loader.getSixValuesLayout());
+
+            // set new value
+            loader.setSixValuesLayout(XYZSixValuesLayout.NORMALS);
+            // check correctness
+            assertEquals(XYZSixValuesLayout.NORMALS, loader.getSixValuesLayout());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> loader.setSixValuesLayout(null));
+        }
+    }
+
+    @Test
+    void testIsValidFile() throws LockedException, IOException {
+        final var f = new File("./src/test/java/valid.pts");
+        Files.writeString(f.toPath(), "# comment\n2\n0 0 0\n1 1 1\n", StandardCharsets.US_ASCII);
+        try (final var loader = new LoaderXYZ(f)) {
+            assertTrue(loader.isValidFile());
+            assertFalse(loader.isLocked());
+        }
+        assertTrue(f.delete());
+
+        final var f2 = new File("./src/test/java/invalid.xyz");
+        Files.writeString(f2.toPath(), "solid cube\nfacet normal 0 0 1\n", StandardCharsets.US_ASCII);
+        try (final var loader = new LoaderXYZ(f2)) {
+            assertFalse(loader.isValidFile());
+        }
+        assertTrue(f2.delete());
+    }
+
+    @Test
+    void testLoadWithIntensityAndColors() throws IOException, LockedException, NotReadyException,
+            LoaderException, NotAvailableException {
+        final var f = new File("./src/test/java/intensityColors.pts");
+        Files.writeString(f.toPath(), """
+                3
+                0.0 0.0 0.0 0.5 255 0 0
+                1.0 2.0 3.0 0.25 0 255 0
+
+                -1.0 -2.0 -3.0 0.125 0 0 255
+                """, StandardCharsets.US_ASCII);
+
+        try (final var loader = new LoaderXYZ(f, this, 2)) {
+            resetListener();
+            final var it = loader.load();
+
+            assertTrue(it.hasNext());
+            final var chunk1 = it.next();
+            assertTrue(it.hasNext());
+            final var chunk2 = it.next();
+            assertFalse(it.hasNext());
+            assertThrows(NotAvailableException.class, it::next);
+
+            assertArrayEquals(new float[]{0, 0, 0, 1, 2, 3}, chunk1.getVerticesCoordinatesData(), 0.0f);
+            assertArrayEquals(new short[]{255, 0, 0, 0, 255, 0}, chunk1.getColorData());
+            assertArrayEquals(new float[]{0.5f, 0.25f},
+                    chunk1.getFloatVertexPropertyData(LoaderXYZ.INTENSITY_PROPERTY), 0.0f);
+            assertNull(chunk1.getIndicesData());
+            assertNull(chunk1.getNormalsData());
+            assertEquals(0.0f, chunk1.getMinX(), 0.0f);
+            assertEquals(3.0f, chunk1.getMaxZ(), 0.0f);
+
+            assertArrayEquals(new float[]{-1, -2, -3}, chunk2.getVerticesCoordinatesData(), 0.0f);
+            assertArrayEquals(new short[]{0, 0, 255}, chunk2.getColorData());
+            assertArrayEquals(new float[]{0.125f},
+                    chunk2.getFloatVertexPropertyData(LoaderXYZ.INTENSITY_PROPERTY), 0.0f);
+
+            assertTrue(startValid);
+            assertTrue(endValid);
+            assertTrue(progressValid);
+            assertEquals(1, startCounter);
+            assertEquals(1, endCounter);
+            assertFalse(loader.isLocked());
+        }
+
+        assertTrue(f.delete());
+    }
+
+    @Test
+    void testLoadWithNormals() throws IOException, LockedException, NotReadyException, LoaderException,
+            NotAvailableException {
+        final var f = new File("./src/test/java/normals.xyz");
+        Files.writeString(f.toPath(), """
+                // x y z nx ny nz
+                0,0,0,0.0,0.0,1.0
+                1,1,1,0.0,1.0,0.0
+                """, StandardCharsets.US_ASCII);
+
+        try (final var loader = new LoaderXYZ(f)) {
+            final var it = loader.load();
+            final var chunk = it.next();
+            assertFalse(it.hasNext());
+
+            assertArrayEquals(new float[]{0, 0, 0, 1, 1, 1}, chunk.getVerticesCoordinatesData(), 0.0f);
+            assertArrayEquals(new float[]{0, 0, 1, 0, 1, 0}, chunk.getNormalsData(), 0.0f);
+            assertNull(chunk.getColorData());
+            assertFalse(chunk.isVertexPropertyDataAvailable(LoaderXYZ.INTENSITY_PROPERTY));
+        }
+
+        assertTrue(f.delete());
+    }
+
+    @Test
+    void testLoadWithIntegerNormals() throws IOException, LockedException, NotReadyException, LoaderException,
+            NotAvailableException {
+        final var f = new File("./src/test/java/integerNormals.xyz");
+        Files.writeString(f.toPath(), """
+                0 0 0 0 0 1
+                1 0 0 0 1 0
+                0 1 0 1 0 0
+                """, StandardCharsets.US_ASCII);
+
+        try (final var loader = new LoaderXYZ(f)) {
+            final var it = loader.load();
+            final var chunk = it.next();
+            assertFalse(it.hasNext());
+
+            assertArrayEquals(new float[]{0, 0, 0, 1, 0, 0, 0, 1, 0}, chunk.getVerticesCoordinatesData(), 0.0f);
+            assertArrayEquals(new float[]{0, 0, 1, 0, 1, 0, 1, 0, 0}, chunk.getNormalsData(), 0.0f);
+            assertNull(chunk.getColorData());
+        }
+
+        // when layout is provided, it is not detected
+        try (final var loader = new LoaderXYZ(f)) {
+            loader.setSixValuesLayout(XYZSixValuesLayout.COLORS);
+            final var chunk = loader.load().next();
+
+            assertArrayEquals(new short[]{0, 0, 1, 0, 1, 0, 1, 0, 0}, chunk.getColorData());
+            assertNull(chunk.getNormalsData());
+        }
+
+        assertTrue(f.delete());
+    }
+
+    @Test
+    void testLoadDetectsLayoutFromSampledPoints() throws IOException, LockedException, NotReadyException,
+            LoaderException, NotAvailableException {
+        // first points could be either unit normals or colors
+        final var f = new File("./src/test/java/sampledColors.xyz");
+        Files.writeString(f.toPath(), """
+                0 0 0 0 0 1
+                # comment
+                1 1 1 1 1 0
+
+                2 2 2 255 128 0
+                3 3 3 0 0 255
+                """, StandardCharsets.US_ASCII);
+
+        try (final var loader = new LoaderXYZ(f, 3)) {
+            final var it = loader.load();
+            final var chunk1 = it.next();
+            final var chunk2 = it.next();
+            assertFalse(it.hasNext());
+
+            // sampled points are still loaded in order
+            assertArrayEquals(new float[]{0, 0, 0, 1, 1, 1, 2, 2, 2}, chunk1.getVerticesCoordinatesData(), 0.0f);
+            assertArrayEquals(new short[]{0, 0, 1, 1, 1, 0, 255, 128, 0}, chunk1.getColorData());
+            assertArrayEquals(new float[]{3, 3, 3}, chunk2.getVerticesCoordinatesData(), 0.0f);
+            assertArrayEquals(new short[]{0, 0, 255}, chunk2.getColorData());
+            assertNull(chunk1.getNormalsData());
+        }
+
+        // a single non-integer value among sampled points indicates normals
+        final var f2 = new File("./src/test/java/sampledNormals.xyz");
+        Files.writeString(f2.toPath(), """
+                0 0 0 0 0 1
+                1 1 1 0 1 0
+                2 2 2 0.6 0.8 0
+                """, StandardCharsets.US_ASCII);
+
+        try (final var loader = new LoaderXYZ(f2)) {
+            final var chunk = loader.load().next();
+
+            assertArrayEquals(new float[]{0, 0, 1, 0, 1, 0, 0.6f, 0.8f, 0}, chunk.getNormalsData(), 0.0f);
+            assertNull(chunk.getColorData());
+        }
+
+        assertTrue(f.delete());
+        assertTrue(f2.delete());
+    }
+
+    @Test
+    void testLoadEmptyFile() throws IOException {
+        final var f = new File("./src/test/java/empty.xyz");
+        Files.writeString(f.toPath(), "# no points\n", StandardCharsets.US_ASCII);
+
+        try (final var loader = new LoaderXYZ(f)) {
+            assertThrows(LoaderException.class, loader::load);
+            assertFalse(loader.isLocked());
+        }
+
+        assertTrue(f.delete());
+    }
+
+    @Override
+    public void onLoadStart(final Loader loader) {
+        if (startCounter != 0) {
+            startValid = false;
+        }
+        startCounter++;
+
+        checkLocked((LoaderXYZ) loader);
+    }
+
+    @Override
+    public void onLoadEnd(final Loader loader) {
+        if (endCounter != 0) {
+            endValid = false;
+        }
+        endCounter++;
+
+        checkLocked((LoaderXYZ) loader);
+    }
+
+    @Override
+    public void onLoadProgressChange(final Loader loader, final float progress) {
+        if ((progress < 0.0) || (progress > 1.0)) {
+            progressValid = false;
+        }
+        if (progress < previousProgress) {
+            progressValid = false;
+        }
+        previousProgress = progress;
+
+        checkLocked((LoaderXYZ) loader);
+    }
+
+    private static void checkLocked(final LoaderXYZ loader) {
+        assertTrue(loader.isLocked());
+        assertThrows(LockedException.class, () -> loader.setMaxVerticesInChunk(1));
+        assertThrows(LockedException.class, () -> loader.setSixValuesLayout(XYZSixValuesLayout.AUTO));
+        assertThrows(LockedException.class, loader::isValidFile);
+        assertThrows(LockedException.class, loader::load);
+    }
+
+    private void resetListener() {
+        startValid = endValid = progressValid = true;
+        startCounter = endCounter = 0;
+        previousProgress = 0.0f;
+    }
+}
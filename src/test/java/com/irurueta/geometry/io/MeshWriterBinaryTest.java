@@ -21,9 +21,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -225,6 +232,119 @@ class MeshWriterBinaryTest implements MeshWriterListener {
         assertTrue(outF.delete());
     }
 
+    @Test
+    void testGetSetVersion() throws IOException, LockedException {
+        final var outF = new File(TMP_FOLDER, "booksBinary.bin");
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+
+        final var loader = new LoaderPLY(inF);
+        final var outStream = new FileOutputStream(outF);
+
+        final var writer = new MeshWriterBinary(loader, outStream);
+
+        // check default value
+        assertEquals(MeshWriterBinary.DEFAULT_VERSION, writer.getVersion());
+        assertEquals(MeshWriterBinary.VERSION, writer.getVersion());
+
+        // set new value
+        writer.setVersion(MeshWriterBinary.VERSION_3);
+
+        // check
+        assertEquals(MeshWriterBinary.VERSION_3, writer.getVersion());
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> writer.setVersion((byte) 1));
+        assertThrows(IllegalArgumentException.class, () -> writer.setVersion((byte) 4));
+
+        outStream.close();
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testIsSetChunkDirectoryEnabled() throws IOException, LockedException {
+        final var outF = new File(TMP_FOLDER, "booksBinary.bin");
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+
+        final var loader = new LoaderPLY(inF);
+        final var outStream = new FileOutputStream(outF);
+
+        final var writer = new MeshWriterBinary(loader, outStream);
+
+        // check default value
+        assertEquals(MeshWriterBinary.DEFAULT_CHUNK_DIRECTORY_ENABLED, writer.isChunkDirectoryEnabled());
+        assertFalse(writer.isChunkDirectoryEnabled());
+
+        // set new value
+        writer.setChunkDirectoryEnabled(true);
+
+        // check
+        assertTrue(writer.isChunkDirectoryEnabled());
+
+        outStream.close();
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testIsSetCompressedAndPositionBits() throws IOException, LockedException {
+        final var outF = new File(TMP_FOLDER, "booksBinary.bin");
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+
+        final var loader = new LoaderPLY(inF);
+        final var outStream = new FileOutputStream(outF);
+
+        final var writer = new MeshWriterBinary(loader, outStream);
+
+        // check default values
+        assertEquals(MeshWriterBinary.DEFAULT_COMPRESSED, writer.isCompressed());
+        assertFalse(writer.isCompressed());
+        assertEquals(MeshWriterBinary.DEFAULT_POSITION_BITS, writer.getPositionBits());
+        assertEquals(16, writer.getPositionBits());
+
+        // set new values
+        writer.setCompressed(true);
+        writer.setPositionBits(12);
+
+        // check
+        assertTrue(writer.isCompressed());
+        assertEquals(12, writer.getPositionBits());
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.setPositionBits(MeshWriterBinary.MIN_POSITION_BITS - 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.setPositionBits(MeshWriterBinary.MAX_POSITION_BITS + 1));
+
+        outStream.close();
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testGetSetMaxPendingChunks() throws IOException, LockedException {
+        final var outF = new File(TMP_FOLDER, "booksBinary.bin");
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+
+        final var loader = new LoaderPLY(inF);
+        final var outStream = new FileOutputStream(outF);
+
+        final var writer = new MeshWriterBinary(loader, outStream);
+
+        // check default value
+        assertEquals(MeshWriterBinary.DEFAULT_MAX_PENDING_CHUNKS, writer.getMaxPendingChunks());
+
+        // set new value
+        writer.setMaxPendingChunks(4);
+
+        // check
+        assertEquals(4, writer.getMaxPendingChunks());
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.setMaxPendingChunks(MeshWriterBinary.MIN_PENDING_CHUNKS - 1));
+
+        outStream.close();
+        assertTrue(outF.delete());
+    }
+
     @ParameterizedTest(name = "{index} - inputFile = {0}, outputFile = {1}")
     @CsvSource({"randomAscii.ply,randomAscii.bin",
             "randomLittle.ply,randomLittle.bin",
@@ -374,6 +494,177 @@ class MeshWriterBinaryTest implements MeshWriterListener {
         assertThrows(NotReadyException.class, writer3::write);
     }
 
+    @Test
+    void testWriteParallel() throws IOException, LockedException, LoaderException, NotReadyException {
+        final var sequentialF = new File(TMP_FOLDER, "pitcherSequential.bin");
+        final var parallelF = new File(TMP_FOLDER, "pitcherParallel.bin");
+        final var inF = new File(INPUT_FOLDER, "pitcher.obj");
+
+        // write sequentially
+        var loader = new LoaderOBJ(inF);
+        var outStream = new FileOutputStream(sequentialF);
+        var writer = new MeshWriterBinary(loader, outStream, this);
+        writer.setVersion(MeshWriterBinary.VERSION_3);
+        writer.setChunkDirectoryEnabled(true);
+        writer.write();
+        outStream.close();
+        resetListener();
+
+        // write in parallel
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            loader = new LoaderOBJ(inF);
+            outStream = new FileOutputStream(parallelF);
+            writer = new MeshWriterBinary(loader, outStream, this);
+            writer.setVersion(MeshWriterBinary.VERSION_3);
+            writer.setChunkDirectoryEnabled(true);
+            writer.setMaxPendingChunks(2);
+            assertThrows(IllegalArgumentException.class, () -> new MeshWriterBinary(null, null)
+                    .writeParallel(null));
+            writer.writeParallel(executor);
+            outStream.close();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(isEndValid());
+        assertTrue(isLockedValid());
+        assertTrue(isProgressValid());
+        assertTrue(isStartValid());
+        resetListener();
+
+        // check that both files are equal
+        assertArrayEquals(Files.readAllBytes(sequentialF.toPath()), Files.readAllBytes(parallelF.toPath()));
+
+        assertTrue(sequentialF.delete());
+        assertTrue(parallelF.delete());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2,false", "3,false", "3,true"})
+    void testWriteUntrimmedChunks(final byte version, final boolean compressed) throws IOException,
+            LockedException, LoaderException, NotReadyException {
+        final var inF = new File(INPUT_FOLDER, "pitcher.ply");
+
+        final var expected = new ByteArrayOutputStream();
+        writeBinary(new LoaderPLY(inF, 1000), expected, version, compressed);
+
+        // arrays are handed over by loader without trimming them
+        final var loader = new LoaderPLY(inF, 1000);
+        loader.setTrimmedChunkArrays(false);
+        final var untrimmed = new ByteArrayOutputStream();
+        writeBinary(loader, untrimmed, version, compressed);
+        assertArrayEquals(expected.toByteArray(), untrimmed.toByteArray());
+
+        // chunks are released by writer and reused by loader
+        final var pooledLoader = new LoaderPLY(inF, 1000);
+        pooledLoader.setChunkPoolingEnabled(true);
+        final var pooled = new ByteArrayOutputStream();
+        writeBinary(pooledLoader, pooled, version, compressed);
+        assertArrayEquals(expected.toByteArray(), pooled.toByteArray());
+    }
+
+    @ParameterizedTest(name = "{index} - inputFile = {0}, version = {1}, chunkDirectory = {2}, compressed = {3}")
+    @CsvSource({"pitcher.ply,2,false,false,4ab3326f9492d7a7628533ae5ed99e064c139bbc532a651934efce10146fc0c9",
+            "pitcher.ply,3,false,false,d2827d05834d26c552f3918eb3891242708d67d46e05c99966973373ab5bb0ab",
+            "pitcher.ply,3,true,false,9f557ca53058edb8e5f182a24391b7db2e0c763f241cf5bdd2325db316370acd",
+            "pitcher.ply,3,true,true,582cb2d58b19bb8a777e29820ccc66ec7122b2e296e84af2ec2b513120084fb9",
+            "booksBinary.ply,2,false,false,ce0a44f8f4ada70a6b2b106744796028928cf6396bc2cdb3c4a16701e2ce597a",
+            "booksBinary.ply,3,false,false,e37448c8f672a1213c442cbfa439038b75a108c1ad4e2c21137552a37ca787fa",
+            "booksBinary.ply,3,true,false,503c3353604c24b1de58d04bdf64db7e9efdf2ffa016eeb186dbba6619742d62",
+            "booksBinary.ply,3,true,true,d3ae378cdde692f62660e99f70bdae6de9b313e375794279b35e6b2d92e95016",
+            "booksBinary.stl,2,false,false,bf7cca781da97d75f4fd2ba2b87815acd0474ba078051d010605a287828c605b",
+            "booksBinary.stl,3,false,false,db47b3a0fb661685c4b327505b613632eb681be0021f3ca9787644c38fe3528d",
+            "booksBinary.stl,3,true,false,48a1ebbaa4a5768a9d48418b2c7064adeabc6a8d51f5ea39e384f692d1520668",
+            "booksBinary.stl,3,true,true,163e5981339b12fb4095e4b6012fe16ca84031813a5996642491cf04f7689d78"})
+    void testWriteMatchesReferenceOutput(final String inputFile, final byte version, final boolean chunkDirectory,
+                                         final boolean compressed, final String expectedDigest)
+            throws IOException, LockedException, LoaderException, NotReadyException {
+        // digests were obtained with the writer encoding chunks field by field
+        // through a DataOutputStream, before chunks were encoded in bulk
+        final var inF = new File(INPUT_FOLDER, inputFile);
+        final Loader loader = inputFile.endsWith(".stl") ? new LoaderSTL(inF) : new LoaderPLY(inF);
+
+        final var stream = new ByteArrayOutputStream();
+        writeBinary(loader, stream, version, chunkDirectory, compressed);
+
+        assertEquals(expectedDigest, digest(stream.toByteArray()));
+    }
+
+    @ParameterizedTest(name = "{index} - version = {0}, chunkDirectory = {1}, compressed = {2}")
+    @CsvSource({"2,false,false,3cc4b5c2b3b04624d89707c4138bee0ae1665555a7d1a297abdb38bd486e9da3",
+            "3,false,false,a23fe7fe770564601f9feb8dce62725161694be29e940388d060dadfb0313fc1",
+            "3,true,false,1d1d2224cd08a94c77d15923f948958ff99e262f69d510ee0c92117a5253953a",
+            "3,true,true,b1ce72289aaaeb84b89167d7162306fd94581cbd3872f5c4f843f09795f60047"})
+    void testWriteChunksLargerThanBuffer(final byte version, final boolean chunkDirectory, final boolean compressed,
+                                         final String expectedDigest) throws IOException, LockedException,
+            LoaderException, NotReadyException {
+        // second chunk exceeds the buffer sized for the first one and requires
+        // 32-bit indices, later chunks are encoded again into the grown buffer
+        final var loader = new ChunkListLoader(List.of(buildStripChunk(3), buildStripChunk(70000),
+                buildStripChunk(4), buildStripChunk(1000)));
+
+        final var stream = new ByteArrayOutputStream();
+        writeBinary(loader, stream, version, chunkDirectory, compressed);
+
+        assertEquals(expectedDigest, digest(stream.toByteArray()));
+    }
+
+    private static void writeBinary(final Loader loader, final ByteArrayOutputStream stream, final byte version,
+                                     final boolean compressed) throws IOException, LockedException,
+            LoaderException, NotReadyException {
+        writeBinary(loader, stream, version, version == MeshWriterBinary.VERSION_3, compressed);
+    }
+
+    private static void writeBinary(final Loader loader, final ByteArrayOutputStream stream, final byte version,
+                                     final boolean chunkDirectory, final boolean compressed) throws IOException,
+            LockedException, LoaderException, NotReadyException {
+        final var writer = new MeshWriterBinary(loader, stream);
+        writer.setVersion(version);
+        if (version == MeshWriterBinary.VERSION_3) {
+            writer.setChunkDirectoryEnabled(chunkDirectory);
+            writer.setCompressed(compressed);
+        }
+        writer.write();
+    }
+
+    private static String digest(final byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DataChunk buildStripChunk(final int numVertices) {
+        final var coords = new float[3 * numVertices];
+        final var normals = new float[3 * numVertices];
+        for (var i = 0; i < numVertices; i++) {
+            coords[3 * i] = (i % 256) * 0.25f;
+            coords[3 * i + 1] = (i / 256) * 0.5f;
+            coords[3 * i + 2] = (i % 7) * 0.125f;
+            normals[3 * i + 2] = 1.0f;
+        }
+        final var indices = new int[3 * (numVertices - 2)];
+        for (var i = 0; i < numVertices - 2; i++) {
+            indices[3 * i] = i;
+            indices[3 * i + 1] = i + 1;
+            indices[3 * i + 2] = i + 2;
+        }
+
+        final var chunk = new DataChunk();
+        chunk.setVerticesCoordinatesData(coords);
+        chunk.setNormalsData(normals);
+        chunk.setIndicesData(indices);
+        chunk.setMinX(0.0f);
+        chunk.setMinY(0.0f);
+        chunk.setMinZ(0.0f);
+        chunk.setMaxX(255 * 0.25f);
+        chunk.setMaxY(((numVertices - 1) / 256) * 0.5f);
+        chunk.setMaxZ(6 * 0.125f);
+        return chunk;
+    }
+
     @Override
     public void onWriteStart(final MeshWriter writer) {
         if (startCounter != 0) {
@@ -491,6 +782,24 @@ class MeshWriterBinaryTest implements MeshWriterListener {
         } catch (final Throwable e) {
             lockedValid = false;
         }
+
+        try {
+            writer.writeParallel(Runnable::run);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+
+        try {
+            writer.setMaxPendingChunks(1);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
     }
 
     private void resetListener() {
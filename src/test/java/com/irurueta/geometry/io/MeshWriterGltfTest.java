@@ -0,0 +1,485 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeshWriterGltfTest implements MeshWriterListener {
+
+    private static final String INPUT_FOLDER = "./src/test/java/com/irurueta/geometry/io/";
+
+    private static final String TMP_FOLDER = "./src/test/java/com/irurueta/geometry/io/tmpGltf/";
+
+    private static final int GLB_MAGIC = 0x46546C67;
+
+    private static final int JSON_CHUNK_TYPE = 0x4E4F534A;
+
+    private static final int BIN_CHUNK_TYPE = 0x004E4942;
+
+    private static final Pattern ACCESSOR_PATTERN = Pattern.compile(
+            "\\{\"bufferView\":(\\d+),\"componentType\":(\\d+)(,\"normalized\":true)?,\"count\":(\\d+),"
+                    + "\"type\":\"(\\w+)\"[^}]*}");
+
+    private static final Pattern BUFFER_VIEW_PATTERN = Pattern.compile(
+            "\\{\"buffer\":0,\"byteOffset\":(\\d+),\"byteLength\":(\\d+)(,\"target\":\\d+)?}");
+
+    private static final Pattern PRIMITIVE_PATTERN = Pattern.compile(
+            "\\{\"attributes\":\\{\"POSITION\":(\\d+)([^}]*)},\"indices\":(\\d+)");
+
+    private static final Pattern IMAGE_PATTERN = Pattern.compile(
+            "\\{\"bufferView\":(\\d+),\"mimeType\":\"image/jpeg\"}");
+
+    private boolean startValid = true;
+    private boolean endValid = true;
+    private boolean progressValid = true;
+    private boolean lockedValid = true;
+
+    private int startCounter = 0;
+    private int endCounter = 0;
+    private float previousProgress = 0.0f;
+
+    @BeforeAll
+    static void setUpClass() {
+        // create folder for generated files
+        final var folder = new File(TMP_FOLDER);
+        //noinspection ResultOfMethodCallIgnored
+        folder.mkdirs();
+    }
+
+    @AfterAll
+    static void tearDownClass() {
+        // remove any remaining files in folder
+        final var folder = new File(TMP_FOLDER);
+        final var files = folder.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (final var f : files) {
+            //noinspection ResultOfMethodCallIgnored
+            f.delete();
+        }
+
+        // delete created folder
+        //noinspection ResultOfMethodCallIgnored
+        folder.delete();
+    }
+
+    @Test
+    void testConstructors() throws IOException {
+        final var inF = new File(INPUT_FOLDER, "pitcher.ply");
+
+        final var loader = new LoaderPLY(inF);
+        final var outStream = new ByteArrayOutputStream();
+
+        // test constructor with output stream and loader
+        var writer = new MeshWriterGltf(loader, outStream);
+        assertTrue(writer.isReady());
+        assertFalse(writer.isLocked());
+        assertEquals(outStream, writer.getStream());
+        assertNull(writer.getListener());
+
+        // test constructor with listener
+        writer = new MeshWriterGltf(loader, outStream, this);
+        assertTrue(writer.isReady());
+        assertFalse(writer.isLocked());
+        assertEquals(outStream, writer.getStream());
+        assertSame(this, writer.getListener());
+
+        loader.close();
+    }
+
+    @Test
+    void testWritePly() throws IOException, LockedException, LoaderException, NotReadyException,
+            NotAvailableException {
+        final var inF = new File(INPUT_FOLDER, "pitcher.ply");
+        final var outF = new File(TMP_FOLDER, "pitcher.glb");
+
+        try (final var loader = new LoaderPLY(inF); final var outStream = new FileOutputStream(outF)) {
+            final var writer = new MeshWriterGltf(loader, outStream, this);
+            assertTrue(writer.isReady());
+
+            resetListener();
+            writer.write();
+
+            assertTrue(isEndValid());
+            assertTrue(isLockedValid());
+            assertTrue(isProgressValid());
+            assertTrue(isStartValid());
+            assertFalse(writer.isLocked());
+        }
+
+        final var data = Files.readAllBytes(outF.toPath());
+        final var json = readJson(data);
+        final var bin = readBin(data);
+        final var accessors = findAll(ACCESSOR_PATTERN, section(json, "accessors"));
+        final var bufferViews = findAll(BUFFER_VIEW_PATTERN, section(json, "bufferViews"));
+        checkBufferViews(bufferViews, bin);
+
+        // positions, normals, colors and indices of each chunk are preserved
+        final var primitives = findAll(PRIMITIVE_PATTERN, json);
+        try (final var loader = new LoaderPLY(inF)) {
+            final var it = loader.load();
+            var i = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                final var primitive = primitives.get(i++);
+
+                final var coords = chunk.getVerticesCoordinatesData();
+                final var positionAccessor = accessors.get(Integer.parseInt(primitive[0]));
+                assertEquals("5126", positionAccessor[1]);
+                assertEquals("VEC3", positionAccessor[4]);
+                assertArrayEquals(coords, readFloats(bin, bufferViews, positionAccessor), 0.0f);
+
+                final var normalMatcher = Pattern.compile("\"NORMAL\":(\\d+)").matcher(primitive[1]);
+                assertTrue(normalMatcher.find());
+                final var normalAccessor = accessors.get(Integer.parseInt(normalMatcher.group(1)));
+                assertArrayEquals(chunk.getNormalsData(), readFloats(bin, bufferViews, normalAccessor), 0.0f);
+
+                final var colorMatcher = Pattern.compile("\"COLOR_0\":(\\d+)").matcher(primitive[1]);
+                assertTrue(colorMatcher.find());
+                final var colorAccessor = accessors.get(Integer.parseInt(colorMatcher.group(1)));
+                assertEquals("5121", colorAccessor[1]);
+                assertNotNull(colorAccessor[2]);
+                assertEquals("VEC4", colorAccessor[4]);
+                final var colors = chunk.getColorData();
+                final var colorComponents = chunk.getColorComponents();
+                final var colorView = bufferViews.get(Integer.parseInt(colorAccessor[0]));
+                final var colorOffset = Integer.parseInt(colorView[0]);
+                for (var v = 0; v < coords.length / 3; v++) {
+                    for (var c = 0; c < colorComponents; c++) {
+                        assertEquals(colors[v * colorComponents + c], bin.get(colorOffset + 4 * v + c) & 0xff);
+                    }
+                }
+
+                final var indexAccessor = accessors.get(Integer.parseInt(primitive[2]));
+                assertEquals("SCALAR", indexAccessor[4]);
+                assertArrayEquals(chunk.getIndicesData(), readIndices(bin, bufferViews, indexAccessor));
+            }
+            assertEquals(primitives.size(), i);
+        }
+
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testWriteObjWithTextures() throws IOException, LockedException, LoaderException, NotReadyException {
+        final var inF = new File(INPUT_FOLDER, "potro.obj");
+
+        final var outStream = new ByteArrayOutputStream();
+        try (final var loader = new LoaderOBJ(inF)) {
+            final var writer = new MeshWriterGltf(loader, outStream, this);
+
+            resetListener();
+            writer.write();
+
+            assertTrue(isEndValid());
+            assertTrue(isLockedValid());
+            assertTrue(isStartValid());
+        }
+
+        final var data = outStream.toByteArray();
+        final var json = readJson(data);
+        final var bin = readBin(data);
+        final var bufferViews = findAll(BUFFER_VIEW_PATTERN, section(json, "bufferViews"));
+        checkBufferViews(bufferViews, bin);
+
+        // textures are embedded as images
+        final var textureData = new ArrayList<byte[]>();
+        for (final var name : new String[]{"projection1-pCube1.jpg", "projection2-pCube2.jpg",
+                "projection2-pCube3.jpg", "projection2-pCube4.jpg", "projection2-pCube5.jpg"}) {
+            textureData.add(Files.readAllBytes(new File(INPUT_FOLDER, name).toPath()));
+        }
+        final var images = findAll(IMAGE_PATTERN, section(json, "images"));
+        assertEquals(textureData.size(), images.size());
+        for (final var image : images) {
+            final var view = bufferViews.get(Integer.parseInt(image[0]));
+            final var offset = Integer.parseInt(view[0]);
+            final var bytes = Arrays.copyOfRange(bin.array(), bin.arrayOffset() + offset,
+                    bin.arrayOffset() + offset + Integer.parseInt(view[1]));
+            assertTrue(textureData.stream().anyMatch(expected -> Arrays.equals(expected, bytes)));
+        }
+
+        // materials use textures and primitives have texture coordinates
+        assertTrue(json.contains("\"baseColorTexture\":{\"index\":"));
+        assertTrue(json.contains("\"TEXCOORD_0\":"));
+        assertTrue(json.contains("\"material\":"));
+    }
+
+    @Test
+    void testWriteObjWithUnsupportedTexture() throws IOException {
+        // texture is a BMP image, which cannot be embedded into glTF files
+        final var inF = new File(INPUT_FOLDER, "newObject.obj");
+
+        try (final var loader = new LoaderOBJ(inF)) {
+            final var writer = new MeshWriterGltf(loader, new ByteArrayOutputStream(), this);
+
+            final var ex = assertThrows(LoaderException.class, writer::write);
+            assertInstanceOf(InvalidTextureException.class, ex.getCause());
+        }
+    }
+
+    @Test
+    void testWritePoints() throws IOException, LockedException, LoaderException, NotReadyException {
+        final var points = new DataChunk();
+        points.setVerticesCoordinatesData(new float[]{0.0f, 0.0f, 0.0f, 1.0f, 0.0f, 0.0f, 0.0f, 1.0f, 0.0f});
+        final var triangle = new DataChunk();
+        triangle.setVerticesCoordinatesData(new float[]{0.0f, 0.0f, 0.0f, 1.0f, 0.0f, 0.0f, 0.0f, 1.0f, 0.0f});
+        triangle.setIndicesData(new int[]{0, 1, 2});
+
+        final var outStream = new ByteArrayOutputStream();
+        new MeshWriterGltf(new ChunkListLoader(List.of(points, triangle)), outStream).write();
+        final var json = readJson(outStream.toByteArray());
+
+        // chunks without indices are points, and indexed chunks are triangles
+        final var modes = findAll(Pattern.compile("\"mode\":(\\d+)"), json);
+        assertEquals(2, modes.size());
+        assertEquals("0", modes.get(0)[0]);
+        assertEquals("4", modes.get(1)[0]);
+        assertEquals(1, findAll(PRIMITIVE_PATTERN, json).size());
+    }
+
+    @Test
+    void testWriteNotReady() {
+        final var writer1 = new MeshWriterGltf(null, new ByteArrayOutputStream());
+        assertFalse(writer1.isReady());
+        assertThrows(NotReadyException.class, writer1::write);
+
+        final var writer2 = new MeshWriterGltf(new LoaderPLY(), null);
+        assertFalse(writer2.isReady());
+        assertThrows(NotReadyException.class, writer2::write);
+    }
+
+    private static String readJson(final byte[] data) {
+        final var buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(GLB_MAGIC, buffer.getInt());
+        assertEquals(2, buffer.getInt());
+        assertEquals(data.length, buffer.getInt());
+
+        final var jsonLength = buffer.getInt();
+        assertEquals(0, jsonLength % 4);
+        assertEquals(JSON_CHUNK_TYPE, buffer.getInt());
+        final var json = new String(data, 20, jsonLength, StandardCharsets.UTF_8).trim();
+        assertTrue(json.startsWith("{\"asset\":{\"version\":\"2.0\""));
+        return json;
+    }
+
+    private static ByteBuffer readBin(final byte[] data) {
+        final var buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        final var binStart = 20 + buffer.getInt(12);
+        final var binLength = buffer.getInt(binStart);
+        assertEquals(0, binLength % 4);
+        assertEquals(BIN_CHUNK_TYPE, buffer.getInt(binStart + 4));
+        assertEquals(data.length, binStart + 8 + binLength);
+        return ByteBuffer.wrap(data, binStart + 8, binLength).slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void checkBufferViews(final List<String[]> bufferViews, final ByteBuffer bin) {
+        assertFalse(bufferViews.isEmpty());
+        for (final var view : bufferViews) {
+            final var offset = Long.parseLong(view[0]);
+            assertEquals(0, offset % 4);
+            assertTrue(offset + Long.parseLong(view[1]) <= bin.capacity());
+        }
+    }
+
+    private static float[] readFloats(final ByteBuffer bin, final List<String[]> bufferViews,
+                                      final String[] accessor) {
+        final var view = bufferViews.get(Integer.parseInt(accessor[0]));
+        final var offset = Integer.parseInt(view[0]);
+        final var result = new float[Integer.parseInt(accessor[3]) * 3];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = bin.getFloat(offset + 4 * i);
+        }
+        return result;
+    }
+
+    private static int[] readIndices(final ByteBuffer bin, final List<String[]> bufferViews,
+                                     final String[] accessor) {
+        final var view = bufferViews.get(Integer.parseInt(accessor[0]));
+        final var offset = Integer.parseInt(view[0]);
+        final var shortIndices = accessor[1].equals("5123");
+        final var result = new int[Integer.parseInt(accessor[3])];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = shortIndices ? bin.getShort(offset + 2 * i) & 0xffff : bin.getInt(offset + 4 * i);
+        }
+        return result;
+    }
+
+    private static String section(final String json, final String key) {
+        final var start = json.indexOf("\"" + key + "\":[");
+        assertTrue(start >= 0);
+        return json.substring(start);
+    }
+
+    private static List<String[]> findAll(final Pattern pattern, final String text) {
+        final var result = new ArrayList<String[]>();
+        final var matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            final var groups = new String[matcher.groupCount()];
+            for (var i = 0; i < groups.length; i++) {
+                groups[i] = matcher.group(i + 1);
+            }
+            result.add(groups);
+        }
+        return result;
+    }
+
+    @Test
+    void testWriteUntrimmedChunks() throws IOException, LockedException, LoaderException, NotReadyException {
+        final var inF = new File(INPUT_FOLDER, "pitcher.ply");
+
+        final var expected = new ByteArrayOutputStream();
+        new MeshWriterGltf(new LoaderPLY(inF, 1000), expected).write();
+
+        // arrays are handed over by loader without trimming them
+        final var loader = new LoaderPLY(inF, 1000);
+        loader.setTrimmedChunkArrays(false);
+        final var untrimmed = new ByteArrayOutputStream();
+        new MeshWriterGltf(loader, untrimmed).write();
+        assertArrayEquals(expected.toByteArray(), untrimmed.toByteArray());
+
+        // chunks are released by writer and reused by loader
+        final var pooledLoader = new LoaderPLY(inF, 1000);
+        pooledLoader.setChunkPoolingEnabled(true);
+        final var pooled = new ByteArrayOutputStream();
+        new MeshWriterGltf(pooledLoader, pooled).write();
+        assertArrayEquals(expected.toByteArray(), pooled.toByteArray());
+    }
+
+    @Override
+    public void onWriteStart(final MeshWriter writer) {
+        if (startCounter != 0) {
+            startValid = false;
+        }
+        startCounter++;
+
+        checkLocked((MeshWriterGltf) writer);
+    }
+
+    @Override
+    public void onWriteEnd(final MeshWriter writer) {
+        if (endCounter != 0) {
+            endValid = false;
+        }
+        endCounter++;
+
+        checkLocked((MeshWriterGltf) writer);
+    }
+
+    @Override
+    public void onWriteProgressChange(final MeshWriter writer, final float progress) {
+        if ((progress < 0.0) || (progress > 1.0)) {
+            progressValid = false;
+        }
+        if (progress < previousProgress) {
+            progressValid = false;
+        }
+        previousProgress = progress;
+
+        checkLocked((MeshWriterGltf) writer);
+    }
+
+    @Override
+    public File onMaterialFileRequested(final MeshWriter writer, final String path) {
+        return new File(INPUT_FOLDER, new File(path).getName());
+    }
+
+    @Override
+    public File onValidateTexture(final MeshWriter writer, final Texture texture) {
+        texture.setValid(true);
+        return new File(INPUT_FOLDER, new File(texture.getFileName()).getName());
+    }
+
+    @Override
+    public void onDidValidateTexture(final MeshWriter writer, final File f) {
+        // input files are used as they are, hence they must not be deleted
+    }
+
+    @Override
+    public File onTextureReceived(final MeshWriter writer, final int textureWidth, final int textureHeight) {
+        try {
+            return File.createTempFile("tex", ".jpg", new File(TMP_FOLDER));
+        } catch (final IOException ignore) {
+            return null;
+        }
+    }
+
+    @Override
+    public File onTextureDataAvailable(final MeshWriter writer, final File textureFile, final int textureWidth,
+                                       final int textureHeight) {
+        return textureFile;
+    }
+
+    @Override
+    public void onTextureDataProcessed(final MeshWriter writer, final File textureFile, final int textureWidth,
+                                       final int textureHeight) {
+        //noinspection ResultOfMethodCallIgnored
+        textureFile.delete();
+    }
+
+    @Override
+    public void onChunkAvailable(final MeshWriter writer, final DataChunk chunk) {
+        checkLocked((MeshWriterGltf) writer);
+    }
+
+    private void checkLocked(final MeshWriterGltf writer) {
+        if (!writer.isLocked()) {
+            lockedValid = false;
+        }
+        assertThrows(LockedException.class, () -> writer.setListener(this));
+        assertThrows(LockedException.class, writer::write);
+    }
+
+    private void resetListener() {
+        startValid = endValid = progressValid = lockedValid = true;
+        startCounter = endCounter = 0;
+        previousProgress = 0.0f;
+    }
+
+    private boolean isStartValid() {
+        return startValid;
+    }
+
+    private boolean isEndValid() {
+        return endValid;
+    }
+
+    private boolean isProgressValid() {
+        return progressValid;
+    }
+
+    private boolean isLockedValid() {
+        return lockedValid;
+    }
+}
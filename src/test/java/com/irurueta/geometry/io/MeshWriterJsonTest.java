@@ -21,20 +21,46 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-class MeshWriterJsonTest implements MeshWriterJsonListener {
+class MeshWriterJsonTest implements MeshWriterJsonPartListener {
+
+    private static final int TIMING_RUNS = 10;
 
     private static final String INPUT_FOLDER = "./src/test/java/com/irurueta/geometry/io/";
 
     private static final String TMP_FOLDER = "./src/test/java/com/irurueta/geometry/io/tmp/";
 
+    private static final String DATA_KEY = "\"data\":\"";
+
+    private static final String POSITIONS_KEY = "vertexPositions";
+
+    private static final String NORMALS_KEY = "vertexNormals";
+
+    private static final Pattern OFFSET_PATTERN = Pattern.compile("\"offset\":\\[([^]]*)]");
+
+    private static final Pattern SCALE_PATTERN = Pattern.compile("\"scale\":\\[([^]]*)]");
+
+    private static final Pattern PART_PATTERN = Pattern.compile("\"file\":\"([^\"]*)\",\"size\":(\\d+)");
+
     private boolean startValid = true;
     private boolean endValid = true;
     private boolean progressValid = true;
@@ -44,6 +70,8 @@ class MeshWriterJsonTest implements MeshWriterJsonListener {
     private int endCounter = 0;
     private float previousProgress = 0.0f;
 
+    private final Map<String, ByteArrayOutputStream> parts = new HashMap<>();
+
     @BeforeAll
     static void setUpClass() {
         // create folder for generated files
@@ -238,6 +266,141 @@ class MeshWriterJsonTest implements MeshWriterJsonListener {
         assertTrue(outF.delete());
     }
 
+    @Test
+    void testGetSetPrecision() throws IOException, LockedException {
+        final var outF = new File(TMP_FOLDER, "booksBinary.json");
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+
+        final var loader = new LoaderPLY(inF);
+        final var outStream = new FileOutputStream(outF);
+
+        final var writer = new MeshWriterJson(loader, outStream);
+        assertEquals(MeshWriterJson.DEFAULT_PRECISION_MODE, writer.getPositionPrecisionMode());
+        assertEquals(MeshWriterJson.DEFAULT_PRECISION_DIGITS, writer.getPositionPrecisionDigits());
+        assertEquals(MeshWriterJson.DEFAULT_PRECISION_MODE, writer.getNormalPrecisionMode());
+        assertEquals(MeshWriterJson.DEFAULT_PRECISION_DIGITS, writer.getNormalPrecisionDigits());
+        assertEquals(MeshWriterJson.DEFAULT_PRECISION_MODE, writer.getTextureCoordinatePrecisionMode());
+        assertEquals(MeshWriterJson.DEFAULT_PRECISION_DIGITS, writer.getTextureCoordinatePrecisionDigits());
+
+        // set new values
+        writer.setPositionPrecision(JsonPrecisionMode.FIXED_DECIMALS, 3);
+        writer.setNormalPrecision(JsonPrecisionMode.SIGNIFICANT_DIGITS, 4);
+        writer.setTextureCoordinatePrecision(JsonPrecisionMode.FIXED_DECIMALS, 0);
+
+        // check
+        assertEquals(JsonPrecisionMode.FIXED_DECIMALS, writer.getPositionPrecisionMode());
+        assertEquals(3, writer.getPositionPrecisionDigits());
+        assertEquals(JsonPrecisionMode.SIGNIFICANT_DIGITS, writer.getNormalPrecisionMode());
+        assertEquals(4, writer.getNormalPrecisionDigits());
+        assertEquals(JsonPrecisionMode.FIXED_DECIMALS, writer.getTextureCoordinatePrecisionMode());
+        assertEquals(0, writer.getTextureCoordinatePrecisionDigits());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> writer.setPositionPrecision(null, 3));
+        assertThrows(IllegalArgumentException.class, () -> writer.setNormalPrecision(
+                JsonPrecisionMode.FIXED_DECIMALS, MeshWriterJson.MIN_PRECISION_DIGITS - 1));
+        assertThrows(IllegalArgumentException.class, () -> writer.setTextureCoordinatePrecision(
+                JsonPrecisionMode.FIXED_DECIMALS, MeshWriterJson.MAX_PRECISION_DIGITS + 1));
+        assertThrows(IllegalArgumentException.class, () -> writer.setPositionPrecision(
+                JsonPrecisionMode.SIGNIFICANT_DIGITS, 0));
+
+        assertTrue(outF.exists());
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testIsSetPositionQuantizationEnabled() throws IOException, LockedException {
+        final var outF = new File(TMP_FOLDER, "booksBinary.json");
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+
+        final var loader = new LoaderPLY(inF);
+        final var outStream = new FileOutputStream(outF);
+
+        final var writer = new MeshWriterJson(loader, outStream);
+        assertEquals(MeshWriterJson.DEFAULT_POSITION_QUANTIZATION_ENABLED, writer.isPositionQuantizationEnabled());
+
+        // set new value
+        writer.setPositionQuantizationEnabled(!MeshWriterJson.DEFAULT_POSITION_QUANTIZATION_ENABLED);
+        assertEquals(!MeshWriterJson.DEFAULT_POSITION_QUANTIZATION_ENABLED, writer.isPositionQuantizationEnabled());
+
+        assertTrue(outF.exists());
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testGetSetPositionBits() throws IOException, LockedException {
+        final var outF = new File(TMP_FOLDER, "booksBinary.json");
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+
+        final var loader = new LoaderPLY(inF);
+        final var outStream = new FileOutputStream(outF);
+
+        final var writer = new MeshWriterJson(loader, outStream);
+        assertEquals(MeshWriterJson.DEFAULT_POSITION_BITS, writer.getPositionBits());
+
+        // set new value
+        writer.setPositionBits(MeshWriterJson.MIN_POSITION_BITS);
+        assertEquals(MeshWriterJson.MIN_POSITION_BITS, writer.getPositionBits());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.setPositionBits(MeshWriterJson.MIN_POSITION_BITS - 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.setPositionBits(MeshWriterJson.MAX_POSITION_BITS + 1));
+
+        assertTrue(outF.exists());
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testGetSetMaxPendingChunks() throws IOException, LockedException {
+        final var outF = new File(TMP_FOLDER, "booksBinary.json");
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+
+        final var loader = new LoaderPLY(inF);
+        final var outStream = new FileOutputStream(outF);
+
+        final var writer = new MeshWriterJson(loader, outStream);
+        assertEquals(MeshWriterJson.DEFAULT_MAX_PENDING_CHUNKS, writer.getMaxPendingChunks());
+
+        // set new value
+        writer.setMaxPendingChunks(4);
+        assertEquals(4, writer.getMaxPendingChunks());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.setMaxPendingChunks(MeshWriterJson.MIN_PENDING_CHUNKS - 1));
+
+        assertTrue(outF.exists());
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testIsSetSplitOutputEnabled() throws IOException, LockedException {
+        final var outF = new File(TMP_FOLDER, "booksBinary.json");
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+
+        final var loader = new LoaderPLY(inF);
+        final var outStream = new FileOutputStream(outF);
+
+        final var writer = new MeshWriterJson(loader, outStream);
+        assertEquals(MeshWriterJson.DEFAULT_SPLIT_OUTPUT_ENABLED, writer.isSplitOutputEnabled());
+        assertFalse(writer.isSplitOutputEnabled());
+        assertTrue(writer.isReady());
+
+        // set new value
+        writer.setSplitOutputEnabled(true);
+        assertTrue(writer.isSplitOutputEnabled());
+
+        // a part listener is required
+        assertFalse(writer.isReady());
+        writer.setListener(this);
+        assertTrue(writer.isReady());
+
+        outStream.close();
+        assertTrue(outF.delete());
+    }
+
     @Test
     void testGetSetListener() throws IOException, LockedException {
         final var outF = new File(TMP_FOLDER, "booksBinary.json");
@@ -403,6 +566,397 @@ class MeshWriterJsonTest implements MeshWriterJsonListener {
         assertThrows(NotReadyException.class, writer::write);
     }
 
+    @Test
+    void testWriteEmbeddedTextures() throws IOException, LockedException, LoaderException, NotReadyException {
+        final var outF = new File(TMP_FOLDER, "potroEmbedded.json");
+        final var inF = new File(INPUT_FOLDER, "potro.obj");
+
+        final var loader = new LoaderOBJ(inF);
+        try (final var outStream = new FileOutputStream(outF)) {
+            final var writer = new MeshWriterJson(loader, outStream);
+            writer.setListener(this);
+            writer.setEmbedTexturedEnabled(true);
+            writer.write();
+        }
+        loader.close();
+        resetListener();
+
+        // embedded data of each texture is the escaped Base64 encoding of
+        // one of the texture files
+        final var textureData = new ArrayList<byte[]>();
+        for (final var name : new String[]{"projection1-pCube1.jpg", "projection2-pCube2.jpg",
+                "projection2-pCube3.jpg", "projection2-pCube4.jpg", "projection2-pCube5.jpg"}) {
+            textureData.add(Files.readAllBytes(new File(INPUT_FOLDER, name).toPath()));
+        }
+
+        final var json = Files.readString(outF.toPath());
+        var textures = 0;
+        var pos = json.indexOf(DATA_KEY);
+        while (pos >= 0) {
+            final var start = pos + DATA_KEY.length();
+            final var end = json.indexOf('"', start);
+            final var data = json.substring(start, end);
+            assertFalse(data.replace("\\/", "").contains("/"));
+
+            final var decoded = Base64.getDecoder().decode(data.replace("\\/", "/"));
+            assertTrue(textureData.stream().anyMatch(bytes -> Arrays.equals(bytes, decoded)));
+
+            textures++;
+            pos = json.indexOf(DATA_KEY, end);
+        }
+        assertEquals(textureData.size(), textures);
+
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testWritePrecision() throws IOException, LockedException, LoaderException, NotReadyException {
+        final var inF = new File(INPUT_FOLDER, "pitcher.ply");
+        final var fullF = new File(TMP_FOLDER, "pitcherFull.json");
+        final var reducedF = new File(TMP_FOLDER, "pitcherReduced.json");
+
+        try (final var loader = new LoaderPLY(inF); final var outStream = new FileOutputStream(fullF)) {
+            new MeshWriterJson(loader, outStream).write();
+        }
+        try (final var loader = new LoaderPLY(inF); final var outStream = new FileOutputStream(reducedF)) {
+            final var writer = new MeshWriterJson(loader, outStream);
+            writer.setListener(this);
+            writer.setPositionPrecision(JsonPrecisionMode.FIXED_DECIMALS, 2);
+            writer.setNormalPrecision(JsonPrecisionMode.SIGNIFICANT_DIGITS, 3);
+            writer.write();
+        }
+        assertTrue(isLockedValid());
+        resetListener();
+
+        final var full = Files.readString(fullF.toPath());
+        final var reduced = Files.readString(reducedF.toPath());
+        assertTrue(reduced.length() < full.length());
+
+        // positions are rounded to 2 decimals
+        final var fullPositions = readArrays(full, POSITIONS_KEY);
+        final var reducedPositions = readArrays(reduced, POSITIONS_KEY);
+        assertEquals(fullPositions.size(), reducedPositions.size());
+        for (var i = 0; i < fullPositions.size(); i++) {
+            assertArrayEquals(fullPositions.get(i), reducedPositions.get(i), 0.005f + 1e-4f);
+        }
+        for (final var value : readValues(reduced, POSITIONS_KEY)) {
+            final var point = value.indexOf('.');
+            assertTrue(point < 0 || value.length() - point - 1 <= 2, value);
+        }
+
+        // normals are rounded to 3 significant digits
+        final var fullNormals = readArrays(full, NORMALS_KEY);
+        final var reducedNormals = readArrays(reduced, NORMALS_KEY);
+        assertEquals(fullNormals.size(), reducedNormals.size());
+        for (var i = 0; i < fullNormals.size(); i++) {
+            final var expected = fullNormals.get(i);
+            final var normals = reducedNormals.get(i);
+            assertEquals(expected.length, normals.length);
+            for (var j = 0; j < expected.length; j++) {
+                assertEquals(expected[j], normals[j], 0.005 * Math.abs(expected[j]) + 1e-6);
+            }
+        }
+
+        assertTrue(fullF.delete());
+        assertTrue(reducedF.delete());
+    }
+
+    @Test
+    void testWriteQuantizedPositions() throws IOException, LockedException, LoaderException, NotReadyException {
+        final var inF = new File(INPUT_FOLDER, "pitcher.ply");
+        final var fullF = new File(TMP_FOLDER, "pitcherFull.json");
+        final var quantizedF = new File(TMP_FOLDER, "pitcherQuantized.json");
+
+        try (final var loader = new LoaderPLY(inF); final var outStream = new FileOutputStream(fullF)) {
+            new MeshWriterJson(loader, outStream).write();
+        }
+        try (final var loader = new LoaderPLY(inF); final var outStream = new FileOutputStream(quantizedF)) {
+            final var writer = new MeshWriterJson(loader, outStream);
+            writer.setListener(this);
+            writer.setPositionQuantizationEnabled(true);
+            writer.setPositionBits(12);
+            writer.write();
+        }
+        assertTrue(isLockedValid());
+        resetListener();
+
+        final var full = Files.readString(fullF.toPath());
+        final var quantized = Files.readString(quantizedF.toPath());
+        assertTrue(quantized.length() < full.length());
+
+        final var fullPositions = readArrays(full, POSITIONS_KEY);
+        final var quantizedPositions = readArrays(quantized, POSITIONS_KEY);
+        final var offsets = OFFSET_PATTERN.matcher(quantized);
+        final var scales = SCALE_PATTERN.matcher(quantized);
+        assertEquals(fullPositions.size(), quantizedPositions.size());
+        for (var i = 0; i < fullPositions.size(); i++) {
+            assertTrue(offsets.find());
+            assertTrue(scales.find());
+            final var offset = parseArray(offsets.group(1));
+            final var scale = parseArray(scales.group(1));
+
+            final var expected = fullPositions.get(i);
+            final var values = quantizedPositions.get(i);
+            assertEquals(expected.length, values.length);
+            for (var j = 0; j < expected.length; j++) {
+                // quantized values are integers
+                assertEquals(Math.rint(values[j]), values[j], 0.0);
+                assertTrue(values[j] >= 0.0f && values[j] < (1 << 12));
+
+                final var c = j % 3;
+                assertEquals(expected[j], offset[c] + values[j] * scale[c], 0.5 * scale[c] + 1e-4);
+            }
+        }
+        assertTrue(quantized.contains("\"positionQuantization\":{\"bits\":12,"));
+
+        assertTrue(fullF.delete());
+        assertTrue(quantizedF.delete());
+    }
+
+    @Test
+    void testWriteQuantizedPlanarPositions() throws IOException, LockedException, LoaderException,
+            NotReadyException {
+        // all vertices share the same z coordinate
+        final var inF = new File(TMP_FOLDER, "planar.ply");
+        Files.writeString(inF.toPath(), """
+                ply
+                format ascii 1.0
+                element vertex 3
+                property float x
+                property float y
+                property float z
+                element face 1
+                property list uchar int vertex_indices
+                end_header
+                0.0 0.0 2.5
+                1.0 0.0 2.5
+                1.0 3.0 2.5
+                3 0 1 2
+                """, StandardCharsets.US_ASCII);
+
+        final var expected = new float[]{0.0f, 0.0f, 2.5f, 1.0f, 0.0f, 2.5f, 1.0f, 3.0f, 2.5f};
+        final var stream = new ByteArrayOutputStream();
+        try (final var loader = new LoaderPLY(inF)) {
+            final var writer = new MeshWriterJson(loader, stream);
+            writer.setPositionQuantizationEnabled(true);
+            writer.write();
+        }
+        final var json = stream.toString(StandardCharsets.UTF_8);
+
+        final var values = readArrays(json, POSITIONS_KEY).get(0);
+        final var offsets = OFFSET_PATTERN.matcher(json);
+        final var scales = SCALE_PATTERN.matcher(json);
+        assertTrue(offsets.find());
+        assertTrue(scales.find());
+        final var offset = parseArray(offsets.group(1));
+        final var scale = parseArray(scales.group(1));
+
+        assertEquals(2.5f, offset[2], 0.0f);
+        assertEquals(0.0f, scale[2], 0.0f);
+        assertEquals(expected.length, values.length);
+        for (var j = 0; j < expected.length; j++) {
+            final var c = j % 3;
+            assertEquals(expected[j], offset[c] + values[j] * scale[c], 0.5 * scale[c] + 1e-4);
+        }
+
+        assertTrue(inF.delete());
+    }
+
+    @Test
+    void testWriteQuantizedPositionsWithLooseBounds() throws IOException, LockedException, LoaderException,
+            NotReadyException {
+        // chunk bounds are left to their defaults, so they do not enclose
+        // the positions
+        final var expected = new float[]{-1.0f, 0.0f, 2.5f, 1.0f, 0.5f, 2.5f, 1.0f, 3.0f, 2.5f};
+        final var chunk = new DataChunk();
+        chunk.setVerticesCoordinatesData(expected);
+        chunk.setIndicesData(new int[]{0, 1, 2});
+
+        final var stream = new ByteArrayOutputStream();
+        final var writer = new MeshWriterJson(new ChunkListLoader(List.of(chunk)), stream);
+        writer.setPositionQuantizationEnabled(true);
+        writer.write();
+        final var json = stream.toString(StandardCharsets.UTF_8);
+
+        final var values = readArrays(json, POSITIONS_KEY).get(0);
+        final var offsets = OFFSET_PATTERN.matcher(json);
+        final var scales = SCALE_PATTERN.matcher(json);
+        assertTrue(offsets.find());
+        assertTrue(scales.find());
+        final var offset = parseArray(offsets.group(1));
+        final var scale = parseArray(scales.group(1));
+
+        assertArrayEquals(new float[]{-1.0f, 0.0f, 2.5f}, offset, 0.0f);
+        assertEquals(expected.length, values.length);
+        final var maxValue = (1 << MeshWriterJson.DEFAULT_POSITION_BITS) - 1;
+        for (var j = 0; j < expected.length; j++) {
+            assertTrue(values[j] >= 0.0f && values[j] <= maxValue);
+
+            final var c = j % 3;
+            assertEquals(expected[j], offset[c] + values[j] * scale[c], 0.5 * scale[c] + 1e-6);
+        }
+    }
+
+    @Test
+    void testWriteQuantizedNonFinitePositions() throws IOException, LockedException, LoaderException,
+            NotReadyException {
+        final var finite = new DataChunk();
+        finite.setVerticesCoordinatesData(new float[]{0.0f, 0.0f, 0.0f, 1.0f, 1.0f, 1.0f, 2.0f, 0.0f, 1.0f});
+        finite.setIndicesData(new int[]{0, 1, 2});
+        final var infinite = new DataChunk();
+        infinite.setVerticesCoordinatesData(new float[]{0.0f, 0.0f, 0.0f, Float.POSITIVE_INFINITY, 1.0f, 1.0f,
+                2.0f, 0.0f, 1.0f});
+        infinite.setIndicesData(new int[]{0, 1, 2});
+        final var overflow = new DataChunk();
+        overflow.setVerticesCoordinatesData(new float[]{-Float.MAX_VALUE, 0.0f, 0.0f, Float.MAX_VALUE, 1.0f, 1.0f,
+                2.0f, 0.0f, 1.0f});
+        overflow.setIndicesData(new int[]{0, 1, 2});
+
+        final var stream = new ByteArrayOutputStream();
+        final var writer = new MeshWriterJson(new ChunkListLoader(List.of(finite, infinite, overflow)), stream);
+        writer.setPositionQuantizationEnabled(true);
+        writer.write();
+        final var json = stream.toString(StandardCharsets.UTF_8);
+
+        // only the finite chunk is quantized, the rest are written as
+        // plain floats
+        final var offsets = OFFSET_PATTERN.matcher(json);
+        assertTrue(offsets.find());
+        assertFalse(offsets.find());
+
+        final var positions = readArrays(json, POSITIONS_KEY);
+        assertEquals(3, positions.size());
+        // infinite values are clamped to keep valid JSON
+        assertArrayEquals(new float[]{0.0f, 0.0f, 0.0f, Float.MAX_VALUE, 1.0f, 1.0f, 2.0f, 0.0f, 1.0f},
+                positions.get(1), 0.0f);
+        assertArrayEquals(overflow.getVerticesCoordinatesData(), positions.get(2), 0.0f);
+    }
+
+    @Test
+    void testWriteParallel() throws IOException, LockedException, LoaderException, NotReadyException {
+        final var inF = new File(INPUT_FOLDER, "pitcher.obj");
+        final var sequentialF = new File(TMP_FOLDER, "pitcherSequential.json");
+        final var parallelF = new File(TMP_FOLDER, "pitcherParallel.json");
+
+        try (final var loader = new LoaderOBJ(inF); final var outStream = new FileOutputStream(sequentialF)) {
+            final var writer = new MeshWriterJson(loader, outStream, this);
+            writer.setPositionQuantizationEnabled(true);
+            writer.write();
+        }
+        resetListener();
+
+        final var executor = Executors.newFixedThreadPool(4);
+        try (final var loader = new LoaderOBJ(inF); final var outStream = new FileOutputStream(parallelF)) {
+            final var writer = new MeshWriterJson(loader, outStream, this);
+            writer.setPositionQuantizationEnabled(true);
+            writer.setMaxPendingChunks(2);
+            assertThrows(IllegalArgumentException.class, () -> writer.writeParallel(null));
+            writer.writeParallel(executor);
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(isEndValid());
+        assertTrue(isLockedValid());
+        assertTrue(isStartValid());
+        resetListener();
+
+        // check that both files are equal
+        assertArrayEquals(Files.readAllBytes(sequentialF.toPath()), Files.readAllBytes(parallelF.toPath()));
+
+        assertTrue(sequentialF.delete());
+        assertTrue(parallelF.delete());
+    }
+
+    @Test
+    void testWriteSplit() throws IOException, LockedException, LoaderException, NotReadyException {
+        final var inF = new File(INPUT_FOLDER, "pitcher.ply");
+        final var singleF = new File(TMP_FOLDER, "pitcherSingle.json");
+        final var manifestF = new File(TMP_FOLDER, "pitcherManifest.json");
+
+        try (final var loader = new LoaderPLY(inF); final var outStream = new FileOutputStream(singleF)) {
+            new MeshWriterJson(loader, outStream).write();
+        }
+
+        parts.clear();
+        try (final var loader = new LoaderPLY(inF); final var outStream = new FileOutputStream(manifestF)) {
+            final var writer = new MeshWriterJson(loader, outStream, this);
+            writer.setSplitOutputEnabled(true);
+            assertTrue(writer.isReady());
+            writer.write();
+        }
+        assertTrue(isEndValid());
+        assertTrue(isLockedValid());
+        assertTrue(isStartValid());
+        resetListener();
+
+        final var single = Files.readString(singleF.toPath());
+        final var manifest = Files.readString(manifestF.toPath());
+
+        // check that every chunk part is referenced in order with its size
+        final var matcher = PART_PATTERN.matcher(manifest);
+        var chunks = 0;
+        while (matcher.find()) {
+            assertEquals("chunk" + chunks + ".json", matcher.group(1));
+            assertEquals(parts.get(matcher.group(1)).size(), Integer.parseInt(matcher.group(2)));
+            chunks++;
+        }
+        assertEquals(parts.size(), chunks);
+        assertTrue(chunks > 0);
+
+        // chunk parts contain the same chunks as single JSON
+        final var joined = new StringBuilder();
+        for (var i = 0; i < chunks; i++) {
+            if (i > 0) {
+                joined.append(",");
+            }
+            joined.append(parts.get("chunk" + i + ".json").toString(StandardCharsets.US_ASCII));
+        }
+        final var start = single.indexOf("\"chunks\":[") + "\"chunks\":[".length();
+        final var end = single.lastIndexOf("],\"minCorner\"");
+        assertEquals(single.substring(start, end), joined.toString());
+
+        // manifest ends with the bounding box of all chunks
+        assertEquals(single.substring(end), manifest.substring(manifest.lastIndexOf("],\"minCorner\"")));
+
+        assertTrue(singleF.delete());
+        assertTrue(manifestF.delete());
+
+        // write textures as parts
+        final var objF = new File(INPUT_FOLDER, "potro.obj");
+        parts.clear();
+        try (final var loader = new LoaderOBJ(objF); final var outStream = new FileOutputStream(manifestF)) {
+            final var writer = new MeshWriterJson(loader, outStream, this);
+            writer.setSplitOutputEnabled(true);
+            writer.write();
+        }
+        resetListener();
+
+        final var textureData = new ArrayList<byte[]>();
+        for (final var name : new String[]{"projection1-pCube1.jpg", "projection2-pCube2.jpg",
+                "projection2-pCube3.jpg", "projection2-pCube4.jpg", "projection2-pCube5.jpg"}) {
+            textureData.add(Files.readAllBytes(new File(INPUT_FOLDER, name).toPath()));
+        }
+
+        final var objManifest = Files.readString(manifestF.toPath());
+        assertFalse(objManifest.contains(DATA_KEY));
+        final var objMatcher = PART_PATTERN.matcher(objManifest);
+        var textures = 0;
+        while (objMatcher.find()) {
+            final var part = parts.get(objMatcher.group(1));
+            assertEquals(part.size(), Integer.parseInt(objMatcher.group(2)));
+            if (objMatcher.group(1).startsWith("texture")) {
+                assertTrue(objMatcher.group(1).endsWith(".jpg"));
+                final var bytes = part.toByteArray();
+                assertTrue(textureData.stream().anyMatch(data -> Arrays.equals(data, bytes)));
+                textures++;
+            }
+        }
+        assertEquals(textureData.size(), textures);
+
+        parts.clear();
+        assertTrue(manifestF.delete());
+    }
+
     @ParameterizedTest(name = "{index} - inputFile = {0}, outputFile = {1}")
     @CsvSource({"booksBinary.stl,booksBinaryStl.json",
             "booksAscii.stl,booksAsciiStl.json"})
@@ -444,6 +998,67 @@ class MeshWriterJsonTest implements MeshWriterJsonListener {
         assertThrows(NotReadyException.class, writer::write);
     }
 
+    @Test
+    void testWriteUntrimmedChunks() throws IOException, LockedException, LoaderException, NotReadyException {
+        final var inF = new File(INPUT_FOLDER, "pitcher.ply");
+
+        final var expected = new ByteArrayOutputStream();
+        new MeshWriterJson(new LoaderPLY(inF, 1000), expected).write();
+
+        // arrays are handed over by loader without trimming them
+        final var loader = new LoaderPLY(inF, 1000);
+        loader.setTrimmedChunkArrays(false);
+        final var untrimmed = new ByteArrayOutputStream();
+        new MeshWriterJson(loader, untrimmed).write();
+        assertArrayEquals(expected.toByteArray(), untrimmed.toByteArray());
+
+        // chunks are released by writer and reused by loader
+        final var pooledLoader = new LoaderPLY(inF, 1000);
+        pooledLoader.setChunkPoolingEnabled(true);
+        final var pooled = new ByteArrayOutputStream();
+        new MeshWriterJson(pooledLoader, pooled).write();
+        assertArrayEquals(expected.toByteArray(), pooled.toByteArray());
+    }
+
+    @Test
+    void testWriteFormatsNumbersFasterThanFloatToString() throws IOException, LockedException, LoaderException,
+            NotReadyException, NotAvailableException {
+        // chunks are loaded once, so that only formatting is timed
+        final var chunks = new ArrayList<DataChunk>();
+        try (final var loader = new LoaderPLY(new File(INPUT_FOLDER, "pitcher.ply"))) {
+            final var it = loader.load();
+            while (it.hasNext()) {
+                chunks.add(it.next());
+            }
+        }
+
+        // best time of several runs, after warming up both paths
+        var writerTime = Long.MAX_VALUE;
+        var baselineTime = Long.MAX_VALUE;
+        var writerLength = 0;
+        var baselineLength = 0;
+        for (var i = 0; i < TIMING_RUNS; i++) {
+            var start = System.nanoTime();
+            final var out = new ByteArrayOutputStream();
+            new MeshWriterJson(new ChunkListLoader(chunks), out).write();
+            writerTime = Math.min(writerTime, System.nanoTime() - start);
+            writerLength = out.size();
+
+            start = System.nanoTime();
+            final var baseline = new ByteArrayOutputStream();
+            writeWithFloatToString(chunks, baseline);
+            baselineTime = Math.min(baselineTime, System.nanoTime() - start);
+            baselineLength = baseline.size();
+        }
+
+        // writer output contains the same numbers plus JSON structure, and
+        // shortest representations are never longer than Float.toString ones
+        assertTrue(writerLength > 0 && baselineLength > 0);
+        // writer is at least 25% faster than formatting numbers as strings
+        assertTrue(4 * writerTime < 3 * baselineTime,
+                "writer: " + writerTime + " ns, baseline: " + baselineTime + " ns");
+    }
+
     @Override
     public void onWriteStart(final MeshWriter writer) {
         if (startCounter != 0) {
@@ -552,6 +1167,51 @@ class MeshWriterJsonTest implements MeshWriterJsonListener {
         return UUID.randomUUID().toString();
     }
 
+    @Override
+    public OutputStream onChunkPartRequested(final MeshWriterJson writer, final int index, final String name) {
+        final var part = new ByteArrayOutputStream();
+        parts.put(name, part);
+        return part;
+    }
+
+    @Override
+    public OutputStream onTexturePartRequested(final MeshWriterJson writer, final Texture texture,
+                                               final String name) {
+        final var part = new ByteArrayOutputStream();
+        parts.put(name, part);
+        return part;
+    }
+
+
+    private static void writeWithFloatToString(final List<DataChunk> chunks, final OutputStream out)
+            throws IOException {
+        // writes the numbers of provided chunks as strings, as done before
+        // numbers were formatted directly into bytes
+        try (final var writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            for (final var chunk : chunks) {
+                final var coords = chunk.getVerticesCoordinatesData();
+                for (var i = 0; i < chunk.getVerticesCoordinatesDataLength(); i++) {
+                    writer.write(Float.toString(coords[i]));
+                    writer.write(',');
+                }
+                final var colors = chunk.getColorData();
+                for (var i = 0; i < chunk.getColorDataLength(); i++) {
+                    writer.write(Integer.toString(colors[i]));
+                    writer.write(',');
+                }
+                final var indices = chunk.getIndicesData();
+                for (var i = 0; i < chunk.getIndicesDataLength(); i++) {
+                    writer.write(Integer.toString(indices[i]));
+                    writer.write(',');
+                }
+                final var normals = chunk.getNormalsData();
+                for (var i = 0; i < chunk.getNormalsDataLength(); i++) {
+                    writer.write(Float.toString(normals[i]));
+                    writer.write(',');
+                }
+            }
+        }
+    }
 
     private void testLocked(final MeshWriterJson writer) {
         if (!writer.isLocked()) {
@@ -611,6 +1271,113 @@ class MeshWriterJsonTest implements MeshWriterJsonListener {
         } catch (final Throwable e) {
             lockedValid = false;
         }
+
+        try {
+            writer.setPositionPrecision(JsonPrecisionMode.FULL, MeshWriterJson.DEFAULT_PRECISION_DIGITS);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+
+        try {
+            writer.setNormalPrecision(JsonPrecisionMode.FULL, MeshWriterJson.DEFAULT_PRECISION_DIGITS);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+
+        try {
+            writer.setTextureCoordinatePrecision(JsonPrecisionMode.FULL, MeshWriterJson.DEFAULT_PRECISION_DIGITS);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+
+        try {
+            writer.setPositionQuantizationEnabled(true);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+
+        try {
+            writer.setPositionBits(MeshWriterJson.DEFAULT_POSITION_BITS);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+
+        try {
+            writer.setSplitOutputEnabled(true);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+
+        try {
+            writer.setMaxPendingChunks(1);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+
+        try {
+            writer.writeParallel(Runnable::run);
+            lockedValid = false;
+        } catch (final LockedException ignore) {
+            // no action needed
+        } catch (final Throwable e) {
+            lockedValid = false;
+        }
+    }
+
+    private static List<float[]> readArrays(final String json, final String key) {
+        final var result = new ArrayList<float[]>();
+        final var prefix = "\"" + key + "\":[";
+        var pos = json.indexOf(prefix);
+        while (pos >= 0) {
+            final var start = pos + prefix.length();
+            final var end = json.indexOf(']', start);
+            result.add(parseArray(json.substring(start, end)));
+            pos = json.indexOf(prefix, end);
+        }
+        return result;
+    }
+
+    private static List<String> readValues(final String json, final String key) {
+        final var result = new ArrayList<String>();
+        final var prefix = "\"" + key + "\":[";
+        var pos = json.indexOf(prefix);
+        while (pos >= 0) {
+            final var start = pos + prefix.length();
+            final var end = json.indexOf(']', start);
+            result.addAll(Arrays.asList(json.substring(start, end).split(",")));
+            pos = json.indexOf(prefix, end);
+        }
+        return result;
+    }
+
+    private static float[] parseArray(final String values) {
+        final var tokens = values.split(",");
+        final var result = new float[tokens.length];
+        for (var i = 0; i < tokens.length; i++) {
+            result[i] = Float.parseFloat(tokens[i]);
+        }
+        return result;
     }
 
     private void resetListener() {
@@ -0,0 +1,352 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeshWriterPLYTest implements MeshWriterListener {
+
+    private static final String INPUT_FOLDER = "./src/test/java/com/irurueta/geometry/io/";
+
+    private static final String TMP_FOLDER = "./src/test/java/com/irurueta/geometry/io/tmpPly/";
+
+    private boolean startValid = true;
+    private boolean endValid = true;
+    private boolean progressValid = true;
+    private boolean lockedValid = true;
+
+    private int startCounter = 0;
+    private int endCounter = 0;
+    private float previousProgress = 0.0f;
+
+    @BeforeAll
+    static void setUpClass() {
+        // create folder for generated files
+        final var folder = new File(TMP_FOLDER);
+        //noinspection ResultOfMethodCallIgnored
+        folder.mkdirs();
+    }
+
+    @AfterAll
+    static void tearDownClass() {
+        // remove any remaining files in folder
+        final var folder = new File(TMP_FOLDER);
+        final var files = folder.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (final var f : files) {
+            //noinspection ResultOfMethodCallIgnored
+            f.delete();
+        }
+
+        // delete created folder
+        //noinspection ResultOfMethodCallIgnored
+        folder.delete();
+    }
+
+    @Test
+    void testConstructors() throws IOException {
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+
+        final var loader = new LoaderPLY(inF);
+        final var outStream = new ByteArrayOutputStream();
+
+        // test constructor with output stream and loader
+        var writer = new MeshWriterPLY(loader, outStream);
+        assertTrue(writer.isReady());
+        assertFalse(writer.isLocked());
+        assertEquals(outStream, writer.getStream());
+        assertNull(writer.getListener());
+        assertEquals(MeshWriterPLY.DEFAULT_STORAGE_MODE, writer.getStorageMode());
+
+        // test constructor with listener
+        writer = new MeshWriterPLY(loader, outStream, this);
+        assertTrue(writer.isReady());
+        assertFalse(writer.isLocked());
+        assertEquals(outStream, writer.getStream());
+        assertSame(this, writer.getListener());
+        assertEquals(MeshWriterPLY.DEFAULT_STORAGE_MODE, writer.getStorageMode());
+
+        loader.close();
+    }
+
+    @Test
+    void testGetSetStorageMode() throws LockedException {
+        final var writer = new MeshWriterPLY(null, null);
+
+        assertEquals(PLYStorageMode.PLY_LITTLE_ENDIAN, writer.getStorageMode());
+
+        // set new value
+        writer.setStorageMode(PLYStorageMode.PLY_ASCII);
+        // check correctness
+        assertEquals(PLYStorageMode.PLY_ASCII, writer.getStorageMode());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> writer.setStorageMode(null));
+    }
+
+    @ParameterizedTest(name = "{index} - storageMode = {0}, fileOutput = {1}")
+    @CsvSource({"PLY_LITTLE_ENDIAN,true",
+            "PLY_LITTLE_ENDIAN,false",
+            "PLY_BIG_ENDIAN,true",
+            "PLY_ASCII,true",
+            "PLY_ASCII,false"})
+    void testWriteAndLoad(final String storageMode, final boolean fileOutput) throws IOException,
+            LockedException, LoaderException, NotReadyException, NotAvailableException {
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+        final var outF = new File(TMP_FOLDER, "books" + storageMode + fileOutput + ".ply");
+
+        final var loader = new LoaderPLY(inF);
+        final var writer = fileOutput ? new MeshWriterPLY(loader, new FileOutputStream(outF), this)
+                : new MeshWriterPLY(loader, new ByteArrayOutputStream(), this);
+        writer.setStorageMode(PLYStorageMode.valueOf(storageMode));
+        assertTrue(writer.isReady());
+
+        resetListener();
+        writer.write();
+        writer.getStream().close();
+
+        assertTrue(isEndValid());
+        assertTrue(isLockedValid());
+        assertTrue(isProgressValid());
+        assertTrue(isStartValid());
+        assertFalse(writer.isLocked());
+
+        if (!fileOutput) {
+            Files.write(outF.toPath(), ((ByteArrayOutputStream) writer.getStream()).toByteArray());
+        }
+
+        // check that triangles of written file are the same as original ones
+        final var expected = triangles(new LoaderPLY(inF));
+        try (final var outLoader = new LoaderPLY(outF)) {
+            assertTrue(outLoader.isValidFile());
+            final var result = triangles(outLoader);
+
+            assertEquals(expected.size(), result.size());
+            for (var i = 0; i < expected.size(); i++) {
+                assertArrayEquals(expected.get(i), result.get(i), 1e-6f);
+            }
+        }
+
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testWritePointCloud() throws IOException, LockedException, LoaderException, NotReadyException,
+            NotAvailableException {
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+        final var outF = new File(TMP_FOLDER, "booksPointCloud.ply");
+
+        final var loader = new LoaderPLY(inF);
+        loader.setPointCloudMode(true);
+        try (final var outStream = new FileOutputStream(outF)) {
+            final var writer = new MeshWriterPLY(loader, outStream);
+            writer.write();
+        }
+
+        try (final var outLoader = new LoaderPLY(outF)) {
+            final var it = outLoader.load();
+            var vertices = 0;
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                assertNull(chunk.getIndicesData());
+                assertNotNull(chunk.getNormalsData());
+                assertNotNull(chunk.getColorData());
+                vertices += chunk.getVerticesCoordinatesData().length / 3;
+            }
+            assertEquals(2568, vertices);
+        }
+
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testWriteNotReady() {
+        final var writer1 = new MeshWriterPLY(null, new ByteArrayOutputStream());
+        assertFalse(writer1.isReady());
+        assertThrows(NotReadyException.class, writer1::write);
+
+        final var writer2 = new MeshWriterPLY(new LoaderPLY(), null);
+        assertFalse(writer2.isReady());
+        assertThrows(NotReadyException.class, writer2::write);
+    }
+
+    private static List<float[]> triangles(final LoaderPLY loader) throws IOException, LockedException,
+            LoaderException, NotReadyException, NotAvailableException {
+        final var result = new ArrayList<float[]>();
+        final var it = loader.load();
+        while (it.hasNext()) {
+            final var chunk = it.next();
+            final var coords = chunk.getVerticesCoordinatesData();
+            final var indices = chunk.getIndicesData();
+            for (final var index : indices) {
+                result.add(new float[]{coords[3 * index], coords[3 * index + 1], coords[3 * index + 2]});
+            }
+        }
+        loader.close();
+        return result;
+    }
+
+    @Test
+    void testWriteUntrimmedChunks() throws IOException, LockedException, LoaderException, NotReadyException {
+        final var inF = new File(INPUT_FOLDER, "pitcher.ply");
+
+        final var expected = new ByteArrayOutputStream();
+        new MeshWriterPLY(new LoaderPLY(inF, 1000), expected).write();
+
+        // arrays are handed over by loader without trimming them
+        final var loader = new LoaderPLY(inF, 1000);
+        loader.setTrimmedChunkArrays(false);
+        final var untrimmed = new ByteArrayOutputStream();
+        new MeshWriterPLY(loader, untrimmed).write();
+        assertArrayEquals(expected.toByteArray(), untrimmed.toByteArray());
+
+        // chunks are released by writer and reused by loader
+        final var pooledLoader = new LoaderPLY(inF, 1000);
+        pooledLoader.setChunkPoolingEnabled(true);
+        final var pooled = new ByteArrayOutputStream();
+        new MeshWriterPLY(pooledLoader, pooled).write();
+        assertArrayEquals(expected.toByteArray(), pooled.toByteArray());
+    }
+
+    @Test
+    void testWriteInterleavedChunksFails() throws IOException, LockedException {
+        final var inF = new File(INPUT_FOLDER, "pitcher.ply");
+
+        // interleaved vertex buffers cannot be written
+        final var loader = new LoaderPLY(inF, 1000);
+        loader.setInterleavedVertexFormat(new InterleavedVertexFormat());
+        final var writer = new MeshWriterPLY(loader, new ByteArrayOutputStream());
+        assertThrows(LoaderException.class, writer::write);
+    }
+
+    @Override
+    public void onWriteStart(final MeshWriter writer) {
+        if (startCounter != 0) {
+            startValid = false;
+        }
+        startCounter++;
+
+        checkLocked((MeshWriterPLY) writer);
+    }
+
+    @Override
+    public void onWriteEnd(final MeshWriter writer) {
+        if (endCounter != 0) {
+            endValid = false;
+        }
+        endCounter++;
+
+        checkLocked((MeshWriterPLY) writer);
+    }
+
+    @Override
+    public void onWriteProgressChange(final MeshWriter writer, final float progress) {
+        if ((progress < 0.0) || (progress > 1.0)) {
+            progressValid = false;
+        }
+        if (progress < previousProgress) {
+            progressValid = false;
+        }
+        previousProgress = progress;
+
+        checkLocked((MeshWriterPLY) writer);
+    }
+
+    @Override
+    public File onMaterialFileRequested(final MeshWriter writer, final String path) {
+        return null;
+    }
+
+    @Override
+    public File onValidateTexture(final MeshWriter writer, final Texture texture) {
+        return null;
+    }
+
+    @Override
+    public void onDidValidateTexture(final MeshWriter writer, final File f) {
+        // no action needed
+    }
+
+    @Override
+    public File onTextureReceived(final MeshWriter writer, final int textureWidth, final int textureHeight) {
+        return null;
+    }
+
+    @Override
+    public File onTextureDataAvailable(final MeshWriter writer, final File textureFile, final int textureWidth,
+                                       final int textureHeight) {
+        return null;
+    }
+
+    @Override
+    public void onTextureDataProcessed(final MeshWriter writer, final File textureFile, final int textureWidth,
+                                       final int textureHeight) {
+        // no action needed
+    }
+
+    @Override
+    public void onChunkAvailable(final MeshWriter writer, final DataChunk chunk) {
+        checkLocked((MeshWriterPLY) writer);
+    }
+
+    private void checkLocked(final MeshWriterPLY writer) {
+        if (!writer.isLocked()) {
+            lockedValid = false;
+        }
+        assertThrows(LockedException.class, () -> writer.setListener(this));
+        assertThrows(LockedException.class, () -> writer.setStorageMode(PLYStorageMode.PLY_ASCII));
+        assertThrows(LockedException.class, writer::write);
+    }
+
+    private void resetListener() {
+        startValid = endValid = progressValid = lockedValid = true;
+        startCounter = endCounter = 0;
+        previousProgress = 0.0f;
+    }
+
+    private boolean isStartValid() {
+        return startValid;
+    }
+
+    private boolean isEndValid() {
+        return endValid;
+    }
+
+    private boolean isProgressValid() {
+        return progressValid;
+    }
+
+    private boolean isLockedValid() {
+        return lockedValid;
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeshWriterSTLTest implements MeshWriterListener {
+
+    private static final String INPUT_FOLDER = "./src/test/java/com/irurueta/geometry/io/";
+
+    private static final String TMP_FOLDER = "./src/test/java/com/irurueta/geometry/io/tmpStl/";
+
+    private boolean startValid = true;
+    private boolean endValid = true;
+    private boolean progressValid = true;
+    private boolean lockedValid = true;
+
+    private int startCounter = 0;
+    private int endCounter = 0;
+    private float previousProgress = 0.0f;
+
+    @BeforeAll
+    static void setUpClass() {
+        // create folder for generated files
+        final var folder = new File(TMP_FOLDER);
+        //noinspection ResultOfMethodCallIgnored
+        folder.mkdirs();
+    }
+
+    @AfterAll
+    static void tearDownClass() {
+        // remove any remaining files in folder
+        final var folder = new File(TMP_FOLDER);
+        final var files = folder.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (final var f : files) {
+            //noinspection ResultOfMethodCallIgnored
+            f.delete();
+        }
+
+        // delete created folder
+        //noinspection ResultOfMethodCallIgnored
+        folder.delete();
+    }
+
+    @Test
+    void testConstructors() throws IOException {
+        final var inF = new File(INPUT_FOLDER, "booksBinary.stl");
+
+        final var loader = new LoaderSTL(inF);
+        final var outStream = new ByteArrayOutputStream();
+
+        // test constructor with output stream and loader
+        var writer = new MeshWriterSTL(loader, outStream);
+        assertTrue(writer.isReady());
+        assertFalse(writer.isLocked());
+        assertEquals(outStream, writer.getStream());
+        assertNull(writer.getListener());
+        assertEquals(MeshWriterSTL.DEFAULT_STORAGE_MODE, writer.getStorageMode());
+        assertEquals(MeshWriterSTL.DEFAULT_SOLID_NAME, writer.getSolidName());
+
+        // test constructor with listener
+        writer = new MeshWriterSTL(loader, outStream, this);
+        assertTrue(writer.isReady());
+        assertFalse(writer.isLocked());
+        assertEquals(outStream, writer.getStream());
+        assertSame(this, writer.getListener());
+        assertEquals(MeshWriterSTL.DEFAULT_STORAGE_MODE, writer.getStorageMode());
+        assertEquals(MeshWriterSTL.DEFAULT_SOLID_NAME, writer.getSolidName());
+
+        loader.close();
+    }
+
+    @Test
+    void testGetSetStorageMode() throws LockedException {
+        final var writer = new MeshWriterSTL(null, null);
+
+        assertEquals(STLStorageMode.STL_BINARY, writer.getStorageMode());
+
+        // set new value
+        writer.setStorageMode(STLStorageMode.STL_ASCII);
+        // check correctness
+        assertEquals(STLStorageMode.STL_ASCII, writer.getStorageMode());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> writer.setStorageMode(null));
+    }
+
+    @Test
+    void testGetSetSolidName() throws LockedException {
+        final var writer = new MeshWriterSTL(null, null);
+
+        assertEquals("mesh", writer.getSolidName());
+
+        // set new value
+        writer.setSolidName("books");
+        // check correctness
+        assertEquals("books", writer.getSolidName());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> writer.setSolidName(null));
+        assertThrows(IllegalArgumentException.class, () -> writer.setSolidName("a\nb"));
+    }
+
+    @ParameterizedTest(name = "{index} - storageMode = {0}, fileOutput = {1}")
+    @CsvSource({"STL_BINARY,true",
+            "STL_BINARY,false",
+            "STL_ASCII,true",
+            "STL_ASCII,false"})
+    void testWriteAndLoadStl(final String storageMode, final boolean fileOutput) throws IOException,
+            LockedException, LoaderException, NotReadyException, NotAvailableException {
+        final var inF = new File(INPUT_FOLDER, "booksBinary.stl");
+        final var outF = new File(TMP_FOLDER, "books" + storageMode + fileOutput + ".stl");
+
+        final var loader = new LoaderSTL(inF);
+        final var writer = fileOutput ? new MeshWriterSTL(loader, new FileOutputStream(outF), this)
+                : new MeshWriterSTL(loader, new ByteArrayOutputStream(), this);
+        writer.setStorageMode(STLStorageMode.valueOf(storageMode));
+        writer.setSolidName("books");
+        assertTrue(writer.isReady());
+
+        resetListener();
+        writer.write();
+        writer.getStream().close();
+
+        assertTrue(isEndValid());
+        assertTrue(isLockedValid());
+        assertTrue(isProgressValid());
+        assertTrue(isStartValid());
+        assertFalse(writer.isLocked());
+
+        if (!fileOutput) {
+            Files.write(outF.toPath(), ((ByteArrayOutputStream) writer.getStream()).toByteArray());
+        }
+
+        if (storageMode.equals("STL_BINARY")) {
+            assertEquals(84 + 1200 * 50, outF.length());
+        }
+
+        // triangles and facet normals are preserved exactly
+        final var expected = triangles(new LoaderSTL(inF), true);
+        try (final var outLoader = new LoaderSTL(outF)) {
+            final var result = triangles(outLoader, true);
+            if (storageMode.equals("STL_ASCII")) {
+                assertEquals(" books", outLoader.getSolidName());
+            }
+
+            assertEquals(3 * 1200, result.size());
+            assertEquals(expected.size(), result.size());
+            for (var i = 0; i < expected.size(); i++) {
+                assertArrayEquals(expected.get(i), result.get(i), 0.0f);
+            }
+        }
+
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testWriteIndexedMesh() throws IOException, LockedException, LoaderException, NotReadyException,
+            NotAvailableException {
+        final var inF = new File(INPUT_FOLDER, "booksBinary.ply");
+        final var outF = new File(TMP_FOLDER, "booksFromPly.stl");
+
+        try (final var outStream = new FileOutputStream(outF)) {
+            final var writer = new MeshWriterSTL(new LoaderPLY(inF), outStream);
+            writer.write();
+        }
+
+        // indexed triangles are expanded
+        final var expected = new ArrayList<float[]>();
+        try (final var loader = new LoaderPLY(inF)) {
+            final var it = loader.load();
+            while (it.hasNext()) {
+                final var chunk = it.next();
+                final var coords = chunk.getVerticesCoordinatesData();
+                for (final var index : chunk.getIndicesData()) {
+                    expected.add(new float[]{coords[3 * index], coords[3 * index + 1], coords[3 * index + 2]});
+                }
+            }
+        }
+
+        try (final var outLoader = new LoaderSTL(outF)) {
+            final var result = triangles(outLoader, false);
+            assertEquals(expected.size(), result.size());
+            for (var i = 0; i < expected.size(); i++) {
+                assertArrayEquals(expected.get(i), result.get(i), 0.0f);
+            }
+        }
+
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testWriteComputedNormals() throws IOException, LockedException, LoaderException, NotReadyException,
+            NotAvailableException {
+        final var inF = new File(TMP_FOLDER, "triangle.ply");
+        final var outF = new File(TMP_FOLDER, "triangle.stl");
+        Files.writeString(inF.toPath(), """
+                ply
+                format ascii 1.0
+                element vertex 3
+                property float x
+                property float y
+                property float z
+                element face 1
+                property list uchar int vertex_indices
+                end_header
+                0 0 0
+                2 0 0
+                0 2 0
+                3 0 1 2
+                """);
+
+        try (final var outStream = new FileOutputStream(outF)) {
+            final var writer = new MeshWriterSTL(new LoaderPLY(inF), outStream);
+            writer.setStorageMode(STLStorageMode.STL_ASCII);
+            writer.write();
+        }
+
+        final var text = Files.readString(outF.toPath());
+        assertTrue(text.startsWith("solid mesh\nfacet normal 0.0e+00 0.0e+00 1.0e+00\n"));
+        assertTrue(text.contains("    vertex 2.0e+00 0.0e+00 0.0e+00\n"));
+        assertTrue(text.endsWith("endfacet\nendsolid mesh\n"));
+
+        assertTrue(inF.delete());
+        assertTrue(outF.delete());
+    }
+
+    @Test
+    void testWriteNotReady() {
+        final var writer1 = new MeshWriterSTL(null, new ByteArrayOutputStream());
+        assertFalse(writer1.isReady());
+        assertThrows(NotReadyException.class, writer1::write);
+
+        final var writer2 = new MeshWriterSTL(new LoaderSTL(), null);
+        assertFalse(writer2.isReady());
+        assertThrows(NotReadyException.class, writer2::write);
+    }
+
+    private static List<float[]> triangles(final LoaderSTL loader, final boolean withNormals) throws IOException,
+            LockedException, LoaderException, NotReadyException, NotAvailableException {
+        final var result = new ArrayList<float[]>();
+        final var it = loader.load();
+        while (it.hasNext()) {
+            final var chunk = it.next();
+            final var coords = chunk.getVerticesCoordinatesData();
+            final var normals = chunk.getNormalsData();
+            for (final var index : chunk.getIndicesData()) {
+                final var pos = 3 * index;
+                result.add(withNormals
+                        ? new float[]{coords[pos], coords[pos + 1], coords[pos + 2],
+                        normals[pos], normals[pos + 1], normals[pos + 2]}
+                        : new float[]{coords[pos], coords[pos + 1], coords[pos + 2]});
+            }
+        }
+        loader.close();
+        return result;
+    }
+
+    @Test
+    void testWriteUntrimmedChunks() throws IOException, LockedException, LoaderException, NotReadyException {
+        final var inF = new File(INPUT_FOLDER, "pitcher.ply");
+
+        final var expected = new ByteArrayOutputStream();
+        new MeshWriterSTL(new LoaderPLY(inF, 1000), expected).write();
+
+        // arrays are handed over by loader without trimming them
+        final var loader = new LoaderPLY(inF, 1000);
+        loader.setTrimmedChunkArrays(false);
+        final var untrimmed = new ByteArrayOutputStream();
+        new MeshWriterSTL(loader, untrimmed).write();
+        assertArrayEquals(expected.toByteArray(), untrimmed.toByteArray());
+
+        // chunks are released by writer and reused by loader
+        final var pooledLoader = new LoaderPLY(inF, 1000);
+        pooledLoader.setChunkPoolingEnabled(true);
+        final var pooled = new ByteArrayOutputStream();
+        new MeshWriterSTL(pooledLoader, pooled).write();
+        assertArrayEquals(expected.toByteArray(), pooled.toByteArray());
+    }
+
+    @Override
+    public void onWriteStart(final MeshWriter writer) {
+        if (startCounter != 0) {
+            startValid = false;
+        }
+        startCounter++;
+
+        checkLocked((MeshWriterSTL) writer);
+    }
+
+    @Override
+    public void onWriteEnd(final MeshWriter writer) {
+        if (endCounter != 0) {
+            endValid = false;
+        }
+        endCounter++;
+
+        checkLocked((MeshWriterSTL) writer);
+    }
+
+    @Override
+    public void onWriteProgressChange(final MeshWriter writer, final float progress) {
+        if ((progress < 0.0) || (progress > 1.0)) {
+            progressValid = false;
+        }
+        if (progress < previousProgress) {
+            progressValid = false;
+        }
+        previousProgress = progress;
+
+        checkLocked((MeshWriterSTL) writer);
+    }
+
+    @Override
+    public File onMaterialFileRequested(final MeshWriter writer, final String path) {
+        return null;
+    }
+
+    @Override
+    public File onValidateTexture(final MeshWriter writer, final Texture texture) {
+        return null;
+    }
+
+    @Override
+    public void onDidValidateTexture(final MeshWriter writer, final File f) {
+        // no action needed
+    }
+
+    @Override
+    public File onTextureReceived(final MeshWriter writer, final int textureWidth, final int textureHeight) {
+        return null;
+    }
+
+    @Override
+    public File onTextureDataAvailable(final MeshWriter writer, final File textureFile, final int textureWidth,
+                                       final int textureHeight) {
+        return null;
+    }
+
+    @Override
+    public void onTextureDataProcessed(final MeshWriter writer, final File textureFile, final int textureWidth,
+                                       final int textureHeight) {
+        // no action needed
+    }
+
+    @Override
+    public void onChunkAvailable(final MeshWriter writer, final DataChunk chunk) {
+        checkLocked((MeshWriterSTL) writer);
+    }
+
+    private void checkLocked(final MeshWriterSTL writer) {
+        if (!writer.isLocked()) {
+            lockedValid = false;
+        }
+        assertThrows(LockedException.class, () -> writer.setListener(this));
+        assertThrows(LockedException.class, () -> writer.setStorageMode(STLStorageMode.STL_ASCII));
+        assertThrows(LockedException.class, () -> writer.setSolidName("name"));
+        assertThrows(LockedException.class, writer::write);
+    }
+
+    private void resetListener() {
+        startValid = endValid = progressValid = lockedValid = true;
+        startCounter = endCounter = 0;
+        previousProgress = 0.0f;
+    }
+
+    private boolean isStartValid() {
+        return startValid;
+    }
+
+    private boolean isEndValid() {
+        return endValid;
+    }
+
+    private boolean isProgressValid() {
+        return progressValid;
+    }
+
+    private boolean isLockedValid() {
+        return lockedValid;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VertexInterleaverTest {
+
+    @Test
+    void testCreateLayout() {
+        final var chunk = new DataChunk();
+        chunk.setVerticesCoordinatesData(new float[6]);
+        chunk.setColorData(new short[8]);
+        chunk.setColorComponents(4);
+
+        // normals and texture coordinates are skipped
+        var layout = VertexInterleaver.createLayout(chunk, new InterleavedVertexFormat());
+        assertEquals(28, layout.getStride());
+        assertEquals(2, layout.getAttributes().size());
+        final var position = layout.getAttribute(VertexAttribute.POSITION);
+        assertSame(position, layout.getAttributes().get(0));
+        assertEquals(0, position.getOffset());
+        assertEquals(3, position.getComponents());
+        assertEquals(InterleavedVertexAttribute.FLOAT_COMPONENT_SIZE, position.getComponentSize());
+        assertFalse(position.isNormalizedByte());
+        assertEquals(12, position.getSize());
+        var color = layout.getAttribute(VertexAttribute.COLOR);
+        assertEquals(12, color.getOffset());
+        assertEquals(4, color.getComponents());
+        assertFalse(color.isNormalizedByte());
+        assertEquals(16, color.getSize());
+        assertFalse(layout.isAttributeAvailable(VertexAttribute.NORMAL));
+        assertNull(layout.getAttribute(VertexAttribute.TEXTURE_COORDINATES));
+
+        // requested order and byte colors
+        layout = VertexInterleaver.createLayout(chunk, new InterleavedVertexFormat(
+                List.of(VertexAttribute.COLOR, VertexAttribute.POSITION), true));
+        assertEquals(16, layout.getStride());
+        color = layout.getAttributes().get(0);
+        assertEquals(VertexAttribute.COLOR, color.getAttribute());
+        assertEquals(0, color.getOffset());
+        assertEquals(InterleavedVertexAttribute.BYTE_COMPONENT_SIZE, color.getComponentSize());
+        assertTrue(color.isNormalizedByte());
+        assertEquals(4, layout.getAttribute(VertexAttribute.POSITION).getOffset());
+
+        // attributes not requested are skipped
+        layout = VertexInterleaver.createLayout(chunk, new InterleavedVertexFormat(
+                List.of(VertexAttribute.POSITION)));
+        assertEquals(12, layout.getStride());
+        assertEquals(1, layout.getAttributes().size());
+
+        // attributes without values for all vertices are skipped
+        chunk.setTextureCoordinatesData(new float[2]);
+        layout = VertexInterleaver.createLayout(chunk, new InterleavedVertexFormat());
+        assertFalse(layout.isAttributeAvailable(VertexAttribute.TEXTURE_COORDINATES));
+    }
+
+    @Test
+    void testInterleave() {
+        final var chunk = new DataChunk();
+        final var coords = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 0.0f, 0.0f, 0.0f};
+        final var normals = new float[]{0.0f, 0.0f, 1.0f, 0.0f, 1.0f, 0.0f, 0.0f, 0.0f, 0.0f};
+        final var textureCoords = new float[]{0.25f, 0.5f, 0.75f, 1.0f, 0.0f, 0.0f};
+        final var colors = new short[]{255, 0, 51, 0, 255, 102, 0, 0, 0};
+        final var indices = new int[]{0, 1, 0, 0};
+        chunk.setVerticesCoordinatesData(coords);
+        chunk.setNormalsData(normals);
+        chunk.setTextureCoordinatesData(textureCoords);
+        chunk.setColorData(colors);
+        chunk.setIndicesData(indices);
+        chunk.setVertexCount(2);
+        chunk.setIndexCount(3);
+
+        final var workingArrays = new DataChunk();
+        final var format = new InterleavedVertexFormat();
+        VertexInterleaver.interleave(chunk, format, null, workingArrays);
+
+        // separate arrays are moved into working chunk
+        assertFalse(chunk.isVerticesCoordinatesDataAvailable());
+        assertFalse(chunk.isNormalsDataAvailable());
+        assertFalse(chunk.isTextureCoordinatesDataAvailable());
+        assertFalse(chunk.isColorDataAvailable());
+        assertSame(indices, chunk.getIndicesData());
+        assertSame(coords, workingArrays.getVerticesCoordinatesData());
+        assertSame(normals, workingArrays.getNormalsData());
+        assertSame(textureCoords, workingArrays.getTextureCoordinatesData());
+        assertSame(colors, workingArrays.getColorData());
+        assertEquals(2, chunk.getVertexCount());
+        assertEquals(3, chunk.getIndexCount());
+
+        assertTrue(chunk.isInterleavedVertexDataAvailable());
+        final var layout = chunk.getInterleavedVertexLayout();
+        assertEquals(44, layout.getStride());
+        final var buffer = chunk.getInterleavedVertexData();
+        assertEquals(ByteOrder.nativeOrder(), buffer.order());
+        assertEquals(0, buffer.position());
+        assertEquals(88, buffer.limit());
+        assertEquals(4.0f, buffer.getFloat(44), 0.0f);
+        assertEquals(1.0f, buffer.getFloat(44 + 16), 0.0f);
+        assertEquals(1.0f, buffer.getFloat(44 + 28), 0.0f);
+        assertEquals(0.4f, buffer.getFloat(44 + 40), 1e-6f);
+
+        final var expected = new DataChunk();
+        expected.setVerticesCoordinatesData(Arrays.copyOf(coords, 6));
+        expected.setNormalsData(Arrays.copyOf(normals, 6));
+        expected.setTextureCoordinatesData(Arrays.copyOf(textureCoords, 4));
+        expected.setColorData(Arrays.copyOf(colors, 6));
+        expected.setIndicesData(Arrays.copyOf(indices, 3));
+        assertInterleaved(expected, chunk, format);
+
+        // buffer is reused when large enough
+        final var chunk2 = new DataChunk();
+        chunk2.setVerticesCoordinatesData(coords);
+        chunk2.setColorData(colors);
+        chunk2.setVertexCount(3);
+        final var byteFormat = new InterleavedVertexFormat(InterleavedVertexFormat.DEFAULT_ATTRIBUTES, true);
+        VertexInterleaver.interleave(chunk2, byteFormat, buffer, null);
+        assertSame(buffer, chunk2.getInterleavedVertexData());
+        assertEquals(45, buffer.limit());
+        assertEquals(15, chunk2.getInterleavedVertexLayout().getStride());
+        assertEquals((byte) 255, buffer.get(12));
+        assertEquals((byte) 51, buffer.get(14));
+        assertEquals(0, chunk2.getIndexCount());
+
+        // buffer is not reused when too small
+        final var small = ByteBuffer.allocate(8);
+        final var chunk3 = new DataChunk();
+        chunk3.setVerticesCoordinatesData(coords);
+        VertexInterleaver.interleave(chunk3, format, small, null);
+        assertNotSame(small, chunk3.getInterleavedVertexData());
+        assertEquals(36, chunk3.getInterleavedVertexData().limit());
+        assertEquals(3, chunk3.getVertexCount());
+    }
+
+    @Test
+    void testArraysAndBufferToReuse() {
+        final var pooledChunk = new DataChunk();
+        final var indices = new int[3];
+        pooledChunk.setIndicesData(indices);
+
+        assertNull(VertexInterleaver.arraysToReuse(null, null));
+        assertSame(pooledChunk, VertexInterleaver.arraysToReuse(null, pooledChunk));
+
+        final var workingArrays = new DataChunk();
+        workingArrays.setIndicesData(new int[1]);
+        assertSame(workingArrays, VertexInterleaver.arraysToReuse(workingArrays, null));
+        assertNull(workingArrays.getIndicesData());
+        assertSame(workingArrays, VertexInterleaver.arraysToReuse(workingArrays, pooledChunk));
+        assertSame(indices, workingArrays.getIndicesData());
+
+        assertNull(VertexInterleaver.bufferToReuse(null));
+        assertNull(VertexInterleaver.bufferToReuse(pooledChunk));
+        final var coords = new float[3];
+        pooledChunk.setVerticesCoordinatesData(coords);
+        VertexInterleaver.interleave(pooledChunk, new InterleavedVertexFormat(), null, null);
+        assertSame(pooledChunk.getInterleavedVertexData(), VertexInterleaver.bufferToReuse(pooledChunk));
+    }
+
+    /**
+     * Checks that provided chunk contains the same vertex data as the expected
+     * chunk, interleaved using provided format.
+     *
+     * @param expected chunk containing separate trimmed arrays.
+     * @param chunk    chunk containing interleaved vertex data.
+     * @param format   format used to interleave vertex data.
+     */
+    static void assertInterleaved(final DataChunk expected, final DataChunk chunk,
+                                  final InterleavedVertexFormat format) {
+        final var vertexCount = expected.getVertexCount();
+        final var indexCount = expected.getIndexCount();
+        assertEquals(vertexCount, chunk.getVertexCount());
+        assertEquals(indexCount, chunk.getIndexCount());
+        assertNull(chunk.getVerticesCoordinatesData());
+        assertNull(chunk.getNormalsData());
+        assertNull(chunk.getTextureCoordinatesData());
+        assertNull(chunk.getColorData());
+        if (indexCount > 0) {
+            assertArrayEquals(Arrays.copyOf(expected.getIndicesData(), indexCount),
+                    Arrays.copyOf(chunk.getIndicesData(), indexCount));
+        }
+        assertEquals(expected.getMinX(), chunk.getMinX(), 0.0f);
+        assertEquals(expected.getMaxZ(), chunk.getMaxZ(), 0.0f);
+
+        final var layout = chunk.getInterleavedVertexLayout();
+        final var buffer = chunk.getInterleavedVertexData();
+        assertEquals(vertexCount * layout.getStride(), buffer.limit());
+
+        final var attributes = new ArrayList<VertexAttribute>();
+        for (final var attribute : format.getAttributes()) {
+            final var available = switch (attribute) {
+                case POSITION -> expected.isVerticesCoordinatesDataAvailable();
+                case NORMAL -> expected.isNormalsDataAvailable();
+                case TEXTURE_COORDINATES -> expected.isTextureCoordinatesDataAvailable();
+                case COLOR -> expected.isColorDataAvailable();
+            };
+            if (available) {
+                attributes.add(attribute);
+            }
+        }
+        assertEquals(attributes.size(), layout.getAttributes().size());
+
+        for (var i = 0; i < attributes.size(); i++) {
+            final var attribute = layout.getAttributes().get(i);
+            assertEquals(attributes.get(i), attribute.getAttribute());
+            final var components = attribute.getComponents();
+            for (var v = 0; v < vertexCount; v++) {
+                final var start = v * layout.getStride() + attribute.getOffset();
+                for (var c = 0; c < components; c++) {
+                    final var pos = v * components + c;
+                    switch (attribute.getAttribute()) {
+                        case POSITION -> assertEquals(expected.getVerticesCoordinatesData()[pos],
+                                buffer.getFloat(start + 4 * c), 0.0f);
+                        case NORMAL -> assertEquals(expected.getNormalsData()[pos],
+                                buffer.getFloat(start + 4 * c), 0.0f);
+                        case TEXTURE_COORDINATES -> assertEquals(expected.getTextureCoordinatesData()[pos],
+                                buffer.getFloat(start + 4 * c), 0.0f);
+                        case COLOR -> {
+                            final var color = expected.getColorData()[pos];
+                            if (attribute.isNormalizedByte()) {
+                                assertEquals(color, buffer.get(start + c) & 0xff);
+                            } else {
+                                assertEquals(color / 255.0f, buffer.getFloat(start + 4 * c), 1e-6f);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
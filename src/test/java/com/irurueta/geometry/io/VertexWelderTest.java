@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.geometry.io;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VertexWelderTest {
+
+    private static final float ERROR = 1e-6f;
+
+    @Test
+    void testConstructor() {
+        assertDoesNotThrow(() -> new VertexWelder(0.0f, false));
+        assertDoesNotThrow(() -> new VertexWelder(1e-3f, true));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new VertexWelder(-1.0f, false));
+        assertThrows(IllegalArgumentException.class, () -> new VertexWelder(Float.NaN, false));
+        assertThrows(IllegalArgumentException.class, () -> new VertexWelder(Float.POSITIVE_INFINITY, false));
+    }
+
+    @Test
+    void testWeldExactPositions() {
+        final var chunk = createQuad(0.0f);
+
+        // facet normals differ, hence shared positions are kept separated
+        final var flat = new VertexWelder(0.0f, false).weld(chunk);
+        assertEquals(6 * 3, flat.getVerticesCoordinatesData().length);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5}, flat.getIndicesData());
+
+        // positions are shared and normals averaged
+        final var smooth = new VertexWelder(0.0f, true).weld(chunk);
+        assertEquals(4 * 3, smooth.getVerticesCoordinatesData().length);
+        assertArrayEquals(new int[]{0, 1, 2, 0, 2, 3}, smooth.getIndicesData());
+
+        final var normals = smooth.getNormalsData();
+        final var n = (float) (1.0 / Math.sqrt(2.0));
+        // shared vertex 0 averages both facet normals
+        assertEquals(n, normals[0], ERROR);
+        assertEquals(0.0f, normals[1], ERROR);
+        assertEquals(n, normals[2], ERROR);
+        // vertex 1 belongs only to first triangle
+        assertEquals(0.0f, normals[3], ERROR);
+        assertEquals(0.0f, normals[4], ERROR);
+        assertEquals(1.0f, normals[5], ERROR);
+
+        // color of first vertex is kept
+        assertArrayEquals(new short[]{0, 1, 2, 3}, smooth.getColorData());
+        assertEquals(1, smooth.getColorComponents());
+
+        assertEquals(0.0f, smooth.getMinX(), 0.0f);
+        assertEquals(1.0f, smooth.getMaxX(), 0.0f);
+        assertEquals(0.0f, smooth.getMinZ(), 0.0f);
+        assertEquals(0.0f, smooth.getMaxZ(), 0.0f);
+    }
+
+    @Test
+    void testWeldWithEpsilon() {
+        final var chunk = createQuad(1e-5f);
+
+        // positions slightly differ, hence they are not merged
+        assertEquals(6 * 3, new VertexWelder(0.0f, true).weld(chunk).getVerticesCoordinatesData().length);
+
+        // positions are quantized
+        final var welded = new VertexWelder(1e-2f, true).weld(chunk);
+        assertEquals(4 * 3, welded.getVerticesCoordinatesData().length);
+        assertArrayEquals(new int[]{0, 1, 2, 0, 2, 3}, welded.getIndicesData());
+    }
+
+    @Test
+    void testWeldLargeCoordinatesWithSmallEpsilon() {
+        // cells of these coordinates exceed the range of int values
+        final var a = new float[]{10000.0f, 20000.0f, 30000.0f};
+        final var b = new float[]{10000.001f, 20000.0f, 30000.0f};
+        final var c = new float[]{10000.0f, 20001.0f, 30000.0f};
+        final var d = new float[]{-10001.0f, -20001.0f, -30000.0f};
+        final var chunk = new DataChunk();
+        chunk.setVerticesCoordinatesData(concat(a, b, c, c, b, d));
+        chunk.setIndicesData(new int[]{0, 1, 2, 3, 4, 5});
+
+        final var welded = new VertexWelder(1e-6f, true).weld(chunk);
+
+        // only the shared vertices are merged
+        assertArrayEquals(concat(a, b, c, d), welded.getVerticesCoordinatesData(), 0.0f);
+        assertArrayEquals(new int[]{0, 1, 2, 2, 1, 3}, welded.getIndicesData());
+
+        // infinite coordinates are only merged when they are equal
+        final var e = new float[]{Float.POSITIVE_INFINITY, 0.0f, 0.0f};
+        final var f = new float[]{Float.NEGATIVE_INFINITY, 0.0f, 0.0f};
+        chunk.setVerticesCoordinatesData(concat(e, f, e));
+        chunk.setIndicesData(new int[]{0, 1, 2});
+        assertArrayEquals(new int[]{0, 1, 0}, new VertexWelder(1e-6f, true).weld(chunk).getIndicesData());
+    }
+
+    @Test
+    void testWeldWithoutIndices() {
+        final var chunk = new DataChunk();
+        chunk.setVerticesCoordinatesData(new float[]{1.0f, 2.0f, 3.0f});
+
+        assertSame(chunk, new VertexWelder(0.0f, false).weld(chunk));
+    }
+
+    private static DataChunk createQuad(final float offset) {
+        // two triangles of a quad with different facet normals and a small
+        // offset on the vertices of the second triangle
+        final var coords = new float[]{
+                0.0f, 0.0f, 0.0f,
+                1.0f, 0.0f, 0.0f,
+                1.0f, 1.0f, 0.0f,
+                offset, offset, 0.0f,
+                1.0f + offset, 1.0f + offset, 0.0f,
+                offset, 1.0f + offset, 0.0f};
+        final var normals = new float[]{
+                0.0f, 0.0f, 1.0f,
+                0.0f, 0.0f, 1.0f,
+                0.0f, 0.0f, 1.0f,
+                1.0f, 0.0f, 0.0f,
+                1.0f, 0.0f, 0.0f,
+                1.0f, 0.0f, 0.0f};
+
+        final var chunk = new DataChunk();
+        chunk.setVerticesCoordinatesData(coords);
+        chunk.setNormalsData(normals);
+        chunk.setIndicesData(new int[]{0, 1, 2, 3, 4, 5});
+        chunk.setColorData(new short[]{0, 1, 2, 0, 2, 3});
+        chunk.setColorComponents(1);
+        return chunk;
+    }
+
+    private static float[] concat(final float[]... vertices) {
+        final var result = new float[3 * vertices.length];
+        for (var i = 0; i < vertices.length; i++) {
+            System.arraycopy(vertices[i], 0, result, 3 * i, 3);
+        }
+        return result;
+    }
+}